@@ -0,0 +1,97 @@
+package com.example.extensionCheck.api.archive;
+
+import com.example.extensionCheck.api.matcher.ExtensionMatcher;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.zip.CRC32;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipInputStream;
+import java.util.zip.ZipOutputStream;
+
+/**
+ * 항목 10만 개짜리 압축 파일 검사 (차단 항목 없음 = 끝까지 읽는 최악의 경우)
+ * - inspect: ZipInspector (본문은 건너뛰고 로컬 헤더 + 중앙 디렉터리 이름 검사)
+ * - zipInputStream: JDK ZipInputStream으로 항목을 순회하며 이름 검사 (비교 기준)
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = {"-Xms1g", "-Xmx1g"})
+public class ZipInspectorBenchmark {
+
+    private static final List<String> FIXED = List.of("bat", "cmd", "com", "cpl", "exe", "scr", "js");
+
+    @Param({"100000"})
+    private int entries;
+
+    // deflated: 데이터 디스크립터 사용 (JDK ZipOutputStream 기본), stored: 헤더에 크기 기록
+    @Param({"deflated", "stored"})
+    private String method;
+
+    private byte[] archive;
+    private ExtensionMatcher matcher;
+    private ZipInspector.Limits limits;
+
+    @Setup
+    public void setUp() throws IOException {
+        matcher = ExtensionMatcher.compile(FIXED, List.of("tar.gz"));
+        limits = new ZipInspector.Limits(entries, 3, 100, 1L << 30);
+
+        byte[] content = "sample content line for the benchmark entry\n".getBytes(StandardCharsets.US_ASCII);
+        CRC32 crc = new CRC32();
+        crc.update(content);
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        try (ZipOutputStream zip = new ZipOutputStream(out)) {
+            for (int i = 0; i < entries; i++) {
+                ZipEntry entry = new ZipEntry("dir" + (i % 100) + "/file-" + i + ".txt");
+                if (method.equals("stored")) {
+                    entry.setMethod(ZipEntry.STORED);
+                    entry.setSize(content.length);
+                    entry.setCompressedSize(content.length);
+                    entry.setCrc(crc.getValue());
+                }
+                zip.putNextEntry(entry);
+                zip.write(content);
+                zip.closeEntry();
+            }
+        }
+        archive = out.toByteArray();
+    }
+
+    @Benchmark
+    public ZipInspection inspect() throws IOException {
+        return new ZipInspector(matcher, limits).inspect(new ByteArrayInputStream(archive));
+    }
+
+    @Benchmark
+    public int zipInputStream() throws IOException {
+        int blocked = 0;
+        try (ZipInputStream zip = new ZipInputStream(new ByteArrayInputStream(archive))) {
+            ZipEntry entry;
+            while ((entry = zip.getNextEntry()) != null) {
+                if (matcher.match(entry.getName()) != null) {
+                    blocked++;
+                }
+            }
+        }
+        return blocked;
+    }
+}
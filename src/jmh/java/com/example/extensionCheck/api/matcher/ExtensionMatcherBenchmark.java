@@ -0,0 +1,57 @@
+package com.example.extensionCheck.api.matcher;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+/**
+ * 파일명 차단 판별 (고정 7개 + 커스텀 200개 기준)
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 2, jvmArgsAppend = {"-Xms1g", "-Xmx1g"})
+public class ExtensionMatcherBenchmark {
+
+    private static final List<String> FIXED = List.of("bat", "cmd", "com", "cpl", "exe", "scr", "js");
+
+    @Param({"report.EXE", "photo.jpeg", "backup.tar.gz", "no-extension"})
+    private String filename;
+
+    private ExtensionMatcher matcher;
+
+    @Setup
+    public void setUp() {
+        List<String> custom = IntStream.range(0, 199)
+                .mapToObj(ExtensionMatcherBenchmark::name)
+                .collect(Collectors.toCollection(ArrayList::new));
+        custom.add("tar.gz");
+        matcher = ExtensionMatcher.compile(FIXED, custom);
+    }
+
+    @Benchmark
+    public ExtensionMatcher.Match match() {
+        return matcher.match(filename);
+    }
+
+    // 숫자 없는 고유 이름 (aa, ab, ...)
+    private static String name(int i) {
+        return "" + (char) ('a' + i / 26) + (char) ('a' + i % 26) + "x";
+    }
+}
@@ -0,0 +1,78 @@
+package com.example.extensionCheck.api.response;
+
+import com.example.extensionCheck.api.snapshot.ExtensionDelta;
+import com.example.extensionCheck.api.snapshot.ExtensionSnapshot;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import tools.jackson.databind.ObjectWriter;
+import tools.jackson.databind.json.JsonMapper;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.IntStream;
+
+/**
+ * 목록 응답 생성 경로
+ * - 스냅샷 갱신 (바뀐 이름만 커스텀 집합/matcher에 반영, 목록 크기와 무관해야 함)
+ * - ExtensionListResponse 생성 및 ApiResponse JSON 직렬화
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 2, jvmArgsAppend = {"-Xms1g", "-Xmx1g"})
+public class ExtensionResponseBenchmark {
+
+    @Param({"200", "50000"})
+    private int customCount;
+
+    private ExtensionSnapshot snapshot;
+    private ExtensionDelta delta;
+    private ObjectWriter writer;
+
+    @Setup
+    public void setUp() {
+        List<String> fixed = List.of("bat", "cmd", "com", "cpl", "exe", "scr", "js");
+        List<String> custom = IntStream.range(0, customCount)
+                .mapToObj(ExtensionResponseBenchmark::name)
+                .toList();
+        snapshot = ExtensionSnapshot.of(1, fixed, custom);
+        delta = ExtensionDelta.ofCustom(List.of("pdf"), List.of(custom.get(0)));
+        writer = JsonMapper.builder().build().writer();
+    }
+
+    @Benchmark
+    public ExtensionSnapshot applyDelta() {
+        return snapshot.apply(delta, snapshot.getVersion() + 1);
+    }
+
+    @Benchmark
+    public ExtensionListResponse buildListResponse() {
+        return ExtensionListResponse.of(snapshot);
+    }
+
+    @Benchmark
+    public byte[] serializeApiResponse() {
+        return writer.writeValueAsBytes(ApiResponse.ok(ExtensionListResponse.of(snapshot)));
+    }
+
+    // 숫자 없는 고유 이름 (5자리 26진수)
+    private static String name(int i) {
+        char[] chars = new char[5];
+        for (int k = chars.length - 1; k >= 0; k--) {
+            chars[k] = (char) ('a' + i % 26);
+            i /= 26;
+        }
+        return new String(chars);
+    }
+}
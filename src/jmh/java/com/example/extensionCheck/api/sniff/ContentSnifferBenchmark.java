@@ -0,0 +1,66 @@
+package com.example.extensionCheck.api.sniff;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 파일 앞부분 시그니처 판별 (업로드마다 실행되는 경로, 1MB 파일 기준)
+ * - sniffBuffer: 이미 읽어 둔 앞부분으로 판별
+ * - sniffStream: 스트림에서 PEEK_SIZE 바이트만 읽어 판별
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 2, jvmArgsAppend = {"-Xms1g", "-Xmx1g"})
+public class ContentSnifferBenchmark {
+
+    @Param({"pe", "shebang", "jpeg"})
+    private String kind;
+
+    private byte[] content;
+
+    @Setup
+    public void setUp() {
+        content = new byte[1024 * 1024];
+        byte[] head = switch (kind) {
+            case "pe" -> {
+                byte[] pe = new byte[256];
+                pe[0] = 'M';
+                pe[1] = 'Z';
+                pe[0x3C] = (byte) 0x80;
+                pe[0x80] = 'P';
+                pe[0x81] = 'E';
+                yield pe;
+            }
+            case "shebang" -> "#!/usr/bin/env node\nconsole.log('hi')\n".getBytes(StandardCharsets.US_ASCII);
+            default -> new byte[]{(byte) 0xFF, (byte) 0xD8, (byte) 0xFF, (byte) 0xE0};
+        };
+        System.arraycopy(head, 0, content, 0, head.length);
+    }
+
+    @Benchmark
+    public ContentSniffer.Detection sniffBuffer() {
+        return ContentSniffer.sniff(content, 0, content.length);
+    }
+
+    @Benchmark
+    public ContentSniffer.Detection sniffStream() throws IOException {
+        return ContentSniffer.sniff(new ByteArrayInputStream(content));
+    }
+}
@@ -0,0 +1,59 @@
+package com.example.extensionCheck.api.validator;
+
+import com.example.extensionCheck.api.exception.ExtensionException;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 확장자 입력 검증 + 소문자 변환 (addExtension 진입 경로)
+ * - validateAndLowerCase: 검증과 변환을 따로 수행하던 기존 방식
+ * - normalize: 한 번 순회로 검증 + 정규화
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 2, jvmArgsAppend = {"-Xms1g", "-Xmx1g"})
+public class ExtensionValidatorBenchmark {
+
+    private final ExtensionValidator validator = new ExtensionValidator();
+
+    @State(Scope.Benchmark)
+    public static class Input {
+
+        @Param({"pdf", "PDF", "abcdefghijklmnopqrst"})
+        private String extension;
+    }
+
+    @Benchmark
+    public void validateAndLowerCase(Input input, Blackhole bh) {
+        validator.validate(input.extension);
+        bh.consume(input.extension.toLowerCase());
+    }
+
+    @Benchmark
+    public String normalize(Input input) {
+        return validator.normalize(input.extension);
+    }
+
+    @Benchmark
+    public void validateRejected(Blackhole bh) {
+        try {
+            validator.validate("pdf1");
+        } catch (ExtensionException e) {
+            bh.consume(e.getErrorCode());
+        }
+    }
+}
@@ -0,0 +1,122 @@
+package com.example.extensionCheck.repository;
+
+import com.example.extensionCheck.ExtensionCheckApplication;
+import com.example.extensionCheck.entity.ExtensionType;
+import com.example.extensionCheck.entity.Extensions;
+import jakarta.persistence.EntityManager;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.IntStream;
+
+/**
+ * 스냅샷 적재 쿼리 (H2 인메모리, 반복마다 읽기 트랜잭션 하나)
+ * - projection: findAllActiveNames 한 번으로 (type, name)만 읽어 타입별로 나눔
+ * - entities: 이전 방식, 타입별 엔티티 조회 두 번 + 영속성 컨텍스트 적재 후 이름 복사
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = {"-Xms1g", "-Xmx1g"})
+public class ActiveNamesQueryBenchmark {
+
+    private static final String TENANT = "bench";
+    private static final String ACTIVE_BY_TYPE =
+            "select e from Extensions e where e.tenantId = :tenantId and e.type = :type and e.isActive = true order by e.id";
+
+    @Param({"200", "50000"})
+    private int customCount;
+
+    private ConfigurableApplicationContext context;
+    private ExtensionsRepository extRepository;
+    private EntityManager entityManager;
+    private TransactionTemplate readTransaction;
+
+    @Setup
+    public void setUp() {
+        context = new SpringApplicationBuilder(ExtensionCheckApplication.class).run(
+                "--server.port=0",
+                "--spring.datasource.url=jdbc:h2:mem:jmh;MODE=MySQL;DB_CLOSE_DELAY=-1",
+                "--spring.datasource.driver-class-name=org.h2.Driver",
+                "--spring.datasource.username=sa",
+                "--spring.datasource.password=",
+                "--spring.jpa.hibernate.ddl-auto=create-drop",
+                "--spring.jpa.properties.hibernate.dialect=org.hibernate.dialect.H2Dialect",
+                "--spring.main.banner-mode=off",
+                "--logging.level.root=WARN");
+        extRepository = context.getBean(ExtensionsRepository.class);
+        entityManager = context.getBean(EntityManager.class);
+        readTransaction = new TransactionTemplate(context.getBean(TransactionTemplate.class).getTransactionManager());
+        readTransaction.setReadOnly(true);
+
+        TransactionTemplate writeTransaction = context.getBean(TransactionTemplate.class);
+        writeTransaction.executeWithoutResult(status -> {
+            extRepository.batchInsertActive(TENANT, ExtensionType.FIXED,
+                    List.of("bat", "cmd", "com", "cpl", "exe", "scr", "js"));
+            extRepository.batchInsertActive(TENANT, ExtensionType.CUSTOM,
+                    IntStream.range(0, customCount).mapToObj(ActiveNamesQueryBenchmark::name).toList());
+        });
+    }
+
+    @TearDown
+    public void tearDown() {
+        context.close();
+    }
+
+    @Benchmark
+    public List<List<String>> projection() {
+        return readTransaction.execute(status -> {
+            List<ActiveExtensionName> rows = extRepository.findAllActiveNames(TENANT);
+            List<String> fixed = new ArrayList<>();
+            List<String> custom = new ArrayList<>(rows.size());
+            for (ActiveExtensionName row : rows) {
+                (row.type() == ExtensionType.FIXED ? fixed : custom).add(row.name());
+            }
+            return List.of(fixed, custom);
+        });
+    }
+
+    @Benchmark
+    public List<List<String>> entities() {
+        return readTransaction.execute(status -> List.of(
+                activeNames(ExtensionType.FIXED),
+                activeNames(ExtensionType.CUSTOM)));
+    }
+
+    private List<String> activeNames(ExtensionType type) {
+        return entityManager.createQuery(ACTIVE_BY_TYPE, Extensions.class)
+                .setParameter("tenantId", TENANT)
+                .setParameter("type", type)
+                .getResultStream()
+                .map(Extensions::getName)
+                .toList();
+    }
+
+    // 숫자 없는 고유 이름 (5자리 26진수)
+    private static String name(int i) {
+        char[] chars = new char[5];
+        for (int k = chars.length - 1; k >= 0; k--) {
+            chars[k] = (char) ('a' + i % 26);
+            i /= 26;
+        }
+        return new String(chars);
+    }
+}
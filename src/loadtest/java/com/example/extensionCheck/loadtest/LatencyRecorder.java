@@ -0,0 +1,85 @@
+package com.example.extensionCheck.loadtest;
+
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * 지연 시간(ns) 기록 및 백분위 계산
+ * - 작업 스레드마다 하나씩 두고 측정이 끝난 뒤 merge로 합침 (기록 경로에 락 없음)
+ * - 여러 스레드가 공유할 때는 synchronized 메서드로 기록
+ */
+final class LatencyRecorder {
+
+    private long[] values = new long[1024];
+    private int size;
+    private long rejected;
+    private long errors;
+
+    void record(long nanos) {
+        if (size == values.length) {
+            values = Arrays.copyOf(values, size * 2);
+        }
+        values[size++] = nanos;
+    }
+
+    synchronized void recordShared(long nanos) {
+        record(nanos);
+    }
+
+    // 업무 규칙에 따른 4xx 응답 (이미 존재, 개수 제한 등)
+    void rejected() {
+        rejected++;
+    }
+
+    // 5xx 또는 연결 오류
+    void error() {
+        errors++;
+    }
+
+    synchronized int count() {
+        return size;
+    }
+
+    void merge(LatencyRecorder other) {
+        for (int i = 0; i < other.size; i++) {
+            record(other.values[i]);
+        }
+        rejected += other.rejected;
+        errors += other.errors;
+    }
+
+    /**
+     * 건수/처리량(초당)/백분위(ms) 요약
+     */
+    synchronized Map<String, Object> summary(double seconds) {
+        long[] sorted = Arrays.copyOf(values, size);
+        Arrays.sort(sorted);
+        Map<String, Object> summary = new LinkedHashMap<>();
+        summary.put("count", size);
+        summary.put("rejected", rejected);
+        summary.put("errors", errors);
+        summary.put("throughput", round(size / seconds));
+        summary.put("p50", millis(percentile(sorted, 50)));
+        summary.put("p95", millis(percentile(sorted, 95)));
+        summary.put("p99", millis(percentile(sorted, 99)));
+        summary.put("max", millis(sorted.length == 0 ? 0 : sorted[sorted.length - 1]));
+        return summary;
+    }
+
+    private static long percentile(long[] sorted, double percentile) {
+        if (sorted.length == 0) {
+            return 0;
+        }
+        int index = (int) Math.ceil(percentile / 100 * sorted.length) - 1;
+        return sorted[Math.max(0, index)];
+    }
+
+    private static double millis(long nanos) {
+        return round(nanos / 1_000_000.0);
+    }
+
+    private static double round(double value) {
+        return Math.round(value * 1000) / 1000.0;
+    }
+}
@@ -0,0 +1,262 @@
+package com.example.extensionCheck.loadtest;
+
+import com.example.extensionCheck.ExtensionCheckApplication;
+import com.example.extensionCheck.api.tenant.TenantArgumentResolver;
+import com.example.extensionCheck.loadtest.LoadTestOptions.Operation;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.boot.web.server.context.WebServerApplicationContext;
+import org.springframework.context.ConfigurableApplicationContext;
+import tools.jackson.databind.json.JsonMapper;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.file.Files;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.stream.Collectors;
+
+/**
+ * REST/WebSocket 부하 테스트 (외부 서비스 없이 H2로 애플리케이션을 띄워 실행)
+ * - 작업 스레드가 비중(mix)에 따라 목록 조회, 커스텀 추가/삭제, 고정 확장자 배치 변경을 반복
+ * - 동시에 STOMP 구독자 다수를 연결해 변경 전파 지연을 측정 ({@link PropagationProbe})
+ * - 요청 종류별 처리량과 p50/p95/p99(ms)를 JSON으로 저장
+ * - 실행: ./gradlew loadTest [-PloadTestArgs="--duration=60 --subscribers=2000"]
+ */
+public final class LoadTest {
+
+    private static final String[] FIXED_NAMES = {"bat", "cmd", "com", "cpl", "exe", "scr", "js"};
+    // 테넌트별 커스텀 확장자 후보 (추가/삭제가 같은 이름들을 오가도록 작게 유지)
+    private static final int CUSTOM_NAMES = 20;
+    private static final String PROBE_TENANT = "load-probe";
+
+    private final LoadTestOptions options;
+    private final HttpClient httpClient = HttpClient.newBuilder()
+            .connectTimeout(Duration.ofSeconds(5))
+            .build();
+    private String baseUrl;
+
+    private LoadTest(LoadTestOptions options) {
+        this.options = options;
+    }
+
+    public static void main(String[] args) throws Exception {
+        new LoadTest(LoadTestOptions.parse(args)).run();
+    }
+
+    private void run() throws Exception {
+        // 명령행 인자로 넘겨 application.properties(MySQL)보다 우선 적용
+        String[] appArgs = appProperties().entrySet().stream()
+                .map(entry -> "--" + entry.getKey() + "=" + entry.getValue())
+                .toArray(String[]::new);
+        ConfigurableApplicationContext context = new SpringApplicationBuilder(ExtensionCheckApplication.class)
+                .run(appArgs);
+        PropagationProbe probe = new PropagationProbe();
+        try {
+            int port = ((WebServerApplicationContext) context).getWebServer().getPort();
+            baseUrl = "http://localhost:" + port + "/api/extensions";
+            probe.connect("ws://localhost:" + port + "/ws/websocket", PROBE_TENANT, options.subscribers());
+            System.out.printf("Connected %d STOMP subscribers%n", options.subscribers());
+
+            Map<String, Object> results = measure(probe);
+            writeResults(results);
+        } finally {
+            probe.disconnect();
+            context.close();
+        }
+    }
+
+    private Map<String, Object> appProperties() {
+        Map<String, Object> properties = new LinkedHashMap<>();
+        properties.put("server.port", 0);
+        properties.put("spring.datasource.url", "jdbc:h2:mem:loadtest;MODE=MySQL;DB_CLOSE_DELAY=-1");
+        properties.put("spring.datasource.driver-class-name", "org.h2.Driver");
+        properties.put("spring.datasource.username", "sa");
+        properties.put("spring.datasource.password", "");
+        properties.put("spring.jpa.hibernate.ddl-auto", "create-drop");
+        properties.put("spring.jpa.properties.hibernate.dialect", "org.hibernate.dialect.H2Dialect");
+        properties.put("spring.main.banner-mode", "off");
+        properties.put("logging.level.root", "WARN");
+        properties.putAll(options.appProperties());
+        return properties;
+    }
+
+    /**
+     * 워밍업 후 측정 구간 동안 요청을 보내고 종류별 결과와 전파 지연 요약 반환
+     */
+    private Map<String, Object> measure(PropagationProbe probe) throws Exception {
+        long start = System.nanoTime();
+        long measureStart = start + Duration.ofSeconds(options.warmupSeconds()).toNanos();
+        long end = measureStart + Duration.ofSeconds(options.durationSeconds()).toNanos();
+
+        ExecutorService workers = Executors.newFixedThreadPool(options.concurrency() + 1);
+        List<Future<Map<Operation, LatencyRecorder>>> futures = new ArrayList<>();
+        for (int i = 0; i < options.concurrency(); i++) {
+            futures.add(workers.submit(() -> work(measureStart, end)));
+        }
+        Future<?> probing = workers.submit(() -> {
+            probe(probe, measureStart, end);
+            return null;
+        });
+
+        Map<Operation, LatencyRecorder> merged = new EnumMap<>(Operation.class);
+        for (Future<Map<Operation, LatencyRecorder>> future : futures) {
+            future.get().forEach((operation, recorder) ->
+                    merged.computeIfAbsent(operation, key -> new LatencyRecorder()).merge(recorder));
+        }
+        probing.get();
+        workers.shutdown();
+        // 밀려 있는 전송이 모두 도착할 때까지 대기
+        probe.awaitQuiet(1000, 30_000);
+
+        double seconds = options.durationSeconds();
+        Map<String, Object> operations = new LinkedHashMap<>();
+        merged.forEach((operation, recorder) ->
+                operations.put(operation.name().toLowerCase(Locale.ROOT), recorder.summary(seconds)));
+
+        Map<String, Object> results = new LinkedHashMap<>();
+        results.put("options", optionsSummary());
+        results.put("operations", operations);
+        results.put("propagation", probe.summary(seconds));
+        return results;
+    }
+
+    /**
+     * 작업 스레드: 종료 시각까지 요청 반복, 측정 구간에 들어온 뒤부터 기록
+     */
+    private Map<Operation, LatencyRecorder> work(long measureStart, long end) {
+        Map<Operation, LatencyRecorder> recorders = new EnumMap<>(Operation.class);
+        for (Operation operation : Operation.values()) {
+            recorders.put(operation, new LatencyRecorder());
+        }
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        long now;
+        while ((now = System.nanoTime()) < end) {
+            Operation operation = options.pick(random.nextInt(options.mixTotal()));
+            HttpRequest request = request(operation, "load-" + random.nextInt(options.tenants()), random);
+            LatencyRecorder recorder = recorders.get(operation);
+            int status;
+            try {
+                status = httpClient.send(request, HttpResponse.BodyHandlers.discarding()).statusCode();
+            } catch (IOException e) {
+                status = -1;
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                break;
+            }
+            if (now < measureStart) {
+                continue;
+            }
+            recorder.record(System.nanoTime() - now);
+            if (status >= 400 && status < 500) {
+                recorder.rejected();
+            } else if (status < 200 || status >= 500) {
+                recorder.error();
+            }
+        }
+        return recorders;
+    }
+
+    private HttpRequest request(Operation operation, String tenantId, ThreadLocalRandom random) {
+        String name = "c" + letters(random.nextInt(CUSTOM_NAMES));
+        return switch (operation) {
+            case GET -> builder(tenantId, "").GET().build();
+            case ADD -> builder(tenantId, "/add?customExtension=" + name)
+                    .POST(HttpRequest.BodyPublishers.noBody()).build();
+            case DELETE -> builder(tenantId, "/custom/" + name).DELETE().build();
+            case BATCH -> {
+                List<String> checked = new ArrayList<>();
+                List<String> unchecked = new ArrayList<>();
+                for (String fixed : FIXED_NAMES) {
+                    (random.nextBoolean() ? checked : unchecked).add(fixed);
+                }
+                String body = "{\"checked\":" + json(checked) + ",\"unchecked\":" + json(unchecked) + "}";
+                yield builder(tenantId, "/fixed/batch")
+                        .header("Content-Type", "application/json")
+                        .method("PATCH", HttpRequest.BodyPublishers.ofString(body))
+                        .build();
+            }
+        };
+    }
+
+    /**
+     * 측정 구간 동안 probe-interval마다 측정용 확장자를 추가하고 다음 차례에 삭제
+     */
+    private void probe(PropagationProbe probe, long measureStart, long end) throws Exception {
+        Thread.sleep(Math.max(0, (measureStart - System.nanoTime()) / 1_000_000));
+        int sequence = 0;
+        String previous = null;
+        while (System.nanoTime() < end) {
+            String key;
+            HttpRequest request;
+            if (previous == null) {
+                previous = "probe" + letters(sequence++);
+                key = "+" + previous;
+                request = builder(PROBE_TENANT, "/add?customExtension=" + previous)
+                        .POST(HttpRequest.BodyPublishers.noBody()).build();
+            } else {
+                key = "-" + previous;
+                request = builder(PROBE_TENANT, "/custom/" + previous).DELETE().build();
+                previous = null;
+            }
+            probe.expect(key);
+            httpClient.send(request, HttpResponse.BodyHandlers.discarding());
+            Thread.sleep(options.probeIntervalMillis());
+        }
+    }
+
+    private HttpRequest.Builder builder(String tenantId, String path) {
+        return HttpRequest.newBuilder(URI.create(baseUrl + path))
+                .timeout(Duration.ofSeconds(30))
+                .header(TenantArgumentResolver.HEADER, tenantId);
+    }
+
+    private Map<String, Object> optionsSummary() {
+        Map<String, Object> summary = new LinkedHashMap<>();
+        summary.put("durationSeconds", options.durationSeconds());
+        summary.put("warmupSeconds", options.warmupSeconds());
+        summary.put("concurrency", options.concurrency());
+        summary.put("tenants", options.tenants());
+        summary.put("mix", options.mix());
+        summary.put("subscribers", options.subscribers());
+        summary.put("probeIntervalMillis", options.probeIntervalMillis());
+        summary.put("app", options.appProperties());
+        summary.put("java", Runtime.version().toString());
+        return summary;
+    }
+
+    private void writeResults(Map<String, Object> results) throws IOException {
+        Files.createDirectories(options.output().toAbsolutePath().getParent());
+        String json = JsonMapper.builder().build().writerWithDefaultPrettyPrinter().writeValueAsString(results);
+        Files.writeString(options.output(), json);
+        System.out.println(json);
+        System.out.println("Results written to " + options.output().toAbsolutePath());
+    }
+
+    /**
+     * 숫자는 확장자에 쓸 수 없으므로 0, 1, 2...를 a, b, c... ba, bb...로 변환
+     */
+    static String letters(int value) {
+        StringBuilder sb = new StringBuilder();
+        do {
+            sb.append((char) ('a' + value % 26));
+            value /= 26;
+        } while (value > 0);
+        return sb.reverse().toString();
+    }
+
+    private static String json(List<String> names) {
+        return names.stream().map(name -> "\"" + name + "\"").collect(Collectors.joining(",", "[", "]"));
+    }
+}
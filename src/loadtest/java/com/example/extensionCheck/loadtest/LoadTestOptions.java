@@ -0,0 +1,101 @@
+package com.example.extensionCheck.loadtest;
+
+import java.nio.file.Path;
+import java.util.EnumMap;
+import java.util.LinkedHashMap;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * 부하 테스트 옵션 (--이름=값)
+ * - --duration=30 --warmup=5: 측정/워밍업 시간(초)
+ * - --concurrency=32: REST 요청을 보내는 작업 스레드 수
+ * - --tenants=10: 요청을 나눠 보낼 테넌트 수
+ * - --mix=get:70,add:10,delete:10,batch:10: 요청 종류별 비중
+ * - --subscribers=1000 --probe-interval=200: STOMP 구독자 수, 전파 지연 측정 간격(ms)
+ * - --output=build/reports/loadtest/results.json
+ * - --app.이름=값: 애플리케이션 설정 전달 (예: --app.spring.threads.virtual.enabled=true)
+ */
+record LoadTestOptions(int durationSeconds,
+                       int warmupSeconds,
+                       int concurrency,
+                       int tenants,
+                       Map<Operation, Integer> mix,
+                       int subscribers,
+                       int probeIntervalMillis,
+                       Path output,
+                       Map<String, Object> appProperties) {
+
+    private static final String APP_PREFIX = "app.";
+
+    enum Operation {
+        GET, ADD, DELETE, BATCH
+    }
+
+    static LoadTestOptions parse(String[] args) {
+        Map<String, String> values = new LinkedHashMap<>();
+        Map<String, Object> appProperties = new LinkedHashMap<>();
+        for (String arg : args) {
+            if (!arg.startsWith("--") || arg.indexOf('=') < 0) {
+                throw new IllegalArgumentException("Expected --name=value but was: " + arg);
+            }
+            String name = arg.substring(2, arg.indexOf('='));
+            String value = arg.substring(arg.indexOf('=') + 1);
+            if (name.startsWith(APP_PREFIX)) {
+                appProperties.put(name.substring(APP_PREFIX.length()), value);
+            } else {
+                values.put(name, value);
+            }
+        }
+        LoadTestOptions options = new LoadTestOptions(
+                intValue(values, "duration", 30),
+                intValue(values, "warmup", 5),
+                intValue(values, "concurrency", 32),
+                intValue(values, "tenants", 10),
+                mix(stringValue(values, "mix", "get:70,add:10,delete:10,batch:10")),
+                intValue(values, "subscribers", 1000),
+                intValue(values, "probe-interval", 200),
+                Path.of(stringValue(values, "output", "build/reports/loadtest/results.json")),
+                appProperties);
+        if (!values.isEmpty()) {
+            throw new IllegalArgumentException("Unknown options: " + values.keySet());
+        }
+        return options;
+    }
+
+    /**
+     * 0 이상 total 미만의 값을 비중에 따라 요청 종류로 변환
+     */
+    Operation pick(int value) {
+        for (Map.Entry<Operation, Integer> entry : mix.entrySet()) {
+            value -= entry.getValue();
+            if (value < 0) {
+                return entry.getKey();
+            }
+        }
+        throw new IllegalStateException("value out of range");
+    }
+
+    int mixTotal() {
+        return mix.values().stream().mapToInt(Integer::intValue).sum();
+    }
+
+    private static int intValue(Map<String, String> values, String name, int defaultValue) {
+        String value = values.remove(name);
+        return value != null ? Integer.parseInt(value) : defaultValue;
+    }
+
+    private static String stringValue(Map<String, String> values, String name, String defaultValue) {
+        String value = values.remove(name);
+        return value != null ? value : defaultValue;
+    }
+
+    private static Map<Operation, Integer> mix(String value) {
+        Map<Operation, Integer> mix = new EnumMap<>(Operation.class);
+        for (String part : value.split(",")) {
+            String[] pair = part.split(":");
+            mix.put(Operation.valueOf(pair[0].strip().toUpperCase(Locale.ROOT)), Integer.parseInt(pair[1].strip()));
+        }
+        return mix;
+    }
+}
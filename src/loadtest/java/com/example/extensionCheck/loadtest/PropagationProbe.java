@@ -0,0 +1,161 @@
+package com.example.extensionCheck.loadtest;
+
+import org.springframework.messaging.converter.JacksonJsonMessageConverter;
+import org.springframework.messaging.simp.stomp.StompCommand;
+import org.springframework.messaging.simp.stomp.StompHeaders;
+import org.springframework.messaging.simp.stomp.StompSession;
+import org.springframework.messaging.simp.stomp.StompSessionHandlerAdapter;
+import org.springframework.web.socket.client.standard.StandardWebSocketClient;
+import org.springframework.web.socket.messaging.WebSocketStompClient;
+import tools.jackson.databind.JsonNode;
+
+import java.lang.reflect.Type;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * STOMP 구독자 다수를 연결해 변경 전파 지연(커밋 요청 시작 -> 구독자 수신)을 측정
+ * - 모든 구독자는 한 테넌트 토픽(/topic/extensions/{tenant})을 구독
+ * - 측정용 커스텀 확장자를 추가/삭제하고 delta에 해당 이름이 도착한 시각으로 지연 계산
+ * - 같은 JVM이므로 System.nanoTime을 그대로 비교
+ */
+final class PropagationProbe {
+
+    private static final int MAX_CONCURRENT_CONNECTS = 64;
+
+    private final WebSocketStompClient stompClient;
+    private final List<StompSession> sessions = new ArrayList<>();
+    private final LatencyRecorder latency = new LatencyRecorder();
+    // "+이름" / "-이름" -> 요청 시작 시각
+    private final Map<String, Long> pending = new ConcurrentHashMap<>();
+    private final AtomicLong fullMessages = new AtomicLong();
+    private long probes;
+
+    PropagationProbe() {
+        this.stompClient = new WebSocketStompClient(new StandardWebSocketClient());
+        this.stompClient.setMessageConverter(new JacksonJsonMessageConverter());
+    }
+
+    /**
+     * 구독자 연결 및 구독 (동시 연결 수 제한)
+     */
+    void connect(String url, String tenantId, int subscribers) throws InterruptedException {
+        Semaphore permits = new Semaphore(MAX_CONCURRENT_CONNECTS);
+        List<CompletableFuture<StompSession>> futures = new ArrayList<>(subscribers);
+        for (int i = 0; i < subscribers; i++) {
+            permits.acquire();
+            CompletableFuture<StompSession> future = stompClient.connectAsync(url, new Subscriber(tenantId));
+            future.whenComplete((session, error) -> permits.release());
+            futures.add(future);
+        }
+        for (CompletableFuture<StompSession> future : futures) {
+            sessions.add(future.join());
+        }
+    }
+
+    /**
+     * 측정용 변경 시작 전 호출 ("+name"은 추가, "-name"은 삭제)
+     */
+    void expect(String key) {
+        probes++;
+        pending.put(key, System.nanoTime());
+    }
+
+    /**
+     * 수신 건수가 quietMillis 동안 늘지 않을 때까지 대기 (최대 maxWaitMillis)
+     */
+    void awaitQuiet(long quietMillis, long maxWaitMillis) throws InterruptedException {
+        long deadline = System.currentTimeMillis() + maxWaitMillis;
+        int last = -1;
+        long stableSince = System.currentTimeMillis();
+        while (System.currentTimeMillis() < deadline) {
+            int count = latency.count();
+            if (count != last) {
+                last = count;
+                stableSince = System.currentTimeMillis();
+            } else if (System.currentTimeMillis() - stableSince >= quietMillis) {
+                return;
+            }
+            Thread.sleep(100);
+        }
+    }
+
+    void disconnect() {
+        sessions.forEach(StompSession::disconnect);
+        stompClient.stop();
+    }
+
+    Map<String, Object> summary(double seconds) {
+        Map<String, Object> summary = new LinkedHashMap<>();
+        summary.put("subscribers", sessions.size());
+        summary.put("probes", probes);
+        long expected = probes * sessions.size();
+        summary.put("deliveryRatio", expected == 0 ? 0 : Math.round(latency.count() * 10000.0 / expected) / 10000.0);
+        summary.put("fullMessages", fullMessages.get());
+        summary.put("latency", latency.summary(seconds));
+        return summary;
+    }
+
+    private void onMessage(JsonNode message) {
+        long now = System.nanoTime();
+        if (!"delta".equals(message.path("type").asString())) {
+            fullMessages.incrementAndGet();
+            return;
+        }
+        record(message.path("customAdded"), "+", now);
+        record(message.path("customRemoved"), "-", now);
+    }
+
+    private void record(JsonNode names, String prefix, long now) {
+        for (JsonNode name : names) {
+            Long start = pending.get(prefix + name.asString());
+            if (start != null) {
+                latency.recordShared(now - start);
+            }
+        }
+    }
+
+    private final class Subscriber extends StompSessionHandlerAdapter {
+
+        private final String tenantId;
+
+        private Subscriber(String tenantId) {
+            this.tenantId = tenantId;
+        }
+
+        @Override
+        public void afterConnected(StompSession session, StompHeaders connectedHeaders) {
+            session.subscribe("/topic/extensions/" + tenantId, this);
+        }
+
+        @Override
+        public Type getPayloadType(StompHeaders headers) {
+            return JsonNode.class;
+        }
+
+        @Override
+        public void handleFrame(StompHeaders headers, Object payload) {
+            // 본문이 비었거나 변환하지 못한 프레임은 전파 측정 대상이 아님
+            if (payload instanceof JsonNode message) {
+                onMessage(message);
+            }
+        }
+
+        @Override
+        public void handleException(StompSession session, StompCommand command, StompHeaders headers,
+                                    byte[] payload, Throwable exception) {
+            System.err.println("STOMP frame handling failed: " + exception);
+        }
+
+        @Override
+        public void handleTransportError(StompSession session, Throwable exception) {
+            System.err.println("STOMP transport error: " + exception);
+        }
+    }
+}
@@ -1,26 +1,54 @@
 package com.example.extensionCheck.api.Controller;
 
+import com.example.extensionCheck.api.Service.ExtensionBulkService;
+import com.example.extensionCheck.api.Service.ExtensionBulkService.Format;
+import com.example.extensionCheck.api.Service.ExtensionCheckService;
 import com.example.extensionCheck.api.Service.ExtensionService;
+import com.example.extensionCheck.api.history.ExtensionHistoryService;
 import com.example.extensionCheck.api.request.FixedBatchRequest;
 import com.example.extensionCheck.api.response.ApiResponse;
+import com.example.extensionCheck.api.response.CustomExtensionPageResponse;
+import com.example.extensionCheck.api.response.ExtensionCheckResponse;
+import com.example.extensionCheck.api.response.ExtensionHistoryResponse;
+import com.example.extensionCheck.api.response.ExtensionImportResponse;
 import com.example.extensionCheck.api.response.ExtensionListResponse;
 import com.example.extensionCheck.api.response.ExtensionResponse;
+import com.example.extensionCheck.api.response.ExtensionSyncMessage;
+import com.example.extensionCheck.api.tenant.Actor;
+import com.example.extensionCheck.api.tenant.Tenant;
+import com.example.extensionCheck.api.tenant.TenantArgumentResolver;
 import com.example.extensionCheck.entity.Extensions;
+import jakarta.servlet.http.HttpServletResponse;
 import lombok.RequiredArgsConstructor;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
 
+import java.io.IOException;
+import java.io.InputStream;
+import java.time.Instant;
+import java.util.Locale;
+
+/**
+ * 확장자 API (모든 요청은 X-Tenant-Id 헤더의 테넌트 기준, 없으면 default)
+ */
 @RestController
 @RequiredArgsConstructor
 @RequestMapping("/api/extensions")
 public class ExtensionController {
 
     private final ExtensionService extensionService;
+    private final ExtensionCheckService extensionCheckService;
+    private final ExtensionHistoryService historyService;
+    private final ExtensionBulkService bulkService;
 
     @PostMapping("/add")
     public ResponseEntity<ApiResponse<ExtensionResponse>> addExtension(
-            @RequestParam String customExtension) {
-        Extensions extension = extensionService.addExtension(customExtension);
+            @Tenant String tenantId, @Actor String actor, @RequestParam String customExtension) {
+        Extensions extension = extensionService.addExtension(tenantId, actor, customExtension);
         return ResponseEntity.ok(
                 ApiResponse.ok(ExtensionResponse.from(extension), "확장자가 추가되었습니다.")
         );
@@ -28,15 +56,15 @@ public class ExtensionController {
 
     @DeleteMapping("/custom/{extName}")
     public ResponseEntity<ApiResponse<Void>> deleteCustomExtension(
-            @PathVariable String extName) {
-        extensionService.deactivateExtension(extName);
+            @Tenant String tenantId, @Actor String actor, @PathVariable String extName) {
+        extensionService.deactivateExtension(tenantId, actor, extName);
         return ResponseEntity.ok(ApiResponse.ok("확장자가 삭제되었습니다."));
     }
 
     @PostMapping("/fixed/{extName}")
     public ResponseEntity<ApiResponse<ExtensionResponse>> saveFixedExtension(
-            @PathVariable String extName) {
-        Extensions extension = extensionService.saveFixedExtension(extName);
+            @Tenant String tenantId, @Actor String actor, @PathVariable String extName) {
+        Extensions extension = extensionService.saveFixedExtension(tenantId, actor, extName);
         return ResponseEntity.ok(
                 ApiResponse.ok(ExtensionResponse.from(extension), "고정 확장자가 저장되었습니다.")
         );
@@ -44,21 +72,112 @@ public class ExtensionController {
 
     @DeleteMapping("/fixed/{extName}")
     public ResponseEntity<ApiResponse<Void>> deleteFixedExtension(
-            @PathVariable String extName) {
-        extensionService.deleteFixedExtension(extName);
+            @Tenant String tenantId, @Actor String actor, @PathVariable String extName) {
+        extensionService.deleteFixedExtension(tenantId, actor, extName);
         return ResponseEntity.ok(ApiResponse.ok("고정 확장자가 해제되었습니다."));
     }
 
     @PatchMapping("/fixed/batch")
     public ResponseEntity<ApiResponse<Void>> batchUpdateFixed(
-            @RequestBody FixedBatchRequest request) {
-        extensionService.batchUpdateFixed(request.getChecked(), request.getUnchecked());
+            @Tenant String tenantId, @Actor String actor, @RequestBody FixedBatchRequest request) {
+        extensionService.batchUpdateFixed(tenantId, actor, request.getChecked(), request.getUnchecked());
         return ResponseEntity.ok(ApiResponse.ok("배치 업데이트가 완료되었습니다."));
     }
 
+    /**
+     * 커스텀 확장자 페이지 조회 (이름순 keyset, 다음 페이지는 응답의 next를 after로 전달)
+     */
+    @GetMapping("/custom")
+    public ResponseEntity<ApiResponse<CustomExtensionPageResponse>> getCustomPage(
+            @Tenant String tenantId,
+            @RequestParam(required = false) String prefix,
+            @RequestParam(required = false) String after,
+            @RequestParam(required = false) Integer size) {
+        return ResponseEntity.ok(ApiResponse.ok(extensionService.getCustomPage(tenantId, prefix, after, size)));
+    }
+
+    /**
+     * 커스텀 확장자 일괄 가져오기 (CSV 첫 번째 열 또는 NDJSON, 실패한 행은 행 번호와 함께 응답)
+     */
+    @PostMapping(value = "/custom/import",
+            consumes = {ExtensionBulkService.TEXT_CSV_VALUE, MediaType.APPLICATION_NDJSON_VALUE,
+                    MediaType.TEXT_PLAIN_VALUE})
+    public ResponseEntity<ApiResponse<ExtensionImportResponse>> importCustom(
+            @Tenant String tenantId, @Actor String actor,
+            @RequestHeader(HttpHeaders.CONTENT_TYPE) String contentType, InputStream body) throws IOException {
+        ExtensionImportResponse response =
+                bulkService.importCustom(tenantId, actor, Format.fromContentType(contentType), body);
+        return ResponseEntity.ok(ApiResponse.ok(response, "가져오기가 완료되었습니다."));
+    }
+
+    /**
+     * 활성 커스텀 확장자 내보내기 (format=csv|ndjson, DB에서 읽는 대로 응답에 씀)
+     */
+    @GetMapping("/custom/export")
+    public void exportCustom(@Tenant String tenantId, @RequestParam(defaultValue = "csv") String format,
+                             HttpServletResponse response) throws IOException {
+        Format exportFormat = Format.fromName(format);
+        response.setContentType(exportFormat.getContentType());
+        response.setCharacterEncoding("UTF-8");
+        response.setHeader(HttpHeaders.CONTENT_DISPOSITION, "attachment; filename=\"custom-extensions."
+                + exportFormat.name().toLowerCase(Locale.ROOT) + "\"");
+        bulkService.exportCustom(tenantId, exportFormat, response.getOutputStream());
+    }
+
+    /**
+     * 목록 조회 (버전 기반 ETag, If-None-Match가 일치하면 본문 없이 304)
+     */
     @GetMapping
-    public ResponseEntity<ApiResponse<ExtensionListResponse>> getList() {
-        ExtensionListResponse response = extensionService.getActiveExtensions();
-        return ResponseEntity.ok(ApiResponse.ok(response));
+    public ResponseEntity<ApiResponse<ExtensionListResponse>> getList(@Tenant String tenantId, WebRequest request) {
+        ExtensionListResponse response = extensionService.getActiveExtensions(tenantId);
+        String eTag = extensionService.getListETag(response.getVersion());
+        if (request.checkNotModified(eTag)) {
+            return null;
+        }
+        return ResponseEntity.ok()
+                .cacheControl(CacheControl.noCache())
+                .varyBy(TenantArgumentResolver.HEADER)
+                .eTag(eTag)
+                .body(ApiResponse.ok(response));
+    }
+
+    /**
+     * since 이후 변경 조회 (epoch는 클라이언트가 받은 마지막 메시지의 epoch, 다르면 전체 목록)
+     */
+    @GetMapping("/changes")
+    public ResponseEntity<ApiResponse<ExtensionSyncMessage>> getChanges(
+            @Tenant String tenantId, @RequestParam long since, @RequestParam(required = false) Long epoch) {
+        return ResponseEntity.ok(ApiResponse.ok(extensionService.getChangesSince(tenantId, since, epoch)));
+    }
+
+    /**
+     * 해당 시각의 차단 목록 (ISO-8601, 예: 2026-01-01T00:00:00Z)
+     */
+    @GetMapping("/history")
+    public ResponseEntity<ApiResponse<ExtensionHistoryResponse>> getHistory(
+            @Tenant String tenantId, @RequestParam Instant at) {
+        return ResponseEntity.ok(ApiResponse.ok(historyService.getBlocklistAt(tenantId, at)));
+    }
+
+    @GetMapping("/check")
+    public ResponseEntity<ApiResponse<ExtensionCheckResponse>> check(
+            @Tenant String tenantId, @RequestParam String filename) {
+        return ResponseEntity.ok(ApiResponse.ok(extensionCheckService.check(tenantId, filename)));
+    }
+
+    @PostMapping(value = "/check/content", consumes = MediaType.APPLICATION_OCTET_STREAM_VALUE)
+    public ResponseEntity<ApiResponse<ExtensionCheckResponse>> checkContent(
+            @Tenant String tenantId, @RequestParam String filename, InputStream body) throws IOException {
+        return ResponseEntity.ok(ApiResponse.ok(extensionCheckService.checkContent(tenantId, filename, body)));
+    }
+
+    @PostMapping(value = "/check/bulk",
+            consumes = {MediaType.APPLICATION_NDJSON_VALUE, MediaType.TEXT_PLAIN_VALUE},
+            produces = MediaType.APPLICATION_NDJSON_VALUE)
+    public void checkBulk(@Tenant String tenantId, InputStream body, HttpServletResponse response)
+            throws IOException {
+        response.setContentType(MediaType.APPLICATION_NDJSON_VALUE);
+        response.setCharacterEncoding("UTF-8");
+        extensionCheckService.checkBulk(tenantId, body, response.getOutputStream());
     }
 }
@@ -1,13 +1,24 @@
 package com.example.extensionCheck.api.Controller;
 
+import com.example.extensionCheck.api.Service.ExtensionService;
+import com.example.extensionCheck.api.tenant.TenantArgumentResolver;
+import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Controller;
+import org.springframework.ui.Model;
 import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 
 @Controller
+@RequiredArgsConstructor
 public class WebController {
 
+    private final ExtensionService extensionService;
+
     @GetMapping("/")
-    public String index() {
+    public String index(@RequestParam(required = false) String tenant, Model model) {
+        String tenantId = TenantArgumentResolver.normalize(tenant);
+        model.addAttribute("tenant", tenantId);
+        model.addAttribute("maxCustom", extensionService.getMaxCustom(tenantId));
         return "index"; // templates/index.html 을 렌더링
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,159 @@
+package com.example.extensionCheck.api.Service;
+
+import com.example.extensionCheck.api.outbox.ExtensionChangeEvent;
+import com.example.extensionCheck.api.outbox.ExtensionChangeListener;
+import com.example.extensionCheck.api.response.ExtensionDeltaResponse;
+import com.example.extensionCheck.api.response.ExtensionListResponse;
+import com.example.extensionCheck.api.response.ExtensionSyncMessage;
+import com.example.extensionCheck.api.snapshot.ExtensionChange;
+import com.example.extensionCheck.api.snapshot.ExtensionSnapshot;
+import com.example.extensionCheck.api.snapshot.ExtensionSnapshotHolder;
+import com.example.extensionCheck.config.ExtensionProperties;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.messaging.simp.SimpMessagingTemplate;
+import org.springframework.stereotype.Component;
+
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 커밋된 변경을 테넌트별 WebSocket 토픽(/topic/extensions/{tenant})으로 비동기 브로드캐스트
+ * - 이 노드의 변경은 아웃박스 디스패처가 이벤트를 꺼낼 때 전송 ({@link #onChanges})
+ * - 짧은 시간(coalesceWindow) 안에 몰린 변경은 하나의 메시지로 병합
+ * - 모든 메시지에 버전을 담아 전송: 변경분은 "delta"(fromVersion -> version), 이력 밖이면 "full"
+ * - "full"도 커스텀 확장자가 max-inline-custom개를 넘으면 목록 없이 개수만 (구독자 수 x 목록 크기만큼 보내지 않음)
+ * - 메시지는 메모리 스냅샷으로 만들기 때문에 DB를 조회하지 않음
+ * - 전송(구독자 팬아웃) 시간은 extension.broadcast.fanout으로 기록 (태그: type)
+ */
+@Slf4j
+@Component
+public class ExtensionBroadcaster implements ExtensionChangeListener {
+
+    static final String WEBSOCKET_TOPIC = "/topic/extensions/";
+
+    private final SimpMessagingTemplate messagingTemplate;
+    private final ExtensionSnapshotHolder snapshotHolder;
+    private final long coalesceWindowMillis;
+    private final int maxInlineCustom;
+    private final ScheduledExecutorService scheduler;
+    private final MeterRegistry meterRegistry;
+    // 메시지 타입(delta/full)별 팬아웃 타이머, 처음 한 번만 등록
+    private final Map<String, Timer> fanoutTimers = new ConcurrentHashMap<>();
+
+    // 테넌트별 마지막 전송 버전 (스냅샷 캐시와 같은 기준으로 제거, 제거 후에는 다음 변경부터 다시 시작)
+    private final Cache<String, Long> lastBroadcastVersions;
+    private final Set<String> flushScheduled = new HashSet<>();
+
+    public ExtensionBroadcaster(SimpMessagingTemplate messagingTemplate,
+                                ExtensionSnapshotHolder snapshotHolder,
+                                ExtensionProperties properties,
+                                MeterRegistry meterRegistry) {
+        this.messagingTemplate = messagingTemplate;
+        this.meterRegistry = meterRegistry;
+        this.snapshotHolder = snapshotHolder;
+        this.coalesceWindowMillis = properties.getBroadcast().getCoalesceWindow().toMillis();
+        this.maxInlineCustom = properties.getListing().getMaxInlineCustom();
+        this.lastBroadcastVersions = Caffeine.newBuilder()
+                .maximumSize(properties.getTenant().getSnapshotCacheSize())
+                .expireAfterAccess(properties.getTenant().getSnapshotExpireAfterAccess())
+                .build();
+        this.scheduler = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "extension-broadcast");
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    /**
+     * 스냅샷에 반영된 변경 기록 (커밋 이후 호출), 처음 보는 테넌트면 이 변경 이전 버전부터 delta로 전송
+     */
+    public synchronized void track(String tenantId, ExtensionChange change) {
+        lastBroadcastVersions.get(tenantId, key -> change.fromVersion());
+    }
+
+    /**
+     * 변경 등록 후 전송 예약
+     */
+    public synchronized void publish(String tenantId, ExtensionChange change) {
+        track(tenantId, change);
+        publish(tenantId);
+    }
+
+    /**
+     * 전송 예약, 병합 구간이 끝나면 마지막 전송 이후 변경을 한 번에 전송
+     */
+    public synchronized void publish(String tenantId) {
+        if (flushScheduled.add(tenantId)) {
+            scheduler.schedule(() -> flush(tenantId), coalesceWindowMillis, TimeUnit.MILLISECONDS);
+        }
+    }
+
+    /**
+     * 아웃박스에서 꺼낸 이 노드의 변경을 테넌트별로 전송 (다른 노드의 변경은 ClusterChangeSync가 반영 후 전송)
+     */
+    @Override
+    public void onChanges(List<ExtensionChangeEvent> events) {
+        events.stream()
+                .filter(ExtensionChangeEvent::local)
+                .map(ExtensionChangeEvent::tenantId)
+                .distinct()
+                .forEach(this::publish);
+    }
+
+    /**
+     * 마지막 전송 버전 이후의 변경을 하나의 메시지로 전송
+     */
+    void flush(String tenantId) {
+        Long lastVersion;
+        synchronized (this) {
+            lastVersion = lastBroadcastVersions.getIfPresent(tenantId);
+            flushScheduled.remove(tenantId);
+        }
+
+        try {
+            ExtensionSnapshot snapshot = snapshotHolder.current(tenantId);
+            // 마지막 전송 버전이 제거되었으면 전체 목록 전송
+            long fromVersion = lastVersion != null ? lastVersion : -1;
+            if (snapshot.getVersion() == fromVersion) {
+                return;
+            }
+            ExtensionSyncMessage message = snapshot.deltaSince(fromVersion)
+                    .<ExtensionSyncMessage>map(delta -> ExtensionDeltaResponse.of(snapshotHolder.getEpoch(),
+                            fromVersion, snapshot.getVersion(), delta, snapshot.getCount()))
+                    .orElseGet(() -> ExtensionListResponse.of(snapshotHolder.getEpoch(), snapshot, maxInlineCustom));
+
+            fanoutTimer(message.getType()).record(() -> messagingTemplate.convertAndSend(WEBSOCKET_TOPIC + tenantId, message));
+            synchronized (this) {
+                lastBroadcastVersions.put(tenantId, snapshot.getVersion());
+            }
+            log.debug("Broadcast {} update: tenant={}, {} -> {}",
+                    message.getType(), tenantId, fromVersion, snapshot.getVersion());
+        } catch (Exception e) {
+            log.error("Broadcast failed", e);
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        scheduler.shutdown();
+    }
+
+    private Timer fanoutTimer(String type) {
+        return fanoutTimers.computeIfAbsent(type, key -> Timer.builder("extension.broadcast.fanout")
+                .description("Time to hand a broadcast to every subscriber of the tenant topic")
+                .tag("type", key)
+                .publishPercentileHistogram()
+                .register(meterRegistry));
+    }
+}
@@ -0,0 +1,395 @@
+package com.example.extensionCheck.api.Service;
+
+import com.example.extensionCheck.api.exception.ExtensionErrorCode;
+import com.example.extensionCheck.api.exception.ExtensionException;
+import com.example.extensionCheck.api.history.ExtensionHistoryService;
+import com.example.extensionCheck.api.outbox.ExtensionOutbox;
+import com.example.extensionCheck.api.outbox.ExtensionOutboxDispatcher;
+import com.example.extensionCheck.api.response.ExtensionImportResponse;
+import com.example.extensionCheck.api.response.ExtensionImportResponse.RowError;
+import com.example.extensionCheck.api.snapshot.ExtensionChange;
+import com.example.extensionCheck.api.snapshot.ExtensionDelta;
+import com.example.extensionCheck.api.snapshot.ExtensionSnapshot;
+import com.example.extensionCheck.api.snapshot.ExtensionSnapshotHolder;
+import com.example.extensionCheck.api.snapshot.PendingChange;
+import com.example.extensionCheck.api.validator.ExtensionValidator;
+import com.example.extensionCheck.config.ExtensionProperties;
+import com.example.extensionCheck.entity.ExtensionType;
+import com.example.extensionCheck.repository.ExtensionStateChange;
+import com.example.extensionCheck.repository.ExtensionsRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+import tools.jackson.core.JacksonException;
+import tools.jackson.databind.JsonNode;
+import tools.jackson.databind.ObjectMapper;
+
+import java.io.BufferedReader;
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.Reader;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * 커스텀 확장자 일괄 가져오기/내보내기 (CSV: 첫 번째 열, NDJSON: 한 줄에 JSON 문자열 또는 {"name": ...})
+ * - 가져오기: chunk-size 행씩 읽어 병렬 검증 후 청크마다 한 트랜잭션에서 JDBC 배치로 저장, 실패한 행은 행 번호와 함께 보고
+ * - 청크마다 아웃박스/이력은 기록하되 전송은 끝에서 한 번만 (전체 변경을 한 delta로)
+ * - 내보내기: DB에서 한 행씩 읽어 바로 응답에 씀
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class ExtensionBulkService {
+
+    public static final String TEXT_CSV_VALUE = "text/csv";
+    public static final int MAX_REPORTED_ERRORS = 1000;
+
+    private static final int MAX_LINE_LENGTH = 256;
+
+    private final ExtensionsRepository extRepository;
+    private final ExtensionValidator validator;
+    private final ExtensionSnapshotHolder snapshotHolder;
+    private final ExtensionBroadcaster broadcaster;
+    private final ExtensionOutbox outbox;
+    private final ExtensionOutboxDispatcher outboxDispatcher;
+    private final ExtensionHistoryService historyService;
+    private final ExtensionProperties properties;
+    private final TransactionTemplate transactionTemplate;
+    private final ObjectMapper objectMapper;
+
+    public enum Format {
+        CSV(TEXT_CSV_VALUE), NDJSON(MediaType.APPLICATION_NDJSON_VALUE);
+
+        private final String contentType;
+
+        Format(String contentType) {
+            this.contentType = contentType;
+        }
+
+        public String getContentType() {
+            return contentType;
+        }
+
+        /**
+         * 요청 Content-Type으로 판단 (NDJSON이 아니면 CSV, text/plain은 헤더 없는 한 열 CSV와 같음)
+         */
+        public static Format fromContentType(String contentType) {
+            return contentType != null && contentType.toLowerCase(Locale.ROOT).contains("ndjson") ? NDJSON : CSV;
+        }
+
+        /**
+         * 내보내기 format 파라미터 (csv, ndjson)
+         */
+        public static Format fromName(String name) {
+            for (Format format : values()) {
+                if (format.name().equalsIgnoreCase(name)) {
+                    return format;
+                }
+            }
+            throw new IllegalArgumentException("지원하지 않는 형식입니다: " + name);
+        }
+    }
+
+    /**
+     * 커스텀 확장자 일괄 가져오기
+     * - 개수 제한/고정 확장자 충돌/중복은 시작 시점 스냅샷과 이번 가져오기에서 받은 이름 기준
+     * - 이미 있는 비활성 확장자는 재활성화, 이미 활성화된 커스텀 확장자는 중복, 비활성 고정 확장자와 이름이 같으면 충돌로 보고
+     * - 중간에 실패해도 커밋된 청크는 스냅샷에 반영하고 전송
+     */
+    public ExtensionImportResponse importCustom(String tenantId, String actor, Format format, InputStream in)
+            throws IOException {
+        ExtensionSnapshot snapshot = snapshotHolder.current(tenantId);
+        int remaining = properties.getTenant().maxCustomFor(tenantId) - snapshot.getCount();
+        int chunkSize = properties.getBulk().getChunkSize();
+
+        Row[] rows = new Row[chunkSize];
+        Validated[] results = new Validated[chunkSize];
+        Set<String> accepted = new HashSet<>();
+        ImportResult result = new ImportResult();
+
+        try (BufferedReader reader = new BufferedReader(new InputStreamReader(in, StandardCharsets.UTF_8))) {
+            long[] lineNumber = {0};
+            int size;
+            while ((size = readChunk(reader, format, rows, lineNumber)) > 0) {
+                int count = size;
+                Arrays.parallelSetAll(results, i -> i < count ? validate(format, rows[i]) : null);
+
+                Map<String, Row> chunk = new LinkedHashMap<>();
+                for (int i = 0; i < count; i++) {
+                    ExtensionErrorCode error = results[i].error();
+                    String name = results[i].name();
+                    if (error == null && snapshot.isFixed(name)) {
+                        error = ExtensionErrorCode.FIXED_EXTENSION_CONFLICT;
+                    } else if (error == null && (snapshot.isCustom(name) || !accepted.add(name))) {
+                        error = ExtensionErrorCode.ALREADY_EXISTS;
+                    } else if (error == null && accepted.size() > remaining) {
+                        accepted.remove(name);
+                        error = ExtensionErrorCode.MAX_LIMIT_EXCEEDED;
+                    }
+                    if (error != null) {
+                        result.fail(rows[i], error);
+                    } else {
+                        chunk.put(name, rows[i]);
+                    }
+                }
+                result.total += count;
+                if (!chunk.isEmpty()) {
+                    writeChunk(tenantId, actor, chunk, result);
+                }
+            }
+        } finally {
+            publish(tenantId, result);
+        }
+
+        log.info("Imported custom extensions: tenant={}, total={}, imported={}, failed={}",
+                tenantId, result.total, result.imported.size(), result.failed);
+        return ExtensionImportResponse.builder()
+                .total(result.total)
+                .imported(result.imported.size())
+                .failed(result.failed)
+                .errors(result.errors)
+                .version(snapshotHolder.current(tenantId).getVersion())
+                .build();
+    }
+
+    /**
+     * 청크 하나를 한 트랜잭션으로 저장 (SELECT IN 1 + UPDATE 최대 1 + 배치 INSERT 1 + 아웃박스/이력 INSERT 2)
+     * - 동시에 같은 이름이 추가되어 unique 제약에 걸리면 한 번 다시 시도
+     */
+    private void writeChunk(String tenantId, String actor, Map<String, Row> chunk, ImportResult result) {
+        Map<String, ExtensionErrorCode> rejected;
+        try {
+            rejected = transactionTemplate.execute(status -> saveChunk(tenantId, actor, chunk, result));
+        } catch (DataIntegrityViolationException e) {
+            log.debug("Import chunk conflicted with a concurrent change, retrying: tenant={}", tenantId);
+            rejected = transactionTemplate.execute(status -> saveChunk(tenantId, actor, chunk, result));
+        }
+        for (Map.Entry<String, Row> entry : chunk.entrySet()) {
+            ExtensionErrorCode error = rejected.get(entry.getKey());
+            if (error != null) {
+                result.fail(entry.getValue(), error);
+            } else {
+                result.imported.add(entry.getKey());
+            }
+        }
+    }
+
+    /**
+     * 청크 저장 후 저장하지 않은 이름과 사유 반환
+     * - 고정 확장자와 같은 이름은 FIXED_EXTENSION_CONFLICT
+     * - 스냅샷 이후 다른 요청/노드가 이미 활성화한 커스텀 확장자는 ALREADY_EXISTS (재활성화/이력 기록 안 함)
+     */
+    private Map<String, ExtensionErrorCode> saveChunk(String tenantId, String actor, Map<String, Row> chunk,
+                                                      ImportResult result) {
+        Set<String> toInsert = new LinkedHashSet<>(chunk.keySet());
+        List<String> toReactivate = new ArrayList<>();
+        Map<String, ExtensionErrorCode> rejected = new HashMap<>();
+        for (ExtensionStateChange existing : extRepository.findStatesByNameIn(tenantId, chunk.keySet())) {
+            toInsert.remove(existing.name());
+            if (existing.type() == ExtensionType.FIXED) {
+                rejected.put(existing.name(), ExtensionErrorCode.FIXED_EXTENSION_CONFLICT);
+            } else if (existing.active()) {
+                rejected.put(existing.name(), ExtensionErrorCode.ALREADY_EXISTS);
+            } else {
+                toReactivate.add(existing.name());
+            }
+        }
+        if (!toReactivate.isEmpty()) {
+            extRepository.updateActiveByTypeAndNameIn(tenantId, ExtensionType.CUSTOM, toReactivate, true);
+        }
+        extRepository.batchInsertActive(tenantId, ExtensionType.CUSTOM, List.copyOf(toInsert));
+
+        List<String> names = new ArrayList<>(chunk.size());
+        for (String name : chunk.keySet()) {
+            if (!rejected.containsKey(name)) {
+                names.add(name);
+            }
+        }
+        ExtensionDelta delta = ExtensionDelta.ofCustom(names, List.of());
+        if (!delta.isEmpty()) {
+            // 커밋 후 바로 넘기지 않고 마지막에 한 번에 넘김 (롤백된 청크의 이벤트도 함께 해제)
+            result.eventIds.add(outbox.record(tenantId, delta));
+            historyService.record(tenantId, actor, delta);
+            result.pending.add(snapshotHolder.begin(tenantId, delta));
+        }
+        return rejected;
+    }
+
+    /**
+     * 커밋된 전체 변경을 스냅샷에 한 번 반영하고 한 번 전송
+     * - 가져오는 동안 같은 이름을 바꾼 다른 로컬 변경이 있었으면 DB 기준으로 반영
+     */
+    private void publish(String tenantId, ImportResult result) {
+        if (!result.imported.isEmpty()) {
+            ExtensionChange change = snapshotHolder.applyCommitted(
+                    tenantId, ExtensionDelta.ofCustom(result.imported, List.of()), result.pending);
+            if (change != null) {
+                broadcaster.publish(tenantId, change);
+            }
+        }
+        result.pending.forEach(snapshotHolder::finish);
+        if (!result.eventIds.isEmpty()) {
+            result.eventIds.forEach(outbox::release);
+            outboxDispatcher.wakeUp();
+        }
+    }
+
+    /**
+     * 활성 커스텀 확장자 내보내기 (CSV는 name 헤더 포함), 쓴 행 수 반환
+     */
+    public long exportCustom(String tenantId, Format format, OutputStream out) throws IOException {
+        Writer writer = new BufferedWriter(new OutputStreamWriter(out, StandardCharsets.UTF_8));
+        if (format == Format.CSV) {
+            writer.write("name\n");
+        }
+        long[] count = {0};
+        try {
+            extRepository.forEachActiveName(tenantId, ExtensionType.CUSTOM, name -> {
+                try {
+                    writer.write(format == Format.CSV ? csvField(name) : objectMapper.writeValueAsString(name));
+                    writer.write('\n');
+                    count[0]++;
+                } catch (IOException e) {
+                    throw new UncheckedIOException(e);
+                }
+            });
+        } catch (UncheckedIOException e) {
+            throw e.getCause();
+        }
+        writer.flush();
+        log.debug("Exported custom extensions: tenant={}, rows={}", tenantId, count[0]);
+        return count[0];
+    }
+
+    /**
+     * 빈 줄과 CSV 헤더(첫 줄 name)를 건너뛰며 최대 rows 크기만큼 읽음
+     */
+    private int readChunk(BufferedReader reader, Format format, Row[] rows, long[] lineNumber) throws IOException {
+        int size = 0;
+        String line;
+        while (size < rows.length && (line = readLine(reader)) != null) {
+            lineNumber[0]++;
+            String value = line.strip();
+            if (value.isEmpty() || (format == Format.CSV && lineNumber[0] == 1 && value.equalsIgnoreCase("name"))) {
+                continue;
+            }
+            rows[size++] = new Row(lineNumber[0], value);
+        }
+        return size;
+    }
+
+    /**
+     * 한 줄 읽기 (MAX_LINE_LENGTH 자를 넘는 부분은 버림, 그래도 이름 길이 검증에서 걸림)
+     */
+    private String readLine(Reader reader) throws IOException {
+        StringBuilder line = new StringBuilder();
+        int c;
+        boolean read = false;
+        while ((c = reader.read()) != -1) {
+            read = true;
+            if (c == '\n') {
+                break;
+            }
+            if (c != '\r' && line.length() < MAX_LINE_LENGTH) {
+                line.append((char) c);
+            }
+        }
+        return read ? line.toString() : null;
+    }
+
+    private Validated validate(Format format, Row row) {
+        try {
+            String name = format == Format.CSV ? firstCsvField(row.value()) : ndjsonName(row.value());
+            return new Validated(validator.normalize(name.strip()), null);
+        } catch (ExtensionException e) {
+            return new Validated(null, e.getErrorCode());
+        }
+    }
+
+    // 첫 번째 열 ("..." 인용 및 "" 이스케이프 지원)
+    private static String firstCsvField(String line) {
+        if (!line.startsWith("\"")) {
+            int comma = line.indexOf(',');
+            return comma < 0 ? line : line.substring(0, comma);
+        }
+        StringBuilder field = new StringBuilder();
+        for (int i = 1; i < line.length(); i++) {
+            char c = line.charAt(i);
+            if (c == '"') {
+                if (i + 1 < line.length() && line.charAt(i + 1) == '"') {
+                    field.append('"');
+                    i++;
+                } else {
+                    return field.toString();
+                }
+            } else {
+                field.append(c);
+            }
+        }
+        throw new ExtensionException(ExtensionErrorCode.INVALID_IMPORT_ROW);
+    }
+
+    // JSON 문자열 또는 name 필드가 있는 객체
+    private String ndjsonName(String line) {
+        try {
+            JsonNode node = objectMapper.readTree(line);
+            JsonNode name = node.isObject() ? node.path("name") : node;
+            if (name.isString()) {
+                return name.asString();
+            }
+        } catch (JacksonException e) {
+            log.trace("Unreadable import row: {}", line);
+        }
+        throw new ExtensionException(ExtensionErrorCode.INVALID_IMPORT_ROW);
+    }
+
+    private static String csvField(String value) {
+        if (value.indexOf(',') < 0 && value.indexOf('"') < 0) {
+            return value;
+        }
+        return "\"" + value.replace("\"", "\"\"") + "\"";
+    }
+
+    private record Row(long line, String value) {
+    }
+
+    private record Validated(String name, ExtensionErrorCode error) {
+    }
+
+    // 가져오기 진행 상황 (요청 스레드에서만 사용)
+    private static final class ImportResult {
+
+        private final List<String> imported = new ArrayList<>();
+        private final List<Long> eventIds = new ArrayList<>();
+        private final List<PendingChange> pending = new ArrayList<>();
+        private final List<RowError> errors = new ArrayList<>();
+        private long total;
+        private long failed;
+
+        private void fail(Row row, ExtensionErrorCode error) {
+            failed++;
+            if (errors.size() < MAX_REPORTED_ERRORS) {
+                errors.add(new RowError(row.line(), row.value(), error.getCode(), error.getMessage()));
+            }
+        }
+    }
+}
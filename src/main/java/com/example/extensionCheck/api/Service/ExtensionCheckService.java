@@ -0,0 +1,182 @@
+package com.example.extensionCheck.api.Service;
+
+import com.example.extensionCheck.api.archive.ZipInspection;
+import com.example.extensionCheck.api.archive.ZipInspector;
+import com.example.extensionCheck.api.exception.ExtensionErrorCode;
+import com.example.extensionCheck.api.exception.ExtensionException;
+import com.example.extensionCheck.api.matcher.ExtensionMatcher;
+import com.example.extensionCheck.api.response.ExtensionCheckResponse;
+import com.example.extensionCheck.api.sniff.ContentSniffer;
+import com.example.extensionCheck.api.snapshot.ExtensionSnapshot;
+import com.example.extensionCheck.api.snapshot.ExtensionSnapshotHolder;
+import com.example.extensionCheck.config.ExtensionProperties;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import tools.jackson.core.JacksonException;
+import tools.jackson.core.JsonGenerator;
+import tools.jackson.databind.ObjectMapper;
+import tools.jackson.databind.ObjectWriter;
+import tools.jackson.databind.SerializationFeature;
+
+import java.io.BufferedReader;
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.OutputStream;
+import java.io.Reader;
+import java.io.SequenceInputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class ExtensionCheckService {
+
+    private final ExtensionSnapshotHolder snapshotHolder;
+    private final ObjectMapper objectMapper;
+    private final ExtensionProperties properties;
+
+    private static final int BULK_CHUNK_SIZE = 1024;
+    private static final int MAX_FILENAME_LENGTH = 4096;
+
+    /**
+     * 파일명 차단 여부 확인 (스냅샷에 컴파일된 matcher 사용, DB 조회 없음)
+     */
+    public ExtensionCheckResponse check(String tenantId, String filename) {
+        if (filename == null || filename.isBlank()) {
+            throw new ExtensionException(ExtensionErrorCode.EMPTY_FILENAME);
+        }
+        ExtensionSnapshot snapshot = snapshotHolder.current(tenantId);
+        return ExtensionCheckResponse.of(filename, snapshot.getMatcher().match(filename), snapshot.getVersion());
+    }
+
+    /**
+     * 파일명과 내용 앞부분의 시그니처로 차단 여부 확인
+     * - 이름으로 차단되지 않아도 내용이 활성 확장자 형식(실행 파일, 스크립트 등)이면 차단
+     * - 스트림은 ContentSniffer.PEEK_SIZE 바이트까지만 읽음
+     * - 단, ZIP 계열이면 끝까지 스트리밍하며 항목 이름을 검사 (압축 파일로 감싼 실행 파일 차단)
+     */
+    public ExtensionCheckResponse checkContent(String tenantId, String filename, InputStream in) throws IOException {
+        if (filename == null || filename.isBlank()) {
+            throw new ExtensionException(ExtensionErrorCode.EMPTY_FILENAME);
+        }
+        ExtensionSnapshot snapshot = snapshotHolder.current(tenantId);
+        ExtensionMatcher.Match match = snapshot.getMatcher().match(filename);
+        if (match != null) {
+            return ExtensionCheckResponse.of(filename, match, snapshot.getVersion());
+        }
+
+        byte[] head = in.readNBytes(ContentSniffer.PEEK_SIZE);
+        ContentSniffer.Detection detection = ContentSniffer.sniff(head, 0, head.length);
+        ExtensionMatcher.Match contentMatch = detection != null ? snapshot.matchExtension(detection.extension()) : null;
+        if (contentMatch == null && detection == ContentSniffer.ZIP) {
+            ZipInspection inspection = new ZipInspector(snapshot.getMatcher(), properties.getArchive().toLimits())
+                    .inspect(new SequenceInputStream(new ByteArrayInputStream(head), in));
+            log.debug("Archive inspected: entries={}, blocked={}", inspection.entries(), inspection.isBlocked());
+            return ExtensionCheckResponse.ofArchive(filename, inspection,
+                    inspection.isBlocked() ? detection.format() : null, snapshot.getVersion());
+        }
+        return ExtensionCheckResponse.of(filename, contentMatch,
+                contentMatch != null ? detection.format() : null, snapshot.getVersion());
+    }
+
+    /**
+     * 대량 파일명 판별 (NDJSON 입력 -> NDJSON 출력)
+     * - 한 줄에 파일명 하나 (그대로 쓰거나 JSON 문자열로 감싼 형태), 빈 줄은 무시
+     * - 고정 크기 청크 단위로 읽고 병렬 판별 후 입력 순서대로 즉시 출력하므로 메모리 사용량이 입력 크기와 무관
+     * - 요청 시작 시점의 스냅샷 하나로 전체를 판별 (중간에 목록이 바뀌어도 결과 버전이 섞이지 않음)
+     */
+    public long checkBulk(String tenantId, InputStream in, OutputStream out) throws IOException {
+        ExtensionSnapshot snapshot = snapshotHolder.current(tenantId);
+        ExtensionMatcher matcher = snapshot.getMatcher();
+        long version = snapshot.getVersion();
+
+        ObjectWriter writer = objectMapper.writerFor(ExtensionCheckResponse.class)
+                .without(SerializationFeature.FLUSH_AFTER_WRITE_VALUE)
+                .withRootValueSeparator("");
+
+        String[] filenames = new String[BULK_CHUNK_SIZE];
+        ExtensionCheckResponse[] results = new ExtensionCheckResponse[BULK_CHUNK_SIZE];
+        long total = 0;
+
+        try (BufferedReader reader = new BufferedReader(new InputStreamReader(in, StandardCharsets.UTF_8));
+             JsonGenerator generator = writer.createGenerator(out)) {
+            int size;
+            while ((size = readChunk(reader, filenames)) > 0) {
+                int count = size;
+                Arrays.parallelSetAll(results, i -> i < count
+                        ? ExtensionCheckResponse.of(filenames[i], matcher.match(filenames[i]), version)
+                        : null);
+
+                for (int i = 0; i < count; i++) {
+                    writer.writeValue(generator, results[i]);
+                    generator.writeRaw('\n');
+                }
+                generator.flush();
+                total += count;
+            }
+        }
+
+        log.debug("Bulk check finished: lines={}, version={}", total, version);
+        return total;
+    }
+
+    /**
+     * 빈 줄을 건너뛰며 최대 buffer 크기만큼 파일명을 읽음
+     */
+    private int readChunk(BufferedReader reader, String[] buffer) throws IOException {
+        int size = 0;
+        String line;
+        while (size < buffer.length && (line = readLine(reader)) != null) {
+            String filename = unquote(line.strip());
+            if (!filename.isEmpty()) {
+                buffer[size++] = filename;
+            }
+        }
+        return size;
+    }
+
+    /**
+     * 한 줄 읽기 (너무 긴 줄은 확장자 판별에 필요한 뒷부분 MAX_FILENAME_LENGTH 자만 보관)
+     */
+    private String readLine(Reader reader) throws IOException {
+        StringBuilder line = new StringBuilder();
+        int c;
+        boolean read = false;
+        while ((c = reader.read()) != -1) {
+            read = true;
+            if (c == '\n') {
+                break;
+            }
+            if (c != '\r') {
+                line.append((char) c);
+                if (line.length() > MAX_FILENAME_LENGTH * 2) {
+                    line.delete(0, line.length() - MAX_FILENAME_LENGTH);
+                }
+            }
+        }
+        if (!read) {
+            return null;
+        }
+        return line.length() > MAX_FILENAME_LENGTH
+                ? line.substring(line.length() - MAX_FILENAME_LENGTH)
+                : line.toString();
+    }
+
+    /**
+     * JSON 문자열 형태("a.exe")로 들어온 줄은 해제
+     */
+    private String unquote(String line) {
+        if (line.length() >= 2 && line.charAt(0) == '"' && line.charAt(line.length() - 1) == '"') {
+            try {
+                return objectMapper.readValue(line, String.class);
+            } catch (JacksonException e) {
+                return line;
+            }
+        }
+        return line;
+    }
+}
@@ -2,122 +2,179 @@ package com.example.extensionCheck.api.Service;
 
 import com.example.extensionCheck.api.exception.ExtensionErrorCode;
 import com.example.extensionCheck.api.exception.ExtensionException;
+import com.example.extensionCheck.api.history.ExtensionHistoryService;
+import com.example.extensionCheck.api.outbox.ExtensionOutbox;
+import com.example.extensionCheck.api.outbox.ExtensionOutboxDispatcher;
+import com.example.extensionCheck.api.response.CustomExtensionPageResponse;
+import com.example.extensionCheck.api.response.ExtensionDeltaResponse;
 import com.example.extensionCheck.api.response.ExtensionListResponse;
+import com.example.extensionCheck.api.response.ExtensionSyncMessage;
+import com.example.extensionCheck.api.snapshot.ExtensionChange;
+import com.example.extensionCheck.api.snapshot.ExtensionDelta;
+import com.example.extensionCheck.api.snapshot.ExtensionSnapshot;
+import com.example.extensionCheck.api.snapshot.ExtensionSnapshotHolder;
+import com.example.extensionCheck.api.snapshot.PendingChange;
 import com.example.extensionCheck.api.validator.ExtensionValidator;
+import com.example.extensionCheck.config.ExtensionProperties;
 import com.example.extensionCheck.entity.ExtensionType;
 import com.example.extensionCheck.entity.Extensions;
+import com.example.extensionCheck.repository.ExtensionStateChange;
 import com.example.extensionCheck.repository.ExtensionsRepository;
+import io.micrometer.core.annotation.Timed;
 import jakarta.transaction.Transactional;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.messaging.simp.SimpMessagingTemplate;
+import org.springframework.dao.ConcurrencyFailureException;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
 
+import java.util.ArrayList;
 import java.util.HashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Locale;
 import java.util.Map;
-import java.util.stream.Collectors;
+import java.util.Optional;
+import java.util.Set;
 
 @Slf4j
 @Service
 @RequiredArgsConstructor
+// 메서드별 처리 시간 히스토그램 (extension.service, 태그: method)
+@Timed(value = "extension.service", histogram = true)
 public class ExtensionService {
 
     private final ExtensionsRepository extRepository;
-    private final SimpMessagingTemplate messagingTemplate;
     private final ExtensionValidator validator;
-
-    private static final int MAX_CUSTOM_EXTENSIONS = 200;
-    private static final String WEBSOCKET_TOPIC = "/topic/extensions";
+    private final ExtensionSnapshotHolder snapshotHolder;
+    private final ExtensionBroadcaster broadcaster;
+    private final ExtensionProperties properties;
+    private final ExtensionOutbox outbox;
+    private final ExtensionOutboxDispatcher outboxDispatcher;
+    private final ExtensionHistoryService historyService;
+    private final TransactionTemplate transactionTemplate;
 
     /**
-     * WebSocket으로 변경사항 브로드캐스트 (전체 데이터)
+     * 같은 트랜잭션에서 아웃박스 이벤트와 변경 이력(actor) 기록, 커밋 이후 스냅샷 교체 (롤백 시 아무것도 반영하지 않음)
+     * - 브로드캐스트는 디스패처가 아웃박스에서 이벤트를 꺼낼 때 전송 (커밋 후 바로 깨움)
+     * - 변경 내용이 없으면 기록하지 않음
+     * - 같은 이름을 동시에 바꾼 트랜잭션끼리는 afterCommit 순서가 커밋 순서와 다를 수 있어 스냅샷은 DB 기준으로 반영
      */
-    private void broadcastUpdate() {
-        Map<String, Object> data = getActiveExtensionsMap();
-        data.put("type", "full");
-        messagingTemplate.convertAndSend(WEBSOCKET_TOPIC, (Object) data);
-        log.debug("Broadcast full update");
+    private void publishAfterCommit(String tenantId, String actor, ExtensionDelta delta) {
+        if (delta.isEmpty()) {
+            return;
+        }
+        long eventId = outbox.record(tenantId, delta);
+        historyService.record(tenantId, actor, delta);
+        PendingChange pending = snapshotHolder.begin(tenantId, delta);
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    apply(pending);
+                }
+
+                @Override
+                public void afterCompletion(int status) {
+                    snapshotHolder.finish(pending);
+                    dispatch(eventId);
+                }
+            });
+        } else {
+            apply(pending);
+            snapshotHolder.finish(pending);
+            dispatch(eventId);
+        }
     }
 
-    /**
-     * WebSocket으로 Delta 변경사항만 브로드캐스트
-     */
-    private void broadcastDeltaUpdate(List<String> fixedAdded, List<String> fixedRemoved) {
-        Map<String, Object> delta = new HashMap<>();
-        delta.put("type", "delta");
-        delta.put("fixedAdded", fixedAdded != null ? fixedAdded : List.of());
-        delta.put("fixedRemoved", fixedRemoved != null ? fixedRemoved : List.of());
-        messagingTemplate.convertAndSend(WEBSOCKET_TOPIC, (Object) delta);
-        log.debug("Broadcast delta update: added={}, removed={}", fixedAdded, fixedRemoved);
+    private void apply(PendingChange pending) {
+        ExtensionChange change = snapshotHolder.applyCommitted(pending);
+        if (change != null) {
+            broadcaster.track(pending.getTenantId(), change);
+        }
+    }
+
+    // 스냅샷 반영이 끝난 뒤에 이벤트를 넘겨 전송 시점에 새 버전이 보이도록 함
+    private void dispatch(long eventId) {
+        outbox.release(eventId);
+        outboxDispatcher.wakeUp();
     }
 
     /**
      * 커스텀 확장자 추가
+     * - 개수 제한은 테넌트별 설정값 (extension.tenant.max-custom / max-custom-overrides)
+     * - 개수 제한/고정 확장자 충돌은 스냅샷으로 판단 (DB 조회 없음)
+     * - 비활성 확장자는 UPDATE로 재활성화, 없으면 INSERT 후 unique 제약 위반 시 ALREADY_EXISTS
+     * - 개수 제한은 커밋된 스냅샷 기준이므로 동시 추가 시 일시적으로 넘을 수 있음
      */
     @Transactional
-    public Extensions addExtension(String customExtension) {
-        log.debug("Adding custom extension: {}", customExtension);
+    public Extensions addExtension(String tenantId, String actor, String customExtension) {
+        log.debug("Adding custom extension: tenant={}, name={}", tenantId, customExtension);
 
-        validator.validate(customExtension);
+        String lowerExt = validator.normalize(customExtension);
 
-        String lowerExt = customExtension.toLowerCase();
-
-        long customCount = extRepository.countByTypeAndIsActiveTrue(ExtensionType.CUSTOM);
-        if (customCount >= MAX_CUSTOM_EXTENSIONS) {
+        ExtensionSnapshot snapshot = snapshotHolder.current(tenantId);
+        if (snapshot.getCount() >= getMaxCustom(tenantId)) {
             throw new ExtensionException(ExtensionErrorCode.MAX_LIMIT_EXCEEDED);
         }
-
-        List<String> fixedExtNames = extractNames(
-                extRepository.findAllByTypeAndIsActiveTrue(ExtensionType.FIXED)
-        );
-
-        if (fixedExtNames.contains(lowerExt)) {
+        if (snapshot.isFixed(lowerExt)) {
             throw new ExtensionException(ExtensionErrorCode.FIXED_EXTENSION_CONFLICT);
         }
+        if (snapshot.isCustom(lowerExt)) {
+            throw new ExtensionException(ExtensionErrorCode.ALREADY_EXISTS);
+        }
 
-        var existingExt = extRepository.findByName(lowerExt);
-
-        if (existingExt.isPresent()) {
-            Extensions ext = existingExt.get();
-
-            if (ext.isActive()) {
-                throw new ExtensionException(ExtensionErrorCode.ALREADY_EXISTS);
-            }
-
-            ext.activate();
-            broadcastUpdate();
+        if (extRepository.reactivate(tenantId, lowerExt, ExtensionType.CUSTOM) > 0) {
+            Extensions ext = extRepository.findByTenantIdAndNameAndType(tenantId, lowerExt, ExtensionType.CUSTOM)
+                    .orElseThrow(() -> new ExtensionException(ExtensionErrorCode.NOT_FOUND));
+            publishAfterCommit(tenantId, actor, ExtensionDelta.activated(ExtensionType.CUSTOM, lowerExt));
             log.info("Reactivated extension: {}", lowerExt);
             return ext;
         }
 
         Extensions extensionsNew = Extensions.builder()
+                .tenantId(tenantId)
                 .name(lowerExt)
                 .isActive(true)
                 .type(ExtensionType.CUSTOM)
                 .build();
 
-        Extensions saved = extRepository.save(extensionsNew);
-        broadcastUpdate();
+        Extensions saved;
+        try {
+            saved = extRepository.saveAndFlush(extensionsNew);
+        } catch (DataIntegrityViolationException e) {
+            throw new ExtensionException(ExtensionErrorCode.ALREADY_EXISTS);
+        }
+        publishAfterCommit(tenantId, actor, ExtensionDelta.activated(ExtensionType.CUSTOM, lowerExt));
         log.info("Created new extension: {}", lowerExt);
         return saved;
     }
 
     /**
      * 고정 확장자 저장 (체크박스 체크 시)
+     * - 이미 활성화되어 있으면 변경 이벤트/이력을 남기지 않음
      */
     @Transactional
-    public Extensions saveFixedExtension(String name) {
-        String lowerName = name.toLowerCase();
+    public Extensions saveFixedExtension(String tenantId, String actor, String name) {
+        String lowerName = name.toLowerCase(Locale.ROOT);
         log.debug("Saving fixed extension: {}", lowerName);
 
-        Extensions result = extRepository.findByNameAndType(lowerName, ExtensionType.FIXED)
+        Optional<Extensions> existing = extRepository.findByTenantIdAndNameAndType(tenantId, lowerName, ExtensionType.FIXED);
+        if (existing.isPresent() && existing.get().isActive()) {
+            return existing.get();
+        }
+
+        Extensions result = existing
                 .map(ext -> {
                     ext.activate();
                     return ext;
                 })
                 .orElseGet(() -> {
                     Extensions newExt = Extensions.builder()
+                            .tenantId(tenantId)
                             .name(lowerName)
                             .isActive(true)
                             .type(ExtensionType.FIXED)
@@ -125,129 +182,200 @@ public class ExtensionService {
                     return extRepository.save(newExt);
                 });
 
-        broadcastUpdate();
+        publishAfterCommit(tenantId, actor, ExtensionDelta.activated(ExtensionType.FIXED, lowerName));
         return result;
     }
 
     /**
      * 고정 확장자 삭제 (체크박스 해제 시)
+     * - 없거나 이미 비활성화되어 있으면 변경 이벤트/이력을 남기지 않음
      */
     @Transactional
-    public void deleteFixedExtension(String name) {
-        String lowerName = name.toLowerCase();
+    public void deleteFixedExtension(String tenantId, String actor, String name) {
+        String lowerName = name.toLowerCase(Locale.ROOT);
         log.debug("Deleting fixed extension: {}", lowerName);
 
-        extRepository.findByNameAndType(lowerName, ExtensionType.FIXED)
-                .ifPresent(Extensions::deactivate);
+        Optional<Extensions> existing = extRepository.findByTenantIdAndNameAndType(tenantId, lowerName, ExtensionType.FIXED);
+        if (existing.isEmpty() || !existing.get().isActive()) {
+            return;
+        }
+
+        existing.get().deactivate();
+        publishAfterCommit(tenantId, actor, ExtensionDelta.deactivated(ExtensionType.FIXED, lowerName));
+    }
+
+    /**
+     * 활성화된 확장자 목록 조회 (DTO 반환, 스냅샷 기반)
+     * - 커스텀 확장자가 max-inline-custom개를 넘으면 목록 없이 개수만 (getCustomPage로 조회)
+     */
+    public ExtensionListResponse getActiveExtensions(String tenantId) {
+        return ExtensionListResponse.of(snapshotHolder.getEpoch(), snapshotHolder.current(tenantId), maxInlineCustom());
+    }
+
+    /**
+     * 커스텀 확장자 keyset 페이지 (이름순, prefix는 소문자로 비교, 스냅샷 기반)
+     * - size는 1 ~ max-page-size로 맞추고, 없으면 default-page-size
+     * - 한 개 더 읽어 다음 페이지가 있으면 마지막 이름을 next로 반환
+     */
+    public CustomExtensionPageResponse getCustomPage(String tenantId, String prefix, String after, Integer size) {
+        ExtensionProperties.Listing listing = properties.getListing();
+        int limit = size == null
+                ? listing.getDefaultPageSize()
+                : Math.max(1, Math.min(size, listing.getMaxPageSize()));
+        String normalizedPrefix = prefix == null ? "" : prefix.strip().toLowerCase(Locale.ROOT);
+
+        ExtensionSnapshot snapshot = snapshotHolder.current(tenantId);
+        List<String> names = snapshot.customPage(normalizedPrefix, after, limit + 1);
+        boolean hasNext = names.size() > limit;
+        List<String> items = hasNext ? names.subList(0, limit) : names;
+        return CustomExtensionPageResponse.builder()
+                .items(items)
+                .next(hasNext ? items.get(limit - 1) : null)
+                .count(snapshot.getCount())
+                .version(snapshot.getVersion())
+                .build();
+    }
+
+    private int maxInlineCustom() {
+        return properties.getListing().getMaxInlineCustom();
+    }
 
-        broadcastUpdate();
+    /**
+     * 테넌트의 커스텀 확장자 최대 개수
+     */
+    public int getMaxCustom(String tenantId) {
+        return properties.getTenant().maxCustomFor(tenantId);
     }
 
     /**
-     * 활성화된 확장자 목록 조회 (DTO 반환)
+     * 해당 버전 목록의 강한 ETag ("epoch-version")
      */
-    public ExtensionListResponse getActiveExtensions() {
-        List<String> fixedNames = extractNames(
-                extRepository.findAllByTypeAndIsActiveTrue(ExtensionType.FIXED)
-        );
-        List<String> customNames = extractNames(
-                extRepository.findAllByTypeAndIsActiveTrue(ExtensionType.CUSTOM)
-        );
+    public String getListETag(long version) {
+        return "\"" + Long.toString(snapshotHolder.getEpoch(), 36) + "-" + version + "\"";
+    }
 
-        return ExtensionListResponse.full(fixedNames, customNames);
+    /**
+     * sinceVersion 이후 변경 조회
+     * - 보관 중인 변경 이력 안이면 병합된 delta, 밖이면 전체 목록
+     * - epoch가 이 노드와 다르면(다른 노드/재시작 전의 버전) 비교할 수 없으므로 전체 목록, null이면 같은 것으로 봄
+     */
+    public ExtensionSyncMessage getChangesSince(String tenantId, long sinceVersion, Long epoch) {
+        ExtensionSnapshot snapshot = snapshotHolder.current(tenantId);
+        long currentEpoch = snapshotHolder.getEpoch();
+        if (epoch != null && epoch != currentEpoch) {
+            return ExtensionListResponse.of(currentEpoch, snapshot, maxInlineCustom());
+        }
+        return snapshot.deltaSince(sinceVersion)
+                .<ExtensionSyncMessage>map(delta -> ExtensionDeltaResponse.of(
+                        currentEpoch, sinceVersion, snapshot.getVersion(), delta, snapshot.getCount()))
+                .orElseGet(() -> ExtensionListResponse.of(currentEpoch, snapshot, maxInlineCustom()));
     }
 
     /**
-     * 활성화된 확장자 목록 조회 (Map 반환 - WebSocket용)
+     * 활성화된 확장자 목록 조회 (Map 반환 - WebSocket용, 스냅샷 기반)
      */
-    public Map<String, Object> getActiveExtensionsMap() {
-        List<String> fixedNames = extractNames(
-                extRepository.findAllByTypeAndIsActiveTrue(ExtensionType.FIXED)
-        );
-        List<String> customNames = extractNames(
-                extRepository.findAllByTypeAndIsActiveTrue(ExtensionType.CUSTOM)
-        );
+    public Map<String, Object> getActiveExtensionsMap(String tenantId) {
+        ExtensionSnapshot snapshot = snapshotHolder.current(tenantId);
 
         Map<String, Object> result = new HashMap<>();
-        result.put("fixed", fixedNames);
-        result.put("custom", customNames);
-        result.put("count", customNames.size());
+        result.put("fixed", snapshot.getFixed());
+        result.put("custom", snapshot.getCustom());
+        result.put("count", snapshot.getCount());
         return result;
     }
 
     /**
      * 커스텀 확장자 비활성화
+     * - 이미 비활성화되어 있으면 변경 이벤트/이력을 남기지 않음
      */
     @Transactional
-    public void deactivateExtension(String name) {
-        log.debug("Deactivating extension: {}", name);
+    public void deactivateExtension(String tenantId, String actor, String name) {
+        log.debug("Deactivating extension: tenant={}, name={}", tenantId, name);
 
-        Extensions extension = extRepository.findByName(name)
+        Extensions extension = extRepository.findByTenantIdAndName(tenantId, name)
                 .orElseThrow(() -> new ExtensionException(ExtensionErrorCode.NOT_FOUND));
+        if (!extension.isActive()) {
+            return;
+        }
 
         extension.deactivate();
-        broadcastUpdate();
+        publishAfterCommit(tenantId, actor, ExtensionDelta.deactivated(extension.getType(), extension.getName()));
         log.info("Deactivated extension: {}", name);
     }
 
     /**
      * 고정 확장자 배치 업데이트 (여러 체크박스 한 번에 처리)
+     * - 항목 수와 관계없이 SELECT IN 1회 + UPDATE 최대 2회 + 배치 INSERT 1회
+     * - checked와 unchecked에 모두 있는 이름은 해제로 처리
+     * - 실제로 상태가 바뀌는 이름만 변경하고 변경 이벤트/이력에 남김 (이미 그 상태면 제외)
+     * - 조회와 INSERT 사이에 같은 이름이 동시에 추가되어 unique 제약에 걸리거나,
+     *   겹치는 이름을 반대 순서로 바꾸는 배치끼리 교착 상태로 롤백되면 새 트랜잭션으로 한 번 다시 시도
      */
-    @Transactional
-    public void batchUpdateFixed(List<String> checked, List<String> unchecked) {
-        log.debug("Batch update: checked={}, unchecked={}", checked, unchecked);
+    public void batchUpdateFixed(String tenantId, String actor, List<String> checked, List<String> unchecked) {
+        log.debug("Batch update: tenant={}, checked={}, unchecked={}", tenantId, checked, unchecked);
+
+        Set<String> toDeactivate = lowerCaseSet(unchecked);
+        Set<String> toActivate = lowerCaseSet(checked);
+        toActivate.removeAll(toDeactivate);
+        if (toActivate.isEmpty() && toDeactivate.isEmpty()) {
+            return;
+        }
 
-        if (checked != null) {
-            for (String name : checked) {
-                saveFixedExtensionInternal(name);
-            }
+        try {
+            transactionTemplate.executeWithoutResult(status -> saveFixedBatch(tenantId, actor, toActivate, toDeactivate));
+        } catch (DataIntegrityViolationException | ConcurrencyFailureException e) {
+            log.debug("Fixed batch conflicted with a concurrent change, retrying: tenant={}", tenantId);
+            transactionTemplate.executeWithoutResult(status -> saveFixedBatch(tenantId, actor, toActivate, toDeactivate));
         }
+    }
 
-        if (unchecked != null) {
-            for (String name : unchecked) {
-                deleteFixedExtensionInternal(name);
+    private void saveFixedBatch(String tenantId, String actor, Set<String> toActivate, Set<String> toDeactivate) {
+        Set<String> names = new LinkedHashSet<>(toActivate);
+        names.addAll(toDeactivate);
+        Map<String, Boolean> fixedStates = new HashMap<>();
+        for (ExtensionStateChange state : extRepository.findStatesByNameIn(tenantId, names)) {
+            if (state.type() == ExtensionType.FIXED) {
+                fixedStates.put(state.name(), state.active());
             }
         }
 
-        broadcastDeltaUpdate(checked, unchecked);
-    }
-
-    /**
-     * 고정 확장자 저장 (내부용, 브로드캐스트 없음)
-     */
-    private void saveFixedExtensionInternal(String name) {
-        String lowerName = name.toLowerCase();
-
-        extRepository.findByNameAndType(lowerName, ExtensionType.FIXED)
-                .ifPresentOrElse(
-                        Extensions::activate,
-                        () -> {
-                            Extensions newExt = Extensions.builder()
-                                    .name(lowerName)
-                                    .isActive(true)
-                                    .type(ExtensionType.FIXED)
-                                    .build();
-                            extRepository.save(newExt);
-                        }
-                );
-    }
+        List<String> reactivated = new ArrayList<>();
+        Set<String> toInsert = new LinkedHashSet<>();
+        for (String name : toActivate) {
+            Boolean active = fixedStates.get(name);
+            if (active == null) {
+                toInsert.add(name);
+            } else if (!active) {
+                reactivated.add(name);
+            }
+        }
+        List<String> deactivated = toDeactivate.stream()
+                .filter(name -> Boolean.TRUE.equals(fixedStates.get(name)))
+                .toList();
 
-    /**
-     * 고정 확장자 삭제 (내부용, 브로드캐스트 없음)
-     */
-    private void deleteFixedExtensionInternal(String name) {
-        String lowerName = name.toLowerCase();
+        if (!reactivated.isEmpty()) {
+            extRepository.updateActiveByTypeAndNameIn(tenantId, ExtensionType.FIXED, reactivated, true);
+        }
+        if (!toInsert.isEmpty()) {
+            extRepository.batchInsertActive(tenantId, ExtensionType.FIXED, toInsert);
+        }
+        if (!deactivated.isEmpty()) {
+            extRepository.updateActiveByTypeAndNameIn(tenantId, ExtensionType.FIXED, deactivated, false);
+        }
 
-        extRepository.findByNameAndType(lowerName, ExtensionType.FIXED)
-                .ifPresent(Extensions::deactivate);
+        List<String> activated = new ArrayList<>(reactivated);
+        activated.addAll(toInsert);
+        publishAfterCommit(tenantId, actor, ExtensionDelta.ofFixed(activated, deactivated));
     }
 
     /**
-     * Extensions 리스트에서 이름만 추출
+     * 이름 목록 소문자 변환 및 중복 제거 (null이면 빈 집합)
      */
-    private List<String> extractNames(List<Extensions> extensions) {
-        return extensions.stream()
-                .map(Extensions::getName)
-                .collect(Collectors.toList());
+    private Set<String> lowerCaseSet(List<String> names) {
+        Set<String> result = new LinkedHashSet<>();
+        if (names != null) {
+            names.forEach(name -> result.add(name.toLowerCase(Locale.ROOT)));
+        }
+        return result;
     }
 }
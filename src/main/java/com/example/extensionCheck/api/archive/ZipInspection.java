@@ -0,0 +1,35 @@
+package com.example.extensionCheck.api.archive;
+
+import com.example.extensionCheck.api.matcher.ExtensionMatcher;
+
+/**
+ * ZIP 계열 압축 파일 검사 결과
+ * - match != null: 차단 확장자 항목 발견 (entry는 "inner.zip!/a.exe" 형태의 경로)
+ * - violation != null: 항목 수/압축률/깊이 제한 초과 또는 해석 불가 (압축 폭탄 방어를 위해 차단으로 취급)
+ */
+public record ZipInspection(int entries, String entry, ExtensionMatcher.Match match, Violation violation) {
+
+    public enum Violation {
+        TOO_MANY_ENTRIES,
+        TOO_DEEP,
+        COMPRESSION_RATIO,
+        TOO_LARGE,
+        MALFORMED
+    }
+
+    static ZipInspection clean(int entries) {
+        return new ZipInspection(entries, null, null, null);
+    }
+
+    static ZipInspection blocked(int entries, String entry, ExtensionMatcher.Match match) {
+        return new ZipInspection(entries, entry, match, null);
+    }
+
+    static ZipInspection violation(int entries, String entry, Violation violation) {
+        return new ZipInspection(entries, entry, null, violation);
+    }
+
+    public boolean isBlocked() {
+        return match != null || violation != null;
+    }
+}
@@ -0,0 +1,496 @@
+package com.example.extensionCheck.api.archive;
+
+import com.example.extensionCheck.api.matcher.ExtensionMatcher;
+
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+import java.util.zip.DataFormatException;
+import java.util.zip.Inflater;
+
+/**
+ * ZIP 계열(zip, jar, war, apk 등) 압축 파일을 스트리밍으로 읽으며 항목 이름을 검사
+ * - 로컬 헤더와 중앙 디렉터리의 이름을 모두 검사 (둘을 다르게 적어 우회하는 경우 방지)
+ * - 항목 본문은 풀지 않고 건너뜀, 본문이 ZIP(PK\3\4)으로 시작하는 항목만 풀어서 maxDepth까지 재귀 검사
+ * - 메모리는 깊이마다 고정 크기 버퍼 하나와 현재 항목 이름만 사용
+ * - 항목 수, 압축률, 풀어낸 총 크기, 깊이 제한을 넘으면 즉시 중단 (압축 폭탄 방어)
+ * - 인스턴스는 검사 한 번에만 사용 (스레드 안전하지 않음)
+ */
+public final class ZipInspector {
+
+    private static final int LOC_SIG = 0x04034b50;
+    private static final int CEN_SIG = 0x02014b50;
+    private static final int END_SIG = 0x06054b50;
+    private static final int ZIP64_END_SIG = 0x06064b50;
+    private static final int ZIP64_LOCATOR_SIG = 0x07064b50;
+    private static final int DATA_DESCRIPTOR_SIG = 0x08074b50;
+
+    private static final int FLAG_ENCRYPTED = 1;
+    private static final int FLAG_DATA_DESCRIPTOR = 1 << 3;
+    private static final int FLAG_UTF8 = 1 << 11;
+    private static final int METHOD_STORED = 0;
+    private static final int METHOD_DEFLATED = 8;
+    private static final int ZIP64_EXTRA_ID = 0x0001;
+    private static final long ZIP64_MAGIC = 0xFFFFFFFFL;
+    private static final int BUFFER_SIZE = 8 * 1024;
+    // 이보다 작게 풀리는 항목은 압축률을 따지지 않음 (작은 반복 텍스트 오탐 방지)
+    private static final long RATIO_MIN_SIZE = 1024 * 1024;
+
+    private static final Charset CP437 = cp437();
+
+    private final ExtensionMatcher matcher;
+    private final Limits limits;
+    private final Inflater[] inflaters;
+    // 버리는 본문을 풀 때 / 중첩 여부 확인 시 재사용
+    private final byte[] scratch = new byte[BUFFER_SIZE];
+    private final byte[] head = new byte[4];
+
+    private int entries;
+    private long inflated;
+
+    /**
+     * 검사 제한값
+     *
+     * @param maxEntries       전체(중첩 포함) 최대 항목 수
+     * @param maxDepth         중첩 압축 파일 최대 깊이 (최상위 = 0)
+     * @param maxRatio         항목별 최대 압축률 (풀린 크기 / 압축 크기)
+     * @param maxInflatedBytes 검사 중 풀어내는 총 바이트 상한
+     */
+    public record Limits(int maxEntries, int maxDepth, int maxRatio, long maxInflatedBytes) {
+    }
+
+    public ZipInspector(ExtensionMatcher matcher, Limits limits) {
+        this.matcher = matcher;
+        this.limits = limits;
+        this.inflaters = new Inflater[limits.maxDepth() + 1];
+    }
+
+    /**
+     * 압축 파일 스트림 검사 (차단 항목 또는 제한 초과를 만나면 그 자리에서 중단)
+     */
+    public ZipInspection inspect(InputStream in) throws IOException {
+        try {
+            walk(new Source(in), 0, "");
+            return ZipInspection.clean(entries);
+        } catch (Stop stop) {
+            return stop.result;
+        } catch (EOFException e) {
+            // 헤더/본문 중간에 끝난 스트림
+            return ZipInspection.violation(entries, null, ZipInspection.Violation.MALFORMED);
+        } finally {
+            for (Inflater inflater : inflaters) {
+                if (inflater != null) {
+                    inflater.end();
+                }
+            }
+        }
+    }
+
+    private void walk(Source src, int depth, String prefix) throws IOException {
+        int centralEntries = 0;
+        while (true) {
+            int sig = src.u32OrEnd();
+            if (sig == LOC_SIG) {
+                if (++entries > limits.maxEntries()) {
+                    throw violation(prefix, ZipInspection.Violation.TOO_MANY_ENTRIES);
+                }
+                localEntry(src, depth, prefix);
+            } else if (sig == CEN_SIG) {
+                if (++centralEntries > limits.maxEntries()) {
+                    throw violation(prefix, ZipInspection.Violation.TOO_MANY_ENTRIES);
+                }
+                centralEntry(src, prefix);
+            } else if (sig == END_SIG || sig == ZIP64_END_SIG || sig == ZIP64_LOCATOR_SIG || sig == -1) {
+                // 중앙 디렉터리 끝 (또는 스트림 끝): 이후 내용은 항목이 아님
+                return;
+            } else {
+                throw violation(prefix, ZipInspection.Violation.MALFORMED);
+            }
+        }
+    }
+
+    private void localEntry(Source src, int depth, String prefix) throws IOException {
+        src.skip(2);                            // version needed
+        int flags = src.u16();
+        int method = src.u16();
+        src.skip(8);                            // time, date, crc
+        long compressedSize = src.u32();
+        long size = src.u32();
+        int nameLength = src.u16();
+        int extraLength = src.u16();
+        String name = src.string(nameLength, charset(flags));
+
+        long[] sizes = readExtra(src, extraLength, size, compressedSize);
+        size = sizes[0];
+        compressedSize = sizes[1];
+        boolean zip64 = sizes[2] != 0;
+
+        String path = prefix.isEmpty() ? name : prefix + name;
+        check(path, name);
+
+        boolean descriptor = (flags & FLAG_DATA_DESCRIPTOR) != 0;
+        // 헤더에 적힌 크기만으로도 압축률 초과를 알 수 있으면 바로 차단
+        if (!descriptor && size > RATIO_MIN_SIZE && size > limits.maxRatio() * Math.max(compressedSize, 1)) {
+            throw violation(path, ZipInspection.Violation.COMPRESSION_RATIO);
+        }
+
+        EntryStream data = switch (method) {
+            case METHOD_STORED -> {
+                if (descriptor) {
+                    // 크기를 모르는 무압축 항목은 끝을 알 수 없음
+                    throw violation(path, ZipInspection.Violation.MALFORMED);
+                }
+                yield new StoredStream(src, compressedSize);
+            }
+            case METHOD_DEFLATED -> new DeflatedStream(src, inflater(depth), descriptor ? -1 : compressedSize, path);
+            default -> {
+                if (descriptor) {
+                    throw violation(path, ZipInspection.Violation.MALFORMED);
+                }
+                yield new StoredStream(src, compressedSize);
+            }
+        };
+
+        // 암호화됐거나 해석할 수 없는 압축 방식이면 본문은 보지 않음
+        if ((flags & FLAG_ENCRYPTED) == 0 && (method == METHOD_STORED || method == METHOD_DEFLATED)) {
+            inspectNested(data, depth, path);
+        }
+        data.drain();
+
+        if (descriptor) {
+            // 시그니처는 생략될 수 있음 (없으면 첫 4바이트가 crc)
+            if (src.u32() == DATA_DESCRIPTOR_SIG) {
+                src.skip(4);                    // crc
+            }
+            src.skip(zip64 ? 16 : 8);           // compressed size, size
+        }
+    }
+
+    /**
+     * 항목 본문이 ZIP이면 한 단계 더 들어가 검사
+     */
+    private void inspectNested(EntryStream data, int depth, String path) throws IOException {
+        int n = data.readNBytes(head, 0, 4);
+        if (n < 4 || (head[0] & 0xFF | (head[1] & 0xFF) << 8 | (head[2] & 0xFF) << 16 | (head[3] & 0xFF) << 24) != LOC_SIG) {
+            return;
+        }
+        if (depth + 1 > limits.maxDepth()) {
+            throw violation(path, ZipInspection.Violation.TOO_DEEP);
+        }
+        walk(new Source(data, head), depth + 1, path + "!/");
+    }
+
+    private void centralEntry(Source src, String prefix) throws IOException {
+        src.skip(4);                            // version made by, version needed
+        int flags = src.u16();
+        src.skip(18);                           // method, time, date, crc, compressed size, size
+        int nameLength = src.u16();
+        int extraLength = src.u16();
+        int commentLength = src.u16();
+        src.skip(12);                           // disk, attributes, local header offset
+        String name = src.string(nameLength, charset(flags));
+        src.skip((long) extraLength + commentLength);
+        check(prefix.isEmpty() ? name : prefix + name, name);
+    }
+
+    private void check(String path, String name) throws Stop {
+        ExtensionMatcher.Match match = matcher.match(name);
+        if (match != null) {
+            throw new Stop(ZipInspection.blocked(entries, path, match));
+        }
+    }
+
+    /**
+     * 확장 필드를 읽고 [size, compressedSize, zip64 여부] 반환
+     * - zip64 필드에는 헤더 값이 0xFFFFFFFF인 크기만 순서대로 들어 있음
+     */
+    private long[] readExtra(Source src, int extraLength, long size, long compressedSize) throws IOException {
+        int remaining = extraLength;
+        boolean zip64 = false;
+        while (remaining >= 4) {
+            int id = src.u16();
+            int length = src.u16();
+            remaining -= 4 + length;
+            if (id != ZIP64_EXTRA_ID || remaining < 0) {
+                src.skip(Math.min(length, length + remaining));
+                continue;
+            }
+            zip64 = true;
+            int read = 0;
+            if (size == ZIP64_MAGIC && read + 8 <= length) {
+                size = src.u64();
+                read += 8;
+            }
+            if (compressedSize == ZIP64_MAGIC && read + 8 <= length) {
+                compressedSize = src.u64();
+                read += 8;
+            }
+            src.skip(length - read);
+        }
+        src.skip(Math.max(remaining, 0));
+        return new long[]{size, compressedSize, zip64 ? 1 : 0};
+    }
+
+    private Inflater inflater(int depth) {
+        Inflater inflater = inflaters[depth];
+        if (inflater == null) {
+            inflater = new Inflater(true);
+            inflaters[depth] = inflater;
+        } else {
+            inflater.reset();
+        }
+        return inflater;
+    }
+
+    private void countInflated(String path, long n, long entryInflated, long entryCompressed) throws Stop {
+        inflated += n;
+        if (inflated > limits.maxInflatedBytes()) {
+            throw violation(path, ZipInspection.Violation.TOO_LARGE);
+        }
+        if (entryInflated > RATIO_MIN_SIZE && entryInflated > limits.maxRatio() * Math.max(entryCompressed, 1)) {
+            throw violation(path, ZipInspection.Violation.COMPRESSION_RATIO);
+        }
+    }
+
+    private Stop violation(String path, ZipInspection.Violation violation) {
+        return new Stop(ZipInspection.violation(entries, path, violation));
+    }
+
+    private static Charset charset(int flags) {
+        return (flags & FLAG_UTF8) != 0 ? StandardCharsets.UTF_8 : CP437;
+    }
+
+    private static Charset cp437() {
+        try {
+            return Charset.forName("IBM437");
+        } catch (IllegalArgumentException e) {
+            return StandardCharsets.ISO_8859_1;
+        }
+    }
+
+    /**
+     * 결과가 정해졌을 때 재귀를 빠져나오기 위한 예외 (스택 트레이스 없음)
+     */
+    private static final class Stop extends IOException {
+        private final ZipInspection result;
+
+        private Stop(ZipInspection result) {
+            this.result = result;
+        }
+
+        @Override
+        public synchronized Throwable fillInStackTrace() {
+            return this;
+        }
+    }
+
+    /**
+     * 고정 크기 버퍼를 둔 little-endian 입력
+     */
+    private static final class Source {
+        private final InputStream in;
+        private final byte[] buf = new byte[BUFFER_SIZE];
+        private int pos;
+        private int limit;
+
+        private Source(InputStream in) {
+            this.in = in;
+        }
+
+        // 이미 읽어 둔 앞부분(head)을 먼저 돌려줌
+        private Source(InputStream in, byte[] head) {
+            this(in);
+            System.arraycopy(head, 0, buf, 0, head.length);
+            limit = head.length;
+        }
+
+        private boolean fill() throws IOException {
+            if (pos < limit) {
+                return true;
+            }
+            int n = in.read(buf, 0, buf.length);
+            pos = 0;
+            limit = Math.max(n, 0);
+            return n > 0;
+        }
+
+        private int u8() throws IOException {
+            if (!fill()) {
+                throw new EOFException();
+            }
+            return buf[pos++] & 0xFF;
+        }
+
+        private int u16() throws IOException {
+            return u8() | u8() << 8;
+        }
+
+        private long u32() throws IOException {
+            return (u16() | (long) u16() << 16) & ZIP64_MAGIC;
+        }
+
+        private long u64() throws IOException {
+            return u32() | u32() << 32;
+        }
+
+        // 다음 시그니처, 스트림이 끝났으면 -1
+        private int u32OrEnd() throws IOException {
+            if (!fill()) {
+                return -1;
+            }
+            return (int) u32();
+        }
+
+        private String string(int length, Charset charset) throws IOException {
+            byte[] bytes = new byte[length];
+            int off = 0;
+            while (off < length) {
+                if (!fill()) {
+                    throw new EOFException();
+                }
+                int n = Math.min(length - off, limit - pos);
+                System.arraycopy(buf, pos, bytes, off, n);
+                pos += n;
+                off += n;
+            }
+            return new String(bytes, charset);
+        }
+
+        private void skip(long n) throws IOException {
+            while (n > 0) {
+                if (!fill()) {
+                    throw new EOFException();
+                }
+                int step = (int) Math.min(n, limit - pos);
+                pos += step;
+                n -= step;
+            }
+        }
+    }
+
+    /**
+     * 항목 본문 스트림 (다 읽지 않은 나머지는 drain으로 건너뜀)
+     */
+    private abstract static class EntryStream extends InputStream {
+
+        abstract void drain() throws IOException;
+
+        @Override
+        public int read() throws IOException {
+            byte[] one = new byte[1];
+            return read(one, 0, 1) == 1 ? one[0] & 0xFF : -1;
+        }
+    }
+
+    private static final class StoredStream extends EntryStream {
+        private final Source src;
+        private long remaining;
+
+        private StoredStream(Source src, long size) {
+            this.src = src;
+            this.remaining = size;
+        }
+
+        @Override
+        public int read(byte[] b, int off, int len) throws IOException {
+            if (remaining == 0) {
+                return -1;
+            }
+            if (!src.fill()) {
+                throw new EOFException();
+            }
+            int n = (int) Math.min(Math.min(len, remaining), src.limit - src.pos);
+            System.arraycopy(src.buf, src.pos, b, off, n);
+            src.pos += n;
+            remaining -= n;
+            return n;
+        }
+
+        @Override
+        void drain() throws IOException {
+            src.skip(remaining);
+            remaining = 0;
+        }
+    }
+
+    /**
+     * deflate 항목: Source 버퍼를 그대로 Inflater 입력으로 사용하고, 쓰고 남은 바이트는 버퍼에 돌려둠
+     * - 압축 크기를 알면(compressedSize >= 0) 나머지는 풀지 않고 건너뜀
+     */
+    private final class DeflatedStream extends EntryStream {
+        private final Source src;
+        private final Inflater inflater;
+        private final long compressedSize;
+        private final String path;
+        private long consumed;
+        private long produced;
+
+        private DeflatedStream(Source src, Inflater inflater, long compressedSize, String path) {
+            this.src = src;
+            this.inflater = inflater;
+            this.compressedSize = compressedSize;
+            this.path = path;
+        }
+
+        @Override
+        public int read(byte[] b, int off, int len) throws IOException {
+            if (len == 0) {
+                return 0;
+            }
+            try {
+                while (true) {
+                    if (inflater.finished()) {
+                        return -1;
+                    }
+                    if (inflater.needsInput()) {
+                        if (!src.fill()) {
+                            throw new EOFException();
+                        }
+                        int available = src.limit - src.pos;
+                        if (compressedSize >= 0) {
+                            available = (int) Math.min(available, compressedSize - consumed);
+                            if (available <= 0) {
+                                throw violation(path, ZipInspection.Violation.MALFORMED);
+                            }
+                        }
+                        inflater.setInput(src.buf, src.pos, available);
+                        src.pos += available;
+                        consumed += available;
+                    }
+                    int n = inflater.inflate(b, off, len);
+                    if (inflater.finished()) {
+                        // 압축 스트림 뒤에 남은 입력은 버퍼로 되돌림 (디스크립터/다음 헤더의 시작)
+                        int unused = inflater.getRemaining();
+                        src.pos -= unused;
+                        consumed -= unused;
+                    }
+                    if (n > 0) {
+                        produced += n;
+                        countInflated(path, n, produced, consumed);
+                        return n;
+                    }
+                    if (inflater.needsDictionary()) {
+                        throw violation(path, ZipInspection.Violation.MALFORMED);
+                    }
+                }
+            } catch (DataFormatException e) {
+                throw violation(path, ZipInspection.Violation.MALFORMED);
+            }
+        }
+
+        @Override
+        void drain() throws IOException {
+            if (compressedSize >= 0) {
+                src.skip(compressedSize - consumed);
+                consumed = compressedSize;
+                return;
+            }
+            // 데이터 디스크립터 항목은 압축 스트림 끝까지 풀어야 다음 헤더 위치를 알 수 있음
+            while (read(scratch, 0, scratch.length) >= 0) {
+                // 버림
+            }
+        }
+    }
+}
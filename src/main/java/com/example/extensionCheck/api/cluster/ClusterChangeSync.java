@@ -0,0 +1,56 @@
+package com.example.extensionCheck.api.cluster;
+
+import com.example.extensionCheck.api.Service.ExtensionBroadcaster;
+import com.example.extensionCheck.api.outbox.ExtensionChangeEvent;
+import com.example.extensionCheck.api.outbox.ExtensionChangeListener;
+import com.example.extensionCheck.api.snapshot.ExtensionChange;
+import com.example.extensionCheck.api.snapshot.ExtensionSnapshotHolder;
+import com.example.extensionCheck.config.ExtensionProperties;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+
+/**
+ * 다른 노드에서 커밋된 변경을 이 노드에 반영 (extension.cluster.enabled=true일 때, 별도 브로커 없음)
+ * - 모든 노드가 같은 DB의 아웃박스를 읽으므로 다른 노드의 이벤트도 디스패처를 통해 전달됨
+ * - 바뀐 테넌트의 스냅샷을 DB 기준으로 갱신한 뒤 자기 구독자에게 delta로 전송
+ * - 이벤트의 delta를 그대로 적용하지 않고 다시 읽는 이유: 노드마다 반영 순서가 달라도 DB 상태로 수렴
+ * - 같은 테넌트의 이벤트가 여러 건이어도 묶음당 한 번만 갱신 (테넌트당 쿼리 1회)
+ */
+@Slf4j
+@Component
+public class ClusterChangeSync implements ExtensionChangeListener {
+
+    private final ExtensionSnapshotHolder snapshotHolder;
+    private final ExtensionBroadcaster broadcaster;
+    private final boolean enabled;
+
+    public ClusterChangeSync(ExtensionSnapshotHolder snapshotHolder,
+                             ExtensionBroadcaster broadcaster,
+                             ExtensionProperties properties) {
+        this.snapshotHolder = snapshotHolder;
+        this.broadcaster = broadcaster;
+        this.enabled = properties.getCluster().isEnabled();
+    }
+
+    @Override
+    public void onChanges(List<ExtensionChangeEvent> events) {
+        if (!enabled) {
+            return;
+        }
+        events.stream()
+                .filter(event -> !event.local())
+                .map(ExtensionChangeEvent::tenantId)
+                .distinct()
+                .forEach(this::refresh);
+    }
+
+    private void refresh(String tenantId) {
+        ExtensionChange change = snapshotHolder.refresh(tenantId);
+        if (change != null) {
+            broadcaster.publish(tenantId, change);
+            log.debug("Applied change from another node: tenant={}, version={}", tenantId, change.version());
+        }
+    }
+}
@@ -12,8 +12,14 @@ public enum ExtensionErrorCode {
     CONTAINS_KOREAN("EXT_004", "확장자에 한글을 포함할 수 없습니다."),
     ALREADY_EXISTS("EXT_005", "이미 등록된 확장자입니다."),
     NOT_FOUND("EXT_006", "확장자를 찾을 수 없습니다."),
-    MAX_LIMIT_EXCEEDED("EXT_007", "커스텀 확장자는 최대 200개까지 등록할 수 있습니다."),
-    FIXED_EXTENSION_CONFLICT("EXT_008", "해당 확장자는 고정 확장자로 등록되어 사용할 수 없습니다.");
+    MAX_LIMIT_EXCEEDED("EXT_007", "커스텀 확장자 등록 한도를 초과했습니다."),
+    FIXED_EXTENSION_CONFLICT("EXT_008", "해당 확장자는 고정 확장자로 등록되어 사용할 수 없습니다."),
+    EMPTY_FILENAME("EXT_009", "파일명을 입력해주세요."),
+    INVALID_TENANT("EXT_010", "테넌트 ID는 영문, 숫자, '-', '_'로 50자까지 입력 가능합니다."),
+    BLOCKED_UPLOAD("EXT_011", "차단된 확장자의 파일은 업로드할 수 없습니다."),
+    INVALID_ACTOR("EXT_012", "사용자 ID는 제어 문자 없이 100자까지 입력 가능합니다."),
+    INVALID_IMPORT_ROW("EXT_013", "확장자 이름을 읽을 수 없는 행입니다."),
+    HISTORY_OUT_OF_RETENTION("EXT_014", "보관된 이력 이전 시점의 차단 목록은 알 수 없습니다.");
 
     private final String code;
     private final String message;
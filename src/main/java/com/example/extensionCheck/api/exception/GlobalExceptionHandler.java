@@ -1,13 +1,17 @@
 package com.example.extensionCheck.api.exception;
 
 import com.example.extensionCheck.api.response.ApiErrorResponse;
+import com.example.extensionCheck.api.upload.BlockedUploadException;
 import jakarta.persistence.EntityExistsException;
 import jakarta.persistence.EntityNotFoundException;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.ExceptionHandler;
 import org.springframework.web.bind.annotation.RestControllerAdvice;
+import org.springframework.web.multipart.MaxUploadSizeExceededException;
+import org.springframework.web.multipart.MultipartException;
 
 @Slf4j
 @RestControllerAdvice
@@ -27,6 +31,41 @@ public class GlobalExceptionHandler {
                 .body(new ApiErrorResponse(errorCode.getCode(), e.getMessage()));
     }
 
+    /**
+     * 업로드 본문에서 차단 확장자 파일 발견 (남은 본문을 받지 않도록 연결 종료)
+     */
+    @ExceptionHandler(BlockedUploadException.class)
+    public ResponseEntity<ApiErrorResponse> handleBlockedUpload(BlockedUploadException e) {
+        ExtensionErrorCode errorCode = ExtensionErrorCode.BLOCKED_UPLOAD;
+        log.info("Upload rejected: filename={}, extension={}, detected={}",
+                e.getFilename(), e.getMatch().extension(), e.getDetectedFormat());
+        return ResponseEntity.status(mapToHttpStatus(errorCode))
+                .header(HttpHeaders.CONNECTION, "close")
+                .body(new ApiErrorResponse(errorCode.getCode(), errorCode.getMessage()));
+    }
+
+    /**
+     * multipart 해석 실패 (업로드 가드가 getParts 단계에서 차단한 경우 차단 응답)
+     */
+    @ExceptionHandler(MultipartException.class)
+    public ResponseEntity<ApiErrorResponse> handleMultipart(MultipartException e) {
+        if (e.getCause() instanceof BlockedUploadException blocked) {
+            return handleBlockedUpload(blocked);
+        }
+        return handleException(e);
+    }
+
+    /**
+     * 업로드 크기 제한(spring.servlet.multipart.max-file-size, max-request-size) 초과
+     */
+    @ExceptionHandler(MaxUploadSizeExceededException.class)
+    public ResponseEntity<ApiErrorResponse> handleMaxUploadSize(MaxUploadSizeExceededException e) {
+        log.warn("Upload too large: {}", e.getMessage());
+        return ResponseEntity.status(HttpStatus.CONTENT_TOO_LARGE)
+                .header(HttpHeaders.CONNECTION, "close")
+                .body(new ApiErrorResponse("PAYLOAD_TOO_LARGE", "업로드 크기 제한을 초과했습니다."));
+    }
+
     /**
      * 잘못된 입력값 (validation 실패)
      */
@@ -72,9 +111,12 @@ public class GlobalExceptionHandler {
      */
     private HttpStatus mapToHttpStatus(ExtensionErrorCode errorCode) {
         return switch (errorCode) {
-            case EMPTY_INPUT, TOO_LONG, CONTAINS_DIGIT, CONTAINS_KOREAN -> HttpStatus.BAD_REQUEST;  // Http Status : 400
+            case EMPTY_INPUT, TOO_LONG, CONTAINS_DIGIT, CONTAINS_KOREAN, EMPTY_FILENAME,
+                 INVALID_TENANT, INVALID_ACTOR, INVALID_IMPORT_ROW -> HttpStatus.BAD_REQUEST;       // Http Status : 400
             case ALREADY_EXISTS, FIXED_EXTENSION_CONFLICT -> HttpStatus.CONFLICT;                   // Http Status : 409
             case NOT_FOUND -> HttpStatus.NOT_FOUND;                                                 // Http Status : 404
+            case HISTORY_OUT_OF_RETENTION -> HttpStatus.GONE;                                       // Http Status : 410
+            case BLOCKED_UPLOAD -> HttpStatus.FORBIDDEN;                                            // Http Status : 403
             case MAX_LIMIT_EXCEEDED -> HttpStatus.UNPROCESSABLE_ENTITY;                             // Http Status : 422
         };
     }
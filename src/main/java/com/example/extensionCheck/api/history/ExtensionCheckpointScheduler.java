@@ -0,0 +1,70 @@
+package com.example.extensionCheck.api.history;
+
+import com.example.extensionCheck.config.ExtensionProperties;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+import java.time.Instant;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * checkpoint-interval마다 차단 목록 체크포인트 생성 (시작 시 기준 체크포인트가 없으면 먼저 생성)
+ * - 여러 노드가 함께 만들어도 같은 내용의 체크포인트가 하나 더 생길 뿐 조회 결과는 같음
+ */
+@Slf4j
+@Component
+public class ExtensionCheckpointScheduler {
+
+    private final ExtensionHistoryService historyService;
+    private final ExtensionProperties.History properties;
+
+    private ScheduledExecutorService scheduler;
+
+    public ExtensionCheckpointScheduler(ExtensionHistoryService historyService, ExtensionProperties properties) {
+        this.historyService = historyService;
+        this.properties = properties.getHistory();
+    }
+
+    @PostConstruct
+    public void start() {
+        scheduler = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "extension-checkpoint");
+            thread.setDaemon(true);
+            return thread;
+        });
+        scheduler.execute(this::seedBaseline);
+        long interval = properties.getCheckpointInterval().toMillis();
+        scheduler.scheduleWithFixedDelay(this::checkpoint, interval, interval, TimeUnit.MILLISECONDS);
+    }
+
+    private void seedBaseline() {
+        try {
+            int tenants = historyService.seedBaseline(Instant.now());
+            if (tenants > 0) {
+                log.info("Created baseline checkpoints: tenants={}", tenants);
+            }
+        } catch (Exception e) {
+            log.error("Baseline checkpoint failed", e);
+        }
+    }
+
+    private void checkpoint() {
+        try {
+            int tenants = historyService.checkpoint(Instant.now().minus(properties.getCheckpointDelay()));
+            log.debug("Created checkpoints: tenants={}", tenants);
+        } catch (Exception e) {
+            log.error("Checkpoint failed", e);
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        if (scheduler != null) {
+            scheduler.shutdown();
+        }
+    }
+}
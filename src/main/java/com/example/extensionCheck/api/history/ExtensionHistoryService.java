@@ -0,0 +1,158 @@
+package com.example.extensionCheck.api.history;
+
+import com.example.extensionCheck.api.exception.ExtensionErrorCode;
+import com.example.extensionCheck.api.exception.ExtensionException;
+import com.example.extensionCheck.api.response.ExtensionHistoryResponse;
+import com.example.extensionCheck.api.snapshot.ExtensionDelta;
+import com.example.extensionCheck.entity.ExtensionCheckpoint;
+import com.example.extensionCheck.entity.ExtensionType;
+import com.example.extensionCheck.repository.ActiveExtensionName;
+import com.example.extensionCheck.repository.ExtensionCheckpointRepository;
+import com.example.extensionCheck.repository.ExtensionHistoryRepository;
+import com.example.extensionCheck.repository.ExtensionStateChange;
+import com.example.extensionCheck.repository.ExtensionsRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import tools.jackson.databind.ObjectMapper;
+
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+
+/**
+ * 확장자 변경 이력 기록 및 시점 조회
+ * - 변경마다 활성화/비활성화된 이름을 행위자/시각과 함께 추가 기록 (기존 행은 수정하지 않음)
+ * - 시점 조회: 해당 시각 이하의 가장 최근 체크포인트 + 그 이후 이력 재생 (쿼리 2회, 재생 건수는 체크포인트 주기 안)
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class ExtensionHistoryService {
+
+    private final ExtensionHistoryRepository historyRepository;
+    private final ExtensionCheckpointRepository checkpointRepository;
+    private final ExtensionsRepository extRepository;
+    private final ObjectMapper objectMapper;
+
+    /**
+     * 변경 내용을 이력으로 기록 (변경 트랜잭션 안에서 호출, 배치 INSERT 한 번)
+     */
+    public void record(String tenantId, String actor, ExtensionDelta delta) {
+        List<ExtensionStateChange> changes = new ArrayList<>();
+        delta.getFixedAdded().forEach(name -> changes.add(new ExtensionStateChange(ExtensionType.FIXED, name, true)));
+        delta.getFixedRemoved().forEach(name -> changes.add(new ExtensionStateChange(ExtensionType.FIXED, name, false)));
+        delta.getCustomAdded().forEach(name -> changes.add(new ExtensionStateChange(ExtensionType.CUSTOM, name, true)));
+        delta.getCustomRemoved().forEach(name -> changes.add(new ExtensionStateChange(ExtensionType.CUSTOM, name, false)));
+        historyRepository.batchInsert(tenantId, actor, Instant.now(), changes);
+    }
+
+    /**
+     * 해당 시각의 차단 목록
+     * - 그 이전 체크포인트도 이력도 없으면 (가장 오래된 체크포인트/이력보다 이른 시각) 알 수 없으므로
+     *   빈 목록 대신 HISTORY_OUT_OF_RETENTION 예외
+     */
+    public ExtensionHistoryResponse getBlocklistAt(String tenantId, Instant at) {
+        Optional<ExtensionCheckpoint> checkpoint =
+                checkpointRepository.findFirstByTenantIdAndAsOfLessThanEqualOrderByAsOfDesc(tenantId, at);
+        Blocklist blocklist = checkpoint.map(this::read).orElseGet(Blocklist::new);
+        Instant after = checkpoint.map(ExtensionCheckpoint::getAsOf).orElse(Instant.EPOCH);
+
+        List<ExtensionStateChange> changes = historyRepository.findChanges(tenantId, after, at);
+        // 체크포인트 없이 처음부터 재생한 이력이 비었으면 at 이하에 남은 기록이 없음 (추가 쿼리 없이 판단)
+        if (checkpoint.isEmpty() && changes.isEmpty()) {
+            throw new ExtensionException(ExtensionErrorCode.HISTORY_OUT_OF_RETENTION);
+        }
+        changes.forEach(blocklist::apply);
+
+        return ExtensionHistoryResponse.builder()
+                .at(at)
+                .fixed(List.copyOf(blocklist.fixed))
+                .custom(List.copyOf(blocklist.custom))
+                .count(blocklist.custom.size())
+                .checkpointAt(checkpoint.map(ExtensionCheckpoint::getAsOf).orElse(null))
+                .replayed(changes.size())
+                .build();
+    }
+
+    /**
+     * 마지막 체크포인트 이후 변경이 있었던 테넌트마다 cutoff 시점 체크포인트 생성
+     */
+    public int checkpoint(Instant cutoff) {
+        // 이력 시각은 밀리초 단위
+        cutoff = cutoff.truncatedTo(ChronoUnit.MILLIS);
+        Instant since = Optional.ofNullable(checkpointRepository.findMaxAsOf()).orElse(Instant.EPOCH);
+        if (!cutoff.isAfter(since)) {
+            return 0;
+        }
+        List<String> tenantIds = historyRepository.findTenantIdsChangedBetween(since, cutoff);
+        for (String tenantId : tenantIds) {
+            ExtensionHistoryResponse state = getBlocklistAt(tenantId, cutoff);
+            save(tenantId, cutoff, new Blocklist(state.getFixed(), state.getCustom()));
+        }
+        return tenantIds.size();
+    }
+
+    /**
+     * 체크포인트가 하나도 없으면 현재 확장자 테이블로 기준 체크포인트 생성
+     * - 이력 기록 전부터 있던 확장자도 이후 시점 조회에 포함되도록 함 (그 이전 시점은 알 수 없음)
+     */
+    public int seedBaseline(Instant asOf) {
+        if (checkpointRepository.count() > 0) {
+            return 0;
+        }
+        List<String> tenantIds = extRepository.findTenantIds();
+        for (String tenantId : tenantIds) {
+            Blocklist blocklist = new Blocklist();
+            for (ActiveExtensionName active : extRepository.findAllActiveNames(tenantId)) {
+                blocklist.apply(new ExtensionStateChange(active.type(), active.name(), true));
+            }
+            save(tenantId, asOf.truncatedTo(ChronoUnit.MILLIS), blocklist);
+        }
+        return tenantIds.size();
+    }
+
+    private void save(String tenantId, Instant asOf, Blocklist blocklist) {
+        String content = objectMapper.writeValueAsString(
+                new Content(List.copyOf(blocklist.fixed), List.copyOf(blocklist.custom)));
+        checkpointRepository.save(new ExtensionCheckpoint(tenantId, asOf, content));
+    }
+
+    private Blocklist read(ExtensionCheckpoint checkpoint) {
+        Content content = objectMapper.readValue(checkpoint.getContent(), Content.class);
+        return new Blocklist(content.fixed(), content.custom());
+    }
+
+    // 체크포인트 저장 형식
+    record Content(List<String> fixed, List<String> custom) {
+    }
+
+    // 재생 중인 차단 목록 (활성화 순서 유지)
+    private static final class Blocklist {
+
+        private final Set<String> fixed;
+        private final Set<String> custom;
+
+        private Blocklist() {
+            this(List.of(), List.of());
+        }
+
+        private Blocklist(List<String> fixed, List<String> custom) {
+            this.fixed = new LinkedHashSet<>(fixed);
+            this.custom = new LinkedHashSet<>(custom);
+        }
+
+        private void apply(ExtensionStateChange change) {
+            Set<String> names = change.type() == ExtensionType.FIXED ? fixed : custom;
+            if (change.active()) {
+                names.add(change.name());
+            } else {
+                names.remove(change.name());
+            }
+        }
+    }
+}
@@ -0,0 +1,227 @@
+package com.example.extensionCheck.api.matcher;
+
+import com.example.extensionCheck.entity.ExtensionType;
+
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.TreeMap;
+
+/**
+ * 파일명 차단 여부 판별기 (뒤집은 확장자로 만든 suffix trie)
+ * - 파일명을 뒤에서부터 한 글자씩 따라가며 "." 바로 뒤에서 끝나는 확장자를 찾음
+ * - 생성 후 불변이므로 여러 스레드에서 락 없이 사용 가능
+ * - with/without은 바뀐 경로의 노드만 복사한 새 판별기를 반환 (나머지 노드는 공유, 전체 개수와 무관)
+ * - 조회 시 객체를 생성하지 않음
+ */
+public final class ExtensionMatcher {
+
+    private static final ExtensionMatcher EMPTY = new ExtensionMatcher(new Node(new char[0], new Node[0], null));
+
+    private final Node root;
+
+    private ExtensionMatcher(Node root) {
+        this.root = root;
+    }
+
+    public static ExtensionMatcher empty() {
+        return EMPTY;
+    }
+
+    /**
+     * 고정/커스텀 확장자 목록으로 trie 컴파일
+     */
+    public static ExtensionMatcher compile(Collection<String> fixed, Collection<String> custom) {
+        if (fixed.isEmpty() && custom.isEmpty()) {
+            return EMPTY;
+        }
+        MutableNode root = new MutableNode();
+        fixed.forEach(name -> root.insert(name, ExtensionType.FIXED));
+        custom.forEach(name -> root.insert(name, ExtensionType.CUSTOM));
+        return new ExtensionMatcher(root.freeze());
+    }
+
+    /**
+     * name을 type으로 추가(이미 있으면 type 교체)한 판별기
+     */
+    public ExtensionMatcher with(String name, ExtensionType type) {
+        return new ExtensionMatcher(root.put(name, name.length() - 1, new Match(name, type)));
+    }
+
+    /**
+     * name을 뺀 판별기 (없으면 그대로)
+     */
+    public ExtensionMatcher without(String name) {
+        Node removed = root.remove(name, name.length() - 1);
+        if (removed == root) {
+            return this;
+        }
+        return removed == null ? EMPTY : new ExtensionMatcher(removed);
+    }
+
+    /**
+     * 파일명이 차단 대상이면 일치한 확장자, 아니면 null
+     * - 대소문자 무시 ("A.EXE" == "a.exe")
+     * - 끝의 공백/점 무시 (Windows는 "a.exe. " 를 "a.exe"로 취급)
+     */
+    public Match match(String filename) {
+        if (filename == null) {
+            return null;
+        }
+        int end = filename.length();
+        while (end > 0 && isIgnoredTrailing(filename.charAt(end - 1))) {
+            end--;
+        }
+
+        Node node = root;
+        for (int i = end - 1; i > 0; i--) {
+            node = node.child(fold(filename.charAt(i)));
+            if (node == null) {
+                return null;
+            }
+            if (node.match != null && filename.charAt(i - 1) == '.') {
+                return node.match;
+            }
+        }
+        return null;
+    }
+
+    public boolean isBlocked(String filename) {
+        return match(filename) != null;
+    }
+
+    private static boolean isIgnoredTrailing(char c) {
+        return c == '.' || c == ' ';
+    }
+
+    private static char fold(char c) {
+        if (c < 0x80) {
+            return (c >= 'A' && c <= 'Z') ? (char) (c + ('a' - 'A')) : c;
+        }
+        return Character.toLowerCase(c);
+    }
+
+    /**
+     * 일치한 확장자 정보 (trie 생성 시 미리 만들어 재사용)
+     */
+    public record Match(String extension, ExtensionType type) {
+    }
+
+    /**
+     * 조회용 노드: 자식 글자를 정렬된 배열로 보관
+     */
+    private static final class Node {
+        private final char[] keys;
+        private final Node[] children;
+        private final Match match;
+
+        private Node(char[] keys, Node[] children, Match match) {
+            this.keys = keys;
+            this.children = children;
+            this.match = match;
+        }
+
+        private Node child(char c) {
+            char[] k = keys;
+            if (k.length <= 8) {
+                for (int i = 0; i < k.length; i++) {
+                    if (k[i] == c) {
+                        return children[i];
+                    }
+                }
+                return null;
+            }
+            int idx = Arrays.binarySearch(k, c);
+            return idx >= 0 ? children[idx] : null;
+        }
+
+        // name[0..i]를 뒤에서부터 따라간 위치에 match를 둔 새 노드 (경로 복사)
+        private Node put(String name, int i, Match value) {
+            if (i < 0) {
+                return new Node(keys, children, value);
+            }
+            char c = fold(name.charAt(i));
+            int idx = Arrays.binarySearch(keys, c);
+            Node child = idx >= 0 ? children[idx] : EMPTY.root;
+            return withChild(idx, c, child.put(name, i - 1, value));
+        }
+
+        // match를 지운 새 노드, 바뀐 게 없으면 this, 비면 null
+        private Node remove(String name, int i) {
+            if (i < 0) {
+                if (match == null) {
+                    return this;
+                }
+                return keys.length == 0 ? null : new Node(keys, children, null);
+            }
+            char c = fold(name.charAt(i));
+            int idx = Arrays.binarySearch(keys, c);
+            if (idx < 0) {
+                return this;
+            }
+            Node child = children[idx].remove(name, i - 1);
+            if (child == children[idx]) {
+                return this;
+            }
+            if (child != null) {
+                return withChild(idx, c, child);
+            }
+            if (keys.length == 1 && match == null) {
+                return null;
+            }
+            char[] k = new char[keys.length - 1];
+            Node[] ch = new Node[keys.length - 1];
+            System.arraycopy(keys, 0, k, 0, idx);
+            System.arraycopy(keys, idx + 1, k, idx, k.length - idx);
+            System.arraycopy(children, 0, ch, 0, idx);
+            System.arraycopy(children, idx + 1, ch, idx, ch.length - idx);
+            return new Node(k, ch, match);
+        }
+
+        // idx(binarySearch 결과) 위치의 자식을 child로 바꾸거나 끼워 넣은 새 노드
+        private Node withChild(int idx, char c, Node child) {
+            if (idx >= 0) {
+                Node[] ch = children.clone();
+                ch[idx] = child;
+                return new Node(keys, ch, match);
+            }
+            int at = -idx - 1;
+            char[] k = new char[keys.length + 1];
+            Node[] ch = new Node[keys.length + 1];
+            System.arraycopy(keys, 0, k, 0, at);
+            System.arraycopy(keys, at, k, at + 1, keys.length - at);
+            System.arraycopy(children, 0, ch, 0, at);
+            System.arraycopy(children, at, ch, at + 1, children.length - at);
+            k[at] = c;
+            ch[at] = child;
+            return new Node(k, ch, match);
+        }
+    }
+
+    /**
+     * 컴파일용 노드
+     */
+    private static final class MutableNode {
+        private final TreeMap<Character, MutableNode> children = new TreeMap<>();
+        private Match match;
+
+        private void insert(String name, ExtensionType type) {
+            MutableNode node = this;
+            for (int i = name.length() - 1; i >= 0; i--) {
+                node = node.children.computeIfAbsent(fold(name.charAt(i)), c -> new MutableNode());
+            }
+            node.match = new Match(name, type);
+        }
+
+        private Node freeze() {
+            char[] keys = new char[children.size()];
+            Node[] frozen = new Node[children.size()];
+            int i = 0;
+            for (var entry : children.entrySet()) {
+                keys[i] = entry.getKey();
+                frozen[i] = entry.getValue().freeze();
+                i++;
+            }
+            return new Node(keys, frozen, match);
+        }
+    }
+}
@@ -0,0 +1,35 @@
+package com.example.extensionCheck.api.metrics;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.messaging.Message;
+import org.springframework.messaging.MessageChannel;
+import org.springframework.messaging.simp.SimpMessageHeaderAccessor;
+import org.springframework.messaging.support.ChannelInterceptor;
+
+/**
+ * 브로커 채널로 들어가는 확장자 토픽 메시지의 직렬화된 크기를 extension.broadcast.payload로 기록
+ * - 구독자 수와 무관하게 발행 1건당 한 번만 기록
+ */
+public class BroadcastPayloadInterceptor implements ChannelInterceptor {
+
+    private final DistributionSummary payloadSize;
+
+    public BroadcastPayloadInterceptor(MeterRegistry registry) {
+        this.payloadSize = DistributionSummary.builder("extension.broadcast.payload")
+                .description("Serialized size of extension broadcast messages")
+                .baseUnit("bytes")
+                .publishPercentileHistogram()
+                .register(registry);
+    }
+
+    @Override
+    public Message<?> preSend(Message<?> message, MessageChannel channel) {
+        String destination = SimpMessageHeaderAccessor.getDestination(message.getHeaders());
+        if (destination != null && destination.startsWith(StompSessionMetrics.TOPIC_PREFIX)
+                && message.getPayload() instanceof byte[] payload) {
+            payloadSize.record(payload.length);
+        }
+        return message;
+    }
+}
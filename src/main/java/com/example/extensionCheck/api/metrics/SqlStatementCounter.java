@@ -0,0 +1,70 @@
+package com.example.extensionCheck.api.metrics;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import net.ttddyy.dsproxy.ExecutionInfo;
+import net.ttddyy.dsproxy.QueryInfo;
+import net.ttddyy.dsproxy.listener.QueryExecutionListener;
+
+import java.util.List;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * DataSource에서 실행된 SQL 문 개수를 스레드(요청) 단위로 집계 (datasource-proxy 리스너)
+ * - JPA와 JdbcTemplate 모두 같은 DataSource를 거치므로 함께 셈
+ * - start()~stop() 사이에 같은 스레드에서 실행된 문장만 요청 집계에 포함
+ * - 그 밖(아웃박스 디스패처, 체크포인트 등 백그라운드 스레드)의 문장은 extension.sql.statements.background로 기록
+ * - 배치 실행(executeBatch)은 실행 1회이므로 한 문장으로 셈
+ */
+public class SqlStatementCounter implements QueryExecutionListener, MeterBinder {
+
+    static final String BACKGROUND_METRIC = "extension.sql.statements.background";
+
+    private final ThreadLocal<int[]> count = new ThreadLocal<>();
+    private final LongAdder background = new LongAdder();
+
+    @Override
+    public void beforeQuery(ExecutionInfo execInfo, List<QueryInfo> queryInfoList) {
+    }
+
+    @Override
+    public void afterQuery(ExecutionInfo execInfo, List<QueryInfo> queryInfoList) {
+        increment();
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        FunctionCounter.builder(BACKGROUND_METRIC, background, LongAdder::sum)
+                .description("SQL statements executed outside of HTTP requests")
+                .register(registry);
+    }
+
+    /**
+     * 문장 1개 실행 기록
+     */
+    public void increment() {
+        int[] current = count.get();
+        if (current != null) {
+            current[0]++;
+        } else {
+            background.increment();
+        }
+    }
+
+    /**
+     * 현재 스레드에서 집계 시작 (이미 집계 중이면 0부터 다시)
+     */
+    public void start() {
+        count.set(new int[1]);
+    }
+
+    /**
+     * 현재 스레드의 집계 종료 후 개수 반환 (시작하지 않았으면 0)
+     */
+    public int stop() {
+        int[] current = count.get();
+        count.remove();
+        return current != null ? current[0] : 0;
+    }
+}
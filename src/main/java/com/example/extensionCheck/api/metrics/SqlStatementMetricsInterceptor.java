@@ -0,0 +1,51 @@
+package com.example.extensionCheck.api.metrics;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
+import org.springframework.web.servlet.HandlerInterceptor;
+import org.springframework.web.servlet.HandlerMapping;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 요청마다 실행된 SQL 문 개수를 extension.sql.statements 분포로 기록 (태그: method, uri 패턴)
+ * - 뷰 렌더링 중 지연 로딩까지 포함하도록 afterCompletion에서 기록
+ * - 분포는 (method, uri 패턴)마다 처음 한 번만 등록하고 이후 요청은 캐시된 것을 사용
+ */
+@RequiredArgsConstructor
+public class SqlStatementMetricsInterceptor implements HandlerInterceptor {
+
+    static final String METRIC = "extension.sql.statements";
+
+    private final SqlStatementCounter counter;
+    private final MeterRegistry registry;
+    private final Map<String, Map<String, DistributionSummary>> summaries = new ConcurrentHashMap<>();
+
+    @Override
+    public boolean preHandle(HttpServletRequest request, HttpServletResponse response, Object handler) {
+        counter.start();
+        return true;
+    }
+
+    @Override
+    public void afterCompletion(HttpServletRequest request, HttpServletResponse response, Object handler,
+                                Exception ex) {
+        int statements = counter.stop();
+        Object pattern = request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE);
+        summary(request.getMethod(), pattern != null ? pattern.toString() : "UNKNOWN").record(statements);
+    }
+
+    private DistributionSummary summary(String method, String uri) {
+        return summaries.computeIfAbsent(method, key -> new ConcurrentHashMap<>())
+                .computeIfAbsent(uri, key -> DistributionSummary.builder(METRIC)
+                        .description("SQL statements executed per request")
+                        .tag("method", method)
+                        .tag("uri", uri)
+                        .publishPercentileHistogram()
+                        .register(registry));
+    }
+}
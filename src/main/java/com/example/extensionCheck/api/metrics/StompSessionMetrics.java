@@ -0,0 +1,90 @@
+package com.example.extensionCheck.api.metrics;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import org.springframework.context.event.EventListener;
+import org.springframework.messaging.simp.SimpMessageHeaderAccessor;
+import org.springframework.messaging.simp.stomp.StompHeaderAccessor;
+import org.springframework.stereotype.Component;
+import org.springframework.web.socket.messaging.AbstractSubProtocolEvent;
+import org.springframework.web.socket.messaging.SessionConnectEvent;
+import org.springframework.web.socket.messaging.SessionDisconnectEvent;
+import org.springframework.web.socket.messaging.SessionSubscribeEvent;
+import org.springframework.web.socket.messaging.SessionUnsubscribeEvent;
+
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 연결된 STOMP 세션 수와 확장자 토픽(/topic/extensions/...) 구독 수 게이지
+ * - 세션 이벤트로만 갱신하므로 메시지 전송 경로에는 비용이 없음
+ * - CONNECT와 SUBSCRIBE는 같은 세션의 수신 순서대로 발행되므로 연결 전 구독은 없음
+ * - 연결 종료 시 세션의 구독도 함께 제거
+ */
+@Component
+public class StompSessionMetrics implements MeterBinder {
+
+    static final String TOPIC_PREFIX = "/topic/extensions/";
+
+    // 세션 ID -> 확장자 토픽 구독 ID
+    private final Map<String, Set<String>> sessions = new ConcurrentHashMap<>();
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        Gauge.builder("extension.stomp.sessions", this, StompSessionMetrics::sessions)
+                .description("Connected STOMP sessions")
+                .register(registry);
+        Gauge.builder("extension.stomp.subscriptions", this, StompSessionMetrics::subscriptions)
+                .description("Subscriptions to extension topics")
+                .register(registry);
+    }
+
+    @EventListener
+    public void onConnect(SessionConnectEvent event) {
+        sessions.putIfAbsent(sessionId(event), ConcurrentHashMap.newKeySet());
+    }
+
+    @EventListener
+    public void onDisconnect(SessionDisconnectEvent event) {
+        sessions.remove(event.getSessionId());
+    }
+
+    @EventListener
+    public void onSubscribe(SessionSubscribeEvent event) {
+        StompHeaderAccessor accessor = StompHeaderAccessor.wrap(event.getMessage());
+        String destination = accessor.getDestination();
+        if (destination != null && destination.startsWith(TOPIC_PREFIX)) {
+            Set<String> subscriptions = sessions.get(accessor.getSessionId());
+            if (subscriptions != null) {
+                subscriptions.add(accessor.getSubscriptionId());
+            }
+        }
+    }
+
+    @EventListener
+    public void onUnsubscribe(SessionUnsubscribeEvent event) {
+        StompHeaderAccessor accessor = StompHeaderAccessor.wrap(event.getMessage());
+        Set<String> subscriptions = sessions.get(accessor.getSessionId());
+        if (subscriptions != null) {
+            subscriptions.remove(accessor.getSubscriptionId());
+        }
+    }
+
+    int sessions() {
+        return sessions.size();
+    }
+
+    int subscriptions() {
+        int total = 0;
+        for (Set<String> subscriptions : sessions.values()) {
+            total += subscriptions.size();
+        }
+        return total;
+    }
+
+    private static String sessionId(AbstractSubProtocolEvent event) {
+        return SimpMessageHeaderAccessor.getSessionId(event.getMessage().getHeaders());
+    }
+}
@@ -0,0 +1,66 @@
+package com.example.extensionCheck.api.outbox;
+
+import java.time.Duration;
+import java.util.TreeSet;
+
+/**
+ * 변경 로그를 어디까지 처리했는지 나타내는 위치
+ * - IDENTITY 번호는 커밋 순서와 다를 수 있어(먼저 번호를 받은 트랜잭션이 늦게 커밋) 빈 번호 없이 처리된 마지막 id를 기준으로 조회
+ * - 기준보다 뒤에서 이미 처리한 id는 따로 기억해 두 번 처리하지 않음
+ * - 롤백 등으로 끝내 채워지지 않는 빈 번호는 gapTimeout이 지나면 건너뜀
+ */
+final class ChangeLogWatermark {
+
+    private final long gapTimeoutMillis;
+    private final TreeSet<Long> seen = new TreeSet<>();
+    private long position;
+    // 기준 바로 다음 번호가 비어 있는 것을 처음 확인한 시각 (빈 번호가 없으면 0)
+    private long gapSince;
+
+    ChangeLogWatermark(long position, Duration gapTimeout) {
+        this.position = position;
+        this.gapTimeoutMillis = gapTimeout.toMillis();
+    }
+
+    /**
+     * 이 id까지는 빈 번호 없이 처리됨 (다음 조회는 이 id 초과부터)
+     */
+    long position() {
+        return position;
+    }
+
+    /**
+     * 기준 뒤에서 처리한 id 수
+     */
+    int pending() {
+        return seen.size();
+    }
+
+    /**
+     * 처음 보는 id면 true (처리 대상)
+     */
+    boolean accept(long id) {
+        return id > position && seen.add(id);
+    }
+
+    /**
+     * 조회한 로그를 처리한 뒤 호출: 연속된 id까지 기준을 옮기고, 오래 채워지지 않은 빈 번호는 건너뜀
+     */
+    void advance(long nowMillis) {
+        while (!seen.isEmpty()) {
+            long first = seen.first();
+            if (first == position + 1) {
+                position = seen.pollFirst();
+                gapSince = 0;
+            } else if (gapSince == 0) {
+                gapSince = nowMillis;
+                return;
+            } else if (nowMillis - gapSince >= gapTimeoutMillis) {
+                position = first - 1;
+                gapSince = 0;
+            } else {
+                return;
+            }
+        }
+    }
+}
@@ -0,0 +1,10 @@
+package com.example.extensionCheck.api.outbox;
+
+import com.example.extensionCheck.api.snapshot.ExtensionDelta;
+
+/**
+ * 아웃박스에서 꺼낸 변경 이벤트 한 건
+ * - local: 이 노드에서 커밋된 변경이면 true (스냅샷은 커밋 직후 이미 반영됨)
+ */
+public record ExtensionChangeEvent(long id, String tenantId, boolean local, ExtensionDelta delta) {
+}
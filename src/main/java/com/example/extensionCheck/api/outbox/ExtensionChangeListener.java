@@ -0,0 +1,13 @@
+package com.example.extensionCheck.api.outbox;
+
+import java.util.List;
+
+/**
+ * 아웃박스 이벤트를 받는 쪽 (WebSocket 전송, 다른 노드 변경 반영 등)
+ * - 이벤트는 id 순서대로 묶음 단위로 전달됨
+ * - 재시작 시 같은 이벤트가 다시 올 수 있으므로(적어도 한 번 전달) 멱등하게 처리
+ */
+public interface ExtensionChangeListener {
+
+    void onChanges(List<ExtensionChangeEvent> events);
+}
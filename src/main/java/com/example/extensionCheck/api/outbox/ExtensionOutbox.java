@@ -0,0 +1,104 @@
+package com.example.extensionCheck.api.outbox;
+
+import com.example.extensionCheck.api.snapshot.ExtensionDelta;
+import com.example.extensionCheck.config.ExtensionProperties;
+import com.example.extensionCheck.entity.ExtensionChangeLog;
+import com.example.extensionCheck.repository.ExtensionChangeLogRepository;
+import lombok.Getter;
+import org.springframework.stereotype.Component;
+import tools.jackson.databind.ObjectMapper;
+
+import java.net.InetAddress;
+import java.net.UnknownHostException;
+import java.time.Instant;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 변경 이벤트 아웃박스 기록
+ * - 변경과 같은 트랜잭션에서 INSERT 한 번 (롤백되면 이벤트도 남지 않음)
+ * - 이 노드에서 기록한 이벤트는 커밋 후 스냅샷 반영이 끝날 때까지 보류(hold)해 디스패처가 먼저 전달하지 않게 함
+ * - 노드 ID는 재시작해도 같아야 저장된 처리 위치를 이어받음 (비우면 호스트 이름, 알 수 없으면 기동 실패)
+ */
+@Component
+public class ExtensionOutbox {
+
+    private final ExtensionChangeLogRepository changeLogRepository;
+    private final ObjectMapper objectMapper;
+    @Getter
+    private final String nodeId;
+
+    // 기록했지만 아직 커밋 후 처리가 끝나지 않은 이벤트 id
+    private final Set<Long> held = ConcurrentHashMap.newKeySet();
+
+    public ExtensionOutbox(ExtensionChangeLogRepository changeLogRepository,
+                           ObjectMapper objectMapper,
+                           ExtensionProperties properties) {
+        this.changeLogRepository = changeLogRepository;
+        this.objectMapper = objectMapper;
+        this.nodeId = resolveNodeId(properties.getOutbox().getNodeId());
+    }
+
+    // 설정값 -> HOSTNAME 환경 변수(컨테이너/파드 이름) -> 로컬 호스트 이름
+    static String resolveNodeId(String configured) {
+        if (configured != null && !configured.isBlank()) {
+            return configured.strip();
+        }
+        String hostname = System.getenv("HOSTNAME");
+        if (hostname != null && !hostname.isBlank()) {
+            return hostname.strip();
+        }
+        try {
+            return InetAddress.getLocalHost().getHostName();
+        } catch (UnknownHostException e) {
+            throw new IllegalStateException("Cannot resolve host name, set extension.outbox.node-id", e);
+        }
+    }
+
+    /**
+     * 변경 이벤트 기록 (변경 트랜잭션 안에서 호출), 커밋 후 처리가 끝나면 {@link #release}
+     */
+    public long record(String tenantId, ExtensionDelta delta) {
+        ExtensionChangeLog saved = changeLogRepository.save(ExtensionChangeLog.builder()
+                .tenantId(tenantId)
+                .nodeId(nodeId)
+                .delta(objectMapper.writeValueAsString(Payload.of(delta)))
+                .createdAt(Instant.now())
+                .build());
+        held.add(saved.getId());
+        return saved.getId();
+    }
+
+    /**
+     * 커밋(또는 롤백) 후 처리가 끝난 이벤트를 디스패처에 넘김
+     */
+    public void release(long eventId) {
+        held.remove(eventId);
+    }
+
+    boolean isHeld(long eventId) {
+        return held.contains(eventId);
+    }
+
+    ExtensionChangeEvent toEvent(ExtensionChangeLog changeLog) {
+        ExtensionDelta delta = objectMapper.readValue(changeLog.getDelta(), Payload.class).toDelta();
+        return new ExtensionChangeEvent(changeLog.getId(), changeLog.getTenantId(),
+                nodeId.equals(changeLog.getNodeId()), delta);
+    }
+
+    // 저장 형식 (ExtensionDelta의 추가/제거 목록)
+    record Payload(List<String> fixedAdded, List<String> fixedRemoved,
+                   List<String> customAdded, List<String> customRemoved) {
+
+        static Payload of(ExtensionDelta delta) {
+            return new Payload(delta.getFixedAdded(), delta.getFixedRemoved(),
+                    delta.getCustomAdded(), delta.getCustomRemoved());
+        }
+
+        ExtensionDelta toDelta() {
+            return ExtensionDelta.ofFixed(fixedAdded, fixedRemoved)
+                    .merge(ExtensionDelta.ofCustom(customAdded, customRemoved));
+        }
+    }
+}
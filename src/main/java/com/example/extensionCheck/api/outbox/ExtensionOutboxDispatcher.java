@@ -0,0 +1,153 @@
+package com.example.extensionCheck.api.outbox;
+
+import com.example.extensionCheck.config.ExtensionProperties;
+import com.example.extensionCheck.entity.ExtensionChangeLog;
+import com.example.extensionCheck.entity.ExtensionOutboxCursor;
+import com.example.extensionCheck.repository.ExtensionChangeLogRepository;
+import com.example.extensionCheck.repository.ExtensionOutboxCursorRepository;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.domain.Limit;
+import org.springframework.stereotype.Component;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * 아웃박스 이벤트를 id 순 묶음으로 꺼내 {@link ExtensionChangeListener}들에 전달
+ * - poll-interval마다, 그리고 이 노드의 변경이 커밋될 때마다({@link #wakeUp}) 조회
+ * - 노드별 처리 위치를 DB에 저장(묶음당 UPDATE 한 번)해 재시작해도 커밋된 이벤트를 놓치지 않음 (적어도 한 번 전달)
+ * - 처리 위치는 빈 번호 없이 처리된 id까지만 옮김 ({@link ChangeLogWatermark})
+ */
+@Slf4j
+@Component
+public class ExtensionOutboxDispatcher {
+
+    private static final long PURGE_INTERVAL_MILLIS = TimeUnit.MINUTES.toMillis(1);
+
+    private final ExtensionChangeLogRepository changeLogRepository;
+    private final ExtensionOutboxCursorRepository cursorRepository;
+    private final ExtensionOutbox outbox;
+    private final List<ExtensionChangeListener> listeners;
+    private final ExtensionProperties.Outbox properties;
+    private final AtomicBoolean wakeUpPending = new AtomicBoolean();
+
+    private ScheduledExecutorService scheduler;
+    private ChangeLogWatermark watermark;
+    private long nextPurgeAt;
+
+    public ExtensionOutboxDispatcher(ExtensionChangeLogRepository changeLogRepository,
+                                     ExtensionOutboxCursorRepository cursorRepository,
+                                     ExtensionOutbox outbox,
+                                     List<ExtensionChangeListener> listeners,
+                                     ExtensionProperties properties) {
+        this.changeLogRepository = changeLogRepository;
+        this.cursorRepository = cursorRepository;
+        this.outbox = outbox;
+        this.listeners = listeners;
+        this.properties = properties.getOutbox();
+    }
+
+    /**
+     * 저장된 처리 위치부터 조회 시작 (처음 보는 노드는 현재 마지막 이벤트 이후부터)
+     */
+    @PostConstruct
+    public void start() {
+        long position = cursorRepository.findById(outbox.getNodeId())
+                .map(ExtensionOutboxCursor::getPosition)
+                .orElseGet(() -> {
+                    Long maxId = changeLogRepository.findMaxId();
+                    long initial = maxId != null ? maxId : 0;
+                    cursorRepository.save(new ExtensionOutboxCursor(outbox.getNodeId(), initial, Instant.now()));
+                    return initial;
+                });
+        watermark = new ChangeLogWatermark(position, properties.getGapTimeout());
+        scheduler = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "extension-outbox");
+            thread.setDaemon(true);
+            return thread;
+        });
+        long interval = properties.getPollInterval().toMillis();
+        scheduler.scheduleWithFixedDelay(this::dispatchSafely, interval, interval, TimeUnit.MILLISECONDS);
+        log.info("Outbox dispatcher started: node={}, position={}", outbox.getNodeId(), position);
+    }
+
+    /**
+     * 다음 주기를 기다리지 않고 바로 조회 (이미 예약되어 있으면 합침)
+     */
+    public void wakeUp() {
+        if (scheduler != null && wakeUpPending.compareAndSet(false, true)) {
+            scheduler.execute(() -> {
+                wakeUpPending.set(false);
+                dispatchSafely();
+            });
+        }
+    }
+
+    private void dispatchSafely() {
+        try {
+            dispatch();
+        } catch (Exception e) {
+            log.error("Outbox dispatch failed", e);
+        }
+    }
+
+    /**
+     * 처리 위치 이후 이벤트를 묶음으로 전달하고 처리 위치 저장
+     * - 이 노드에서 기록했지만 커밋 후 처리가 끝나지 않은 이벤트는 다음 조회로 미룸
+     */
+    void dispatch() {
+        List<ExtensionChangeLog> logs = changeLogRepository.findByIdGreaterThanOrderByIdAsc(
+                watermark.position(), Limit.of(properties.getBatchSize() + watermark.pending()));
+
+        List<ExtensionChangeEvent> events = new ArrayList<>(logs.size());
+        for (ExtensionChangeLog changeLog : logs) {
+            if (!outbox.isHeld(changeLog.getId()) && watermark.accept(changeLog.getId())) {
+                events.add(outbox.toEvent(changeLog));
+            }
+        }
+        if (!events.isEmpty()) {
+            for (ExtensionChangeListener listener : listeners) {
+                try {
+                    listener.onChanges(events);
+                } catch (Exception e) {
+                    log.error("Outbox listener failed: {}", listener.getClass().getSimpleName(), e);
+                }
+            }
+        }
+
+        long now = System.currentTimeMillis();
+        long before = watermark.position();
+        watermark.advance(now);
+        if (watermark.position() != before || now >= nextPurgeAt) {
+            saveCursor();
+        }
+        if (now >= nextPurgeAt) {
+            nextPurgeAt = now + PURGE_INTERVAL_MILLIS;
+            Instant expired = Instant.ofEpochMilli(now).minus(properties.getRetention());
+            changeLogRepository.deleteCreatedBefore(expired);
+            cursorRepository.deleteUpdatedBefore(expired);
+        }
+    }
+
+    // 처리 위치 저장 (보관 기간이 지나 다른 노드가 지웠으면 다시 생성)
+    private void saveCursor() {
+        Instant now = Instant.now();
+        if (cursorRepository.updatePosition(outbox.getNodeId(), watermark.position(), now) == 0) {
+            cursorRepository.save(new ExtensionOutboxCursor(outbox.getNodeId(), watermark.position(), now));
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        if (scheduler != null) {
+            scheduler.shutdown();
+        }
+    }
+}
@@ -0,0 +1,21 @@
+package com.example.extensionCheck.api.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+
+import java.util.List;
+
+/**
+ * 커스텀 확장자 페이지 (이름순, 다음 페이지는 next를 after로 넘겨 조회)
+ */
+@Getter
+@Builder
+@AllArgsConstructor
+public class CustomExtensionPageResponse {
+
+    private List<String> items;
+    private String next;      // 마지막 페이지면 null
+    private int count;        // 전체 커스텀 확장자 수 (prefix와 무관)
+    private long version;     // 페이지를 만든 스냅샷 버전
+}
@@ -0,0 +1,61 @@
+package com.example.extensionCheck.api.response;
+
+import com.example.extensionCheck.api.archive.ZipInspection;
+import com.example.extensionCheck.api.matcher.ExtensionMatcher;
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.example.extensionCheck.entity.ExtensionType;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+
+@Getter
+@Builder
+@AllArgsConstructor
+public class ExtensionCheckResponse {
+
+    private String filename;
+    private boolean blocked;
+    private String extension;     // 차단된 경우 일치한 확장자
+    private ExtensionType type;   // 차단된 경우 FIXED 또는 CUSTOM
+    private long version;         // 판별에 사용한 목록 버전
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    private String detected;      // 내용(시그니처)으로 차단된 경우 감지된 형식 (PE, ELF 등)
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    private String entry;         // 압축 파일 안에서 차단된 항목 경로 ("inner.zip!/a.exe")
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    private ZipInspection.Violation violation;  // 압축 파일 제한 초과로 차단된 경우 사유
+
+    public static ExtensionCheckResponse of(String filename, ExtensionMatcher.Match match, long version) {
+        return of(filename, match, null, version);
+    }
+
+    public static ExtensionCheckResponse of(String filename, ExtensionMatcher.Match match, String detected,
+                                            long version) {
+        return ExtensionCheckResponse.builder()
+                .filename(filename)
+                .blocked(match != null)
+                .extension(match != null ? match.extension() : null)
+                .type(match != null ? match.type() : null)
+                .version(version)
+                .detected(detected)
+                .build();
+    }
+
+    /**
+     * 압축 파일 검사 결과 (차단 항목 또는 제한 초과)
+     */
+    public static ExtensionCheckResponse ofArchive(String filename, ZipInspection inspection, String detected,
+                                                   long version) {
+        ExtensionMatcher.Match match = inspection.match();
+        return ExtensionCheckResponse.builder()
+                .filename(filename)
+                .blocked(inspection.isBlocked())
+                .extension(match != null ? match.extension() : null)
+                .type(match != null ? match.type() : null)
+                .version(version)
+                .detected(detected)
+                .entry(inspection.entry())
+                .violation(inspection.violation())
+                .build();
+    }
+}
@@ -0,0 +1,43 @@
+package com.example.extensionCheck.api.response;
+
+import com.example.extensionCheck.api.snapshot.ExtensionDelta;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+
+import java.util.List;
+
+/**
+ * fromVersion -> version 변경분
+ * - 클라이언트는 자신의 버전이 fromVersion과 다르면 누락이 있는 것으로 보고 다시 동기화
+ */
+@Getter
+@Builder
+@AllArgsConstructor
+public class ExtensionDeltaResponse implements ExtensionSyncMessage {
+
+    private String type;  // 항상 "delta"
+    private long epoch;
+    private long fromVersion;
+    private long version;
+    private List<String> fixedAdded;
+    private List<String> fixedRemoved;
+    private List<String> customAdded;
+    private List<String> customRemoved;
+    private int count;    // 반영 후 커스텀 확장자 개수
+
+    public static ExtensionDeltaResponse of(long epoch, long fromVersion, long version,
+                                            ExtensionDelta delta, int count) {
+        return ExtensionDeltaResponse.builder()
+                .type("delta")
+                .epoch(epoch)
+                .fromVersion(fromVersion)
+                .version(version)
+                .fixedAdded(delta.getFixedAdded())
+                .fixedRemoved(delta.getFixedRemoved())
+                .customAdded(delta.getCustomAdded())
+                .customRemoved(delta.getCustomRemoved())
+                .count(count)
+                .build();
+    }
+}
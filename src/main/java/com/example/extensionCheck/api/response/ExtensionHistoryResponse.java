@@ -0,0 +1,26 @@
+package com.example.extensionCheck.api.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+
+import java.time.Instant;
+import java.util.List;
+
+/**
+ * 특정 시점의 차단 목록
+ */
+@Getter
+@Builder
+@AllArgsConstructor
+public class ExtensionHistoryResponse {
+
+    private Instant at;
+    private List<String> fixed;
+    private List<String> custom;
+    private int count;
+    // 재생 시작점이 된 체크포인트 시각 (없으면 null, 테넌트의 첫 이력부터 재생)
+    private Instant checkpointAt;
+    // 체크포인트 이후 재생한 이력 건수
+    private int replayed;
+}
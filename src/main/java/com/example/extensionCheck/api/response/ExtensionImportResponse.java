@@ -0,0 +1,28 @@
+package com.example.extensionCheck.api.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+
+import java.util.List;
+
+/**
+ * 커스텀 확장자 가져오기 결과
+ */
+@Getter
+@Builder
+@AllArgsConstructor
+public class ExtensionImportResponse {
+
+    // 읽은 행 수 (빈 줄, CSV 헤더 제외)
+    private long total;
+    private long imported;
+    private long failed;
+    // 실패한 행 (앞에서부터 최대 ExtensionBulkService.MAX_REPORTED_ERRORS건)
+    private List<RowError> errors;
+    // 가져오기 반영 후 목록 버전
+    private long version;
+
+    public record RowError(long line, String value, String code, String message) {
+    }
+}
@@ -1,5 +1,6 @@
 package com.example.extensionCheck.api.response;
 
+import com.example.extensionCheck.api.snapshot.ExtensionSnapshot;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Getter;
@@ -9,12 +10,16 @@ import java.util.List;
 @Getter
 @Builder
 @AllArgsConstructor
-public class ExtensionListResponse {
+public class ExtensionListResponse implements ExtensionSyncMessage {
 
     private List<String> fixed;
     private List<String> custom;
+    // true면 custom을 싣지 않음 (개수가 많아 GET /api/extensions/custom 페이지로 조회)
+    private boolean customPaged;
     private int count;
     private String type;  // "full" 또는 "delta"
+    private long epoch;
+    private long version;
 
     public static ExtensionListResponse full(List<String> fixed, List<String> custom) {
         return ExtensionListResponse.builder()
@@ -25,6 +30,26 @@ public class ExtensionListResponse {
                 .build();
     }
 
+    public static ExtensionListResponse of(ExtensionSnapshot snapshot) {
+        return of(0, snapshot, Integer.MAX_VALUE);
+    }
+
+    /**
+     * 커스텀 확장자가 maxInlineCustom개를 넘으면 목록 없이 개수만 담음 (응답 크기가 목록 크기에 비례하지 않게)
+     */
+    public static ExtensionListResponse of(long epoch, ExtensionSnapshot snapshot, int maxInlineCustom) {
+        boolean paged = snapshot.getCount() > maxInlineCustom;
+        return ExtensionListResponse.builder()
+                .fixed(snapshot.getFixed())
+                .custom(paged ? List.of() : snapshot.getCustom())
+                .customPaged(paged)
+                .count(snapshot.getCount())
+                .type("full")
+                .epoch(epoch)
+                .version(snapshot.getVersion())
+                .build();
+    }
+
     public static ExtensionListResponse delta(List<String> fixedAdded, List<String> fixedRemoved) {
         return ExtensionListResponse.builder()
                 .fixed(fixedAdded)
@@ -0,0 +1,15 @@
+package com.example.extensionCheck.api.response;
+
+/**
+ * 클라이언트 동기화 메시지 공통 형태 ("full" 또는 "delta")
+ * - 버전은 노드(프로세스)마다 따로 증가하므로 epoch가 같을 때만 비교할 수 있음
+ * - 클라이언트는 epoch가 바뀌면(다른 노드로 재연결, 재시작) 전체 목록으로 다시 동기화
+ */
+public interface ExtensionSyncMessage {
+
+    String getType();
+
+    long getEpoch();
+
+    long getVersion();
+}
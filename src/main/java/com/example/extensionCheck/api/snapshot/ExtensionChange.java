@@ -0,0 +1,7 @@
+package com.example.extensionCheck.api.snapshot;
+
+/**
+ * 스냅샷 버전 fromVersion -> version 으로의 변경 한 건
+ */
+public record ExtensionChange(long fromVersion, long version, ExtensionDelta delta) {
+}
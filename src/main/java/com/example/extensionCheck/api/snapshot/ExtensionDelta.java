@@ -0,0 +1,103 @@
+package com.example.extensionCheck.api.snapshot;
+
+import com.example.extensionCheck.entity.ExtensionType;
+import lombok.Getter;
+
+import java.util.Collection;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * 커밋된 변경 한 건(또는 병합된 여러 건)의 확장자 추가/제거 목록
+ */
+@Getter
+public final class ExtensionDelta {
+
+    private static final ExtensionDelta EMPTY = new ExtensionDelta(List.of(), List.of(), List.of(), List.of());
+
+    private final List<String> fixedAdded;
+    private final List<String> fixedRemoved;
+    private final List<String> customAdded;
+    private final List<String> customRemoved;
+
+    private ExtensionDelta(List<String> fixedAdded, List<String> fixedRemoved,
+                           List<String> customAdded, List<String> customRemoved) {
+        this.fixedAdded = fixedAdded;
+        this.fixedRemoved = fixedRemoved;
+        this.customAdded = customAdded;
+        this.customRemoved = customRemoved;
+    }
+
+    public static ExtensionDelta empty() {
+        return EMPTY;
+    }
+
+    public static ExtensionDelta ofFixed(Collection<String> added, Collection<String> removed) {
+        return new ExtensionDelta(copy(added), copy(removed), List.of(), List.of());
+    }
+
+    public static ExtensionDelta ofCustom(Collection<String> added, Collection<String> removed) {
+        return new ExtensionDelta(List.of(), List.of(), copy(added), copy(removed));
+    }
+
+    public static ExtensionDelta activated(ExtensionType type, String name) {
+        return type == ExtensionType.FIXED
+                ? ofFixed(List.of(name), List.of())
+                : ofCustom(List.of(name), List.of());
+    }
+
+    public static ExtensionDelta deactivated(ExtensionType type, String name) {
+        return type == ExtensionType.FIXED
+                ? ofFixed(List.of(), List.of(name))
+                : ofCustom(List.of(), List.of(name));
+    }
+
+    /**
+     * 뒤에 발생한 변경(next)을 이어 붙여 하나의 delta로 병합
+     */
+    public ExtensionDelta merge(ExtensionDelta next) {
+        if (isEmpty()) {
+            return next;
+        }
+        if (next.isEmpty()) {
+            return this;
+        }
+        Set<String> fAdded = new LinkedHashSet<>(fixedAdded);
+        Set<String> fRemoved = new LinkedHashSet<>(fixedRemoved);
+        Set<String> cAdded = new LinkedHashSet<>(customAdded);
+        Set<String> cRemoved = new LinkedHashSet<>(customRemoved);
+        mergeInto(fAdded, fRemoved, next.fixedAdded, next.fixedRemoved);
+        mergeInto(cAdded, cRemoved, next.customAdded, next.customRemoved);
+        return new ExtensionDelta(List.copyOf(fAdded), List.copyOf(fRemoved),
+                List.copyOf(cAdded), List.copyOf(cRemoved));
+    }
+
+    public boolean isEmpty() {
+        return fixedAdded.isEmpty() && fixedRemoved.isEmpty()
+                && customAdded.isEmpty() && customRemoved.isEmpty();
+    }
+
+    public boolean hasCustomChanges() {
+        return !customAdded.isEmpty() || !customRemoved.isEmpty();
+    }
+
+    /**
+     * 나중 변경이 우선하도록 added/removed 집합을 갱신
+     */
+    private static void mergeInto(Set<String> added, Set<String> removed,
+                                  List<String> nextAdded, List<String> nextRemoved) {
+        for (String name : nextAdded) {
+            removed.remove(name);
+            added.add(name);
+        }
+        for (String name : nextRemoved) {
+            added.remove(name);
+            removed.add(name);
+        }
+    }
+
+    private static List<String> copy(Collection<String> names) {
+        return names == null ? List.of() : List.copyOf(names);
+    }
+}
@@ -0,0 +1,200 @@
+package com.example.extensionCheck.api.snapshot;
+
+import com.example.extensionCheck.api.matcher.ExtensionMatcher;
+import com.example.extensionCheck.entity.ExtensionType;
+import lombok.AccessLevel;
+import lombok.Getter;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+
+/**
+ * 특정 버전의 활성 확장자 목록 (불변)
+ * - 버전마다 파일명 판별기(matcher)를 함께 보관, 적재 때 한 번 컴파일하고 이후 변경은 바뀐 이름만 반영
+ * - 커스텀 확장자는 이전 버전과 노드를 공유하는 이름순 집합이라 변경 비용이 전체 개수와 무관 (기대 O(log n))
+ * - 최근 변경 이력(최대 MAX_CHANGES 건)을 함께 보관해 "N 버전 이후 변경" 조회에 사용
+ * - 커스텀 확장자 전체 목록(이름순)은 처음 조회할 때 한 번 만듦 (변경이 잦아도 복사 비용은 조회한 버전만)
+ */
+@Getter
+public final class ExtensionSnapshot {
+
+    static final int MAX_CHANGES = 256;
+
+    private final long version;
+    private final List<String> fixed;
+    private final ExtensionMatcher matcher;
+
+    @Getter(AccessLevel.NONE)
+    private final List<ExtensionChange> changes;   // 오래된 순
+
+    @Getter(AccessLevel.NONE)
+    private final Set<String> fixedSet;
+    @Getter(AccessLevel.NONE)
+    private final SortedNameSet customSet;
+    @Getter(AccessLevel.NONE)
+    private volatile List<String> custom;
+
+    private ExtensionSnapshot(long version, Set<String> fixedSet, SortedNameSet customSet,
+                              ExtensionMatcher matcher, List<ExtensionChange> changes) {
+        this.version = version;
+        this.changes = changes;
+        this.fixedSet = Collections.unmodifiableSet(fixedSet);
+        this.customSet = customSet;
+        this.fixed = List.copyOf(fixedSet);
+        this.matcher = matcher;
+    }
+
+    public static ExtensionSnapshot of(long version, Collection<String> fixed, Collection<String> custom) {
+        return new ExtensionSnapshot(version, new LinkedHashSet<>(fixed), SortedNameSet.of(custom),
+                ExtensionMatcher.compile(fixed, custom), List.of());
+    }
+
+    /**
+     * delta를 반영한 새 버전의 스냅샷 생성
+     * - 고정 확장자(카탈로그 크기)만 복사하고, 커스텀 집합과 matcher는 바뀐 이름만 반영
+     */
+    public ExtensionSnapshot apply(ExtensionDelta delta, long newVersion) {
+        Set<String> newFixed = new LinkedHashSet<>(fixedSet);
+        newFixed.removeAll(delta.getFixedRemoved());
+        newFixed.addAll(delta.getFixedAdded());
+
+        SortedNameSet newCustom = customSet;
+        for (String name : delta.getCustomRemoved()) {
+            newCustom = newCustom.remove(name);
+        }
+        for (String name : delta.getCustomAdded()) {
+            newCustom = newCustom.add(name);
+        }
+
+        ExtensionMatcher newMatcher = matcher;
+        newMatcher = rematch(newMatcher, delta.getFixedRemoved(), newFixed, newCustom);
+        newMatcher = rematch(newMatcher, delta.getFixedAdded(), newFixed, newCustom);
+        newMatcher = rematch(newMatcher, delta.getCustomRemoved(), newFixed, newCustom);
+        newMatcher = rematch(newMatcher, delta.getCustomAdded(), newFixed, newCustom);
+
+        List<ExtensionChange> newChanges = new ArrayList<>(Math.min(changes.size() + 1, MAX_CHANGES));
+        newChanges.addAll(changes.subList(Math.max(0, changes.size() + 1 - MAX_CHANGES), changes.size()));
+        newChanges.add(new ExtensionChange(version, newVersion, delta));
+
+        return new ExtensionSnapshot(newVersion, newFixed, newCustom, newMatcher,
+                Collections.unmodifiableList(newChanges));
+    }
+
+    // 바뀐 이름을 새 목록 기준으로 다시 반영 (compile과 같이 고정/커스텀 둘 다면 커스텀)
+    private static ExtensionMatcher rematch(ExtensionMatcher matcher, List<String> names,
+                                            Set<String> fixed, SortedNameSet custom) {
+        for (String name : names) {
+            if (custom.contains(name)) {
+                matcher = matcher.with(name, ExtensionType.CUSTOM);
+            } else if (fixed.contains(name)) {
+                matcher = matcher.with(name, ExtensionType.FIXED);
+            } else {
+                matcher = matcher.without(name);
+            }
+        }
+        return matcher;
+    }
+
+    /**
+     * 이 스냅샷에서 other로 가는 변경 (DB에서 다시 읽은 목록과 비교할 때 사용)
+     */
+    public ExtensionDelta diff(ExtensionSnapshot other) {
+        return ExtensionDelta.ofFixed(minus(other.fixedSet, fixedSet), minus(fixedSet, other.fixedSet))
+                .merge(ExtensionDelta.ofCustom(minus(other.customSet, customSet), minus(customSet, other.customSet)));
+    }
+
+    private static Set<String> minus(Set<String> names, Set<String> excluded) {
+        Set<String> result = new LinkedHashSet<>(names);
+        result.removeAll(excluded);
+        return result;
+    }
+
+    private static List<String> minus(SortedNameSet names, SortedNameSet excluded) {
+        List<String> result = new ArrayList<>();
+        names.forEach(name -> {
+            if (!excluded.contains(name)) {
+                result.add(name);
+            }
+        });
+        return result;
+    }
+
+    /**
+     * 가장 최근 변경 (적재 직후면 null)
+     */
+    public ExtensionChange getLatestChange() {
+        return changes.isEmpty() ? null : changes.get(changes.size() - 1);
+    }
+
+    /**
+     * sinceVersion 이후 현재 버전까지의 변경을 하나로 병합
+     * - sinceVersion이 현재 버전이면 빈 delta
+     * - 보관 중인 이력 밖의 버전이면 empty (전체 목록으로 다시 동기화해야 함)
+     */
+    public Optional<ExtensionDelta> deltaSince(long sinceVersion) {
+        if (sinceVersion == version) {
+            return Optional.of(ExtensionDelta.empty());
+        }
+        for (int i = changes.size() - 1; i >= 0; i--) {
+            if (changes.get(i).fromVersion() == sinceVersion) {
+                ExtensionDelta merged = ExtensionDelta.empty();
+                for (ExtensionChange change : changes.subList(i, changes.size())) {
+                    merged = merged.merge(change.delta());
+                }
+                return Optional.of(merged);
+            }
+        }
+        return Optional.empty();
+    }
+
+    public boolean isFixed(String name) {
+        return fixedSet.contains(name);
+    }
+
+    public boolean isCustom(String name) {
+        return customSet.contains(name);
+    }
+
+    /**
+     * 확장자 이름이 활성 목록에 있으면 일치 정보, 없으면 null (내용으로 판별한 형식 확인용)
+     */
+    public ExtensionMatcher.Match matchExtension(String name) {
+        if (fixedSet.contains(name)) {
+            return new ExtensionMatcher.Match(name, ExtensionType.FIXED);
+        }
+        if (customSet.contains(name)) {
+            return new ExtensionMatcher.Match(name, ExtensionType.CUSTOM);
+        }
+        return null;
+    }
+
+    /**
+     * 이름순으로 prefix로 시작하는 커스텀 확장자를 after 다음부터 최대 limit개 (keyset 페이지)
+     * - after가 null이면 처음부터
+     */
+    public List<String> customPage(String prefix, String after, int limit) {
+        return customSet.page(prefix, after, limit);
+    }
+
+    /**
+     * 커스텀 확장자 전체 목록 (이름순, 수정 불가)
+     */
+    public List<String> getCustom() {
+        List<String> names = custom;
+        if (names == null) {
+            // 동시에 여러 번 만들어져도 결과가 같으므로 잠그지 않음
+            names = Collections.unmodifiableList(customSet.toList());
+            custom = names;
+        }
+        return names;
+    }
+
+    public int getCount() {
+        return customSet.size();
+    }
+}
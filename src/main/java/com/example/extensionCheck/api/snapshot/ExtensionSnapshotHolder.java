@@ -0,0 +1,190 @@
+package com.example.extensionCheck.api.snapshot;
+
+import com.example.extensionCheck.config.ExtensionProperties;
+import com.example.extensionCheck.entity.ExtensionType;
+import com.example.extensionCheck.repository.ActiveExtensionName;
+import com.example.extensionCheck.repository.ExtensionsRepository;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import lombok.Getter;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * 테넌트별 활성 확장자 스냅샷 보관소
+ * - 읽기: 캐시에 있으면 DB 조회, 락 없음 (없으면 해당 테넌트만 DB에서 적재)
+ * - 쓰기: 커밋된 변경(delta)을 반영한 새 스냅샷으로 테넌트 단위 원자적 교체
+ * - afterCommit 실행 순서는 커밋 순서와 다를 수 있으므로 같은 이름을 동시에 바꾼 로컬 변경은 delta 대신 DB 차이로 반영
+ * - 캐시 크기/유휴 시간 제한으로 사용하지 않는 테넌트는 메모리에서 제거
+ * - 버전은 모든 테넌트가 공유하는 단조 증가 값이라 제거 후 재적재해도 이전 버전과 겹치지 않음
+ * - 캐시 적중률/제거 수는 cache.* 지표(cache=extension.snapshots)로 노출
+ */
+@Slf4j
+@Component
+public class ExtensionSnapshotHolder implements MeterBinder {
+
+    private final ExtensionsRepository extRepository;
+    private final Cache<String, ExtensionSnapshot> snapshots;
+
+    // 버전 순서의 식별자 (시작 시각 millis << 10 | 난수 10비트): 재시작하거나 다른 노드면 달라짐
+    // - 같은 밀리초에 뜬 노드끼리도 겹치지 않게 난수를 섞고, JS Number로 정확히 표현되는 범위(2^53) 안에 둠
+    @Getter
+    private final long epoch = (System.currentTimeMillis() << 10) | ThreadLocalRandom.current().nextInt(1 << 10);
+    private final AtomicLong versionSequence = new AtomicLong();
+    // 테넌트별 커밋 전(또는 커밋 후 반영 전) 로컬 변경
+    private final Map<String, Set<PendingChange>> pendingChanges = new ConcurrentHashMap<>();
+
+    public ExtensionSnapshotHolder(ExtensionsRepository extRepository, ExtensionProperties properties) {
+        this.extRepository = extRepository;
+        ExtensionProperties.Tenant tenant = properties.getTenant();
+        this.snapshots = Caffeine.newBuilder()
+                .maximumSize(tenant.getSnapshotCacheSize())
+                .expireAfterAccess(tenant.getSnapshotExpireAfterAccess())
+                .recordStats()
+                .build();
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        CaffeineCacheMetrics.monitor(registry, snapshots, "extension.snapshots");
+    }
+
+    /**
+     * 테넌트의 현재 스냅샷 조회 (캐시에 없을 때만 DB에서 적재)
+     */
+    public ExtensionSnapshot current(String tenantId) {
+        return snapshots.get(tenantId, this::load);
+    }
+
+    /**
+     * 커밋된 변경 반영 후 새 버전으로의 변경 반환
+     * - 아직 적재 전이면 DB에서 먼저 적재 (반영은 멱등이므로 이미 포함된 변경이어도 무방)
+     */
+    public ExtensionChange apply(String tenantId, ExtensionDelta delta) {
+        ExtensionSnapshot updated = snapshots.asMap().compute(tenantId, (key, snapshot) ->
+                (snapshot != null ? snapshot : load(key)).apply(delta, versionSequence.incrementAndGet()));
+        log.debug("Snapshot updated: tenant={}, version={}", tenantId, updated.getVersion());
+        return updated.getLatestChange();
+    }
+
+    /**
+     * 트랜잭션 안에서 커밋 전 로컬 변경 등록 (커밋 후 applyCommitted, 완료 후 finish)
+     * - 아직 끝나지 않은 같은 테넌트 변경과 이름이 겹치면 양쪽 모두 충돌로 표시
+     */
+    public PendingChange begin(String tenantId, ExtensionDelta delta) {
+        PendingChange pending = new PendingChange(tenantId, delta);
+        pendingChanges.compute(tenantId, (key, inFlight) -> {
+            Set<PendingChange> result = inFlight != null ? inFlight : new HashSet<>();
+            for (PendingChange other : result) {
+                if (other.overlaps(pending)) {
+                    other.markConflicted();
+                    pending.markConflicted();
+                }
+            }
+            result.add(pending);
+            return result;
+        });
+        return pending;
+    }
+
+    /**
+     * 커밋된 로컬 변경 반영 후 새 버전으로의 변경 반환
+     * - 충돌이 없으면 delta를 그대로 반영 (DB 조회 없음)
+     * - 충돌했으면 어느 쪽이 나중에 커밋됐는지 알 수 없으므로 DB에서 다시 읽은 차이로 반영, 차이가 없으면 null
+     * - 충돌 확인과 반영을 테넌트 스냅샷 교체와 같은 원자 구간에서 하므로 확인 직후 등록된 변경은 이 반영 뒤에 DB를 읽음
+     */
+    public ExtensionChange applyCommitted(PendingChange pending) {
+        return applyCommitted(pending.getTenantId(), pending.getDelta(), List.of(pending));
+    }
+
+    /**
+     * 여러 트랜잭션에 걸친 로컬 변경을 한 번에 반영 (일괄 가져오기), 하나라도 충돌했으면 DB 차이로 반영
+     */
+    public ExtensionChange applyCommitted(String tenantId, ExtensionDelta delta, Collection<PendingChange> pendings) {
+        AtomicReference<ExtensionChange> change = new AtomicReference<>();
+        snapshots.asMap().compute(tenantId, (key, snapshot) -> {
+            ExtensionDelta applied = delta;
+            ExtensionSnapshot base = snapshot;
+            if (pendings.stream().anyMatch(PendingChange::isConflicted)) {
+                ExtensionSnapshot fresh = load(key);
+                base = snapshot != null ? snapshot : fresh;
+                applied = base.diff(fresh);
+                if (applied.isEmpty()) {
+                    return base;
+                }
+                log.debug("Concurrent local changes overlapped, applied from DB: tenant={}", key);
+            } else if (base == null) {
+                base = load(key);
+            }
+            ExtensionSnapshot updated = base.apply(applied, versionSequence.incrementAndGet());
+            change.set(updated.getLatestChange());
+            return updated;
+        });
+        return change.get();
+    }
+
+    /**
+     * 커밋/롤백이 끝난 로컬 변경 등록 해제
+     */
+    public void finish(PendingChange pending) {
+        pendingChanges.computeIfPresent(pending.getTenantId(), (key, inFlight) -> {
+            inFlight.remove(pending);
+            return inFlight.isEmpty() ? null : inFlight;
+        });
+    }
+
+    /**
+     * DB에서 다시 읽은 목록과 현재 스냅샷의 차이를 새 버전으로 반영 (다른 노드의 변경 반영용)
+     * - 변경 이력이 이어지므로 클라이언트는 delta로 따라올 수 있음
+     * - 캐시에 없는 테넌트는 다음 조회 때 DB에서 적재하므로 무시
+     * - 차이가 없으면 null
+     */
+    public ExtensionChange refresh(String tenantId) {
+        AtomicReference<ExtensionChange> change = new AtomicReference<>();
+        snapshots.asMap().computeIfPresent(tenantId, (key, snapshot) -> {
+            ExtensionDelta delta = snapshot.diff(load(key));
+            if (delta.isEmpty()) {
+                return snapshot;
+            }
+            ExtensionSnapshot updated = snapshot.apply(delta, versionSequence.incrementAndGet());
+            change.set(updated.getLatestChange());
+            return updated;
+        });
+        return change.get();
+    }
+
+    /**
+     * DB 기준으로 테넌트 스냅샷 재적재
+     */
+    public ExtensionSnapshot reload(String tenantId) {
+        return snapshots.asMap().compute(tenantId, (key, snapshot) -> load(key));
+    }
+
+    /**
+     * 테넌트의 활성 확장자 타입/이름을 쿼리 한 번으로 조회해 스냅샷 생성
+     */
+    private ExtensionSnapshot load(String tenantId) {
+        List<ActiveExtensionName> rows = extRepository.findAllActiveNames(tenantId);
+
+        List<String> fixedNames = new ArrayList<>();
+        List<String> customNames = new ArrayList<>(rows.size());
+        for (ActiveExtensionName row : rows) {
+            (row.type() == ExtensionType.FIXED ? fixedNames : customNames).add(row.name());
+        }
+        return ExtensionSnapshot.of(versionSequence.incrementAndGet(), fixedNames, customNames);
+    }
+}
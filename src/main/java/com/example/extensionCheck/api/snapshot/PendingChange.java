@@ -0,0 +1,36 @@
+package com.example.extensionCheck.api.snapshot;
+
+import lombok.Getter;
+
+import java.util.HashSet;
+import java.util.Set;
+
+/**
+ * 커밋 전에 등록된 로컬 변경 한 건 (ExtensionSnapshotHolder.begin으로 생성)
+ * - 진행 중인 다른 변경과 같은 이름을 건드리면 충돌로 표시되어 커밋 후 delta 대신 DB 기준으로 반영
+ */
+@Getter
+public final class PendingChange {
+
+    private final String tenantId;
+    private final ExtensionDelta delta;
+    private final Set<String> names = new HashSet<>();
+    private volatile boolean conflicted;
+
+    PendingChange(String tenantId, ExtensionDelta delta) {
+        this.tenantId = tenantId;
+        this.delta = delta;
+        names.addAll(delta.getFixedAdded());
+        names.addAll(delta.getFixedRemoved());
+        names.addAll(delta.getCustomAdded());
+        names.addAll(delta.getCustomRemoved());
+    }
+
+    boolean overlaps(PendingChange other) {
+        return other.names.stream().anyMatch(names::contains);
+    }
+
+    void markConflicted() {
+        conflicted = true;
+    }
+}
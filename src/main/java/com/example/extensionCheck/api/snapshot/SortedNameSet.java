@@ -0,0 +1,178 @@
+package com.example.extensionCheck.api.snapshot;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Deque;
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.function.Consumer;
+
+/**
+ * 이름순 불변 집합 (경로 복사 treap)
+ * - add/remove는 바뀐 경로의 노드만 새로 만들고 나머지는 이전 버전과 공유 (기대 O(log n))
+ * - 우선순위는 노드마다 난수라 이름을 골라 넣어도 트리가 한쪽으로 치우치지 않음
+ * - 불변이므로 여러 스레드에서 락 없이 사용 가능
+ */
+final class SortedNameSet {
+
+    static final SortedNameSet EMPTY = new SortedNameSet(null, 0);
+
+    private final Node root;
+    private final int size;
+
+    private SortedNameSet(Node root, int size) {
+        this.root = root;
+        this.size = size;
+    }
+
+    static SortedNameSet of(Collection<String> names) {
+        SortedNameSet set = EMPTY;
+        for (String name : names) {
+            set = set.add(name);
+        }
+        return set;
+    }
+
+    int size() {
+        return size;
+    }
+
+    boolean contains(String name) {
+        Node node = root;
+        while (node != null) {
+            int cmp = name.compareTo(node.name);
+            if (cmp == 0) {
+                return true;
+            }
+            node = cmp < 0 ? node.left : node.right;
+        }
+        return false;
+    }
+
+    SortedNameSet add(String name) {
+        if (contains(name)) {
+            return this;
+        }
+        return new SortedNameSet(insert(root, name, ThreadLocalRandom.current().nextInt()), size + 1);
+    }
+
+    SortedNameSet remove(String name) {
+        if (!contains(name)) {
+            return this;
+        }
+        return new SortedNameSet(delete(root, name), size - 1);
+    }
+
+    /**
+     * 이름순 전체 목록
+     */
+    List<String> toList() {
+        List<String> names = new ArrayList<>(size);
+        forEach(names::add);
+        return names;
+    }
+
+    void forEach(Consumer<String> action) {
+        Deque<Node> stack = new ArrayDeque<>();
+        pushLeft(stack, root);
+        while (!stack.isEmpty()) {
+            Node node = stack.pop();
+            action.accept(node.name);
+            pushLeft(stack, node.right);
+        }
+    }
+
+    /**
+     * prefix로 시작하는 이름을 after 다음부터 최대 limit개 (after가 null이면 처음부터)
+     * - 시작 위치까지 한 번 내려간 뒤 중위 순회하므로 O(log n + limit)
+     */
+    List<String> page(String prefix, String after, int limit) {
+        Deque<Node> stack = new ArrayDeque<>();
+        Node node = root;
+        while (node != null) {
+            if (isAtOrAfterStart(node.name, prefix, after)) {
+                stack.push(node);
+                node = node.left;
+            } else {
+                node = node.right;
+            }
+        }
+        List<String> page = new ArrayList<>(Math.min(limit, size));
+        while (!stack.isEmpty() && page.size() < limit) {
+            Node next = stack.pop();
+            if (!next.name.startsWith(prefix)) {
+                break;
+            }
+            page.add(next.name);
+            pushLeft(stack, next.right);
+        }
+        return page;
+    }
+
+    private static boolean isAtOrAfterStart(String name, String prefix, String after) {
+        return name.compareTo(prefix) >= 0 && (after == null || name.compareTo(after) > 0);
+    }
+
+    private static void pushLeft(Deque<Node> stack, Node node) {
+        for (; node != null; node = node.left) {
+            stack.push(node);
+        }
+    }
+
+    // 없는 이름만 들어옴
+    private static Node insert(Node node, String name, int priority) {
+        if (node == null) {
+            return new Node(name, priority, null, null);
+        }
+        if (name.compareTo(node.name) < 0) {
+            Node left = insert(node.left, name, priority);
+            if (left.priority > node.priority) {
+                return new Node(left.name, left.priority, left.left, node.withLeft(left.right));
+            }
+            return node.withLeft(left);
+        }
+        Node right = insert(node.right, name, priority);
+        if (right.priority > node.priority) {
+            return new Node(right.name, right.priority, node.withRight(right.left), right.right);
+        }
+        return node.withRight(right);
+    }
+
+    // 있는 이름만 들어옴
+    private static Node delete(Node node, String name) {
+        int cmp = name.compareTo(node.name);
+        if (cmp < 0) {
+            return node.withLeft(delete(node.left, name));
+        }
+        if (cmp > 0) {
+            return node.withRight(delete(node.right, name));
+        }
+        return merge(node.left, node.right);
+    }
+
+    // left의 모든 이름 < right의 모든 이름
+    private static Node merge(Node left, Node right) {
+        if (left == null) {
+            return right;
+        }
+        if (right == null) {
+            return left;
+        }
+        if (left.priority > right.priority) {
+            return left.withRight(merge(left.right, right));
+        }
+        return right.withLeft(merge(left, right.left));
+    }
+
+    private record Node(String name, int priority, Node left, Node right) {
+
+        private Node withLeft(Node newLeft) {
+            return new Node(name, priority, newLeft, right);
+        }
+
+        private Node withRight(Node newRight) {
+            return new Node(name, priority, left, newRight);
+        }
+    }
+}
@@ -0,0 +1,273 @@
+package com.example.extensionCheck.api.sniff;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+
+/**
+ * 파일 앞부분(최대 PEEK_SIZE 바이트)의 시그니처로 실제 형식을 판별
+ * - 이름만 바꾼 실행 파일(virus.exe -> photo.jpg)을 잡기 위해 사용
+ * - 시그니처 표는 첫 바이트 기준으로 미리 나눠 두어 대부분의 파일은 배열 조회 한 번으로 끝남
+ * - 판별 결과는 확장자 카탈로그(고정 확장자 bat, cmd, com, cpl, exe, scr, js 등) 이름으로 반환
+ * - 상태가 없으므로 여러 스레드에서 공유 가능
+ */
+public final class ContentSniffer {
+
+    public static final int PEEK_SIZE = 512;
+
+    private static final int DOS_LAST_PAGE_BYTES = 2;     // e_cblp: 마지막 페이지 바이트 수 (0이면 512)
+    private static final int DOS_PAGES = 4;               // e_cp: 512바이트 페이지 수
+    private static final int DOS_PAGE_SIZE = 512;
+    private static final int PE_OFFSET_FIELD = 0x3C;
+    private static final int PE_CHARACTERISTICS = 22;      // "PE\0\0" + COFF 헤더 내 위치
+    private static final int IMAGE_FILE_DLL = 0x2000;
+    private static final int MAX_SHEBANG_LENGTH = 128;
+
+    private static final Detection PE_EXE = new Detection("exe", "PE");
+    private static final Detection PE_DLL = new Detection("cpl", "PE DLL");     // 제어판 항목(.cpl)은 DLL
+    private static final Detection DOS_MZ = new Detection("exe", "DOS MZ");
+    private static final Detection ELF = new Detection("exe", "ELF");
+    private static final Detection MACH_O = new Detection("exe", "Mach-O");
+    private static final Detection OLE = new Detection("msi", "OLE");           // MSI 설치 패키지 컨테이너
+    private static final Detection BATCH = new Detection("bat", "batch");
+    private static final Detection SCRIPT_JS = new Detection("js", "shebang");
+    private static final Detection SCRIPT_SH = new Detection("sh", "shebang");
+    private static final Detection SCRIPT_PY = new Detection("py", "shebang");
+    private static final Detection SCRIPT_PL = new Detection("pl", "shebang");
+    // ZIP 계열(zip, jar, apk 등): 항목 검사는 ZipInspector에서
+    public static final Detection ZIP = new Detection("zip", "ZIP");
+
+    private static final byte[] UTF8_BOM = {(byte) 0xEF, (byte) 0xBB, (byte) 0xBF};
+    private static final byte[] ECHO_OFF = "@echo off".getBytes(StandardCharsets.US_ASCII);
+    private static final byte[] ENV = "env".getBytes(StandardCharsets.US_ASCII);
+    private static final byte[] NODE = "node".getBytes(StandardCharsets.US_ASCII);
+    private static final byte[] DENO = "deno".getBytes(StandardCharsets.US_ASCII);
+    private static final byte[] BUN = "bun".getBytes(StandardCharsets.US_ASCII);
+    private static final byte[] PYTHON = "python".getBytes(StandardCharsets.US_ASCII);
+    private static final byte[] PERL = "perl".getBytes(StandardCharsets.US_ASCII);
+
+    // 첫 바이트 -> 후보 시그니처
+    private static final Signature[][] SIGNATURES = compile(
+            new Signature(bytes(0x4D, 0x5A), ContentSniffer::portableExecutable),
+            new Signature(bytes(0x7F, 'E', 'L', 'F'), fixed(ELF)),
+            new Signature(bytes(0xFE, 0xED, 0xFA, 0xCE), fixed(MACH_O)),
+            new Signature(bytes(0xFE, 0xED, 0xFA, 0xCF), fixed(MACH_O)),
+            new Signature(bytes(0xCE, 0xFA, 0xED, 0xFE), fixed(MACH_O)),
+            new Signature(bytes(0xCF, 0xFA, 0xED, 0xFE), fixed(MACH_O)),
+            new Signature(bytes(0xD0, 0xCF, 0x11, 0xE0, 0xA1, 0xB1, 0x1A, 0xE1), fixed(OLE)),
+            new Signature(bytes('P', 'K', 3, 4), fixed(ZIP)),
+            new Signature(bytes('P', 'K', 5, 6), fixed(ZIP)),
+            new Signature(bytes('#', '!'), ContentSniffer::shebang),
+            new Signature(bytes('@'), ContentSniffer::batch)
+    );
+
+    private ContentSniffer() {
+    }
+
+    /**
+     * 판별된 형식 (extension: 카탈로그 확장자 이름, format: 시그니처 종류)
+     */
+    public record Detection(String extension, String format) {
+    }
+
+    /**
+     * 스트림 앞부분만 읽어 판별 (나머지는 읽지 않음)
+     */
+    public static Detection sniff(InputStream in) throws IOException {
+        byte[] head = new byte[PEEK_SIZE];
+        int len = in.readNBytes(head, 0, PEEK_SIZE);
+        return sniff(head, 0, len);
+    }
+
+    /**
+     * 버퍼의 off부터 len 바이트로 판별, 알려진 시그니처가 아니면 null
+     */
+    public static Detection sniff(byte[] buf, int off, int len) {
+        len = Math.min(len, PEEK_SIZE);
+        if (len >= UTF8_BOM.length && startsWith(buf, off, len, UTF8_BOM)) {
+            off += UTF8_BOM.length;
+            len -= UTF8_BOM.length;
+        }
+        if (len <= 0) {
+            return null;
+        }
+        Signature[] candidates = SIGNATURES[buf[off] & 0xFF];
+        if (candidates == null) {
+            return null;
+        }
+        for (Signature signature : candidates) {
+            if (startsWith(buf, off, len, signature.magic())) {
+                Detection detection = signature.classifier().classify(buf, off, len);
+                if (detection != null) {
+                    return detection;
+                }
+            }
+        }
+        return null;
+    }
+
+    /**
+     * MZ 헤더: PE 헤더까지 확인해 DLL이면 cpl, 아니면 exe
+     * - PE 헤더가 없으면 DOS 헤더(64바이트)가 온전하고 페이지 필드가 그럴듯할 때만 exe ("MZ"로 시작하는 텍스트 오탐 방지)
+     */
+    private static Detection portableExecutable(byte[] buf, int off, int len) {
+        if (len < PE_OFFSET_FIELD + 4) {
+            return null;
+        }
+        int peOffset = readIntLE(buf, off + PE_OFFSET_FIELD);
+        if (peOffset >= PE_OFFSET_FIELD + 4 && peOffset <= len - PE_CHARACTERISTICS - 2) {
+            int pe = off + peOffset;
+            if (buf[pe] == 'P' && buf[pe + 1] == 'E' && buf[pe + 2] == 0 && buf[pe + 3] == 0) {
+                int characteristics = readShortLE(buf, pe + PE_CHARACTERISTICS);
+                return (characteristics & IMAGE_FILE_DLL) != 0 ? PE_DLL : PE_EXE;
+            }
+        }
+        int lastPageBytes = readShortLE(buf, off + DOS_LAST_PAGE_BYTES);
+        int pages = readShortLE(buf, off + DOS_PAGES);
+        return lastPageBytes < DOS_PAGE_SIZE && pages > 0 ? DOS_MZ : null;
+    }
+
+    /**
+     * "#!" 첫 줄의 인터프리터 이름으로 스크립트 종류 판별 (/usr/bin/env node 형태 포함)
+     * - 바이트 단위로 토큰을 나눠 문자열을 만들지 않음
+     */
+    private static Detection shebang(byte[] buf, int off, int len) {
+        int end = off + Math.min(len, MAX_SHEBANG_LENGTH);
+        int pos = off + 2;
+        int[] token = new int[2];
+        if (!nextToken(buf, pos, end, token)) {
+            return SCRIPT_SH;
+        }
+        int nameStart = baseNameStart(buf, token[0], token[1]);
+        // env는 다음 토큰(옵션 제외)이 실제 인터프리터
+        if (regionEquals(buf, nameStart, token[1], ENV)) {
+            do {
+                if (!nextToken(buf, token[1], end, token)) {
+                    return SCRIPT_SH;
+                }
+            } while (buf[token[0]] == '-');
+            nameStart = baseNameStart(buf, token[0], token[1]);
+        }
+        int nameEnd = token[1];
+        if (regionStartsWith(buf, nameStart, nameEnd, NODE) || regionEquals(buf, nameStart, nameEnd, DENO)
+                || regionEquals(buf, nameStart, nameEnd, BUN)) {
+            return SCRIPT_JS;
+        }
+        if (regionStartsWith(buf, nameStart, nameEnd, PYTHON)) {
+            return SCRIPT_PY;
+        }
+        if (regionStartsWith(buf, nameStart, nameEnd, PERL)) {
+            return SCRIPT_PL;
+        }
+        return SCRIPT_SH;
+    }
+
+    /**
+     * from부터 공백을 건너뛴 다음 토큰의 [시작, 끝)을 token에 기록 (줄 끝이면 false)
+     */
+    private static boolean nextToken(byte[] buf, int from, int end, int[] token) {
+        int i = from;
+        while (i < end && (buf[i] == ' ' || buf[i] == '\t')) {
+            i++;
+        }
+        if (i >= end || buf[i] == '\n' || buf[i] == '\r') {
+            return false;
+        }
+        int start = i;
+        while (i < end && buf[i] != ' ' && buf[i] != '\t' && buf[i] != '\n' && buf[i] != '\r') {
+            i++;
+        }
+        token[0] = start;
+        token[1] = i;
+        return true;
+    }
+
+    private static int baseNameStart(byte[] buf, int start, int end) {
+        for (int i = end - 1; i >= start; i--) {
+            if (buf[i] == '/') {
+                return i + 1;
+            }
+        }
+        return start;
+    }
+
+    private static boolean regionStartsWith(byte[] buf, int start, int end, byte[] prefix) {
+        return end - start >= prefix.length && startsWith(buf, start, end - start, prefix);
+    }
+
+    private static boolean regionEquals(byte[] buf, int start, int end, byte[] word) {
+        return end - start == word.length && startsWith(buf, start, end - start, word);
+    }
+
+    /**
+     * 배치 파일: "@echo off" (대소문자 무시)
+     */
+    private static Detection batch(byte[] buf, int off, int len) {
+        if (len < ECHO_OFF.length) {
+            return null;
+        }
+        for (int i = 0; i < ECHO_OFF.length; i++) {
+            int b = buf[off + i];
+            if (b >= 'A' && b <= 'Z') {
+                b += 'a' - 'A';
+            }
+            if (b != ECHO_OFF[i]) {
+                return null;
+            }
+        }
+        return BATCH;
+    }
+
+    private static boolean startsWith(byte[] buf, int off, int len, byte[] prefix) {
+        if (len < prefix.length) {
+            return false;
+        }
+        for (int i = 0; i < prefix.length; i++) {
+            if (buf[off + i] != prefix[i]) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static int readShortLE(byte[] buf, int pos) {
+        return (buf[pos] & 0xFF) | (buf[pos + 1] & 0xFF) << 8;
+    }
+
+    private static int readIntLE(byte[] buf, int pos) {
+        return (buf[pos] & 0xFF) | (buf[pos + 1] & 0xFF) << 8 | (buf[pos + 2] & 0xFF) << 16 | (buf[pos + 3] & 0xFF) << 24;
+    }
+
+    private static byte[] bytes(int... values) {
+        byte[] bytes = new byte[values.length];
+        for (int i = 0; i < values.length; i++) {
+            bytes[i] = (byte) values[i];
+        }
+        return bytes;
+    }
+
+    private static Classifier fixed(Detection detection) {
+        return (buf, off, len) -> detection;
+    }
+
+    private static Signature[][] compile(Signature... signatures) {
+        Signature[][] table = new Signature[256][];
+        for (Signature signature : signatures) {
+            int first = signature.magic()[0] & 0xFF;
+            Signature[] existing = table[first];
+            Signature[] extended = existing == null ? new Signature[1] : Arrays.copyOf(existing, existing.length + 1);
+            extended[extended.length - 1] = signature;
+            table[first] = extended;
+        }
+        return table;
+    }
+
+    @FunctionalInterface
+    private interface Classifier {
+        Detection classify(byte[] buf, int off, int len);
+    }
+
+    private record Signature(byte[] magic, Classifier classifier) {
+    }
+}
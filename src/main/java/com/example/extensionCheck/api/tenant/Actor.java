@@ -0,0 +1,14 @@
+package com.example.extensionCheck.api.tenant;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * 변경 이력에 남길 사용자 ID를 주입받을 컨트롤러 파라미터 표시 (X-Actor-Id 헤더, 없으면 anonymous)
+ */
+@Target(ElementType.PARAMETER)
+@Retention(RetentionPolicy.RUNTIME)
+public @interface Actor {
+}
@@ -0,0 +1,47 @@
+package com.example.extensionCheck.api.tenant;
+
+import com.example.extensionCheck.api.exception.ExtensionErrorCode;
+import com.example.extensionCheck.api.exception.ExtensionException;
+import org.springframework.core.MethodParameter;
+import org.springframework.web.bind.support.WebDataBinderFactory;
+import org.springframework.web.context.request.NativeWebRequest;
+import org.springframework.web.method.support.HandlerMethodArgumentResolver;
+import org.springframework.web.method.support.ModelAndViewContainer;
+
+/**
+ * {@link Actor} 파라미터에 X-Actor-Id 헤더 값을 검증해 주입
+ */
+public class ActorArgumentResolver implements HandlerMethodArgumentResolver {
+
+    public static final String HEADER = "X-Actor-Id";
+    public static final String ANONYMOUS = "anonymous";
+
+    private static final int MAX_LENGTH = 100;
+
+    @Override
+    public boolean supportsParameter(MethodParameter parameter) {
+        return parameter.hasParameterAnnotation(Actor.class)
+                && String.class.equals(parameter.getParameterType());
+    }
+
+    @Override
+    public String resolveArgument(MethodParameter parameter, ModelAndViewContainer mavContainer,
+                                  NativeWebRequest webRequest, WebDataBinderFactory binderFactory) {
+        return normalize(webRequest.getHeader(HEADER));
+    }
+
+    /**
+     * 사용자 ID 정규화 (없으면 anonymous, 앞뒤 공백 제거)
+     * - 최대 100자, 제어 문자 불가 (대소문자는 그대로 유지)
+     */
+    public static String normalize(String actor) {
+        if (actor == null || actor.isBlank()) {
+            return ANONYMOUS;
+        }
+        String normalized = actor.strip();
+        if (normalized.length() > MAX_LENGTH || normalized.chars().anyMatch(Character::isISOControl)) {
+            throw new ExtensionException(ExtensionErrorCode.INVALID_ACTOR);
+        }
+        return normalized;
+    }
+}
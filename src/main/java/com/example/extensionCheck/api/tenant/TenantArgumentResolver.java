@@ -0,0 +1,56 @@
+package com.example.extensionCheck.api.tenant;
+
+import com.example.extensionCheck.api.exception.ExtensionErrorCode;
+import com.example.extensionCheck.api.exception.ExtensionException;
+import org.springframework.core.MethodParameter;
+import org.springframework.web.bind.support.WebDataBinderFactory;
+import org.springframework.web.context.request.NativeWebRequest;
+import org.springframework.web.method.support.HandlerMethodArgumentResolver;
+import org.springframework.web.method.support.ModelAndViewContainer;
+
+import java.util.Locale;
+
+/**
+ * {@link Tenant} 파라미터에 X-Tenant-Id 헤더 값을 검증/정규화해 주입
+ */
+public class TenantArgumentResolver implements HandlerMethodArgumentResolver {
+
+    public static final String HEADER = "X-Tenant-Id";
+    public static final String DEFAULT_TENANT = "default";
+
+    private static final int MAX_LENGTH = 50;
+
+    @Override
+    public boolean supportsParameter(MethodParameter parameter) {
+        return parameter.hasParameterAnnotation(Tenant.class)
+                && String.class.equals(parameter.getParameterType());
+    }
+
+    @Override
+    public String resolveArgument(MethodParameter parameter, ModelAndViewContainer mavContainer,
+                                  NativeWebRequest webRequest, WebDataBinderFactory binderFactory) {
+        return normalize(webRequest.getHeader(HEADER));
+    }
+
+    /**
+     * 테넌트 ID 정규화 (없으면 default, 소문자 변환)
+     * - 허용 문자: 영문, 숫자, '-', '_' (최대 50자)
+     */
+    public static String normalize(String tenantId) {
+        if (tenantId == null || tenantId.isBlank()) {
+            return DEFAULT_TENANT;
+        }
+        String normalized = tenantId.strip().toLowerCase(Locale.ROOT);
+        if (normalized.length() > MAX_LENGTH) {
+            throw new ExtensionException(ExtensionErrorCode.INVALID_TENANT);
+        }
+        for (int i = 0; i < normalized.length(); i++) {
+            char c = normalized.charAt(i);
+            boolean allowed = (c >= 'a' && c <= 'z') || (c >= '0' && c <= '9') || c == '-' || c == '_';
+            if (!allowed) {
+                throw new ExtensionException(ExtensionErrorCode.INVALID_TENANT);
+            }
+        }
+        return normalized;
+    }
+}
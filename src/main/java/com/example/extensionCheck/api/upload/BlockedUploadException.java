@@ -0,0 +1,30 @@
+package com.example.extensionCheck.api.upload;
+
+import com.example.extensionCheck.api.matcher.ExtensionMatcher;
+import lombok.Getter;
+
+import java.io.IOException;
+
+/**
+ * 업로드 스트림에서 차단 확장자 파일을 발견했을 때 읽기를 중단시키는 예외
+ * - 스트림을 읽는 쪽(컨테이너/핸들러)으로 전파되어야 하므로 IOException
+ */
+@Getter
+public class BlockedUploadException extends IOException {
+
+    private final String filename;
+    private final ExtensionMatcher.Match match;
+    // 내용(시그니처)으로 차단된 경우 감지된 형식, 파일명으로 차단됐으면 null
+    private final String detectedFormat;
+
+    public BlockedUploadException(String filename, ExtensionMatcher.Match match) {
+        this(filename, match, null);
+    }
+
+    public BlockedUploadException(String filename, ExtensionMatcher.Match match, String detectedFormat) {
+        super("Blocked upload: " + filename);
+        this.filename = filename;
+        this.match = match;
+        this.detectedFormat = detectedFormat;
+    }
+}
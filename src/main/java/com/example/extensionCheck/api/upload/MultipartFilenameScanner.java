@@ -0,0 +1,339 @@
+package com.example.extensionCheck.api.upload;
+
+import com.example.extensionCheck.api.matcher.ExtensionMatcher;
+import com.example.extensionCheck.api.sniff.ContentSniffer;
+import com.example.extensionCheck.api.snapshot.ExtensionSnapshot;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+
+/**
+ * multipart/form-data 본문을 흘려보내며 각 파트 헤더의 파일명을 검사하는 상태 기계
+ * - 읽은 바이트를 그대로 넣으면 되고 청크 경계가 어디서 나뉘어도 결과가 같음
+ * - 본문 바이트는 보관하지 않고 boundary 탐색(KMP)만 수행, 파트 헤더만 maxHeaderSize까지 모음
+ * - 차단 파일명을 만나면 해당 파트 본문이 시작되기 전에 {@link BlockedUploadException}
+ * - sniffContent면 파일 파트 본문 앞 {@link ContentSniffer#PEEK_SIZE} 바이트의 시그니처도 검사
+ *   (이름을 바꾼 실행 파일은 그 안에서 차단)
+ * - 한 번 차단되면 이후 입력도 계속 차단, 종료 boundary 이후(epilogue)는 검사하지 않음
+ */
+public final class MultipartFilenameScanner {
+
+    private static final byte CR = '\r';
+    private static final byte LF = '\n';
+    private static final int CRLF = 0x0D0A;
+    private static final int CRLF_CRLF = 0x0D0A0D0A;
+
+    private enum State { BODY, AFTER_DELIMITER, CLOSING, HEADERS, DONE }
+
+    private final byte[] delimiter;     // "\r\n--" + boundary
+    private final int[] failure;
+    private final ExtensionSnapshot snapshot;
+    private final int maxHeaderSize;
+    private final boolean sniffContent;
+    private final ByteArrayOutputStream header = new ByteArrayOutputStream(256);
+
+    private State state = State.BODY;
+    // 첫 boundary 앞에는 CRLF가 없으므로 스트림 시작을 CRLF 직후로 간주
+    private int matched = 2;
+    private int tail;               // 헤더의 마지막 4바이트
+    private BlockedUploadException blocked;
+
+    // 내용 검사 중인 파일 파트 (없으면 filename == null)
+    private String peekFilename;
+    private byte[] peek;
+    private int peekLength;
+
+    public MultipartFilenameScanner(String boundary, ExtensionSnapshot snapshot, int maxHeaderSize,
+                                    boolean sniffContent) {
+        this.delimiter = ("\r\n--" + boundary).getBytes(StandardCharsets.ISO_8859_1);
+        this.failure = failureTable(delimiter);
+        this.snapshot = snapshot;
+        this.maxHeaderSize = maxHeaderSize;
+        this.sniffContent = sniffContent;
+    }
+
+    /**
+     * Content-Type 헤더에서 boundary 추출 (multipart/form-data가 아니거나 없으면 null)
+     */
+    public static String boundaryOf(String contentType) {
+        if (contentType == null
+                || !contentType.toLowerCase(Locale.ROOT).startsWith("multipart/form-data")) {
+            return null;
+        }
+        for (Param param : params(contentType)) {
+            if (param.name().equals("boundary") && !param.value().isEmpty()) {
+                return param.value();
+            }
+        }
+        return null;
+    }
+
+    /**
+     * 읽어 들인 바이트 검사
+     */
+    public void update(byte[] buf, int off, int len) throws IOException {
+        if (blocked != null) {
+            throw blocked;
+        }
+        for (int i = off, end = off + len; i < end && state != State.DONE; i++) {
+            update(buf[i]);
+        }
+    }
+
+    public void update(int value) throws IOException {
+        if (blocked != null) {
+            throw blocked;
+        }
+        byte b = (byte) value;
+        switch (state) {
+            case BODY -> {
+                int m = matched;
+                while (m > 0 && delimiter[m] != b) {
+                    m = failure[m - 1];
+                }
+                if (delimiter[m] == b) {
+                    m++;
+                }
+                if (m == delimiter.length) {
+                    state = State.AFTER_DELIMITER;
+                    m = 0;
+                }
+                matched = m;
+                if (peekFilename != null) {
+                    peekContent(b, state == State.AFTER_DELIMITER);
+                }
+            }
+            // boundary 뒤: "--"면 종료, 아니면 (공백 패딩을 건너뛰고) 줄바꿈 후 파트 헤더 시작
+            case AFTER_DELIMITER -> {
+                if (b == '-') {
+                    state = State.CLOSING;
+                } else if (b == LF) {
+                    state = State.HEADERS;
+                    header.reset();
+                    tail = 0;
+                } else if (b != CR && b != ' ' && b != '\t') {
+                    throw new IOException("Malformed multipart boundary line");
+                }
+            }
+            case CLOSING -> {
+                if (b != '-') {
+                    throw new IOException("Malformed multipart closing boundary");
+                }
+                state = State.DONE;
+            }
+            case HEADERS -> {
+                header.write(b);
+                tail = (tail << 8) | (b & 0xFF);
+                if (isHeaderEnd()) {
+                    String filename = inspectHeader();
+                    if (sniffContent && filename != null) {
+                        startPeek(filename);
+                    }
+                    state = State.BODY;
+                    matched = 0;
+                } else if (header.size() > maxHeaderSize) {
+                    throw new IOException("Multipart part header exceeds " + maxHeaderSize + " bytes");
+                }
+            }
+            case DONE -> {
+            }
+        }
+    }
+
+    /**
+     * 차단된 파일명이 있었으면 그 예외 (없으면 null)
+     */
+    public BlockedUploadException getBlocked() {
+        return blocked;
+    }
+
+    public boolean isFinished() {
+        return state == State.DONE;
+    }
+
+    // 헤더가 없는 파트("\r\n")이거나 빈 줄("\r\n\r\n")로 헤더가 끝났는지
+    private boolean isHeaderEnd() {
+        int size = header.size();
+        return (size == 2 && (tail & 0xFFFF) == CRLF) || (size >= 4 && tail == CRLF_CRLF);
+    }
+
+    /**
+     * 파트 헤더의 파일명 검사 후 파일 파트면 파일명 반환 (일반 필드면 null)
+     */
+    private String inspectHeader() throws BlockedUploadException {
+        // 브라우저는 파일명을 UTF-8 원문으로 보냄
+        String headers = header.toString(StandardCharsets.UTF_8);
+        String partFilename = null;
+        for (String line : headers.split("\r\n")) {
+            int colon = line.indexOf(':');
+            if (colon < 0 || !line.substring(0, colon).strip().equalsIgnoreCase("Content-Disposition")) {
+                continue;
+            }
+            String filename = checkFilenames(line.substring(colon + 1));
+            if (filename != null) {
+                partFilename = filename;
+            }
+        }
+        return partFilename;
+    }
+
+    // filename, filename* 중 하나라도 차단 대상이면 거부 (서버마다 우선하는 값이 다르므로 둘 다 검사)
+    private String checkFilenames(String disposition) throws BlockedUploadException {
+        String partFilename = null;
+        for (String filename : filenames(disposition)) {
+            ExtensionMatcher.Match match = snapshot.getMatcher().match(filename);
+            if (match != null) {
+                blocked = new BlockedUploadException(filename, match);
+                throw blocked;
+            }
+            partFilename = filename;
+        }
+        return partFilename;
+    }
+
+    private void startPeek(String filename) {
+        if (peek == null) {
+            peek = new byte[ContentSniffer.PEEK_SIZE];
+        }
+        peekFilename = filename;
+        peekLength = 0;
+    }
+
+    /**
+     * 파일 본문 앞부분을 모아 두었다가 가득 차거나 파트가 끝나면 시그니처 검사
+     */
+    private void peekContent(byte b, boolean partEnded) throws BlockedUploadException {
+        if (partEnded) {
+            // 모은 바이트 끝에는 boundary 구분자가 함께 들어 있음
+            sniff(Math.max(0, peekLength + 1 - delimiter.length));
+            return;
+        }
+        peek[peekLength++] = b;
+        if (peekLength == peek.length) {
+            sniff(peekLength);
+        }
+    }
+
+    private void sniff(int length) throws BlockedUploadException {
+        String filename = peekFilename;
+        peekFilename = null;
+        ContentSniffer.Detection detection = ContentSniffer.sniff(peek, 0, length);
+        ExtensionMatcher.Match match = detection != null ? snapshot.matchExtension(detection.extension()) : null;
+        if (match != null) {
+            blocked = new BlockedUploadException(filename, match, detection.format());
+            throw blocked;
+        }
+    }
+
+    /**
+     * Content-Disposition 값에서 filename / filename*(RFC 5987) 추출
+     */
+    static List<String> filenames(String disposition) {
+        List<String> filenames = new ArrayList<>(1);
+        for (Param param : params(disposition)) {
+            if (param.name().equals("filename")) {
+                filenames.add(param.value());
+            } else if (param.name().equals("filename*")) {
+                filenames.add(decodeExtValue(param.value()));
+            }
+        }
+        return filenames;
+    }
+
+    /**
+     * ';'로 구분된 헤더 파라미터 파싱 (따옴표 문자열과 '\' 이스케이프 지원, 첫 토큰은 값이므로 제외)
+     */
+    private static List<Param> params(String value) {
+        List<Param> params = new ArrayList<>();
+        int len = value.length();
+        int i = value.indexOf(';');
+        while (i >= 0 && i < len) {
+            i++;
+            int nameStart = i;
+            while (i < len && value.charAt(i) != '=' && value.charAt(i) != ';') {
+                i++;
+            }
+            String name = value.substring(nameStart, i).strip().toLowerCase(Locale.ROOT);
+            if (i >= len || value.charAt(i) == ';') {
+                continue;
+            }
+            i++;
+            while (i < len && (value.charAt(i) == ' ' || value.charAt(i) == '\t')) {
+                i++;
+            }
+            StringBuilder sb = new StringBuilder();
+            if (i < len && value.charAt(i) == '"') {
+                i++;
+                while (i < len && value.charAt(i) != '"') {
+                    char c = value.charAt(i);
+                    if (c == '\\' && i + 1 < len && (value.charAt(i + 1) == '"' || value.charAt(i + 1) == '\\')) {
+                        c = value.charAt(++i);
+                    }
+                    sb.append(c);
+                    i++;
+                }
+                i = value.indexOf(';', i);
+            } else {
+                int end = value.indexOf(';', i);
+                sb.append(value.substring(i, end < 0 ? len : end).strip());
+                i = end;
+            }
+            params.add(new Param(name, sb.toString()));
+        }
+        return params;
+    }
+
+    /**
+     * charset'lang'percent-encoded 형식 디코딩 (알 수 없는 charset은 UTF-8로 취급)
+     */
+    private static String decodeExtValue(String value) {
+        int first = value.indexOf('\'');
+        int second = first < 0 ? -1 : value.indexOf('\'', first + 1);
+        if (second < 0) {
+            return value;
+        }
+        Charset charset;
+        try {
+            charset = Charset.forName(value.substring(0, first).strip());
+        } catch (IllegalArgumentException e) {
+            charset = StandardCharsets.UTF_8;
+        }
+        ByteArrayOutputStream out = new ByteArrayOutputStream(value.length());
+        for (int i = second + 1; i < value.length(); i++) {
+            char c = value.charAt(i);
+            if (c == '%' && i + 2 < value.length()) {
+                int hi = Character.digit(value.charAt(i + 1), 16);
+                int lo = Character.digit(value.charAt(i + 2), 16);
+                if (hi >= 0 && lo >= 0) {
+                    out.write((hi << 4) | lo);
+                    i += 2;
+                    continue;
+                }
+            }
+            out.write(c);
+        }
+        return out.toString(charset);
+    }
+
+    private static int[] failureTable(byte[] pattern) {
+        int[] table = new int[pattern.length];
+        for (int i = 1, k = 0; i < pattern.length; i++) {
+            while (k > 0 && pattern[i] != pattern[k]) {
+                k = table[k - 1];
+            }
+            if (pattern[i] == pattern[k]) {
+                k++;
+            }
+            table[i] = k;
+        }
+        return table;
+    }
+
+    private record Param(String name, String value) {
+    }
+}
@@ -0,0 +1,204 @@
+package com.example.extensionCheck.api.upload;
+
+import com.example.extensionCheck.api.sniff.ContentSniffer;
+import jakarta.servlet.MultipartConfigElement;
+import jakarta.servlet.http.Part;
+import org.springframework.util.LinkedCaseInsensitiveMap;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * multipart/form-data 본문을 요청 스트림에서 직접 읽어 파트로 나누는 파서 (컨테이너의 multipart 해석 대신 사용)
+ * - UploadGuardRequest의 검사 스트림에서 읽으므로 차단 파트는 본문이 버퍼/임시 파일에 쓰이기 전에 읽기가 중단됨
+ * - 파트 본문은 fileSizeThreshold(최소 {@link ContentSniffer#PEEK_SIZE})까지 메모리에 두고, 넘으면 location의 임시 파일에 씀
+ *   (내용 검사가 끝나기 전의 앞부분은 디스크에 쓰이지 않음)
+ * - maxFileSize/maxRequestSize를 넘으면 IllegalStateException (Spring이 MaxUploadSizeExceededException으로 변환)
+ * - 요청마다 새로 만들어 한 번만 사용
+ */
+final class MultipartStreamParser {
+
+    private static final int BUFFER_SIZE = 8 * 1024;
+    private static final int CRLF = 0x0D0A;
+    private static final int CRLF_CRLF = 0x0D0A0D0A;
+
+    private enum State { BODY, AFTER_DELIMITER, CLOSING, HEADERS, DONE }
+
+    private final byte[] delimiter;     // "\r\n--" + boundary
+    private final int[] failure;
+    private final Path location;
+    private final long maxFileSize;
+    private final long maxRequestSize;
+    private final int memoryThreshold;
+    private final int maxHeaderSize;
+    private final ByteArrayOutputStream header = new ByteArrayOutputStream(256);
+    private final List<StreamedPart> parts = new ArrayList<>();
+
+    private State state = State.BODY;
+    // 첫 boundary 앞에는 CRLF가 없으므로 스트림 시작을 CRLF 직후로 간주
+    private int matched = 2;
+    private int tail;
+    private long requestSize;
+    private StreamedPart current;       // 본문을 받는 중인 파트 (preamble이면 null)
+
+    MultipartStreamParser(String boundary, MultipartConfigElement config, int maxHeaderSize) {
+        this.delimiter = ("\r\n--" + boundary).getBytes(StandardCharsets.ISO_8859_1);
+        this.failure = failureTable(delimiter);
+        String location = config.getLocation();
+        this.location = Path.of(location == null || location.isEmpty() ? System.getProperty("java.io.tmpdir") : location);
+        this.maxFileSize = config.getMaxFileSize();
+        this.maxRequestSize = config.getMaxRequestSize();
+        this.memoryThreshold = Math.max(config.getFileSizeThreshold(), ContentSniffer.PEEK_SIZE);
+        this.maxHeaderSize = maxHeaderSize;
+    }
+
+    /**
+     * 종료 boundary까지 읽어 파트 목록 반환, 실패하면 만든 임시 파일을 지우고 예외를 그대로 던짐
+     */
+    List<Part> parse(InputStream in) throws IOException {
+        try {
+            byte[] buf = new byte[BUFFER_SIZE];
+            int n;
+            while (state != State.DONE && (n = in.read(buf)) > 0) {
+                requestSize += n;
+                if (maxRequestSize > 0 && requestSize > maxRequestSize) {
+                    throw new IllegalStateException(
+                            "Multipart request size exceeds the configured maximum (" + maxRequestSize + ")");
+                }
+                for (int i = 0; i < n && state != State.DONE; i++) {
+                    update(buf[i]);
+                }
+            }
+            if (state != State.DONE) {
+                throw new IOException("Multipart body ended before the closing boundary");
+            }
+            return List.copyOf(parts);
+        } catch (IOException | RuntimeException e) {
+            for (StreamedPart part : parts) {
+                part.deleteQuietly();
+            }
+            throw e;
+        }
+    }
+
+    private void update(byte b) throws IOException {
+        switch (state) {
+            case BODY -> {
+                int m = matched;
+                while (m > 0 && delimiter[m] != b) {
+                    // 구분자 후보로 잡아 둔 앞부분 중 더 이상 후보가 아닌 바이트는 본문
+                    int f = failure[m - 1];
+                    write(delimiter, 0, m - f);
+                    m = f;
+                }
+                if (delimiter[m] == b) {
+                    m++;
+                } else {
+                    write(b);
+                }
+                if (m == delimiter.length) {
+                    endPart();
+                    state = State.AFTER_DELIMITER;
+                    m = 0;
+                }
+                matched = m;
+            }
+            // boundary 뒤: "--"면 종료, 아니면 (공백 패딩을 건너뛰고) 줄바꿈 후 파트 헤더 시작
+            case AFTER_DELIMITER -> {
+                if (b == '-') {
+                    state = State.CLOSING;
+                } else if (b == '\n') {
+                    state = State.HEADERS;
+                    header.reset();
+                    tail = 0;
+                } else if (b != '\r' && b != ' ' && b != '\t') {
+                    throw new IOException("Malformed multipart boundary line");
+                }
+            }
+            case CLOSING -> {
+                if (b != '-') {
+                    throw new IOException("Malformed multipart closing boundary");
+                }
+                state = State.DONE;
+            }
+            case HEADERS -> {
+                header.write(b);
+                tail = (tail << 8) | (b & 0xFF);
+                int size = header.size();
+                if ((size == 2 && (tail & 0xFFFF) == CRLF) || (size >= 4 && tail == CRLF_CRLF)) {
+                    current = new StreamedPart(parseHeaders(), location, memoryThreshold);
+                    parts.add(current);
+                    state = State.BODY;
+                    matched = 0;
+                } else if (size > maxHeaderSize) {
+                    throw new IOException("Multipart part header exceeds " + maxHeaderSize + " bytes");
+                }
+            }
+            case DONE -> {
+            }
+        }
+    }
+
+    private void write(byte b) throws IOException {
+        if (current != null) {
+            current.append(b);
+            checkFileSize();
+        }
+    }
+
+    private void write(byte[] b, int off, int len) throws IOException {
+        if (current != null) {
+            for (int i = off; i < off + len; i++) {
+                current.append(b[i]);
+            }
+            checkFileSize();
+        }
+    }
+
+    private void checkFileSize() {
+        if (maxFileSize > 0 && current.getSize() > maxFileSize) {
+            throw new IllegalStateException("Multipart part '" + current.getName()
+                    + "' size exceeds the configured maximum (" + maxFileSize + ")");
+        }
+    }
+
+    private void endPart() throws IOException {
+        if (current != null) {
+            current.complete();
+            current = null;
+        }
+    }
+
+    private Map<String, List<String>> parseHeaders() {
+        Map<String, List<String>> headers = new LinkedCaseInsensitiveMap<>();
+        // 브라우저는 파일명을 UTF-8 원문으로 보냄
+        for (String line : header.toString(StandardCharsets.UTF_8).split("\r\n")) {
+            int colon = line.indexOf(':');
+            if (colon > 0) {
+                headers.computeIfAbsent(line.substring(0, colon).strip(), key -> new ArrayList<>(1))
+                        .add(line.substring(colon + 1).strip());
+            }
+        }
+        return headers;
+    }
+
+    private static int[] failureTable(byte[] pattern) {
+        int[] table = new int[pattern.length];
+        for (int i = 1, k = 0; i < pattern.length; i++) {
+            while (k > 0 && pattern[i] != pattern[k]) {
+                k = table[k - 1];
+            }
+            if (pattern[i] == pattern[k]) {
+                k++;
+            }
+            table[i] = k;
+        }
+        return table;
+    }
+}
@@ -0,0 +1,129 @@
+package com.example.extensionCheck.api.upload;
+
+import jakarta.servlet.http.Part;
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.HttpHeaders;
+
+import java.io.BufferedOutputStream;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * {@link MultipartStreamParser}가 만든 파트
+ * - 본문은 memoryThreshold까지 메모리에, 넘으면 location의 임시 파일로 옮겨 이어 씀
+ * - delete()로 임시 파일 삭제 (Spring이 요청 처리 후 호출)
+ */
+final class StreamedPart implements Part {
+
+    private final Map<String, List<String>> headers;
+    private final String name;
+    private final String filename;
+    private final Path location;
+    private final int memoryThreshold;
+
+    private ByteArrayOutputStream memory = new ByteArrayOutputStream();
+    private Path file;
+    private OutputStream fileOut;
+    private long size;
+
+    StreamedPart(Map<String, List<String>> headers, Path location, int memoryThreshold) {
+        this.headers = headers;
+        this.location = location;
+        this.memoryThreshold = memoryThreshold;
+        String disposition = getHeader(HttpHeaders.CONTENT_DISPOSITION);
+        ContentDisposition parsed = disposition != null ? ContentDisposition.parse(disposition) : ContentDisposition.empty();
+        this.name = parsed.getName();
+        this.filename = parsed.getFilename();
+    }
+
+    void append(byte b) throws IOException {
+        if (fileOut == null && memory.size() >= memoryThreshold) {
+            file = Files.createTempFile(location, "upload-", ".tmp");
+            fileOut = new BufferedOutputStream(Files.newOutputStream(file));
+            memory.writeTo(fileOut);
+            memory = null;
+        }
+        (fileOut != null ? fileOut : memory).write(b);
+        size++;
+    }
+
+    void complete() throws IOException {
+        if (fileOut != null) {
+            fileOut.close();
+        }
+    }
+
+    void deleteQuietly() {
+        try {
+            complete();
+            delete();
+        } catch (IOException ignored) {
+            // 임시 파일 정리 실패는 요청 실패 원인보다 중요하지 않음
+        }
+    }
+
+    @Override
+    public InputStream getInputStream() throws IOException {
+        return file != null ? Files.newInputStream(file) : new ByteArrayInputStream(memory.toByteArray());
+    }
+
+    @Override
+    public String getContentType() {
+        return getHeader(HttpHeaders.CONTENT_TYPE);
+    }
+
+    @Override
+    public String getName() {
+        return name;
+    }
+
+    @Override
+    public String getSubmittedFileName() {
+        return filename;
+    }
+
+    @Override
+    public long getSize() {
+        return size;
+    }
+
+    @Override
+    public void write(String fileName) throws IOException {
+        Path target = location.resolve(fileName);
+        try (InputStream in = getInputStream()) {
+            Files.copy(in, target, StandardCopyOption.REPLACE_EXISTING);
+        }
+    }
+
+    @Override
+    public void delete() throws IOException {
+        if (file != null) {
+            Files.deleteIfExists(file);
+        }
+    }
+
+    @Override
+    public String getHeader(String headerName) {
+        List<String> values = headers.get(headerName);
+        return values != null ? values.get(0) : null;
+    }
+
+    @Override
+    public Collection<String> getHeaders(String headerName) {
+        return headers.getOrDefault(headerName, List.of());
+    }
+
+    @Override
+    public Collection<String> getHeaderNames() {
+        return headers.keySet();
+    }
+}
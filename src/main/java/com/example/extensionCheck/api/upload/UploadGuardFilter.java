@@ -0,0 +1,97 @@
+package com.example.extensionCheck.api.upload;
+
+import com.example.extensionCheck.api.exception.ExtensionErrorCode;
+import com.example.extensionCheck.api.exception.ExtensionException;
+import com.example.extensionCheck.api.response.ApiErrorResponse;
+import com.example.extensionCheck.api.snapshot.ExtensionSnapshot;
+import com.example.extensionCheck.api.snapshot.ExtensionSnapshotHolder;
+import com.example.extensionCheck.api.tenant.TenantArgumentResolver;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.MultipartConfigElement;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.web.filter.OncePerRequestFilter;
+import tools.jackson.databind.ObjectMapper;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * multipart 업로드를 받으면서 파트 헤더의 파일명을 검사해 차단 확장자를 조기 거부하는 필터
+ * - 요청 본문을 읽는 쪽(스트리밍 업로드 핸들러, 프록시 등)이 읽는 순간 검사되며,
+ *   차단 파트의 본문은 버퍼/임시 파일에 쓰이기 전에 읽기가 중단됨
+ * - MultipartFile(getParts) 경로도 컨테이너 해석 대신 같은 검사 스트림을 파싱하므로 동일하게 조기 차단
+ *   (파트 크기/임시 파일 위치는 multipartConfig, 즉 spring.servlet.multipart.* 설정을 따름)
+ * - 거부 시 403과 Connection: close로 응답해 남은 본문을 받지 않고 연결을 끊음
+ * - sniffContent면 파일 본문 앞부분의 시그니처도 검사해 이름을 바꾼 실행 파일도 거부
+ * - 판별은 요청 테넌트(X-Tenant-Id)의 현재 스냅샷 기준
+ */
+@Slf4j
+@RequiredArgsConstructor
+public class UploadGuardFilter extends OncePerRequestFilter {
+
+    private final ExtensionSnapshotHolder snapshotHolder;
+    private final ObjectMapper objectMapper;
+    private final int maxHeaderSize;
+    private final boolean sniffContent;
+    private final MultipartConfigElement multipartConfig;
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        return MultipartFilenameScanner.boundaryOf(request.getContentType()) == null;
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain chain)
+            throws ServletException, IOException {
+        ExtensionSnapshot snapshot;
+        try {
+            String tenantId = TenantArgumentResolver.normalize(request.getHeader(TenantArgumentResolver.HEADER));
+            snapshot = snapshotHolder.current(tenantId);
+        } catch (ExtensionException e) {
+            writeError(response, HttpStatus.BAD_REQUEST, e.getErrorCode(), e.getMessage());
+            return;
+        }
+
+        String boundary = MultipartFilenameScanner.boundaryOf(request.getContentType());
+        UploadGuardRequest guarded = new UploadGuardRequest(request,
+                new MultipartFilenameScanner(boundary, snapshot, maxHeaderSize, sniffContent),
+                boundary, multipartConfig, maxHeaderSize);
+        try {
+            chain.doFilter(guarded, response);
+        } catch (IOException | ServletException | RuntimeException e) {
+            BlockedUploadException blocked = guarded.getScanner().getBlocked();
+            if (blocked == null) {
+                throw e;
+            }
+            reject(response, blocked);
+        }
+    }
+
+    private void reject(HttpServletResponse response, BlockedUploadException blocked) throws IOException {
+        log.info("Upload rejected: filename={}, extension={}, detected={}",
+                blocked.getFilename(), blocked.getMatch().extension(), blocked.getDetectedFormat());
+        if (response.isCommitted()) {
+            return;
+        }
+        response.reset();
+        ExtensionErrorCode errorCode = ExtensionErrorCode.BLOCKED_UPLOAD;
+        writeError(response, HttpStatus.FORBIDDEN, errorCode, errorCode.getMessage());
+    }
+
+    private void writeError(HttpServletResponse response, HttpStatus status, ExtensionErrorCode errorCode,
+                            String message) throws IOException {
+        // 남은 업로드 본문을 받지 않도록 연결 종료
+        response.setHeader(HttpHeaders.CONNECTION, "close");
+        response.setStatus(status.value());
+        response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+        response.setCharacterEncoding(StandardCharsets.UTF_8.name());
+        objectMapper.writeValue(response.getOutputStream(), new ApiErrorResponse(errorCode.getCode(), message));
+    }
+}
@@ -0,0 +1,193 @@
+package com.example.extensionCheck.api.upload;
+
+import jakarta.servlet.MultipartConfigElement;
+import jakarta.servlet.ReadListener;
+import jakarta.servlet.ServletInputStream;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletRequestWrapper;
+import jakarta.servlet.http.Part;
+import org.springframework.http.MediaType;
+import org.springframework.web.multipart.MultipartException;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Enumeration;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 본문을 읽는 즉시 {@link MultipartFilenameScanner}로 검사하는 요청 래퍼
+ * - 읽은 바이트는 호출자에게 넘기기 전에 검사하므로 차단 파트의 본문은 한 바이트도 넘어가지 않음
+ * - getParts/getPart(MultipartFile 경로)도 컨테이너 해석 대신 이 검사 스트림을 {@link MultipartStreamParser}로 읽어 만듦
+ *   (차단 파트는 본문이 메모리/임시 파일에 쓰이기 전에 거부)
+ * - 본문을 직접 읽으므로 multipart 일반 필드는 getParameter 계열에서 쿼리 파라미터와 합쳐 돌려줌
+ */
+class UploadGuardRequest extends HttpServletRequestWrapper {
+
+    private final MultipartFilenameScanner scanner;
+    private final String boundary;
+    private final MultipartConfigElement multipartConfig;
+    private final int maxHeaderSize;
+    private ServletInputStream inputStream;
+    private List<Part> parts;
+    private Map<String, String[]> parameters;
+
+    UploadGuardRequest(HttpServletRequest request, MultipartFilenameScanner scanner, String boundary,
+                       MultipartConfigElement multipartConfig, int maxHeaderSize) {
+        super(request);
+        this.scanner = scanner;
+        this.boundary = boundary;
+        this.multipartConfig = multipartConfig;
+        this.maxHeaderSize = maxHeaderSize;
+    }
+
+    MultipartFilenameScanner getScanner() {
+        return scanner;
+    }
+
+    @Override
+    public ServletInputStream getInputStream() throws IOException {
+        if (inputStream == null) {
+            inputStream = new GuardedInputStream(super.getInputStream(), scanner);
+        }
+        return inputStream;
+    }
+
+    @Override
+    public BufferedReader getReader() throws IOException {
+        String encoding = getCharacterEncoding();
+        Charset charset = encoding != null ? Charset.forName(encoding) : StandardCharsets.ISO_8859_1;
+        return new BufferedReader(new InputStreamReader(getInputStream(), charset));
+    }
+
+    @Override
+    public Collection<Part> getParts() throws IOException {
+        if (parts == null) {
+            parts = new MultipartStreamParser(boundary, multipartConfig, maxHeaderSize).parse(getInputStream());
+        }
+        return parts;
+    }
+
+    @Override
+    public Part getPart(String name) throws IOException {
+        for (Part part : getParts()) {
+            if (name.equals(part.getName())) {
+                return part;
+            }
+        }
+        return null;
+    }
+
+    @Override
+    public String getParameter(String name) {
+        String[] values = getParameterMap().get(name);
+        return values != null ? values[0] : null;
+    }
+
+    @Override
+    public Enumeration<String> getParameterNames() {
+        return Collections.enumeration(getParameterMap().keySet());
+    }
+
+    @Override
+    public String[] getParameterValues(String name) {
+        return getParameterMap().get(name);
+    }
+
+    @Override
+    public Map<String, String[]> getParameterMap() {
+        if (parameters == null) {
+            parameters = Collections.unmodifiableMap(parseParameters());
+        }
+        return parameters;
+    }
+
+    // 쿼리 파라미터 + 파일이 아닌 파트의 값 (본문을 이미 읽었으므로 컨테이너는 쿼리 파라미터만 돌려줌)
+    private Map<String, String[]> parseParameters() {
+        Map<String, List<String>> values = new LinkedHashMap<>();
+        super.getParameterMap().forEach((name, array) ->
+                values.computeIfAbsent(name, key -> new ArrayList<>()).addAll(List.of(array)));
+        try {
+            for (Part part : getParts()) {
+                if (part.getName() != null && part.getSubmittedFileName() == null) {
+                    values.computeIfAbsent(part.getName(), key -> new ArrayList<>()).add(fieldValue(part));
+                }
+            }
+        } catch (IOException e) {
+            throw new MultipartException("Failed to parse multipart servlet request", e);
+        }
+        Map<String, String[]> result = new LinkedHashMap<>();
+        values.forEach((name, list) -> result.put(name, list.toArray(String[]::new)));
+        return result;
+    }
+
+    private String fieldValue(Part part) throws IOException {
+        Charset charset = StandardCharsets.UTF_8;
+        String contentType = part.getContentType();
+        if (contentType != null && MediaType.parseMediaType(contentType).getCharset() != null) {
+            charset = MediaType.parseMediaType(contentType).getCharset();
+        } else if (getCharacterEncoding() != null) {
+            charset = Charset.forName(getCharacterEncoding());
+        }
+        try (InputStream content = part.getInputStream()) {
+            return new String(content.readAllBytes(), charset);
+        }
+    }
+
+    private static final class GuardedInputStream extends ServletInputStream {
+
+        private final ServletInputStream delegate;
+        private final MultipartFilenameScanner scanner;
+
+        private GuardedInputStream(ServletInputStream delegate, MultipartFilenameScanner scanner) {
+            this.delegate = delegate;
+            this.scanner = scanner;
+        }
+
+        @Override
+        public int read() throws IOException {
+            int b = delegate.read();
+            if (b >= 0) {
+                scanner.update(b);
+            }
+            return b;
+        }
+
+        @Override
+        public int read(byte[] b, int off, int len) throws IOException {
+            int n = delegate.read(b, off, len);
+            if (n > 0) {
+                scanner.update(b, off, n);
+            }
+            return n;
+        }
+
+        @Override
+        public boolean isFinished() {
+            return delegate.isFinished();
+        }
+
+        @Override
+        public boolean isReady() {
+            return delegate.isReady();
+        }
+
+        @Override
+        public void setReadListener(ReadListener readListener) {
+            delegate.setReadListener(readListener);
+        }
+
+        @Override
+        public void close() throws IOException {
+            delegate.close();
+        }
+    }
+}
@@ -4,27 +4,71 @@ import com.example.extensionCheck.api.exception.ExtensionErrorCode;
 import com.example.extensionCheck.api.exception.ExtensionException;
 import org.springframework.stereotype.Component;
 
-import java.util.regex.Pattern;
+import java.util.Locale;
 
 @Component
 public class ExtensionValidator {
 
     private static final int MAX_LENGTH = 20;
-    private static final Pattern DIGIT_PATTERN = Pattern.compile("\\d");
-    private static final Pattern KOREAN_PATTERN = Pattern.compile("[ㄱ-ㅎㅏ-ㅣ가-힣]");
 
     public void validate(String extension) {
-        if (extension == null || extension.isBlank()) {
+        normalize(extension);
+    }
+
+    /**
+     * 검증 후 정규화된(소문자) 확장자 반환
+     * - 정규식 없이 한 번 순회하며, 이미 소문자면 입력을 그대로 반환 (할당 없음)
+     * - 에러 우선순위: EMPTY_INPUT > TOO_LONG > CONTAINS_DIGIT > CONTAINS_KOREAN
+     * - 소문자 변환은 Locale.ROOT 기준 (기본 로케일이 tr이어도 "EXE" -> "exe")
+     */
+    public String normalize(String extension) {
+        if (extension == null) {
             throw new ExtensionException(ExtensionErrorCode.EMPTY_INPUT);
         }
-        if (extension.length() > MAX_LENGTH) {
-            throw new ExtensionException(ExtensionErrorCode.TOO_LONG);
+        int length = extension.length();
+        if (length > MAX_LENGTH) {
+            throw new ExtensionException(extension.isBlank()
+                    ? ExtensionErrorCode.EMPTY_INPUT
+                    : ExtensionErrorCode.TOO_LONG);
         }
-        if (DIGIT_PATTERN.matcher(extension).find()) {
-            throw new ExtensionException(ExtensionErrorCode.CONTAINS_DIGIT);
+
+        boolean blank = true;
+        boolean korean = false;
+        boolean upperCase = false;
+        for (int i = 0; i < length; i++) {
+            char c = extension.charAt(i);
+            if (c >= '0' && c <= '9') {
+                throw new ExtensionException(ExtensionErrorCode.CONTAINS_DIGIT);
+            }
+            if (blank && !Character.isWhitespace(c)) {
+                blank = false;
+            }
+            if (isKorean(c)) {
+                korean = true;
+            } else if (c < 0x80 ? (c >= 'A' && c <= 'Z') : Character.toLowerCase(c) != c) {
+                upperCase = true;
+            }
+        }
+
+        if (blank) {
+            throw new ExtensionException(ExtensionErrorCode.EMPTY_INPUT);
         }
-        if (KOREAN_PATTERN.matcher(extension).find()) {
+        if (korean) {
             throw new ExtensionException(ExtensionErrorCode.CONTAINS_KOREAN);
         }
+        if (!upperCase) {
+            return extension;
+        }
+
+        String lower = extension.toLowerCase(Locale.ROOT);
+        if (lower.length() > MAX_LENGTH) {
+            throw new ExtensionException(ExtensionErrorCode.TOO_LONG);
+        }
+        return lower;
+    }
+
+    // 한글 자음(ㄱ-ㅎ), 모음(ㅏ-ㅣ), 완성형(가-힣)
+    private static boolean isKorean(char c) {
+        return (c >= 'ㄱ' && c <= 'ㅎ') || (c >= 'ㅏ' && c <= 'ㅣ') || (c >= '가' && c <= '힣');
     }
 }
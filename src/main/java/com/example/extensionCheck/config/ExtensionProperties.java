@@ -0,0 +1,150 @@
+package com.example.extensionCheck.config;
+
+import com.example.extensionCheck.api.archive.ZipInspector;
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.web.socket.handler.ConcurrentWebSocketSessionDecorator.OverflowStrategy;
+
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * extension.* 설정값
+ */
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "extension")
+public class ExtensionProperties {
+
+    private final Broadcast broadcast = new Broadcast();
+    private final Tenant tenant = new Tenant();
+    private final UploadGuard uploadGuard = new UploadGuard();
+    private final Archive archive = new Archive();
+    private final WebSocket websocket = new WebSocket();
+    private final Outbox outbox = new Outbox();
+    private final Cluster cluster = new Cluster();
+    private final History history = new History();
+    private final Bulk bulk = new Bulk();
+    private final Listing listing = new Listing();
+
+    @Getter
+    @Setter
+    public static class Broadcast {
+        // 이 시간 안에 들어온 변경은 하나의 메시지로 병합
+        private Duration coalesceWindow = Duration.ofMillis(50);
+    }
+
+    @Getter
+    @Setter
+    public static class Tenant {
+        // 테넌트별 커스텀 확장자 최대 개수 (maxCustomOverrides에 없으면 사용)
+        private int maxCustom = 50_000;
+        private Map<String, Integer> maxCustomOverrides = new HashMap<>();
+        // 메모리에 유지할 테넌트 스냅샷 최대 개수, 초과 시 적게 쓰인 테넌트부터 제거
+        private long snapshotCacheSize = 1000;
+        // 이 시간 동안 조회되지 않은 테넌트 스냅샷은 제거 (다음 조회 시 DB에서 다시 적재)
+        private Duration snapshotExpireAfterAccess = Duration.ofMinutes(30);
+
+        public int maxCustomFor(String tenantId) {
+            return maxCustomOverrides.getOrDefault(tenantId, maxCustom);
+        }
+    }
+
+    @Getter
+    @Setter
+    public static class UploadGuard {
+        // multipart 업로드 조기 차단 필터 사용 여부
+        private boolean enabled = false;
+        // 필터를 적용할 URL 패턴
+        private List<String> urlPatterns = List.of("/*");
+        // 파트 헤더 최대 크기, 초과하면 잘못된 요청으로 보고 읽기 중단
+        private int maxHeaderSize = 8 * 1024;
+        // 파일 본문 앞부분의 시그니처(MZ, ELF, shebang 등)도 검사
+        private boolean sniffContent = true;
+    }
+
+    @Getter
+    @Setter
+    public static class Archive {
+        // 압축 파일 안(중첩 포함) 최대 항목 수
+        private int maxEntries = 100_000;
+        // 압축 파일 안의 압축 파일 최대 깊이 (최상위 = 0)
+        private int maxDepth = 3;
+        // 항목별 최대 압축률 (풀린 크기 / 압축 크기)
+        private int maxRatio = 100;
+        // 검사 중 풀어내는 총 크기 상한
+        private long maxInflatedBytes = 256L * 1024 * 1024;
+
+        public ZipInspector.Limits toLimits() {
+            return new ZipInspector.Limits(maxEntries, maxDepth, maxRatio, maxInflatedBytes);
+        }
+    }
+
+    @Getter
+    @Setter
+    public static class WebSocket {
+        // STOMP 수신 채널(클라이언트 -> 서버) 처리 스레드 수
+        private int inboundThreads = 8;
+        // 송신 채널(세션별 쓰기) 스레드 수, 느린 세션의 쓰기가 스레드를 잡고 있어도 다른 세션 전송이 밀리지 않도록 여유 있게
+        private int outboundThreads = 32;
+        // 세션 하나의 쓰기가 이 시간을 넘기면 연결 종료
+        private Duration sendTimeLimit = Duration.ofSeconds(5);
+        // 쓰기 대기 중인 세션에 쌓아 둘 최대 크기
+        private int sendBufferSizeLimit = 256 * 1024;
+        // 버퍼 초과 시 처리: DROP(오래된 메시지부터 버림, 클라이언트가 버전 차이로 재동기화) / TERMINATE(연결 종료)
+        private OverflowStrategy overflowStrategy = OverflowStrategy.DROP;
+        // 클라이언트가 보내는 STOMP 메시지 최대 크기
+        private int messageSizeLimit = 64 * 1024;
+    }
+
+    @Getter
+    @Setter
+    public static class Outbox {
+        // 노드 식별자 (처리 위치 저장 키, 재시작해도 같아야 함), 비어 있으면 호스트 이름 (한 호스트에 여러 노드면 각각 지정)
+        private String nodeId = "";
+        // 아웃박스 조회 주기 (이 노드의 변경은 커밋 즉시 조회, 다른 노드 변경 반영은 최대 이 시간 + broadcast.coalesce-window)
+        private Duration pollInterval = Duration.ofMillis(500);
+        // 한 번에 꺼낼 최대 이벤트 수
+        private int batchSize = 500;
+        // 이 시간 동안 채워지지 않은 이벤트 번호는 롤백된 것으로 보고 건너뜀
+        private Duration gapTimeout = Duration.ofSeconds(10);
+        // 이벤트와 종료된 노드의 처리 위치 보관 기간
+        private Duration retention = Duration.ofHours(1);
+    }
+
+    @Getter
+    @Setter
+    public static class Cluster {
+        // 여러 노드가 같은 DB를 쓸 때 아웃박스로 다른 노드의 변경을 반영
+        private boolean enabled = false;
+    }
+
+    @Getter
+    @Setter
+    public static class History {
+        // 변경이 있었던 테넌트의 차단 목록 체크포인트 생성 주기 (시점 조회 시 재생할 이력이 최대 이 기간만큼)
+        private Duration checkpointInterval = Duration.ofHours(1);
+        // 체크포인트는 이 시간보다 오래된 이력까지만 반영 (늦게 커밋된 이력을 빠뜨리지 않도록)
+        private Duration checkpointDelay = Duration.ofMinutes(1);
+    }
+
+    @Getter
+    @Setter
+    public static class Bulk {
+        // 가져오기에서 한 번에 검증하고 한 트랜잭션으로 저장할 행 수
+        private int chunkSize = 500;
+    }
+
+    @Getter
+    @Setter
+    public static class Listing {
+        // 커스텀 확장자가 이보다 많으면 전체 목록(full) 응답/전송에서 custom을 빼고 페이지 조회로 받게 함
+        private int maxInlineCustom = 500;
+        // 커스텀 확장자 페이지 조회 기본/최대 크기
+        private int defaultPageSize = 100;
+        private int maxPageSize = 500;
+    }
+}
@@ -0,0 +1,61 @@
+package com.example.extensionCheck.config;
+
+import com.example.extensionCheck.api.metrics.SqlStatementCounter;
+import com.example.extensionCheck.api.metrics.SqlStatementMetricsInterceptor;
+import io.micrometer.core.instrument.MeterRegistry;
+import net.ttddyy.dsproxy.support.ProxyDataSource;
+import net.ttddyy.dsproxy.support.ProxyDataSourceBuilder;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.web.servlet.config.annotation.InterceptorRegistry;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+
+import javax.sql.DataSource;
+
+/**
+ * 요청별 SQL 문 개수 측정 설정
+ * - DataSource를 datasource-proxy로 감싸 JPA/JdbcTemplate 문장을 모두 세고, MVC 인터셉터가 요청 단위로 기록
+ * - 이미 다른 곳에서 감싼 ProxyDataSource면 새로 감싸지 않고 리스너만 추가
+ */
+@Configuration
+public class MetricsConfig implements WebMvcConfigurer {
+
+    private final ObjectProvider<SqlStatementCounter> sqlStatementCounter;
+    private final ObjectProvider<MeterRegistry> meterRegistry;
+
+    public MetricsConfig(ObjectProvider<SqlStatementCounter> sqlStatementCounter,
+                         ObjectProvider<MeterRegistry> meterRegistry) {
+        this.sqlStatementCounter = sqlStatementCounter;
+        this.meterRegistry = meterRegistry;
+    }
+
+    @Bean
+    public static SqlStatementCounter sqlStatementCounter() {
+        return new SqlStatementCounter();
+    }
+
+    @Bean
+    public static BeanPostProcessor sqlStatementCountingDataSource(ObjectProvider<SqlStatementCounter> counter) {
+        return new BeanPostProcessor() {
+            @Override
+            public Object postProcessAfterInitialization(Object bean, String beanName) {
+                if (bean instanceof ProxyDataSource proxy) {
+                    proxy.getProxyConfig().getQueryListener().addListener(counter.getObject());
+                    return proxy;
+                }
+                if (bean instanceof DataSource dataSource) {
+                    return ProxyDataSourceBuilder.create(dataSource).name(beanName).listener(counter.getObject()).build();
+                }
+                return bean;
+            }
+        };
+    }
+
+    @Override
+    public void addInterceptors(InterceptorRegistry registry) {
+        registry.addInterceptor(new SqlStatementMetricsInterceptor(sqlStatementCounter.getObject(),
+                meterRegistry.getObject()));
+    }
+}
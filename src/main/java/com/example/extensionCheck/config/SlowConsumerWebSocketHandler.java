@@ -0,0 +1,40 @@
+package com.example.extensionCheck.config;
+
+import jakarta.websocket.Session;
+import org.springframework.messaging.MessageChannel;
+import org.springframework.messaging.SubscribableChannel;
+import org.springframework.web.socket.WebSocketSession;
+import org.springframework.web.socket.adapter.NativeWebSocketSession;
+import org.springframework.web.socket.handler.ConcurrentWebSocketSessionDecorator;
+import org.springframework.web.socket.handler.ConcurrentWebSocketSessionDecorator.OverflowStrategy;
+import org.springframework.web.socket.messaging.SubProtocolWebSocketHandler;
+
+/**
+ * 느린 구독자 처리 정책을 적용하는 STOMP WebSocket 핸들러
+ * - 기본 핸들러는 버퍼 초과 시 항상 연결을 끊으므로, 설정한 {@link OverflowStrategy}로 세션을 감쌈
+ * - Tomcat의 블로킹 쓰기 대기 시간(기본 20초)도 전송 시간 제한에 맞춰, 멈춘 세션이 송신 스레드를 오래 잡지 않게 함
+ */
+class SlowConsumerWebSocketHandler extends SubProtocolWebSocketHandler {
+
+    static final String BLOCKING_SEND_TIMEOUT = "org.apache.tomcat.websocket.BLOCKING_SEND_TIMEOUT";
+
+    private final OverflowStrategy overflowStrategy;
+
+    SlowConsumerWebSocketHandler(MessageChannel clientInboundChannel, SubscribableChannel clientOutboundChannel,
+                                 OverflowStrategy overflowStrategy) {
+        super(clientInboundChannel, clientOutboundChannel);
+        this.overflowStrategy = overflowStrategy;
+    }
+
+    @Override
+    protected WebSocketSession decorateSession(WebSocketSession session) {
+        if (session instanceof NativeWebSocketSession nativeSession) {
+            Session wsSession = nativeSession.getNativeSession(Session.class);
+            if (wsSession != null) {
+                wsSession.getUserProperties().put(BLOCKING_SEND_TIMEOUT, (long) getSendTimeLimit());
+            }
+        }
+        return new ConcurrentWebSocketSessionDecorator(
+                session, getSendTimeLimit(), getSendBufferSizeLimit(), overflowStrategy);
+    }
+}
@@ -0,0 +1,33 @@
+package com.example.extensionCheck.config;
+
+import com.example.extensionCheck.api.snapshot.ExtensionSnapshotHolder;
+import com.example.extensionCheck.api.upload.UploadGuardFilter;
+import jakarta.servlet.MultipartConfigElement;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.Ordered;
+import tools.jackson.databind.ObjectMapper;
+
+@Configuration
+@ConditionalOnProperty(prefix = "extension.upload-guard", name = "enabled", havingValue = "true")
+public class UploadGuardConfig {
+
+    @Bean
+    public FilterRegistrationBean<UploadGuardFilter> uploadGuardFilter(ExtensionSnapshotHolder snapshotHolder,
+                                                                      ObjectMapper objectMapper,
+                                                                      ExtensionProperties properties,
+                                                                      ObjectProvider<MultipartConfigElement> multipartConfig) {
+        ExtensionProperties.UploadGuard uploadGuard = properties.getUploadGuard();
+        // 적용 경로의 multipart는 컨테이너 대신 필터가 파싱하므로 크기 제한/임시 파일 위치를 넘겨줌
+        FilterRegistrationBean<UploadGuardFilter> registration = new FilterRegistrationBean<>(
+                new UploadGuardFilter(snapshotHolder, objectMapper, uploadGuard.getMaxHeaderSize(),
+                        uploadGuard.isSniffContent(), multipartConfig.getIfAvailable(() -> new MultipartConfigElement(""))));
+        registration.setUrlPatterns(uploadGuard.getUrlPatterns());
+        // multipart 해석 전에 본문을 감싸도록 가장 먼저 실행
+        registration.setOrder(Ordered.HIGHEST_PRECEDENCE);
+        return registration;
+    }
+}
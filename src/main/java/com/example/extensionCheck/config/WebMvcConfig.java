@@ -0,0 +1,21 @@
+package com.example.extensionCheck.config;
+
+import com.example.extensionCheck.api.tenant.ActorArgumentResolver;
+import com.example.extensionCheck.api.tenant.TenantArgumentResolver;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.web.method.support.HandlerMethodArgumentResolver;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+
+import java.util.List;
+
+@Configuration
+public class WebMvcConfig implements WebMvcConfigurer {
+
+    @Override
+    public void addArgumentResolvers(List<HandlerMethodArgumentResolver> resolvers) {
+        // @Tenant 파라미터에 요청 테넌트 주입
+        resolvers.add(new TenantArgumentResolver());
+        // @Actor 파라미터에 변경 이력에 남길 사용자 주입
+        resolvers.add(new ActorArgumentResolver());
+    }
+}
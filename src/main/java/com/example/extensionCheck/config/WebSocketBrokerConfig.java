@@ -0,0 +1,30 @@
+package com.example.extensionCheck.config;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.messaging.support.AbstractSubscribableChannel;
+import org.springframework.web.socket.WebSocketHandler;
+import org.springframework.web.socket.config.annotation.DelegatingWebSocketMessageBrokerConfiguration;
+
+/**
+ * STOMP 메시지 브로커 설정 (@EnableWebSocketMessageBroker 대신 직접 확장)
+ * - 브로커/엔드포인트/채널 설정은 그대로 {@link WebSocketConfig} 등 configurer에 위임
+ * - 세션 핸들러만 느린 구독자 정책을 적용하는 {@link SlowConsumerWebSocketHandler}로 교체
+ */
+@Configuration
+@RequiredArgsConstructor
+public class WebSocketBrokerConfig extends DelegatingWebSocketMessageBrokerConfiguration {
+
+    private final ExtensionProperties properties;
+
+    @Bean
+    @Override
+    public WebSocketHandler subProtocolWebSocketHandler(AbstractSubscribableChannel clientInboundChannel,
+                                                        AbstractSubscribableChannel clientOutboundChannel) {
+        SlowConsumerWebSocketHandler handler = new SlowConsumerWebSocketHandler(
+                clientInboundChannel, clientOutboundChannel, properties.getWebsocket().getOverflowStrategy());
+        handler.setPhase(getPhase());
+        return handler;
+    }
+}
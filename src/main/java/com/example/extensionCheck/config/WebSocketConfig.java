@@ -1,21 +1,44 @@
 package com.example.extensionCheck.config;
 
+import com.example.extensionCheck.api.metrics.BroadcastPayloadInterceptor;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.thread.Threading;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.core.env.Environment;
+import org.springframework.core.task.SimpleAsyncTaskExecutor;
+import org.springframework.messaging.simp.config.ChannelRegistration;
 import org.springframework.messaging.simp.config.MessageBrokerRegistry;
-import org.springframework.web.socket.config.annotation.EnableWebSocketMessageBroker;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
 import org.springframework.web.socket.config.annotation.StompEndpointRegistry;
 import org.springframework.web.socket.config.annotation.WebSocketMessageBrokerConfigurer;
+import org.springframework.web.socket.config.annotation.WebSocketTransportRegistration;
 
+import java.util.concurrent.Executor;
+
+/**
+ * STOMP 브로커/엔드포인트/채널 설정 (브로커 활성화는 {@link WebSocketBrokerConfig})
+ */
+@Slf4j
 @Configuration
-@EnableWebSocketMessageBroker
+@RequiredArgsConstructor
 public class WebSocketConfig implements WebSocketMessageBrokerConfigurer {
 
+    private final Environment environment;
+    private final MeterRegistry meterRegistry;
+    private final ExtensionProperties properties;
+
     @Override
     public void configureMessageBroker(MessageBrokerRegistry config) {
         // 클라이언트가 구독할 목적지 prefix
         config.enableSimpleBroker("/topic");
         // 클라이언트가 서버로 메시지 보낼 때 prefix
         config.setApplicationDestinationPrefixes("/app");
+        // 버전 순서대로 도착해야 delta 누락 판단이 가능하므로 세션별 발행 순서 보장
+        config.setPreservePublishOrder(true);
+        // 브로드캐스트 메시지 크기 측정
+        config.configureBrokerChannel().interceptors(new BroadcastPayloadInterceptor(meterRegistry));
     }
 
     @Override
@@ -25,4 +48,64 @@ public class WebSocketConfig implements WebSocketMessageBrokerConfigurer {
                 .setAllowedOriginPatterns("*")
                 .withSockJS();
     }
+
+    /**
+     * 세션별 전송 시간/버퍼 제한 (느린 구독자 처리 방식은 {@link SlowConsumerWebSocketHandler})
+     */
+    @Override
+    public void configureWebSocketTransport(WebSocketTransportRegistration registration) {
+        ExtensionProperties.WebSocket websocket = properties.getWebsocket();
+        registration.setSendTimeLimit((int) websocket.getSendTimeLimit().toMillis())
+                .setSendBufferSizeLimit(websocket.getSendBufferSizeLimit())
+                .setMessageSizeLimit(websocket.getMessageSizeLimit());
+    }
+
+    /**
+     * 수신 채널 전용 스레드 풀 (기본 설정은 applicationTaskExecutor를 송신 채널과 함께 씀)
+     * - 가상 스레드 모드(spring.threads.virtual.enabled, Java 21 이상)면 가상 스레드로 처리
+     */
+    @Override
+    public void configureClientInboundChannel(ChannelRegistration registration) {
+        registration.executor(virtualThreads()
+                ? virtualThreadExecutor("ws-inbound-")
+                : threadPool("ws-inbound-", properties.getWebsocket().getInboundThreads()));
+    }
+
+    /**
+     * 브로드캐스트 전송(세션별 쓰기) 전용 스레드 풀, 가상 스레드 모드면 가상 스레드로 처리
+     * - 발행 순서 보장은 세션 단위로 유지되므로 스레드 종류와 무관
+     */
+    @Override
+    public void configureClientOutboundChannel(ChannelRegistration registration) {
+        registration.executor(virtualThreads()
+                ? virtualThreadExecutor("ws-outbound-")
+                : threadPool("ws-outbound-", properties.getWebsocket().getOutboundThreads()));
+    }
+
+    private boolean virtualThreads() {
+        if (Threading.VIRTUAL.isActive(environment)) {
+            return true;
+        }
+        if (environment.getProperty("spring.threads.virtual.enabled", Boolean.class, false)) {
+            log.warn("spring.threads.virtual.enabled=true but running on Java {}, virtual threads require Java 21+",
+                    Runtime.version().feature());
+        }
+        return false;
+    }
+
+    // 빈으로 등록되므로(clientInbound/OutboundChannelExecutor) 초기화와 종료는 컨테이너가 처리
+    private static Executor threadPool(String threadNamePrefix, int threads) {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setThreadNamePrefix(threadNamePrefix);
+        executor.setCorePoolSize(threads);
+        executor.setMaxPoolSize(threads);
+        executor.setAllowCoreThreadTimeOut(true);
+        return executor;
+    }
+
+    private static SimpleAsyncTaskExecutor virtualThreadExecutor(String threadNamePrefix) {
+        SimpleAsyncTaskExecutor executor = new SimpleAsyncTaskExecutor(threadNamePrefix);
+        executor.setVirtualThreads(true);
+        return executor;
+    }
 }
@@ -0,0 +1,49 @@
+package com.example.extensionCheck.entity;
+
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.Instant;
+
+/**
+ * 확장자 변경 이벤트 아웃박스
+ * - 변경 트랜잭션 안에서 기록되므로 커밋된 변경만 보이고, 커밋된 변경은 빠짐없이 남음
+ * - 디스패처가 id 순으로 꺼내 WebSocket 전송, 다른 노드 반영 등에 전달
+ */
+@Entity
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@Table(name = "extension_change_log",
+        indexes = @Index(name = "idx_change_log_created_at", columnList = "created_at"))
+public class ExtensionChangeLog {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(nullable = false, name = "tenant_id", length = 50)
+    private String tenantId;
+
+    // 변경을 만든 노드 (자기 변경은 이미 반영했으므로 건너뜀)
+    @Column(nullable = false, name = "node_id", length = 64)
+    private String nodeId;
+
+    // 변경 내용 (ExtensionDelta JSON)
+    @Lob
+    @Column(nullable = false)
+    private String delta;
+
+    @Column(nullable = false, name = "created_at")
+    private Instant createdAt;
+
+    @Builder
+    public ExtensionChangeLog(String tenantId, String nodeId, String delta, Instant createdAt) {
+        this.tenantId = tenantId;
+        this.nodeId = nodeId;
+        this.delta = delta;
+        this.createdAt = createdAt;
+    }
+}
@@ -0,0 +1,41 @@
+package com.example.extensionCheck.entity;
+
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.Instant;
+
+/**
+ * 테넌트 차단 목록의 특정 시점 상태 (as_of 이하 이력을 모두 반영한 결과)
+ * - 시점 조회는 가장 가까운 이전 체크포인트부터 이력을 재생하므로 재생 건수가 체크포인트 주기 안으로 제한됨
+ */
+@Entity
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@Table(name = "extension_checkpoint",
+        indexes = @Index(name = "idx_checkpoint_tenant_as_of", columnList = "tenant_id, as_of"))
+public class ExtensionCheckpoint {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(nullable = false, name = "tenant_id", length = 50)
+    private String tenantId;
+
+    @Column(nullable = false, name = "as_of")
+    private Instant asOf;
+
+    // 활성 확장자 목록 (JSON: fixed, custom)
+    @Lob
+    @Column(nullable = false)
+    private String content;
+
+    public ExtensionCheckpoint(String tenantId, Instant asOf, String content) {
+        this.tenantId = tenantId;
+        this.asOf = asOf;
+        this.content = content;
+    }
+}
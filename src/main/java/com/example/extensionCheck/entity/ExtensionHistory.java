@@ -0,0 +1,54 @@
+package com.example.extensionCheck.entity;
+
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.Instant;
+
+/**
+ * 확장자 활성화/비활성화 이력 (추가만 하고 수정/삭제하지 않음)
+ * - 변경과 같은 트랜잭션에서 JDBC 배치로 기록 ({@link com.example.extensionCheck.repository.ExtensionHistoryBatchRepository})
+ * - 테넌트 + 시각 인덱스로 특정 시점 이후 이력만 조회
+ */
+@Entity
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@Table(name = "extension_history",
+        indexes = {
+                @Index(name = "idx_history_tenant_changed_at", columnList = "tenant_id, changed_at"),
+                @Index(name = "idx_history_changed_at", columnList = "changed_at")
+        })
+public class ExtensionHistory {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(nullable = false, name = "tenant_id", length = 50)
+    private String tenantId;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 10)
+    private ExtensionType type;
+
+    @Column(nullable = false, length = 20)
+    private String name;
+
+    // true: 활성화, false: 비활성화
+    @Column(nullable = false)
+    private boolean active;
+
+    // 변경한 사용자 (X-Actor-Id 헤더, 없으면 anonymous)
+    @Column(nullable = false, length = 100)
+    private String actor;
+
+    // 변경 시각 (epoch millis, JDBC 배치 INSERT가 DB/드라이버 시간대 변환에 영향받지 않도록 숫자로 저장)
+    @Column(nullable = false, name = "changed_at")
+    private long changedAt;
+
+    public Instant getChangedAtInstant() {
+        return Instant.ofEpochMilli(changedAt);
+    }
+}
@@ -0,0 +1,37 @@
+package com.example.extensionCheck.entity;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.Instant;
+
+/**
+ * 노드별 아웃박스 처리 위치 (재시작하면 이 위치 이후 이벤트부터 다시 전달)
+ */
+@Entity
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@Table(name = "extension_outbox_cursor")
+public class ExtensionOutboxCursor {
+
+    @Id
+    @Column(name = "node_id", length = 64)
+    private String nodeId;
+
+    @Column(nullable = false)
+    private long position;
+
+    @Column(nullable = false, name = "updated_at")
+    private Instant updatedAt;
+
+    public ExtensionOutboxCursor(String nodeId, long position, Instant updatedAt) {
+        this.nodeId = nodeId;
+        this.position = position;
+        this.updatedAt = updatedAt;
+    }
+}
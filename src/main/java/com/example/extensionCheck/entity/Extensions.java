@@ -6,18 +6,25 @@ import lombok.Builder;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
 import jakarta.persistence.Id;
+import org.hibernate.annotations.ColumnDefault;
 
 @Entity
 @Getter
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
-@Table(name = "Extensions")
+@Table(name = "Extensions",
+        uniqueConstraints = @UniqueConstraint(name = "uk_extensions_tenant_name", columnNames = {"tenant_id", "name"}))
 public class Extensions {
 
     @Id
     @GeneratedValue(strategy = GenerationType.IDENTITY)
     private Long id;
 
-    @Column(nullable = false, unique = true, length = 20)
+    // 기존 데이터는 default 테넌트로 취급
+    @ColumnDefault("'default'")
+    @Column(nullable = false, name = "tenant_id", length = 50)
+    private String tenantId;
+
+    @Column(nullable = false, length = 20)
     private String name;
 
     @Column(nullable = false, name="is_active")
@@ -28,7 +35,8 @@ public class Extensions {
     private ExtensionType type;
 
     @Builder
-    public Extensions(String name, boolean isActive, ExtensionType type) {
+    public Extensions(String tenantId, String name, boolean isActive, ExtensionType type) {
+        this.tenantId = tenantId;
         this.name = name;
         this.isActive = isActive;
         this.type = type;
@@ -0,0 +1,9 @@
+package com.example.extensionCheck.repository;
+
+import com.example.extensionCheck.entity.ExtensionType;
+
+/**
+ * 활성 확장자 조회용 projection (엔티티를 만들지 않고 타입/이름만 조회)
+ */
+public record ActiveExtensionName(ExtensionType type, String name) {
+}
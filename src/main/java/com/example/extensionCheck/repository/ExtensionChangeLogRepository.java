@@ -0,0 +1,33 @@
+package com.example.extensionCheck.repository;
+
+import com.example.extensionCheck.entity.ExtensionChangeLog;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Instant;
+import java.util.List;
+
+/**
+ * 변경 로그 리포지토리
+ */
+@Repository
+public interface ExtensionChangeLogRepository extends JpaRepository<ExtensionChangeLog, Long> {
+
+    // 마지막 로그 id (없으면 null), 노드 시작 시 이전 로그를 건너뛰는 기준
+    @Query("select max(c.id) from ExtensionChangeLog c")
+    Long findMaxId();
+
+    // id 순으로 기준 이후 로그 조회
+    List<ExtensionChangeLog> findByIdGreaterThanOrderByIdAsc(long id, Limit limit);
+
+    // 보관 기간이 지난 로그 삭제
+    @Transactional
+    @Modifying
+    @Query("delete from ExtensionChangeLog c where c.createdAt < :before")
+    int deleteCreatedBefore(@Param("before") Instant before);
+}
@@ -0,0 +1,23 @@
+package com.example.extensionCheck.repository;
+
+import com.example.extensionCheck.entity.ExtensionCheckpoint;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.stereotype.Repository;
+
+import java.time.Instant;
+import java.util.Optional;
+
+/**
+ * 차단 목록 체크포인트 리포지토리
+ */
+@Repository
+public interface ExtensionCheckpointRepository extends JpaRepository<ExtensionCheckpoint, Long> {
+
+    // 해당 시각 이하의 가장 최근 체크포인트
+    Optional<ExtensionCheckpoint> findFirstByTenantIdAndAsOfLessThanEqualOrderByAsOfDesc(String tenantId, Instant at);
+
+    // 마지막 체크포인트 시각 (없으면 null), 다음 체크포인트 대상 테넌트를 찾는 기준
+    @Query("select max(c.asOf) from ExtensionCheckpoint c")
+    Instant findMaxAsOf();
+}
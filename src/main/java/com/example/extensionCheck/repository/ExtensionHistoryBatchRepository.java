@@ -0,0 +1,13 @@
+package com.example.extensionCheck.repository;
+
+import java.time.Instant;
+import java.util.Collection;
+
+/**
+ * 이력 일괄 저장용 커스텀 리포지토리
+ */
+public interface ExtensionHistoryBatchRepository {
+
+    // 한 변경의 이력을 같은 행위자/시각으로 JDBC 배치 INSERT
+    void batchInsert(String tenantId, String actor, Instant changedAt, Collection<ExtensionStateChange> changes);
+}
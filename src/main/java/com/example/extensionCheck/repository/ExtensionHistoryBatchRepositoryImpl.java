@@ -0,0 +1,36 @@
+package com.example.extensionCheck.repository;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.time.Instant;
+import java.util.Collection;
+
+/**
+ * 이력 일괄 저장 구현 (IDENTITY 키라 Hibernate 배치가 안 되므로 JdbcTemplate 배치 사용)
+ */
+@RequiredArgsConstructor
+public class ExtensionHistoryBatchRepositoryImpl implements ExtensionHistoryBatchRepository {
+
+    private static final String INSERT_SQL = "insert into extension_history "
+            + "(tenant_id, type, name, active, actor, changed_at) values (?, ?, ?, ?, ?, ?)";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    @Override
+    public void batchInsert(String tenantId, String actor, Instant changedAt,
+                            Collection<ExtensionStateChange> changes) {
+        if (changes.isEmpty()) {
+            return;
+        }
+        long changedAtMillis = changedAt.toEpochMilli();
+        jdbcTemplate.batchUpdate(INSERT_SQL, changes, changes.size(), (ps, change) -> {
+            ps.setString(1, tenantId);
+            ps.setString(2, change.type().name());
+            ps.setString(3, change.name());
+            ps.setBoolean(4, change.active());
+            ps.setString(5, actor);
+            ps.setLong(6, changedAtMillis);
+        });
+    }
+}
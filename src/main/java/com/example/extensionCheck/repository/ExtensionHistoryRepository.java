@@ -0,0 +1,38 @@
+package com.example.extensionCheck.repository;
+
+import com.example.extensionCheck.entity.ExtensionHistory;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.Instant;
+import java.util.List;
+
+/**
+ * 확장자 이력 리포지토리 (추가 전용, 수정/삭제 메서드 없음)
+ */
+@Repository
+public interface ExtensionHistoryRepository extends JpaRepository<ExtensionHistory, Long>, ExtensionHistoryBatchRepository {
+
+    // 재생할 이력: after 초과 ~ until 이하, 기록 순서대로 (테넌트 + 시각 인덱스)
+    default List<ExtensionStateChange> findChanges(String tenantId, Instant after, Instant until) {
+        return findChanges(tenantId, after.toEpochMilli(), until.toEpochMilli());
+    }
+
+    @Query("select new com.example.extensionCheck.repository.ExtensionStateChange(h.type, h.name, h.active) "
+            + "from ExtensionHistory h where h.tenantId = :tenantId "
+            + "and h.changedAt > :after and h.changedAt <= :until order by h.changedAt, h.id")
+    List<ExtensionStateChange> findChanges(@Param("tenantId") String tenantId,
+                                           @Param("after") long afterMillis,
+                                           @Param("until") long untilMillis);
+
+    // 기간 안에 이력이 있는 테넌트 (체크포인트 대상)
+    default List<String> findTenantIdsChangedBetween(Instant after, Instant until) {
+        return findTenantIdsChangedBetween(after.toEpochMilli(), until.toEpochMilli());
+    }
+
+    @Query("select distinct h.tenantId from ExtensionHistory h "
+            + "where h.changedAt > :after and h.changedAt <= :until")
+    List<String> findTenantIdsChangedBetween(@Param("after") long afterMillis, @Param("until") long untilMillis);
+}
@@ -0,0 +1,33 @@
+package com.example.extensionCheck.repository;
+
+import com.example.extensionCheck.entity.ExtensionOutboxCursor;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Instant;
+
+/**
+ * 아웃박스 처리 위치 리포지토리
+ */
+@Repository
+public interface ExtensionOutboxCursorRepository extends JpaRepository<ExtensionOutboxCursor, String> {
+
+    // 처리 위치 갱신 (조회 없이 UPDATE 한 번, 행이 없으면 0)
+    @Transactional
+    @Modifying
+    @Query("update ExtensionOutboxCursor c set c.position = :position, c.updatedAt = :updatedAt "
+            + "where c.nodeId = :nodeId")
+    int updatePosition(@Param("nodeId") String nodeId,
+                       @Param("position") long position,
+                       @Param("updatedAt") Instant updatedAt);
+
+    // 보관 기간 동안 갱신되지 않은(종료된 노드의) 위치 삭제
+    @Transactional
+    @Modifying
+    @Query("delete from ExtensionOutboxCursor c where c.updatedAt < :before")
+    int deleteUpdatedBefore(@Param("before") Instant before);
+}
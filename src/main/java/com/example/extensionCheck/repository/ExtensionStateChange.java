@@ -0,0 +1,9 @@
+package com.example.extensionCheck.repository;
+
+import com.example.extensionCheck.entity.ExtensionType;
+
+/**
+ * 확장자 한 건의 타입/이름/활성화 여부 (이력 기록, 일괄 가져오기 충돌 확인, 배치 변경 대상 확인용)
+ */
+public record ExtensionStateChange(ExtensionType type, String name, boolean active) {
+}
@@ -0,0 +1,18 @@
+package com.example.extensionCheck.repository;
+
+import com.example.extensionCheck.entity.ExtensionType;
+
+import java.util.Collection;
+import java.util.function.Consumer;
+
+/**
+ * 확장자 일괄 저장/조회용 커스텀 리포지토리
+ */
+public interface ExtensionsBatchRepository {
+
+    // 활성 상태의 확장자를 JDBC 배치로 일괄 INSERT
+    void batchInsertActive(String tenantId, ExtensionType type, Collection<String> names);
+
+    // 활성 확장자 이름을 등록 순서대로 한 행씩 전달 (결과 전체를 메모리에 올리지 않음)
+    void forEachActiveName(String tenantId, ExtensionType type, Consumer<String> action);
+}
@@ -0,0 +1,51 @@
+package com.example.extensionCheck.repository;
+
+import com.example.extensionCheck.entity.ExtensionType;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
+
+import java.sql.PreparedStatement;
+import java.util.Collection;
+import java.util.function.Consumer;
+
+/**
+ * 확장자 일괄 저장/조회 구현
+ * - IDENTITY 키 생성 엔티티는 Hibernate가 INSERT를 배치로 묶지 못하므로 JdbcTemplate 배치로 직접 실행
+ * - MySQL은 rewriteBatchedStatements=true 설정 시 multi-row INSERT 한 번으로 전송
+ * - 전체 조회는 fetch size 단위로 읽음 (MySQL은 useCursorFetch=true일 때 서버 커서 사용)
+ */
+@RequiredArgsConstructor
+public class ExtensionsBatchRepositoryImpl implements ExtensionsBatchRepository {
+
+    private static final String INSERT_SQL =
+            "insert into extensions (tenant_id, name, is_active, type) values (?, ?, true, ?)";
+    private static final String SELECT_ACTIVE_NAMES_SQL =
+            "select name from extensions where tenant_id = ? and type = ? and is_active = true order by id";
+    private static final int FETCH_SIZE = 500;
+
+    private final JdbcTemplate jdbcTemplate;
+
+    @Override
+    public void batchInsertActive(String tenantId, ExtensionType type, Collection<String> names) {
+        if (names.isEmpty()) {
+            return;
+        }
+        jdbcTemplate.batchUpdate(INSERT_SQL, names, names.size(), (ps, name) -> {
+            ps.setString(1, tenantId);
+            ps.setString(2, name);
+            ps.setString(3, type.name());
+        });
+    }
+
+    @Override
+    public void forEachActiveName(String tenantId, ExtensionType type, Consumer<String> action) {
+        jdbcTemplate.query(connection -> {
+            PreparedStatement ps = connection.prepareStatement(SELECT_ACTIVE_NAMES_SQL);
+            ps.setFetchSize(FETCH_SIZE);
+            ps.setString(1, tenantId);
+            ps.setString(2, type.name());
+            return ps;
+        }, (RowCallbackHandler) rs -> action.accept(rs.getString(1)));
+    }
+}
@@ -3,28 +3,57 @@ package com.example.extensionCheck.repository;
 import com.example.extensionCheck.entity.ExtensionType;
 import com.example.extensionCheck.entity.Extensions;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
+/**
+ * 확장자 리포지토리 (모든 조회/변경은 테넌트 단위)
+ */
 @Repository
-public interface ExtensionsRepository extends JpaRepository<Extensions, Long> {
-
-    Optional<Extensions> findByName(String extensionName);
-
-    List<Extensions> findAllByIsActiveTrue();
-
-    // 이름으로 찾되, 현재 활성화(true) 상태인 것만 조회
-    Optional<Extensions> findByNameAndIsActiveTrue(String name);
-
-    // 타입별 활성화된 확장자 조회
-    List<Extensions> findAllByTypeAndIsActiveTrue(ExtensionType type);
-
-    // 이름과 타입으로 조회
-    Optional<Extensions> findByNameAndType(String name, ExtensionType type);
-
-    // 타입별 활성화된 확장자 개수 조회
-    long countByTypeAndIsActiveTrue(ExtensionType type);
+public interface ExtensionsRepository extends JpaRepository<Extensions, Long>, ExtensionsBatchRepository {
+
+    // 테넌트 안에서 이름으로 조회
+    Optional<Extensions> findByTenantIdAndName(String tenantId, String name);
+
+    // 테넌트 안에서 이름과 타입으로 조회
+    Optional<Extensions> findByTenantIdAndNameAndType(String tenantId, String name, ExtensionType type);
+
+    // 테넌트의 활성화된 확장자 타입/이름 전체를 한 번에 조회 (엔티티 생성 없음)
+    @Query("select new com.example.extensionCheck.repository.ActiveExtensionName(e.type, e.name) "
+            + "from Extensions e where e.tenantId = :tenantId and e.isActive = true order by e.id")
+    List<ActiveExtensionName> findAllActiveNames(@Param("tenantId") String tenantId);
+
+    // 확장자가 있는 테넌트 전체 (이력 도입 시 기준 체크포인트 생성용)
+    @Query("select distinct e.tenantId from Extensions e")
+    List<String> findTenantIds();
+
+    // 이름 목록 중 이미 있는 확장자의 타입/활성화 여부 (타입 무관, SELECT ... IN 한 번)
+    @Query("select new com.example.extensionCheck.repository.ExtensionStateChange(e.type, e.name, e.isActive) "
+            + "from Extensions e where e.tenantId = :tenantId and e.name in :names")
+    List<ExtensionStateChange> findStatesByNameIn(@Param("tenantId") String tenantId,
+                                                  @Param("names") Collection<String> names);
+
+    // 타입과 이름 목록으로 활성화 상태 일괄 변경 (UPDATE 한 번)
+    @Modifying
+    @Query("update Extensions e set e.isActive = :active "
+            + "where e.tenantId = :tenantId and e.type = :type and e.name in :names")
+    int updateActiveByTypeAndNameIn(@Param("tenantId") String tenantId,
+                                    @Param("type") ExtensionType type,
+                                    @Param("names") Collection<String> names,
+                                    @Param("active") boolean active);
+
+    // 비활성 상태인 확장자만 재활성화 (조회 없이 UPDATE 한 번, 변경 건수 반환)
+    @Modifying
+    @Query("update Extensions e set e.isActive = true "
+            + "where e.tenantId = :tenantId and e.name = :name and e.type = :type and e.isActive = false")
+    int reactivate(@Param("tenantId") String tenantId,
+                   @Param("name") String name,
+                   @Param("type") ExtensionType type);
 
 }
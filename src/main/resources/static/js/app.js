@@ -4,10 +4,10 @@ $(document).ready(function() {
     // ============================================
 
     // 초기 데이터 로드 (ApiResponse 래퍼에서 data 추출)
-    API.getAll().then(response => UI.update(response.data));
+    Sync.resync();
 
-    // WebSocket 연결
-    WS.connect(UI.update);
+    // WebSocket 연결 (버전이 이어지지 않으면 누락분 재조회)
+    WS.connect(data => Sync.apply(data), () => Sync.resync());
 
     // Dialog 닫기 버튼
     $('#alertCloseBtn').click(function() {
@@ -26,6 +26,22 @@ $(document).ready(function() {
 
     // 커스텀 확장자 삭제 버튼 (동적 요소)
     $(document).on('click', '.delete-custom-btn', handleDeleteClick);
+
+    // 커스텀 확장자 앞글자 검색 (입력이 멈추면 첫 페이지부터 다시 조회)
+    let searchTimer = null;
+    $('#customSearch').on('input', function() {
+        clearTimeout(searchTimer);
+        searchTimer = setTimeout(() => CustomList.reset($(this).val()), 300);
+    });
+
+    // 목록 끝이 보이면 다음 페이지 조회 (IntersectionObserver가 없으면 더 보기 버튼)
+    $('#loadMoreBtn').click(() => CustomList.loadMore());
+    if ('IntersectionObserver' in window) {
+        new IntersectionObserver(entries => {
+            if (entries.some(entry => entry.isIntersecting)) CustomList.loadMore();
+        }, { root: document.getElementById('customListScroll') })
+            .observe(document.getElementById('customListEnd'));
+    }
 });
 
 // ============================================
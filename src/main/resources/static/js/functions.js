@@ -2,9 +2,15 @@ const CONFIG = {
     API_BASE: '/api/extensions',
     WS_ENDPOINT: '/ws',
     WS_TOPIC: '/topic/extensions',
-    MAX_CUSTOM: 200
+    TENANT_HEADER: 'X-Tenant-Id',
+    TENANT: document.body.dataset.tenant || 'default',
+    MAX_CUSTOM: Number(document.body.dataset.maxCustom),
+    PAGE_SIZE: 100
 };
 
+// 모든 API 요청에 테넌트 헤더 추가
+$.ajaxSetup({ headers: { [CONFIG.TENANT_HEADER]: CONFIG.TENANT } });
+
 const Dialog = {
     show(message, type = 'info') {
         const dialog = document.getElementById('alertDialog');
@@ -74,6 +80,25 @@ const API = {
         });
     },
 
+    getCustomPage(prefix, after) {
+        const data = { size: CONFIG.PAGE_SIZE };
+        if (prefix) data.prefix = prefix;
+        if (after !== null) data.after = after;
+        return $.ajax({
+            url: `${CONFIG.API_BASE}/custom`,
+            method: 'GET',
+            data
+        });
+    },
+
+    getChanges(since, epoch) {
+        return $.ajax({
+            url: `${CONFIG.API_BASE}/changes`,
+            method: 'GET',
+            data: { since, epoch }
+        });
+    },
+
     addCustom(name) {
         return $.ajax({
             url: `${CONFIG.API_BASE}/add`,
@@ -156,21 +181,23 @@ const Debounce = {
 const WS = {
     client: null,
 
-    connect(onMessage) {
+    connect(onMessage, onConnect) {
         const socket = new SockJS(CONFIG.WS_ENDPOINT);
         this.client = Stomp.over(socket);
         this.client.debug = null; // 디버그 로그 비활성화
 
         this.client.connect({}, (frame) => {
             console.log('WebSocket 연결 성공');
-            this.client.subscribe(CONFIG.WS_TOPIC, (message) => {
+            this.client.subscribe(`${CONFIG.WS_TOPIC}/${CONFIG.TENANT}`, (message) => {
                 const data = JSON.parse(message.body);
                 console.log('WebSocket 메시지 수신:', data);
                 onMessage(data);
             });
+            // 연결이 끊긴 동안 놓친 변경 보정
+            if (onConnect) onConnect();
         }, (error) => {
             console.error('WebSocket 연결 실패:', error);
-            setTimeout(() => this.connect(onMessage), 3000); // 3초 후 재연결
+            setTimeout(() => this.connect(onMessage, onConnect), 3000); // 3초 후 재연결
         });
     },
 
@@ -182,20 +209,122 @@ const WS = {
     }
 };
 
-// UI - 화면 렌더링
-const UI = {
-    update(data) {
-        // Delta 업데이트 처리
-        if (data.type === 'delta') {
-            if (data.fixedAdded) {
-                data.fixedAdded.forEach(ext => $(`.fixed-ext[value="${ext}"]`).prop('checked', true));
+// Sync - 버전 기반 동기화 (delta 누락 시 재동기화)
+// 버전은 epoch(노드 프로세스) 안에서만 비교할 수 있다
+const Sync = {
+    epoch: null,
+    version: null,
+    resyncing: false,
+
+    apply(data) {
+        if (this.resyncing) return;
+        if (this.epoch !== null && data.epoch !== this.epoch) {
+            // 다른 노드/재시작: 전체 목록은 그대로 받고 delta는 버리고 전체 재조회
+            if (data.type === 'delta') {
+                this.epoch = null;
+                this.version = null;
+                this.resync();
+                return;
             }
-            if (data.fixedRemoved) {
-                data.fixedRemoved.forEach(ext => $(`.fixed-ext[value="${ext}"]`).prop('checked', false));
+        } else if (this.version !== null && data.version <= this.version) {
+            return; // 이미 반영된 버전
+        }
+        if (data.type === 'delta') {
+            if (data.fromVersion !== this.version) {
+                this.resync(); // 중간 변경 누락
+                return;
             }
-            return;
+            UI.applyDelta(data);
+        } else {
+            UI.update(data);
         }
+        this.epoch = data.epoch;
+        this.version = data.version;
+    },
+
+    resync() {
+        if (this.resyncing) return;
+        this.resyncing = true;
+
+        const request = this.version === null ? API.getAll() : API.getChanges(this.version, this.epoch);
+        request
+            .done(response => {
+                this.resyncing = false;
+                this.apply(response.data);
+            })
+            .fail(() => {
+                this.resyncing = false;
+                setTimeout(() => this.resync(), 3000);
+            });
+    }
+};
+
+// CustomList - 커스텀 확장자 목록 (이름순 페이지를 필요할 때 이어서 조회)
+const CustomList = {
+    prefix: '',
+    names: new Set(),   // 화면에 있는 이름
+    next: null,         // 다음 페이지 cursor (불러온 마지막 이름, 끝이면 null)
+    loaded: false,      // 첫 페이지 조회 여부
+    loading: false,
+    request: 0,         // 검색어가 바뀌면 이전 요청의 응답은 버림
+
+    reset(prefix = this.prefix) {
+        this.prefix = prefix.trim().toLowerCase();
+        this.names = new Set();
+        this.next = null;
+        this.loaded = false;
+        this.loading = false;
+        this.request++;
+        $('#customExtensionList').empty();
+        $('#loadMoreBtn').addClass('hidden');
+        this.loadMore();
+    },
 
+    loadMore() {
+        if (this.loading || (this.loaded && this.next === null)) return;
+        const request = this.request;
+        this.loading = true;
+
+        API.getCustomPage(this.prefix, this.next)
+            .done(response => {
+                if (request !== this.request) return;
+                const page = response.data;
+                page.items.forEach(ext => this.add(ext, true));
+                this.next = page.next;
+                this.loaded = true;
+                $('#loadMoreBtn').toggleClass('hidden', page.next === null);
+            })
+            .always(() => {
+                if (request === this.request) this.loading = false;
+            });
+    },
+
+    // 페이지는 뒤에 붙이고, delta는 불러온 범위 안일 때만 정렬 위치에 끼움 (범위 밖은 다음 페이지에서 옴)
+    add(name, fromPage = false) {
+        if (this.names.has(name) || !name.startsWith(this.prefix)) return;
+        if (!fromPage && (!this.loaded || (this.next !== null && name > this.next))) return;
+        this.names.add(name);
+        UI.addChip(name, fromPage);
+    },
+
+    remove(name) {
+        if (this.names.delete(name)) UI.removeChip(name);
+    }
+};
+
+// UI - 화면 렌더링
+const UI = {
+    applyDelta(data) {
+        data.fixedAdded.forEach(ext => $(`.fixed-ext[value="${ext}"]`).prop('checked', true));
+        data.fixedRemoved.forEach(ext => $(`.fixed-ext[value="${ext}"]`).prop('checked', false));
+
+        data.customRemoved.forEach(ext => CustomList.remove(ext));
+        data.customAdded.forEach(ext => CustomList.add(ext));
+        $('#currentCount').text(data.count || 0);
+    },
+
+    // 전체 목록 메시지: 커스텀 확장자는 항상 첫 페이지부터 다시 조회 (목록이 크면 응답에 없음)
+    update(data) {
         $('.fixed-ext').prop('checked', false);
         if (data.fixed && data.fixed.length > 0) {
             data.fixed.forEach((ext) => {
@@ -203,16 +332,11 @@ const UI = {
             });
         }
 
-        $('#customExtensionList').empty();
-        if (data.custom) {
-            data.custom.forEach((ext) => {
-                UI.addChip(ext);
-            });
-        }
+        CustomList.reset();
         $('#currentCount').text(data.count || 0);
     },
 
-    addChip(name) {
+    addChip(name, append = true) {
         const html = `
             <div class="custom-chip inline-flex items-center gap-2 px-3 py-1.5 bg-white dark:bg-slate-700 border border-slate-200 dark:border-slate-600 rounded-md shadow-sm">
                 <span class="text-sm font-medium text-slate-700 dark:text-slate-200">${name}</span>
@@ -220,6 +344,21 @@ const UI = {
                     <span class="material-icons text-sm">close</span>
                 </button>
             </div>`;
-        $('#customExtensionList').append(html);
+        const list = $('#customExtensionList');
+        const after = append ? $() : list.children('.custom-chip')
+            .filter((i, el) => $(el).find('.delete-custom-btn').data('ext') > name)
+            .first();
+        if (after.length) {
+            after.before(html);
+        } else {
+            list.append(html);
+        }
+    },
+
+    removeChip(name) {
+        $('#customExtensionList .delete-custom-btn')
+            .filter((i, el) => $(el).data('ext') === name)
+            .closest('.custom-chip')
+            .remove();
     }
 };
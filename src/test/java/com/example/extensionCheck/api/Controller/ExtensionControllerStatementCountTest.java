@@ -0,0 +1,352 @@
+package com.example.extensionCheck.api.Controller;
+
+import com.example.extensionCheck.api.tenant.TenantArgumentResolver;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import net.ttddyy.dsproxy.QueryCountHolder;
+import net.ttddyy.dsproxy.support.ProxyDataSourceBuilder;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Import;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.request.MockHttpServletRequestBuilder;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+import org.springframework.web.context.WebApplicationContext;
+
+import javax.sql.DataSource;
+import java.time.Instant;
+import java.util.List;
+import java.util.UUID;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * 엔드포인트별 JDBC 문장 수 예산 검사 (H2)
+ * - N+1 같은 쿼리 수 회귀가 생기면 빌드 실패
+ * - 배치 실행(executeBatch)은 한 문장으로 셈
+ * - 변경 요청은 같은 트랜잭션의 아웃박스 INSERT 1문장과 이력 배치 INSERT 1문장을 포함
+ * - 테스트마다 새 테넌트를 사용하고, 스냅샷 적재(목록 조회 1회)를 먼저 해 둔 상태에서 측정
+ */
+@SpringBootTest
+@ActiveProfiles("test")
+@Import(ExtensionControllerStatementCountTest.StatementCountConfig.class)
+@DisplayName("ExtensionController SQL 문장 수 테스트")
+class ExtensionControllerStatementCountTest {
+
+    @Autowired
+    private WebApplicationContext context;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    private MockMvc mockMvc;
+
+    private String tenant;
+
+    @TestConfiguration
+    static class StatementCountConfig {
+
+        // DataSource를 감싸 현재 스레드에서 실행된 문장 수를 QueryCountHolder에 집계
+        @Bean
+        static BeanPostProcessor statementCountingDataSource() {
+            return new BeanPostProcessor() {
+                @Override
+                public Object postProcessAfterInitialization(Object bean, String beanName) {
+                    if (bean instanceof DataSource dataSource) {
+                        return ProxyDataSourceBuilder.create(dataSource).name(beanName).countQuery().build();
+                    }
+                    return bean;
+                }
+            };
+        }
+    }
+
+    @BeforeEach
+    void setUp() {
+        mockMvc = MockMvcBuilders.webAppContextSetup(context).build();
+        tenant = "stmt-" + UUID.randomUUID();
+    }
+
+    @AfterEach
+    void tearDown() {
+        QueryCountHolder.clear();
+    }
+
+    @Nested
+    @DisplayName("GET /api/extensions")
+    class GetList {
+
+        @Test
+        @DisplayName("처음 조회하는 테넌트는 1문장으로 스냅샷을 적재한다")
+        void getList_coldTenant_oneStatement() throws Exception {
+            assertThat(statements(get("/api/extensions"))).isEqualTo(1);
+        }
+
+        @Test
+        @DisplayName("스냅샷이 적재된 테넌트는 DB를 조회하지 않는다")
+        void getList_warmTenant_noStatement() throws Exception {
+            // given
+            warmUp();
+
+            // when & then
+            assertThat(statements(get("/api/extensions"))).isZero();
+        }
+
+        @Test
+        @DisplayName("변경 조회도 DB를 조회하지 않는다")
+        void getChanges_noStatement() throws Exception {
+            // given
+            warmUp();
+
+            // when & then
+            assertThat(statements(get("/api/extensions/changes").param("since", "0"))).isZero();
+        }
+
+        @Test
+        @DisplayName("커스텀 확장자 페이지 조회는 스냅샷만 사용하고 DB를 조회하지 않는다")
+        void customPage_noStatement() throws Exception {
+            // given
+            warmUp();
+            perform(post("/api/extensions/custom/import").contentType("text/csv").content(
+                    String.join("\n", letterNames(100))));
+
+            // when & then
+            assertThat(statements(get("/api/extensions/custom").param("prefix", "b").param("size", "10")))
+                    .isZero();
+        }
+    }
+
+    @Nested
+    @DisplayName("커스텀 확장자")
+    class Custom {
+
+        @Test
+        @DisplayName("추가는 재활성화 UPDATE 1 + INSERT 1 + 아웃박스/이력 INSERT 2 이내")
+        void addExtension_budget() throws Exception {
+            // given
+            warmUp();
+
+            // when & then
+            assertThat(statements(post("/api/extensions/add").param("customExtension", "pdf")))
+                    .isLessThanOrEqualTo(4);
+        }
+
+        @Test
+        @DisplayName("삭제는 SELECT 1 + UPDATE 1 + 아웃박스/이력 INSERT 2 이내")
+        void deleteCustom_budget() throws Exception {
+            // given
+            warmUp();
+            perform(post("/api/extensions/add").param("customExtension", "pdf"));
+
+            // when & then
+            assertThat(statements(delete("/api/extensions/custom/pdf"))).isLessThanOrEqualTo(4);
+        }
+    }
+
+    @Nested
+    @DisplayName("고정 확장자")
+    class Fixed {
+
+        @Test
+        @DisplayName("활성화는 SELECT 1 + INSERT 또는 UPDATE 1 + 아웃박스/이력 INSERT 2 이내")
+        void saveFixed_budget() throws Exception {
+            // given
+            warmUp();
+
+            // when & then
+            assertThat(statements(post("/api/extensions/fixed/exe"))).isLessThanOrEqualTo(4);
+            assertThat(statements(delete("/api/extensions/fixed/exe"))).isLessThanOrEqualTo(4);
+            assertThat(statements(post("/api/extensions/fixed/exe"))).isLessThanOrEqualTo(4);
+        }
+
+        @Test
+        @DisplayName("새 이름 50개 배치는 SELECT IN 1 + 배치 INSERT 1 + 아웃박스/이력 INSERT 2")
+        void batch_newNames_budget() throws Exception {
+            // given
+            warmUp();
+
+            // when & then
+            assertThat(statements(batch(names("a", 50), List.of()))).isLessThanOrEqualTo(4);
+        }
+
+        @Test
+        @DisplayName("기존/신규/해제가 섞인 50개 배치도 항목 수와 무관하게 6문장 이내")
+        void batch_mixed_budget() throws Exception {
+            // given
+            warmUp();
+            perform(batch(names("a", 25), List.of()));
+
+            // when
+            List<String> checked = names("a", 20);
+            checked.addAll(names("b", 20));
+
+            // then
+            assertThat(statements(batch(checked, names("a", 25).subList(20, 25))))
+                    .isLessThanOrEqualTo(6);
+        }
+    }
+
+    @Nested
+    @DisplayName("일괄 가져오기/내보내기")
+    class Bulk {
+
+        @Test
+        @DisplayName("한 청크(150행) 가져오기는 SELECT IN 1 + 배치 INSERT 1 + 아웃박스/이력 INSERT 2")
+        void import_budget() throws Exception {
+            // given
+            warmUp();
+            String csv = letterNames(150).stream().collect(Collectors.joining("\n", "name\n", "\n"));
+
+            // when & then
+            assertThat(statements(post("/api/extensions/custom/import")
+                    .contentType("text/csv").content(csv))).isLessThanOrEqualTo(4);
+        }
+
+        @Test
+        @DisplayName("내보내기는 행 수와 무관하게 1문장")
+        void export_budget() throws Exception {
+            // given
+            warmUp();
+            perform(post("/api/extensions/custom/import").contentType("text/csv").content(
+                    String.join("\n", letterNames(100))));
+
+            // when
+            QueryCountHolder.clear();
+            String body = mockMvc.perform(get("/api/extensions/custom/export").param("format", "ndjson")
+                            .header(TenantArgumentResolver.HEADER, tenant))
+                    .andExpect(status().isOk())
+                    .andReturn().getResponse().getContentAsString();
+
+            // then
+            assertThat(QueryCountHolder.getGrandTotal().getTotal()).isEqualTo(1);
+            assertThat(body.lines()).hasSize(100);
+        }
+    }
+
+    @Nested
+    @DisplayName("시점 조회")
+    class History {
+
+        @Test
+        @DisplayName("체크포인트 조회 1 + 이력 재생 1문장으로 해당 시각의 목록을 만든다")
+        void history_budget() throws Exception {
+            // given
+            perform(post("/api/extensions/add").param("customExtension", "pdf"));
+            perform(post("/api/extensions/fixed/exe"));
+            perform(delete("/api/extensions/custom/pdf"));
+            perform(post("/api/extensions/add").param("customExtension", "hwp"));
+
+            // when
+            QueryCountHolder.clear();
+            String body = mockMvc.perform(get("/api/extensions/history")
+                            .param("at", Instant.now().plusSeconds(1).toString())
+                            .header(TenantArgumentResolver.HEADER, tenant))
+                    .andExpect(status().isOk())
+                    .andReturn().getResponse().getContentAsString();
+
+            // then
+            assertThat(QueryCountHolder.getGrandTotal().getTotal()).isLessThanOrEqualTo(2);
+            assertThat(body).contains("\"fixed\":[\"exe\"]", "\"custom\":[\"hwp\"]");
+        }
+    }
+
+    @Nested
+    @DisplayName("요청별 SQL 지표")
+    class Metric {
+
+        @Test
+        @DisplayName("JdbcTemplate 배치 INSERT를 포함해 DataSource에서 실행된 문장을 모두 기록한다")
+        void batch_metricMatchesDataSource() throws Exception {
+            // given
+            warmUp();
+            double before = recordedStatements("PATCH", "/api/extensions/fixed/batch");
+
+            // when
+            long executed = statements(batch(names("a", 50), List.of()));
+
+            // then
+            assertThat(executed).isGreaterThanOrEqualTo(3);
+            assertThat(recordedStatements("PATCH", "/api/extensions/fixed/batch") - before).isEqualTo(executed);
+        }
+
+        private double recordedStatements(String method, String uri) {
+            DistributionSummary summary = meterRegistry.find("extension.sql.statements")
+                    .tag("method", method).tag("uri", uri).summary();
+            return summary != null ? summary.totalAmount() : 0;
+        }
+    }
+
+    @Nested
+    @DisplayName("파일 판별")
+    class Check {
+
+        @Test
+        @DisplayName("파일명/내용/대량 판별은 스냅샷만 사용하고 DB를 조회하지 않는다")
+        void check_noStatement() throws Exception {
+            // given
+            warmUp();
+
+            // when & then
+            assertThat(statements(get("/api/extensions/check").param("filename", "a.exe"))).isZero();
+            assertThat(statements(post("/api/extensions/check/content").param("filename", "a.txt")
+                    .contentType(MediaType.APPLICATION_OCTET_STREAM).content("hello".getBytes()))).isZero();
+            assertThat(statements(post("/api/extensions/check/bulk")
+                    .contentType(MediaType.APPLICATION_NDJSON).content("\"a.exe\"\n\"b.txt\"\n"))).isZero();
+        }
+    }
+
+    private void warmUp() throws Exception {
+        perform(get("/api/extensions"));
+    }
+
+    private long statements(MockHttpServletRequestBuilder request) throws Exception {
+        QueryCountHolder.clear();
+        perform(request);
+        return QueryCountHolder.getGrandTotal().getTotal();
+    }
+
+    private void perform(MockHttpServletRequestBuilder request) throws Exception {
+        mockMvc.perform(request.header(TenantArgumentResolver.HEADER, tenant))
+                .andExpect(status().isOk());
+    }
+
+    private static MockHttpServletRequestBuilder batch(List<String> checked, List<String> unchecked) {
+        String body = "{\"checked\":" + json(checked) + ",\"unchecked\":" + json(unchecked) + "}";
+        return patch("/api/extensions/fixed/batch")
+                .contentType(MediaType.APPLICATION_JSON)
+                .header(HttpHeaders.ACCEPT, MediaType.APPLICATION_JSON_VALUE)
+                .content(body);
+    }
+
+    private static List<String> names(String prefix, int count) {
+        return IntStream.range(0, count)
+                .mapToObj(i -> prefix + i)
+                .collect(Collectors.toList());
+    }
+
+    // 확장자에는 숫자를 쓸 수 없으므로 aa, ab, ... 형태의 이름
+    private static List<String> letterNames(int count) {
+        return IntStream.range(0, count)
+                .mapToObj(i -> "" + (char) ('a' + i / 26) + (char) ('a' + i % 26))
+                .collect(Collectors.toList());
+    }
+
+    private static String json(List<String> names) {
+        return names.stream().map(name -> "\"" + name + "\"").collect(Collectors.joining(",", "[", "]"));
+    }
+}
@@ -1,10 +1,23 @@
 package com.example.extensionCheck.api.Controller;
 
+import com.example.extensionCheck.api.Service.ExtensionBulkService;
+import com.example.extensionCheck.api.Service.ExtensionBulkService.Format;
+import com.example.extensionCheck.api.Service.ExtensionCheckService;
 import com.example.extensionCheck.api.Service.ExtensionService;
 import com.example.extensionCheck.api.exception.ExtensionErrorCode;
 import com.example.extensionCheck.api.exception.ExtensionException;
 import com.example.extensionCheck.api.exception.GlobalExceptionHandler;
+import com.example.extensionCheck.api.history.ExtensionHistoryService;
+import com.example.extensionCheck.api.matcher.ExtensionMatcher;
+import com.example.extensionCheck.api.response.CustomExtensionPageResponse;
+import com.example.extensionCheck.api.response.ExtensionCheckResponse;
+import com.example.extensionCheck.api.response.ExtensionDeltaResponse;
+import com.example.extensionCheck.api.response.ExtensionHistoryResponse;
+import com.example.extensionCheck.api.response.ExtensionImportResponse;
 import com.example.extensionCheck.api.response.ExtensionListResponse;
+import com.example.extensionCheck.api.snapshot.ExtensionDelta;
+import com.example.extensionCheck.api.tenant.ActorArgumentResolver;
+import com.example.extensionCheck.api.tenant.TenantArgumentResolver;
 import com.example.extensionCheck.entity.ExtensionType;
 import com.example.extensionCheck.entity.Extensions;
 import org.junit.jupiter.api.BeforeEach;
@@ -19,9 +32,11 @@ import org.springframework.http.MediaType;
 import org.springframework.test.web.servlet.MockMvc;
 import org.springframework.test.web.servlet.setup.MockMvcBuilders;
 
+import java.time.Instant;
 import java.util.List;
 
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
 import static org.mockito.Mockito.*;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
@@ -35,6 +50,15 @@ class ExtensionControllerTest {
     @Mock
     private ExtensionService extensionService;
 
+    @Mock
+    private ExtensionCheckService extensionCheckService;
+
+    @Mock
+    private ExtensionHistoryService historyService;
+
+    @Mock
+    private ExtensionBulkService bulkService;
+
     @InjectMocks
     private ExtensionController extensionController;
 
@@ -42,6 +66,7 @@ class ExtensionControllerTest {
     void setUp() {
         mockMvc = MockMvcBuilders.standaloneSetup(extensionController)
                 .setControllerAdvice(new GlobalExceptionHandler())
+                .setCustomArgumentResolvers(new TenantArgumentResolver(), new ActorArgumentResolver())
                 .build();
     }
 
@@ -55,7 +80,7 @@ class ExtensionControllerTest {
             // given
             Extensions ext = Extensions.builder()
                     .name("pdf").isActive(true).type(ExtensionType.CUSTOM).build();
-            when(extensionService.addExtension("pdf")).thenReturn(ext);
+            when(extensionService.addExtension("default", "anonymous", "pdf")).thenReturn(ext);
 
             // when & then
             mockMvc.perform(post("/api/extensions/add")
@@ -65,11 +90,26 @@ class ExtensionControllerTest {
                     .andExpect(jsonPath("$.data.name").value("pdf"));
         }
 
+        @Test
+        @DisplayName("X-Actor-Id 헤더의 사용자로 변경한다")
+        void addExtension_withActor() throws Exception {
+            // given
+            Extensions ext = Extensions.builder()
+                    .name("pdf").isActive(true).type(ExtensionType.CUSTOM).build();
+            when(extensionService.addExtension("default", "alice", "pdf")).thenReturn(ext);
+
+            // when & then
+            mockMvc.perform(post("/api/extensions/add")
+                            .header(ActorArgumentResolver.HEADER, " alice ")
+                            .param("customExtension", "pdf"))
+                    .andExpect(status().isOk());
+        }
+
         @Test
         @DisplayName("빈 입력 시 BAD_REQUEST 반환")
         void addExtension_emptyInput_badRequest() throws Exception {
             // given
-            when(extensionService.addExtension(""))
+            when(extensionService.addExtension("default", "anonymous", ""))
                     .thenThrow(new ExtensionException(ExtensionErrorCode.EMPTY_INPUT));
 
             // when & then
@@ -83,7 +123,7 @@ class ExtensionControllerTest {
         @DisplayName("숫자 포함 시 BAD_REQUEST 반환")
         void addExtension_containsDigit_badRequest() throws Exception {
             // given
-            when(extensionService.addExtension("pdf123"))
+            when(extensionService.addExtension("default", "anonymous", "pdf123"))
                     .thenThrow(new ExtensionException(ExtensionErrorCode.CONTAINS_DIGIT));
 
             // when & then
@@ -97,7 +137,7 @@ class ExtensionControllerTest {
         @DisplayName("중복 확장자 시 CONFLICT 반환")
         void addExtension_alreadyExists_conflict() throws Exception {
             // given
-            when(extensionService.addExtension("pdf"))
+            when(extensionService.addExtension("default", "anonymous", "pdf"))
                     .thenThrow(new ExtensionException(ExtensionErrorCode.ALREADY_EXISTS));
 
             // when & then
@@ -118,16 +158,70 @@ class ExtensionControllerTest {
             // given
             ExtensionListResponse response = ExtensionListResponse.full(
                     List.of("exe", "bat"), List.of("pdf", "doc"));
-            when(extensionService.getActiveExtensions()).thenReturn(response);
+            when(extensionService.getActiveExtensions("default")).thenReturn(response);
+            when(extensionService.getListETag(anyLong())).thenReturn("\"e-1\"");
 
             // when & then
             mockMvc.perform(get("/api/extensions"))
                     .andExpect(status().isOk())
+                    .andExpect(header().string("ETag", "\"e-1\""))
                     .andExpect(jsonPath("$.success").value(true))
                     .andExpect(jsonPath("$.data.fixed").isArray())
                     .andExpect(jsonPath("$.data.custom").isArray())
                     .andExpect(jsonPath("$.data.count").value(2));
         }
+
+        @Test
+        @DisplayName("If-None-Match가 현재 ETag와 같으면 본문 없이 304를 반환한다")
+        void getList_notModified() throws Exception {
+            // given
+            ExtensionListResponse response = ExtensionListResponse.full(List.of("exe"), List.of());
+            when(extensionService.getActiveExtensions("default")).thenReturn(response);
+            when(extensionService.getListETag(anyLong())).thenReturn("\"e-1\"");
+
+            // when & then
+            mockMvc.perform(get("/api/extensions").header("If-None-Match", "\"e-1\""))
+                    .andExpect(status().isNotModified())
+                    .andExpect(header().string("ETag", "\"e-1\""))
+                    .andExpect(content().string(""));
+        }
+
+        @Test
+        @DisplayName("If-None-Match가 이전 버전이면 200과 새 ETag를 반환한다")
+        void getList_modified() throws Exception {
+            // given
+            ExtensionListResponse response = ExtensionListResponse.full(List.of("exe"), List.of());
+            when(extensionService.getActiveExtensions("default")).thenReturn(response);
+            when(extensionService.getListETag(anyLong())).thenReturn("\"e-2\"");
+
+            // when & then
+            mockMvc.perform(get("/api/extensions").header("If-None-Match", "\"e-1\""))
+                    .andExpect(status().isOk())
+                    .andExpect(header().string("ETag", "\"e-2\""))
+                    .andExpect(jsonPath("$.data.fixed[0]").value("exe"));
+        }
+    }
+
+    @Nested
+    @DisplayName("GET /api/extensions/changes")
+    class GetChanges {
+
+        @Test
+        @DisplayName("since 이후 변경을 버전과 함께 반환")
+        void getChanges_success() throws Exception {
+            // given
+            when(extensionService.getChangesSince("default", 3, 77L)).thenReturn(ExtensionDeltaResponse.of(
+                    77, 3, 5, ExtensionDelta.activated(ExtensionType.CUSTOM, "pdf"), 1));
+
+            // when & then
+            mockMvc.perform(get("/api/extensions/changes").param("since", "3").param("epoch", "77"))
+                    .andExpect(status().isOk())
+                    .andExpect(jsonPath("$.data.type").value("delta"))
+                    .andExpect(jsonPath("$.data.epoch").value(77))
+                    .andExpect(jsonPath("$.data.fromVersion").value(3))
+                    .andExpect(jsonPath("$.data.version").value(5))
+                    .andExpect(jsonPath("$.data.customAdded[0]").value("pdf"));
+        }
     }
 
     @Nested
@@ -138,7 +232,7 @@ class ExtensionControllerTest {
         @DisplayName("커스텀 확장자 삭제 성공")
         void deleteCustomExtension_success() throws Exception {
             // given
-            doNothing().when(extensionService).deactivateExtension("pdf");
+            doNothing().when(extensionService).deactivateExtension("default", "anonymous", "pdf");
 
             // when & then
             mockMvc.perform(delete("/api/extensions/custom/pdf"))
@@ -151,7 +245,7 @@ class ExtensionControllerTest {
         void deleteCustomExtension_notFound() throws Exception {
             // given
             doThrow(new ExtensionException(ExtensionErrorCode.NOT_FOUND))
-                    .when(extensionService).deactivateExtension("notexist");
+                    .when(extensionService).deactivateExtension("default", "anonymous", "notexist");
 
             // when & then
             mockMvc.perform(delete("/api/extensions/custom/notexist"))
@@ -170,7 +264,7 @@ class ExtensionControllerTest {
             // given
             Extensions ext = Extensions.builder()
                     .name("exe").isActive(true).type(ExtensionType.FIXED).build();
-            when(extensionService.saveFixedExtension("exe")).thenReturn(ext);
+            when(extensionService.saveFixedExtension("default", "anonymous", "exe")).thenReturn(ext);
 
             // when & then
             mockMvc.perform(post("/api/extensions/fixed/exe"))
@@ -188,7 +282,7 @@ class ExtensionControllerTest {
         @DisplayName("고정 확장자 삭제 성공")
         void deleteFixedExtension_success() throws Exception {
             // given
-            doNothing().when(extensionService).deleteFixedExtension("exe");
+            doNothing().when(extensionService).deleteFixedExtension("default", "anonymous", "exe");
 
             // when & then
             mockMvc.perform(delete("/api/extensions/fixed/exe"))
@@ -214,7 +308,7 @@ class ExtensionControllerTest {
                     .andExpect(status().isOk())
                     .andExpect(jsonPath("$.success").value(true));
 
-            verify(extensionService).batchUpdateFixed(List.of("exe", "bat"), List.of("cmd"));
+            verify(extensionService).batchUpdateFixed("default", "anonymous", List.of("exe", "bat"), List.of("cmd"));
         }
 
         @Test
@@ -231,4 +325,199 @@ class ExtensionControllerTest {
                     .andExpect(jsonPath("$.success").value(true));
         }
     }
+
+    @Nested
+    @DisplayName("GET /api/extensions/history")
+    class History {
+
+        @Test
+        @DisplayName("해당 시각의 차단 목록 반환")
+        void getHistory_success() throws Exception {
+            // given
+            Instant at = Instant.parse("2026-01-01T00:00:00Z");
+            when(historyService.getBlocklistAt("default", at)).thenReturn(ExtensionHistoryResponse.builder()
+                    .at(at).fixed(List.of("exe")).custom(List.of("pdf")).count(1).replayed(2).build());
+
+            // when & then
+            mockMvc.perform(get("/api/extensions/history").param("at", "2026-01-01T00:00:00Z"))
+                    .andExpect(status().isOk())
+                    .andExpect(jsonPath("$.data.fixed[0]").value("exe"))
+                    .andExpect(jsonPath("$.data.custom[0]").value("pdf"))
+                    .andExpect(jsonPath("$.data.replayed").value(2));
+        }
+
+        @Test
+        @DisplayName("보관된 이력 이전 시각이면 410과 EXT_014 반환")
+        void getHistory_outOfRetention() throws Exception {
+            // given
+            Instant at = Instant.parse("2020-01-01T00:00:00Z");
+            when(historyService.getBlocklistAt("default", at))
+                    .thenThrow(new ExtensionException(ExtensionErrorCode.HISTORY_OUT_OF_RETENTION));
+
+            // when & then
+            mockMvc.perform(get("/api/extensions/history").param("at", "2020-01-01T00:00:00Z"))
+                    .andExpect(status().isGone())
+                    .andExpect(jsonPath("$.code").value("EXT_014"));
+        }
+    }
+
+    @Nested
+    @DisplayName("GET /api/extensions/check")
+    class CheckFilename {
+
+        @Test
+        @DisplayName("차단 확장자 파일명은 blocked=true 반환")
+        void check_blocked() throws Exception {
+            // given
+            when(extensionCheckService.check("default", "virus.exe")).thenReturn(ExtensionCheckResponse.of(
+                    "virus.exe", new ExtensionMatcher.Match("exe", ExtensionType.FIXED), 3));
+
+            // when & then
+            mockMvc.perform(get("/api/extensions/check").param("filename", "virus.exe"))
+                    .andExpect(status().isOk())
+                    .andExpect(jsonPath("$.data.blocked").value(true))
+                    .andExpect(jsonPath("$.data.extension").value("exe"))
+                    .andExpect(jsonPath("$.data.type").value("FIXED"))
+                    .andExpect(jsonPath("$.data.version").value(3));
+        }
+
+        @Test
+        @DisplayName("빈 파일명은 BAD_REQUEST 반환")
+        void check_emptyFilename_badRequest() throws Exception {
+            // given
+            when(extensionCheckService.check("default", " "))
+                    .thenThrow(new ExtensionException(ExtensionErrorCode.EMPTY_FILENAME));
+
+            // when & then
+            mockMvc.perform(get("/api/extensions/check").param("filename", " "))
+                    .andExpect(status().isBadRequest())
+                    .andExpect(jsonPath("$.code").value("EXT_009"));
+        }
+    }
+
+    @Nested
+    @DisplayName("POST /api/extensions/check/bulk")
+    class CheckBulk {
+
+        @Test
+        @DisplayName("NDJSON 요청을 서비스로 스트리밍한다")
+        void checkBulk_streamsToService() throws Exception {
+            // when & then
+            mockMvc.perform(post("/api/extensions/check/bulk")
+                            .contentType(MediaType.APPLICATION_NDJSON)
+                            .content("a.exe\nb.png\n"))
+                    .andExpect(status().isOk())
+                    .andExpect(content().contentTypeCompatibleWith(MediaType.APPLICATION_NDJSON));
+
+            verify(extensionCheckService).checkBulk(eq("default"), any(), any());
+        }
+    }
+
+    @Nested
+    @DisplayName("GET /api/extensions/custom")
+    class GetCustomPage {
+
+        @Test
+        @DisplayName("prefix/after/size를 넘기고 페이지와 next를 반환한다")
+        void getCustomPage_success() throws Exception {
+            // given
+            when(extensionService.getCustomPage("default", "p", "pdf", 2))
+                    .thenReturn(CustomExtensionPageResponse.builder()
+                            .items(List.of("png", "ppt")).next("ppt").count(10).version(4).build());
+
+            // when & then
+            mockMvc.perform(get("/api/extensions/custom")
+                            .param("prefix", "p").param("after", "pdf").param("size", "2"))
+                    .andExpect(status().isOk())
+                    .andExpect(jsonPath("$.data.items[1]").value("ppt"))
+                    .andExpect(jsonPath("$.data.next").value("ppt"))
+                    .andExpect(jsonPath("$.data.count").value(10));
+        }
+    }
+
+    @Nested
+    @DisplayName("POST /api/extensions/custom/import")
+    class ImportCustom {
+
+        @Test
+        @DisplayName("Content-Type으로 형식을 정해 가져오기 결과를 반환한다")
+        void importCustom_success() throws Exception {
+            // given
+            ExtensionImportResponse response = ExtensionImportResponse.builder()
+                    .total(2).imported(1).failed(1)
+                    .errors(List.of(new ExtensionImportResponse.RowError(2, "zip1", "EXT_003", "숫자")))
+                    .version(3)
+                    .build();
+            when(bulkService.importCustom(eq("default"), eq("alice"), eq(Format.NDJSON), any()))
+                    .thenReturn(response);
+
+            // when & then
+            mockMvc.perform(post("/api/extensions/custom/import")
+                            .header("X-Actor-Id", "alice")
+                            .contentType(MediaType.APPLICATION_NDJSON)
+                            .content("\"pdf\"\n\"zip1\"\n"))
+                    .andExpect(status().isOk())
+                    .andExpect(jsonPath("$.data.imported").value(1))
+                    .andExpect(jsonPath("$.data.errors[0].line").value(2))
+                    .andExpect(jsonPath("$.data.errors[0].code").value("EXT_003"));
+        }
+    }
+
+    @Nested
+    @DisplayName("GET /api/extensions/custom/export")
+    class ExportCustom {
+
+        @Test
+        @DisplayName("기본 CSV 형식의 첨부 파일로 서비스가 바로 쓰게 한다")
+        void exportCustom_csv() throws Exception {
+            // when & then
+            mockMvc.perform(get("/api/extensions/custom/export"))
+                    .andExpect(status().isOk())
+                    .andExpect(content().contentTypeCompatibleWith("text/csv"))
+                    .andExpect(header().string("Content-Disposition",
+                            "attachment; filename=\"custom-extensions.csv\""));
+
+            verify(bulkService).exportCustom(eq("default"), eq(Format.CSV), any());
+        }
+
+        @Test
+        @DisplayName("지원하지 않는 형식은 400")
+        void exportCustom_unknownFormat() throws Exception {
+            // when & then
+            mockMvc.perform(get("/api/extensions/custom/export").param("format", "xml"))
+                    .andExpect(status().isBadRequest());
+
+            verifyNoInteractions(bulkService);
+        }
+    }
+
+    @Nested
+    @DisplayName("X-Tenant-Id 헤더")
+    class TenantHeader {
+
+        @Test
+        @DisplayName("헤더의 테넌트로 서비스를 호출한다")
+        void tenantHeader_passedToService() throws Exception {
+            // given
+            when(extensionService.getActiveExtensions("acme"))
+                    .thenReturn(ExtensionListResponse.full(List.of(), List.of("pdf")));
+            when(extensionService.getListETag(anyLong())).thenReturn("\"e-1\"");
+
+            // when & then
+            mockMvc.perform(get("/api/extensions").header("X-Tenant-Id", "ACME"))
+                    .andExpect(status().isOk())
+                    .andExpect(header().string("Vary", "X-Tenant-Id"))
+                    .andExpect(jsonPath("$.data.custom[0]").value("pdf"));
+        }
+
+        @Test
+        @DisplayName("허용되지 않는 문자가 있으면 400 INVALID_TENANT를 반환한다")
+        void tenantHeader_invalid_badRequest() throws Exception {
+            mockMvc.perform(get("/api/extensions").header("X-Tenant-Id", "../etc"))
+                    .andExpect(status().isBadRequest())
+                    .andExpect(jsonPath("$.code").value("EXT_010"));
+
+            verifyNoInteractions(extensionService);
+        }
+    }
 }
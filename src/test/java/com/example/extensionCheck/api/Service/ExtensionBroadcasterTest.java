@@ -0,0 +1,148 @@
+package com.example.extensionCheck.api.Service;
+
+import com.example.extensionCheck.api.outbox.ExtensionChangeEvent;
+import com.example.extensionCheck.api.response.ExtensionDeltaResponse;
+import com.example.extensionCheck.api.response.ExtensionListResponse;
+import com.example.extensionCheck.api.snapshot.ExtensionChange;
+import com.example.extensionCheck.api.snapshot.ExtensionDelta;
+import com.example.extensionCheck.api.snapshot.ExtensionSnapshotHolder;
+import com.example.extensionCheck.config.ExtensionProperties;
+import com.example.extensionCheck.entity.ExtensionType;
+import com.example.extensionCheck.repository.ExtensionsRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.messaging.simp.SimpMessagingTemplate;
+
+import java.time.Duration;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("ExtensionBroadcaster 테스트")
+class ExtensionBroadcasterTest {
+
+    private static final String TENANT = "tenant-a";
+
+    @Mock
+    private SimpMessagingTemplate messagingTemplate;
+
+    @Mock
+    private ExtensionsRepository extRepository;
+
+    private ExtensionSnapshotHolder snapshotHolder;
+
+    private SimpleMeterRegistry meterRegistry;
+
+    private ExtensionBroadcaster broadcaster;
+
+    @BeforeEach
+    void setUp() {
+        ExtensionProperties properties = new ExtensionProperties();
+        properties.getBroadcast().setCoalesceWindow(Duration.ofMillis(100));
+        snapshotHolder = new ExtensionSnapshotHolder(extRepository, properties);
+        meterRegistry = new SimpleMeterRegistry();
+        broadcaster = new ExtensionBroadcaster(messagingTemplate, snapshotHolder, properties, meterRegistry);
+    }
+
+    @AfterEach
+    void tearDown() {
+        broadcaster.shutdown();
+    }
+
+    @Test
+    @DisplayName("짧은 시간 안에 몰린 변경은 버전 구간을 가진 delta 한 건으로 전송한다")
+    void publish_burst_coalescedIntoOneDelta() {
+        // given
+        long initialVersion = snapshotHolder.current(TENANT).getVersion();
+
+        // when
+        for (int i = 0; i < 10; i++) {
+            broadcaster.publish(TENANT, snapshotHolder.apply(TENANT, i % 2 == 0
+                    ? ExtensionDelta.activated(ExtensionType.FIXED, "exe")
+                    : ExtensionDelta.deactivated(ExtensionType.FIXED, "exe")));
+        }
+        broadcaster.publish(TENANT, snapshotHolder.apply(TENANT, ExtensionDelta.activated(ExtensionType.CUSTOM, "pdf")));
+
+        // then
+        ArgumentCaptor<ExtensionDeltaResponse> captor = ArgumentCaptor.forClass(ExtensionDeltaResponse.class);
+        verify(messagingTemplate, timeout(2000).times(1)).convertAndSend(eq("/topic/extensions/" + TENANT), captor.capture());
+        ExtensionDeltaResponse message = captor.getValue();
+        assertThat(message.getType()).isEqualTo("delta");
+        assertThat(message.getFromVersion()).isEqualTo(initialVersion);
+        assertThat(message.getVersion()).isEqualTo(snapshotHolder.current(TENANT).getVersion());
+        assertThat(message.getFixedRemoved()).containsExactly("exe");
+        assertThat(message.getCustomAdded()).containsExactly("pdf");
+        assertThat(message.getCount()).isEqualTo(1);
+        assertThat(meterRegistry.get("extension.broadcast.fanout").tag("type", "delta").timer().count()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("이력에서 이어지는 버전을 찾을 수 없으면 전체 목록을 전송한다")
+    void publish_unknownFromVersion_sendsFull() {
+        // given
+        snapshotHolder.current(TENANT);
+
+        // when
+        broadcaster.publish(TENANT, new ExtensionChange(-100, -99, ExtensionDelta.empty()));
+        snapshotHolder.apply(TENANT, ExtensionDelta.activated(ExtensionType.CUSTOM, "pdf"));
+
+        // then
+        ArgumentCaptor<ExtensionListResponse> captor = ArgumentCaptor.forClass(ExtensionListResponse.class);
+        verify(messagingTemplate, timeout(2000)).convertAndSend(eq("/topic/extensions/" + TENANT), captor.capture());
+        assertThat(captor.getValue().getType()).isEqualTo("full");
+        assertThat(captor.getValue().getCustom()).containsExactly("pdf");
+    }
+
+    @Test
+    @DisplayName("테넌트마다 자신의 토픽으로 따로 전송한다")
+    void publish_perTenantTopic() {
+        // given
+        snapshotHolder.current(TENANT);
+        snapshotHolder.current("tenant-b");
+
+        // when
+        broadcaster.publish(TENANT, snapshotHolder.apply(TENANT, ExtensionDelta.activated(ExtensionType.CUSTOM, "pdf")));
+        broadcaster.publish("tenant-b", snapshotHolder.apply("tenant-b", ExtensionDelta.activated(ExtensionType.CUSTOM, "hwp")));
+
+        // then
+        ArgumentCaptor<ExtensionDeltaResponse> captorA = ArgumentCaptor.forClass(ExtensionDeltaResponse.class);
+        ArgumentCaptor<ExtensionDeltaResponse> captorB = ArgumentCaptor.forClass(ExtensionDeltaResponse.class);
+        verify(messagingTemplate, timeout(2000)).convertAndSend(eq("/topic/extensions/" + TENANT), captorA.capture());
+        verify(messagingTemplate, timeout(2000)).convertAndSend(eq("/topic/extensions/tenant-b"), captorB.capture());
+        assertThat(captorA.getValue().getCustomAdded()).containsExactly("pdf");
+        assertThat(captorB.getValue().getCustomAdded()).containsExactly("hwp");
+    }
+
+    @Test
+    @DisplayName("아웃박스 이벤트 중 이 노드의 변경만 테넌트별로 전송한다")
+    void onChanges_publishesLocalTenants() {
+        // given
+        snapshotHolder.current(TENANT);
+        long initialVersion = snapshotHolder.current(TENANT).getVersion();
+        ExtensionDelta delta = ExtensionDelta.activated(ExtensionType.CUSTOM, "pdf");
+        broadcaster.track(TENANT, snapshotHolder.apply(TENANT, delta));
+
+        // when
+        broadcaster.onChanges(List.of(
+                new ExtensionChangeEvent(1, TENANT, true, delta),
+                new ExtensionChangeEvent(2, TENANT, true, delta),
+                new ExtensionChangeEvent(3, "tenant-b", false, delta)));
+
+        // then
+        ArgumentCaptor<ExtensionDeltaResponse> captor = ArgumentCaptor.forClass(ExtensionDeltaResponse.class);
+        verify(messagingTemplate, timeout(2000).times(1)).convertAndSend(eq("/topic/extensions/" + TENANT), captor.capture());
+        assertThat(captor.getValue().getFromVersion()).isEqualTo(initialVersion);
+        assertThat(captor.getValue().getCustomAdded()).containsExactly("pdf");
+        verify(messagingTemplate, after(300).never()).convertAndSend(eq("/topic/extensions/tenant-b"), any(Object.class));
+    }
+}
@@ -0,0 +1,318 @@
+package com.example.extensionCheck.api.Service;
+
+import com.example.extensionCheck.api.Service.ExtensionBulkService.Format;
+import com.example.extensionCheck.api.exception.ExtensionErrorCode;
+import com.example.extensionCheck.api.history.ExtensionHistoryService;
+import com.example.extensionCheck.api.outbox.ExtensionOutbox;
+import com.example.extensionCheck.api.outbox.ExtensionOutboxDispatcher;
+import com.example.extensionCheck.api.response.ExtensionImportResponse;
+import com.example.extensionCheck.api.response.ExtensionImportResponse.RowError;
+import com.example.extensionCheck.api.snapshot.ExtensionChange;
+import com.example.extensionCheck.api.snapshot.ExtensionDelta;
+import com.example.extensionCheck.api.snapshot.ExtensionSnapshotHolder;
+import com.example.extensionCheck.api.validator.ExtensionValidator;
+import com.example.extensionCheck.config.ExtensionProperties;
+import com.example.extensionCheck.entity.ExtensionType;
+import com.example.extensionCheck.repository.ActiveExtensionName;
+import com.example.extensionCheck.repository.ExtensionStateChange;
+import com.example.extensionCheck.repository.ExtensionsRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.support.TransactionCallback;
+import org.springframework.transaction.support.TransactionTemplate;
+import tools.jackson.databind.json.JsonMapper;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.function.Consumer;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.Assertions.tuple;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("ExtensionBulkService 테스트")
+class ExtensionBulkServiceTest {
+
+    private static final String TENANT = "tenant-a";
+    private static final String ACTOR = "alice";
+
+    @Mock
+    private ExtensionsRepository extRepository;
+
+    @Mock
+    private ExtensionBroadcaster broadcaster;
+
+    @Mock
+    private ExtensionOutbox outbox;
+
+    @Mock
+    private ExtensionOutboxDispatcher outboxDispatcher;
+
+    @Mock
+    private ExtensionHistoryService historyService;
+
+    @Mock
+    private TransactionTemplate transactionTemplate;
+
+    private ExtensionProperties properties;
+
+    private ExtensionSnapshotHolder snapshotHolder;
+
+    private ExtensionBulkService bulkService;
+
+    @BeforeEach
+    void setUp() {
+        properties = new ExtensionProperties();
+        snapshotHolder = new ExtensionSnapshotHolder(extRepository, properties);
+        bulkService = new ExtensionBulkService(extRepository, new ExtensionValidator(), snapshotHolder, broadcaster,
+                outbox, outboxDispatcher, historyService, properties, transactionTemplate,
+                JsonMapper.builder().build());
+    }
+
+    private void runTransactionsInline() {
+        when(transactionTemplate.execute(any())).thenAnswer(invocation ->
+                ((TransactionCallback<?>) invocation.getArgument(0)).doInTransaction(null));
+    }
+
+    private static InputStream body(String content) {
+        return new ByteArrayInputStream(content.getBytes(StandardCharsets.UTF_8));
+    }
+
+    @Nested
+    @DisplayName("importCustom 메서드")
+    class ImportCustom {
+
+        @Test
+        @DisplayName("CSV 헤더와 빈 줄을 건너뛰고 첫 번째 열을 정규화해 저장한다")
+        void importCustom_csv() throws IOException {
+            // given
+            when(extRepository.findAllActiveNames(TENANT)).thenReturn(List.of());
+            runTransactionsInline();
+
+            // when
+            ExtensionImportResponse response = bulkService.importCustom(TENANT, ACTOR, Format.CSV,
+                    body("name\nPDF,문서\n\n\"hwp\",\"한글, 문서\"\r\n"));
+
+            // then
+            assertThat(response.getTotal()).isEqualTo(2);
+            assertThat(response.getImported()).isEqualTo(2);
+            assertThat(response.getFailed()).isZero();
+            verify(extRepository).batchInsertActive(TENANT, ExtensionType.CUSTOM, List.of("pdf", "hwp"));
+            verify(extRepository, never()).updateActiveByTypeAndNameIn(any(), any(), anyCollection(), anyBoolean());
+            assertThat(snapshotHolder.current(TENANT).isCustom("hwp")).isTrue();
+            assertThat(response.getVersion()).isEqualTo(snapshotHolder.current(TENANT).getVersion());
+        }
+
+        @Test
+        @DisplayName("실패한 행은 행 번호, 값, 오류 코드와 함께 보고하고 나머지는 저장한다")
+        void importCustom_reportsRowErrors() throws IOException {
+            // given
+            properties.getTenant().getMaxCustomOverrides().put(TENANT, 3);
+            when(extRepository.findAllActiveNames(TENANT)).thenReturn(List.of(
+                    new ActiveExtensionName(ExtensionType.FIXED, "exe"),
+                    new ActiveExtensionName(ExtensionType.CUSTOM, "pdf")));
+            runTransactionsInline();
+
+            // when
+            ExtensionImportResponse response = bulkService.importCustom(TENANT, ACTOR, Format.CSV,
+                    body("exe\npdf\nmpg\nmpg\nzip1\nzip\nhwp\n"));
+
+            // then
+            assertThat(response.getTotal()).isEqualTo(7);
+            assertThat(response.getImported()).isEqualTo(2);
+            assertThat(response.getFailed()).isEqualTo(5);
+            assertThat(response.getErrors()).extracting(RowError::line, RowError::value, RowError::code)
+                    .containsExactly(
+                            tuple(1L, "exe", ExtensionErrorCode.FIXED_EXTENSION_CONFLICT.getCode()),
+                            tuple(2L, "pdf", ExtensionErrorCode.ALREADY_EXISTS.getCode()),
+                            tuple(4L, "mpg", ExtensionErrorCode.ALREADY_EXISTS.getCode()),
+                            tuple(5L, "zip1", ExtensionErrorCode.CONTAINS_DIGIT.getCode()),
+                            tuple(7L, "hwp", ExtensionErrorCode.MAX_LIMIT_EXCEEDED.getCode()));
+            verify(extRepository).batchInsertActive(TENANT, ExtensionType.CUSTOM, List.of("mpg", "zip"));
+        }
+
+        @Test
+        @DisplayName("NDJSON은 JSON 문자열이나 name 필드를 읽고, 읽을 수 없는 행은 오류로 보고한다")
+        void importCustom_ndjson() throws IOException {
+            // given
+            when(extRepository.findAllActiveNames(TENANT)).thenReturn(List.of());
+            runTransactionsInline();
+
+            // when
+            ExtensionImportResponse response = bulkService.importCustom(TENANT, ACTOR, Format.NDJSON,
+                    body("\"pdf\"\n{\"name\":\"hwp\"}\n{\"ext\":\"zip\"}\nnot-json\n"));
+
+            // then
+            assertThat(response.getImported()).isEqualTo(2);
+            assertThat(response.getErrors()).extracting(RowError::line, RowError::code)
+                    .containsExactly(
+                            tuple(3L, ExtensionErrorCode.INVALID_IMPORT_ROW.getCode()),
+                            tuple(4L, ExtensionErrorCode.INVALID_IMPORT_ROW.getCode()));
+            verify(extRepository).batchInsertActive(TENANT, ExtensionType.CUSTOM, List.of("pdf", "hwp"));
+        }
+
+        @Test
+        @DisplayName("청크마다 트랜잭션과 아웃박스 이벤트를 남기고 전송은 마지막에 한 번만 한다")
+        void importCustom_broadcastsOnce() throws IOException {
+            // given
+            properties.getBulk().setChunkSize(2);
+            when(extRepository.findAllActiveNames(TENANT)).thenReturn(List.of());
+            when(outbox.record(eq(TENANT), any(ExtensionDelta.class))).thenReturn(1L, 2L, 3L);
+            runTransactionsInline();
+
+            // when
+            ExtensionImportResponse response = bulkService.importCustom(TENANT, ACTOR, Format.CSV,
+                    body("pdf\nhwp\nzip\ntxt\nmp"));
+
+            // then
+            assertThat(response.getImported()).isEqualTo(5);
+            verify(transactionTemplate, times(3)).execute(any());
+            verify(historyService, times(3)).record(eq(TENANT), eq(ACTOR), any(ExtensionDelta.class));
+            ArgumentCaptor<ExtensionChange> change = ArgumentCaptor.forClass(ExtensionChange.class);
+            verify(broadcaster).publish(eq(TENANT), change.capture());
+            assertThat(change.getValue().delta().getCustomAdded())
+                    .containsExactlyInAnyOrder("pdf", "hwp", "zip", "txt", "mp");
+            verify(outbox).release(1L);
+            verify(outbox).release(2L);
+            verify(outbox).release(3L);
+            verify(outboxDispatcher).wakeUp();
+        }
+
+        @Test
+        @DisplayName("비활성 커스텀 확장자는 재활성화하고, 비활성 고정 확장자와 같은 이름은 충돌로 보고한다")
+        void importCustom_existingRows() throws IOException {
+            // given
+            when(extRepository.findAllActiveNames(TENANT)).thenReturn(List.of());
+            when(extRepository.findStatesByNameIn(eq(TENANT), anyCollection())).thenReturn(List.of(
+                    new ExtensionStateChange(ExtensionType.CUSTOM, "pdf", false),
+                    new ExtensionStateChange(ExtensionType.FIXED, "bat", false)));
+            runTransactionsInline();
+
+            // when
+            ExtensionImportResponse response = bulkService.importCustom(TENANT, ACTOR, Format.CSV,
+                    body("pdf\nbat\nhwp\n"));
+
+            // then
+            assertThat(response.getImported()).isEqualTo(2);
+            assertThat(response.getErrors()).extracting(RowError::line, RowError::code)
+                    .containsExactly(tuple(2L, ExtensionErrorCode.FIXED_EXTENSION_CONFLICT.getCode()));
+            verify(extRepository).updateActiveByTypeAndNameIn(TENANT, ExtensionType.CUSTOM, List.of("pdf"), true);
+            verify(extRepository).batchInsertActive(TENANT, ExtensionType.CUSTOM, List.of("hwp"));
+            assertThat(snapshotHolder.current(TENANT).isCustom("bat")).isFalse();
+        }
+
+        @Test
+        @DisplayName("스냅샷 이후 이미 활성화된 커스텀 확장자는 재활성화하지 않고 중복으로 보고한다")
+        void importCustom_activeRow_alreadyExists() throws IOException {
+            // given
+            when(extRepository.findAllActiveNames(TENANT)).thenReturn(List.of());
+            when(extRepository.findStatesByNameIn(eq(TENANT), anyCollection())).thenReturn(List.of(
+                    new ExtensionStateChange(ExtensionType.CUSTOM, "pdf", true)));
+            runTransactionsInline();
+
+            // when
+            ExtensionImportResponse response = bulkService.importCustom(TENANT, ACTOR, Format.CSV,
+                    body("pdf\nhwp\n"));
+
+            // then
+            assertThat(response.getImported()).isEqualTo(1);
+            assertThat(response.getErrors()).extracting(RowError::line, RowError::code)
+                    .containsExactly(tuple(1L, ExtensionErrorCode.ALREADY_EXISTS.getCode()));
+            verify(extRepository, never()).updateActiveByTypeAndNameIn(any(), any(), anyCollection(), anyBoolean());
+            verify(extRepository).batchInsertActive(TENANT, ExtensionType.CUSTOM, List.of("hwp"));
+            verify(historyService).record(eq(TENANT), eq(ACTOR),
+                    argThat(delta -> delta.getCustomAdded().equals(List.of("hwp"))));
+        }
+
+        @Test
+        @DisplayName("저장할 행이 없으면 트랜잭션도 전송도 하지 않는다")
+        void importCustom_nothingToSave() throws IOException {
+            // given
+            when(extRepository.findAllActiveNames(TENANT)).thenReturn(List.of());
+
+            // when
+            ExtensionImportResponse response = bulkService.importCustom(TENANT, ACTOR, Format.CSV, body("1\n\n"));
+
+            // then
+            assertThat(response.getFailed()).isEqualTo(1);
+            verifyNoInteractions(transactionTemplate, broadcaster, outbox, outboxDispatcher);
+        }
+    }
+
+    @Nested
+    @DisplayName("exportCustom 메서드")
+    class ExportCustom {
+
+        @SuppressWarnings("unchecked")
+        private void stubNames(String... names) {
+            doAnswer(invocation -> {
+                Consumer<String> action = invocation.getArgument(2);
+                List.of(names).forEach(action);
+                return null;
+            }).when(extRepository).forEachActiveName(eq(TENANT), eq(ExtensionType.CUSTOM), any(Consumer.class));
+        }
+
+        @Test
+        @DisplayName("CSV는 name 헤더와 한 줄에 한 이름을 쓴다")
+        void exportCustom_csv() throws IOException {
+            // given
+            stubNames("pdf", "hwp");
+            ByteArrayOutputStream out = new ByteArrayOutputStream();
+
+            // when
+            long count = bulkService.exportCustom(TENANT, Format.CSV, out);
+
+            // then
+            assertThat(count).isEqualTo(2);
+            assertThat(out.toString(StandardCharsets.UTF_8)).isEqualTo("name\npdf\nhwp\n");
+        }
+
+        @Test
+        @DisplayName("NDJSON은 한 줄에 JSON 문자열 하나를 쓴다")
+        void exportCustom_ndjson() throws IOException {
+            // given
+            stubNames("pdf");
+            ByteArrayOutputStream out = new ByteArrayOutputStream();
+
+            // when
+            bulkService.exportCustom(TENANT, Format.NDJSON, out);
+
+            // then
+            assertThat(out.toString(StandardCharsets.UTF_8)).isEqualTo("\"pdf\"\n");
+        }
+    }
+
+    @Nested
+    @DisplayName("Format")
+    class FormatTest {
+
+        @Test
+        @DisplayName("Content-Type에 ndjson이 있으면 NDJSON, 나머지는 CSV로 읽는다")
+        void fromContentType() {
+            assertThat(Format.fromContentType("application/x-ndjson")).isEqualTo(Format.NDJSON);
+            assertThat(Format.fromContentType("text/csv; charset=UTF-8")).isEqualTo(Format.CSV);
+            assertThat(Format.fromContentType("text/plain")).isEqualTo(Format.CSV);
+        }
+
+        @Test
+        @DisplayName("지원하지 않는 내보내기 형식은 IllegalArgumentException")
+        void fromName_unknown() {
+            assertThat(Format.fromName("NDJSON")).isEqualTo(Format.NDJSON);
+            assertThatThrownBy(() -> Format.fromName("xml")).isInstanceOf(IllegalArgumentException.class);
+        }
+    }
+}
@@ -0,0 +1,207 @@
+package com.example.extensionCheck.api.Service;
+
+import com.example.extensionCheck.api.exception.ExtensionErrorCode;
+import com.example.extensionCheck.api.exception.ExtensionException;
+import com.example.extensionCheck.api.response.ExtensionCheckResponse;
+import com.example.extensionCheck.api.snapshot.ExtensionSnapshotHolder;
+import com.example.extensionCheck.config.ExtensionProperties;
+import com.example.extensionCheck.entity.ExtensionType;
+import com.example.extensionCheck.repository.ActiveExtensionName;
+import com.example.extensionCheck.repository.ExtensionsRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import tools.jackson.databind.ObjectMapper;
+import tools.jackson.databind.json.JsonMapper;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipOutputStream;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.lenient;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("ExtensionCheckService 테스트")
+class ExtensionCheckServiceTest {
+
+    private static final String TENANT = "tenant-a";
+
+    @Mock
+    private ExtensionsRepository extRepository;
+
+    private final ObjectMapper objectMapper = JsonMapper.builder().build();
+
+    private ExtensionCheckService checkService;
+
+    @BeforeEach
+    void setUp() {
+        lenient().when(extRepository.findAllActiveNames(TENANT)).thenReturn(List.of(
+                new ActiveExtensionName(ExtensionType.FIXED, "exe"),
+                new ActiveExtensionName(ExtensionType.CUSTOM, "pdf")));
+
+        ExtensionProperties properties = new ExtensionProperties();
+        checkService = new ExtensionCheckService(new ExtensionSnapshotHolder(extRepository, properties), objectMapper, properties);
+    }
+
+    @Nested
+    @DisplayName("check 메서드")
+    class Check {
+
+        @Test
+        @DisplayName("차단 여부와 일치한 확장자를 반환한다")
+        void check_blocked() {
+            ExtensionCheckResponse result = checkService.check(TENANT, "Report.PDF");
+
+            assertThat(result.isBlocked()).isTrue();
+            assertThat(result.getExtension()).isEqualTo("pdf");
+            assertThat(result.getType()).isEqualTo(ExtensionType.CUSTOM);
+        }
+
+        @Test
+        @DisplayName("빈 파일명은 EMPTY_FILENAME 예외를 던진다")
+        void check_blank_throwsException() {
+            assertThatThrownBy(() -> checkService.check(TENANT, "  "))
+                    .isInstanceOf(ExtensionException.class)
+                    .extracting(e -> ((ExtensionException) e).getErrorCode())
+                    .isEqualTo(ExtensionErrorCode.EMPTY_FILENAME);
+        }
+    }
+
+    @Nested
+    @DisplayName("checkContent 메서드")
+    class CheckContent {
+
+        @Test
+        @DisplayName("이름이 허용돼도 내용이 실행 파일이면 차단한다")
+        void checkContent_renamedExecutable_blocked() throws Exception {
+            // given
+            byte[] content = new byte[1024];
+            content[0] = 'M';
+            content[1] = 'Z';
+            content[2] = (byte) 0x90;
+            content[4] = 3;
+
+            // when
+            ExtensionCheckResponse result = checkService.checkContent(TENANT, "photo.jpg", new ByteArrayInputStream(content));
+
+            // then
+            assertThat(result.isBlocked()).isTrue();
+            assertThat(result.getExtension()).isEqualTo("exe");
+            assertThat(result.getType()).isEqualTo(ExtensionType.FIXED);
+            assertThat(result.getDetected()).isEqualTo("DOS MZ");
+        }
+
+        @Test
+        @DisplayName("앞부분 PEEK_SIZE 바이트만 읽는다")
+        void checkContent_readsOnlyHead() throws Exception {
+            // given
+            ByteArrayInputStream in = new ByteArrayInputStream(new byte[10_000]);
+
+            // when
+            ExtensionCheckResponse result = checkService.checkContent(TENANT, "photo.jpg", in);
+
+            // then
+            assertThat(result.isBlocked()).isFalse();
+            assertThat(result.getDetected()).isNull();
+            assertThat(in.available()).isEqualTo(10_000 - 512);
+        }
+
+        @Test
+        @DisplayName("ZIP이면 항목 이름까지 검사해 감싼 실행 파일을 차단한다")
+        void checkContent_archive_blocked() throws Exception {
+            // given
+            ByteArrayOutputStream zipBytes = new ByteArrayOutputStream();
+            try (ZipOutputStream zip = new ZipOutputStream(zipBytes)) {
+                zip.putNextEntry(new ZipEntry("readme.txt"));
+                zip.write(new byte[4096]);
+                zip.putNextEntry(new ZipEntry("tools/setup.exe"));
+                zip.write("MZ".getBytes(StandardCharsets.US_ASCII));
+            }
+
+            // when
+            ExtensionCheckResponse result = checkService.checkContent(TENANT, "photos.zip",
+                    new ByteArrayInputStream(zipBytes.toByteArray()));
+
+            // then
+            assertThat(result.isBlocked()).isTrue();
+            assertThat(result.getExtension()).isEqualTo("exe");
+            assertThat(result.getEntry()).isEqualTo("tools/setup.exe");
+            assertThat(result.getDetected()).isEqualTo("ZIP");
+        }
+
+        @Test
+        @DisplayName("이름으로 차단되면 내용을 읽지 않는다")
+        void checkContent_blockedByName_skipsContent() throws Exception {
+            // given
+            ByteArrayInputStream in = new ByteArrayInputStream(new byte[100]);
+
+            // when
+            ExtensionCheckResponse result = checkService.checkContent(TENANT, "a.PDF", in);
+
+            // then
+            assertThat(result.isBlocked()).isTrue();
+            assertThat(result.getDetected()).isNull();
+            assertThat(in.available()).isEqualTo(100);
+        }
+    }
+
+    @Nested
+    @DisplayName("checkBulk 메서드")
+    class CheckBulk {
+
+        @Test
+        @DisplayName("입력 순서대로 한 줄씩 판별 결과를 출력한다")
+        void checkBulk_preservesOrder() throws Exception {
+            // given
+            String input = "a.exe\r\n\nphoto.jpg\n\"quoted.pdf\"\nlast.txt";
+
+            // when
+            List<String> lines = run(input);
+
+            // then
+            assertThat(lines).hasSize(4);
+            assertThat(objectMapper.readTree(lines.get(0)).get("blocked").asBoolean()).isTrue();
+            assertThat(objectMapper.readTree(lines.get(1)).get("blocked").asBoolean()).isFalse();
+            assertThat(objectMapper.readTree(lines.get(2)).get("filename").asString()).isEqualTo("quoted.pdf");
+            assertThat(objectMapper.readTree(lines.get(2)).get("blocked").asBoolean()).isTrue();
+            assertThat(objectMapper.readTree(lines.get(3)).get("filename").asString()).isEqualTo("last.txt");
+        }
+
+        @Test
+        @DisplayName("청크 크기를 넘는 입력도 모두 판별한다")
+        void checkBulk_multipleChunks() throws Exception {
+            // given
+            String input = IntStream.range(0, 5000)
+                    .mapToObj(i -> i % 2 == 0 ? "file" + i + ".exe" : "file" + i + ".png")
+                    .collect(Collectors.joining("\n"));
+
+            // when
+            List<String> lines = run(input);
+
+            // then
+            assertThat(lines).hasSize(5000);
+            assertThat(objectMapper.readTree(lines.get(4998)).get("filename").asString()).isEqualTo("file4998.exe");
+            assertThat(objectMapper.readTree(lines.get(4998)).get("blocked").asBoolean()).isTrue();
+            assertThat(objectMapper.readTree(lines.get(4999)).get("blocked").asBoolean()).isFalse();
+        }
+
+        private List<String> run(String input) throws Exception {
+            ByteArrayOutputStream out = new ByteArrayOutputStream();
+            checkService.checkBulk(TENANT, new ByteArrayInputStream(input.getBytes(StandardCharsets.UTF_8)), out);
+            String output = out.toString(StandardCharsets.UTF_8);
+            assertThat(output).endsWith("\n");
+            return output.lines().toList();
+        }
+    }
+}
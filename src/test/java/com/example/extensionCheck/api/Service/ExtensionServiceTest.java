@@ -2,28 +2,47 @@ package com.example.extensionCheck.api.Service;
 
 import com.example.extensionCheck.api.exception.ExtensionErrorCode;
 import com.example.extensionCheck.api.exception.ExtensionException;
+import com.example.extensionCheck.api.history.ExtensionHistoryService;
+import com.example.extensionCheck.api.outbox.ExtensionOutbox;
+import com.example.extensionCheck.api.outbox.ExtensionOutboxDispatcher;
+import com.example.extensionCheck.api.response.CustomExtensionPageResponse;
+import com.example.extensionCheck.api.response.ExtensionDeltaResponse;
 import com.example.extensionCheck.api.response.ExtensionListResponse;
+import com.example.extensionCheck.api.response.ExtensionSyncMessage;
+import com.example.extensionCheck.api.snapshot.ExtensionChange;
+import com.example.extensionCheck.api.snapshot.ExtensionDelta;
+import com.example.extensionCheck.api.snapshot.ExtensionSnapshotHolder;
 import com.example.extensionCheck.api.validator.ExtensionValidator;
+import com.example.extensionCheck.config.ExtensionProperties;
 import com.example.extensionCheck.entity.ExtensionType;
 import com.example.extensionCheck.entity.Extensions;
+import com.example.extensionCheck.repository.ActiveExtensionName;
+import com.example.extensionCheck.repository.ExtensionStateChange;
 import com.example.extensionCheck.repository.ExtensionsRepository;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
-import org.mockito.InjectMocks;
+import org.mockito.InOrder;
 import org.mockito.Mock;
 import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
-import org.springframework.messaging.simp.SimpMessagingTemplate;
+import org.springframework.dao.CannotAcquireLockException;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.transaction.TransactionStatus;
+import org.springframework.transaction.support.TransactionTemplate;
 
 import java.util.List;
 import java.util.Optional;
+import java.util.Set;
+import java.util.function.Consumer;
+import java.util.stream.IntStream;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyBoolean;
 import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.Mockito.*;
 
@@ -31,18 +50,51 @@ import static org.mockito.Mockito.*;
 @DisplayName("ExtensionService 테스트")
 class ExtensionServiceTest {
 
+    private static final String TENANT = "tenant-a";
+    private static final String ACTOR = "alice";
+
     @Mock
     private ExtensionsRepository extRepository;
 
     @Mock
-    private SimpMessagingTemplate messagingTemplate;
+    private ExtensionBroadcaster broadcaster;
+
+    @Mock
+    private ExtensionOutbox outbox;
+
+    @Mock
+    private ExtensionOutboxDispatcher outboxDispatcher;
+
+    @Mock
+    private ExtensionHistoryService historyService;
+
+    @Mock
+    private TransactionTemplate transactionTemplate;
 
     @Spy
     private ExtensionValidator validator = new ExtensionValidator();
 
-    @InjectMocks
+    private ExtensionProperties properties;
+
+    private ExtensionSnapshotHolder snapshotHolder;
+
     private ExtensionService extensionService;
 
+    @BeforeEach
+    void setUp() {
+        properties = new ExtensionProperties();
+        snapshotHolder = new ExtensionSnapshotHolder(extRepository, properties);
+        extensionService = new ExtensionService(extRepository, validator, snapshotHolder, broadcaster, properties,
+                outbox, outboxDispatcher, historyService, transactionTemplate);
+    }
+
+    private void runTransactionsInline() {
+        doAnswer(invocation -> {
+            invocation.<Consumer<TransactionStatus>>getArgument(0).accept(null);
+            return null;
+        }).when(transactionTemplate).executeWithoutResult(any());
+    }
+
     @Nested
     @DisplayName("addExtension 메서드")
     class AddExtension {
@@ -58,32 +110,111 @@ class ExtensionServiceTest {
                     .type(ExtensionType.CUSTOM)
                     .build();
 
-            when(extRepository.countByTypeAndIsActiveTrue(ExtensionType.CUSTOM)).thenReturn(0L);
-            when(extRepository.findAllByTypeAndIsActiveTrue(ExtensionType.FIXED)).thenReturn(List.of());
-            when(extRepository.findByName(extensionName)).thenReturn(Optional.empty());
-            when(extRepository.save(any(Extensions.class))).thenReturn(savedExtension);
+            when(extRepository.findAllActiveNames(TENANT)).thenReturn(List.of());
+            when(extRepository.reactivate(TENANT, extensionName, ExtensionType.CUSTOM)).thenReturn(0);
+            when(extRepository.saveAndFlush(any(Extensions.class))).thenReturn(savedExtension);
 
             // when
-            Extensions result = extensionService.addExtension(extensionName);
+            Extensions result = extensionService.addExtension(TENANT, ACTOR, extensionName);
 
             // then
             assertThat(result.getName()).isEqualTo(extensionName);
             assertThat(result.getType()).isEqualTo(ExtensionType.CUSTOM);
             assertThat(result.isActive()).isTrue();
-            verify(extRepository).save(any(Extensions.class));
+            verify(extRepository).saveAndFlush(any(Extensions.class));
+            assertThat(snapshotHolder.current(TENANT).isCustom(extensionName)).isTrue();
+        }
+
+        @Test
+        @DisplayName("변경 이벤트를 아웃박스와 이력에 기록하고 스냅샷 반영 후 디스패처를 깨운다")
+        void addExtension_recordsOutboxEvent() {
+            // given
+            when(extRepository.findAllActiveNames(TENANT)).thenReturn(List.of());
+            when(extRepository.reactivate(TENANT, "pdf", ExtensionType.CUSTOM)).thenReturn(0);
+            when(outbox.record(eq(TENANT), any(ExtensionDelta.class))).thenReturn(7L);
+
+            // when
+            extensionService.addExtension(TENANT, ACTOR, "pdf");
+
+            // then
+            InOrder inOrder = inOrder(outbox, historyService, broadcaster, outboxDispatcher);
+            inOrder.verify(outbox).record(eq(TENANT), argThat(delta -> delta.getCustomAdded().equals(List.of("pdf"))));
+            inOrder.verify(historyService).record(eq(TENANT), eq(ACTOR), any(ExtensionDelta.class));
+            inOrder.verify(broadcaster).track(eq(TENANT), any(ExtensionChange.class));
+            inOrder.verify(outbox).release(7L);
+            inOrder.verify(outboxDispatcher).wakeUp();
+        }
+
+        @Test
+        @DisplayName("개수 확인과 고정 확장자 충돌 확인에 DB를 조회하지 않는다")
+        void addExtension_checksServedFromSnapshot() {
+            // given
+            when(extRepository.findAllActiveNames(TENANT)).thenReturn(List.of());
+            when(extRepository.saveAndFlush(any(Extensions.class)))
+                    .thenAnswer(invocation -> invocation.getArgument(0));
+
+            // when
+            extensionService.addExtension(TENANT, ACTOR, "pdf");
+            extensionService.addExtension(TENANT, ACTOR, "hwp");
+
+            // then
+            verify(extRepository, times(1)).findAllActiveNames(TENANT);
+            verify(extRepository, never()).findByTenantIdAndName(any(), any());
+            verify(extRepository, never()).findByTenantIdAndNameAndType(any(), any(), any());
         }
 
         @Test
         @DisplayName("200개 초과 시 MAX_LIMIT_EXCEEDED 예외를 던진다")
         void addExtension_maxLimitExceeded_throwsException() {
             // given
-            when(extRepository.countByTypeAndIsActiveTrue(ExtensionType.CUSTOM)).thenReturn(200L);
+            properties.getTenant().setMaxCustom(200);
+            List<ActiveExtensionName> customs = IntStream.range(0, 200)
+                    .mapToObj(i -> new ActiveExtensionName(ExtensionType.CUSTOM, "ext" + i))
+                    .toList();
+            when(extRepository.findAllActiveNames(TENANT)).thenReturn(customs);
 
             // when & then
-            assertThatThrownBy(() -> extensionService.addExtension("pdf"))
+            assertThatThrownBy(() -> extensionService.addExtension(TENANT, ACTOR, "pdf"))
                     .isInstanceOf(ExtensionException.class)
                     .extracting(e -> ((ExtensionException) e).getErrorCode())
                     .isEqualTo(ExtensionErrorCode.MAX_LIMIT_EXCEEDED);
+            verify(extRepository, never()).saveAndFlush(any(Extensions.class));
+        }
+
+        @Test
+        @DisplayName("테넌트별로 설정된 개수 제한을 적용한다")
+        void addExtension_tenantLimitOverride() {
+            // given
+            properties.getTenant().getMaxCustomOverrides().put(TENANT, 1);
+            when(extRepository.findAllActiveNames(TENANT)).thenReturn(List.of(
+                    new ActiveExtensionName(ExtensionType.CUSTOM, "pdf")));
+
+            // when & then
+            assertThatThrownBy(() -> extensionService.addExtension(TENANT, ACTOR, "hwp"))
+                    .isInstanceOf(ExtensionException.class)
+                    .extracting(e -> ((ExtensionException) e).getErrorCode())
+                    .isEqualTo(ExtensionErrorCode.MAX_LIMIT_EXCEEDED);
+            assertThat(extensionService.getMaxCustom(TENANT)).isEqualTo(1);
+            assertThat(extensionService.getMaxCustom("other")).isEqualTo(50_000);
+        }
+
+        @Test
+        @DisplayName("다른 테넌트의 확장자와는 충돌하지 않는다")
+        void addExtension_otherTenant_isolated() {
+            // given
+            when(extRepository.findAllActiveNames("other")).thenReturn(List.of(
+                    new ActiveExtensionName(ExtensionType.FIXED, "exe")));
+            when(extRepository.findAllActiveNames(TENANT)).thenReturn(List.of());
+            when(extRepository.saveAndFlush(any(Extensions.class)))
+                    .thenAnswer(invocation -> invocation.getArgument(0));
+
+            // when
+            Extensions result = extensionService.addExtension(TENANT, ACTOR, "exe");
+
+            // then
+            assertThat(result.getTenantId()).isEqualTo(TENANT);
+            assertThat(snapshotHolder.current(TENANT).isCustom("exe")).isTrue();
+            assertThat(snapshotHolder.current("other").isCustom("exe")).isFalse();
         }
 
         @Test
@@ -91,17 +222,11 @@ class ExtensionServiceTest {
         void addExtension_fixedConflict_throwsException() {
             // given
             String extensionName = "exe";
-            Extensions fixedExt = Extensions.builder()
-                    .name(extensionName)
-                    .isActive(true)
-                    .type(ExtensionType.FIXED)
-                    .build();
-
-            when(extRepository.countByTypeAndIsActiveTrue(ExtensionType.CUSTOM)).thenReturn(0L);
-            when(extRepository.findAllByTypeAndIsActiveTrue(ExtensionType.FIXED)).thenReturn(List.of(fixedExt));
+            when(extRepository.findAllActiveNames(TENANT)).thenReturn(List.of(
+                    new ActiveExtensionName(ExtensionType.FIXED, extensionName)));
 
             // when & then
-            assertThatThrownBy(() -> extensionService.addExtension(extensionName))
+            assertThatThrownBy(() -> extensionService.addExtension(TENANT, ACTOR, extensionName))
                     .isInstanceOf(ExtensionException.class)
                     .extracting(e -> ((ExtensionException) e).getErrorCode())
                     .isEqualTo(ExtensionErrorCode.FIXED_EXTENSION_CONFLICT);
@@ -112,21 +237,35 @@ class ExtensionServiceTest {
         void addExtension_alreadyExists_throwsException() {
             // given
             String extensionName = "pdf";
-            Extensions existingExt = Extensions.builder()
-                    .name(extensionName)
-                    .isActive(true)
-                    .type(ExtensionType.CUSTOM)
-                    .build();
+            when(extRepository.findAllActiveNames(TENANT)).thenReturn(List.of(
+                    new ActiveExtensionName(ExtensionType.CUSTOM, extensionName)));
 
-            when(extRepository.countByTypeAndIsActiveTrue(ExtensionType.CUSTOM)).thenReturn(0L);
-            when(extRepository.findAllByTypeAndIsActiveTrue(ExtensionType.FIXED)).thenReturn(List.of());
-            when(extRepository.findByName(extensionName)).thenReturn(Optional.of(existingExt));
+            // when & then
+            assertThatThrownBy(() -> extensionService.addExtension(TENANT, ACTOR, extensionName))
+                    .isInstanceOf(ExtensionException.class)
+                    .extracting(e -> ((ExtensionException) e).getErrorCode())
+                    .isEqualTo(ExtensionErrorCode.ALREADY_EXISTS);
+            verify(extRepository, never()).saveAndFlush(any(Extensions.class));
+        }
+
+        @Test
+        @DisplayName("동시에 추가되어 unique 제약을 위반하면 ALREADY_EXISTS 예외를 던진다")
+        void addExtension_uniqueViolation_throwsAlreadyExists() {
+            // given
+            String extensionName = "pdf";
+            when(extRepository.findAllActiveNames(TENANT)).thenReturn(List.of());
+            when(extRepository.reactivate(TENANT, extensionName, ExtensionType.CUSTOM)).thenReturn(0);
+            when(extRepository.saveAndFlush(any(Extensions.class)))
+                    .thenThrow(new DataIntegrityViolationException("duplicate"));
 
             // when & then
-            assertThatThrownBy(() -> extensionService.addExtension(extensionName))
+            assertThatThrownBy(() -> extensionService.addExtension(TENANT, ACTOR, extensionName))
                     .isInstanceOf(ExtensionException.class)
                     .extracting(e -> ((ExtensionException) e).getErrorCode())
                     .isEqualTo(ExtensionErrorCode.ALREADY_EXISTS);
+            verify(outbox, never()).record(any(), any());
+            verify(historyService, never()).record(any(), any(), any());
+            verify(broadcaster, never()).track(any(), any(ExtensionChange.class));
         }
 
         @Test
@@ -134,22 +273,24 @@ class ExtensionServiceTest {
         void addExtension_reactivateDeactivated() {
             // given
             String extensionName = "pdf";
-            Extensions deactivatedExt = Extensions.builder()
+            Extensions reactivatedExt = Extensions.builder()
                     .name(extensionName)
-                    .isActive(false)
+                    .isActive(true)
                     .type(ExtensionType.CUSTOM)
                     .build();
 
-            when(extRepository.countByTypeAndIsActiveTrue(ExtensionType.CUSTOM)).thenReturn(0L);
-            when(extRepository.findAllByTypeAndIsActiveTrue(ExtensionType.FIXED)).thenReturn(List.of());
-            when(extRepository.findByName(extensionName)).thenReturn(Optional.of(deactivatedExt));
+            when(extRepository.findAllActiveNames(TENANT)).thenReturn(List.of());
+            when(extRepository.reactivate(TENANT, extensionName, ExtensionType.CUSTOM)).thenReturn(1);
+            when(extRepository.findByTenantIdAndNameAndType(TENANT, extensionName, ExtensionType.CUSTOM))
+                    .thenReturn(Optional.of(reactivatedExt));
 
             // when
-            Extensions result = extensionService.addExtension(extensionName);
+            Extensions result = extensionService.addExtension(TENANT, ACTOR, extensionName);
 
             // then
             assertThat(result.isActive()).isTrue();
-            verify(extRepository, never()).save(any(Extensions.class));
+            verify(extRepository, never()).saveAndFlush(any(Extensions.class));
+            verify(broadcaster).track(eq(TENANT), any(ExtensionChange.class));
         }
     }
 
@@ -168,23 +309,38 @@ class ExtensionServiceTest {
                     .type(ExtensionType.CUSTOM)
                     .build();
 
-            when(extRepository.findByName(extensionName)).thenReturn(Optional.of(extension));
+            when(extRepository.findByTenantIdAndName(TENANT, extensionName)).thenReturn(Optional.of(extension));
 
             // when
-            extensionService.deactivateExtension(extensionName);
+            extensionService.deactivateExtension(TENANT, ACTOR, extensionName);
 
             // then
             assertThat(extension.isActive()).isFalse();
         }
 
+        @Test
+        @DisplayName("이미 비활성화된 확장자는 변경 이벤트와 이력을 남기지 않는다")
+        void deactivateExtension_alreadyInactive_recordsNothing() {
+            // given
+            Extensions extension = Extensions.builder()
+                    .name("pdf").isActive(false).type(ExtensionType.CUSTOM).build();
+            when(extRepository.findByTenantIdAndName(TENANT, "pdf")).thenReturn(Optional.of(extension));
+
+            // when
+            extensionService.deactivateExtension(TENANT, ACTOR, "pdf");
+
+            // then
+            verifyNoInteractions(outbox, historyService, broadcaster);
+        }
+
         @Test
         @DisplayName("존재하지 않는 확장자면 NOT_FOUND 예외를 던진다")
         void deactivateExtension_notFound_throwsException() {
             // given
-            when(extRepository.findByName(anyString())).thenReturn(Optional.empty());
+            when(extRepository.findByTenantIdAndName(eq(TENANT), anyString())).thenReturn(Optional.empty());
 
             // when & then
-            assertThatThrownBy(() -> extensionService.deactivateExtension("notexist"))
+            assertThatThrownBy(() -> extensionService.deactivateExtension(TENANT, ACTOR, "notexist"))
                     .isInstanceOf(ExtensionException.class)
                     .extracting(e -> ((ExtensionException) e).getErrorCode())
                     .isEqualTo(ExtensionErrorCode.NOT_FOUND);
@@ -199,14 +355,12 @@ class ExtensionServiceTest {
         @DisplayName("활성화된 확장자 목록을 반환한다")
         void getActiveExtensions_success() {
             // given
-            Extensions fixedExt = Extensions.builder().name("exe").type(ExtensionType.FIXED).isActive(true).build();
-            Extensions customExt = Extensions.builder().name("pdf").type(ExtensionType.CUSTOM).isActive(true).build();
-
-            when(extRepository.findAllByTypeAndIsActiveTrue(ExtensionType.FIXED)).thenReturn(List.of(fixedExt));
-            when(extRepository.findAllByTypeAndIsActiveTrue(ExtensionType.CUSTOM)).thenReturn(List.of(customExt));
+            when(extRepository.findAllActiveNames(TENANT)).thenReturn(List.of(
+                    new ActiveExtensionName(ExtensionType.FIXED, "exe"),
+                    new ActiveExtensionName(ExtensionType.CUSTOM, "pdf")));
 
             // when
-            ExtensionListResponse result = extensionService.getActiveExtensions();
+            ExtensionListResponse result = extensionService.getActiveExtensions(TENANT);
 
             // then
             assertThat(result.getFixed()).containsExactly("exe");
@@ -214,6 +368,70 @@ class ExtensionServiceTest {
             assertThat(result.getCount()).isEqualTo(1);
             assertThat(result.getType()).isEqualTo("full");
         }
+
+        @Test
+        @DisplayName("커스텀 확장자가 max-inline-custom개를 넘으면 목록 없이 개수만 반환한다")
+        void getActiveExtensions_overInlineLimit() {
+            // given
+            properties.getListing().setMaxInlineCustom(1);
+            when(extRepository.findAllActiveNames(TENANT)).thenReturn(List.of(
+                    new ActiveExtensionName(ExtensionType.FIXED, "exe"),
+                    new ActiveExtensionName(ExtensionType.CUSTOM, "pdf"),
+                    new ActiveExtensionName(ExtensionType.CUSTOM, "hwp")));
+
+            // when
+            ExtensionListResponse result = extensionService.getActiveExtensions(TENANT);
+
+            // then
+            assertThat(result.getFixed()).containsExactly("exe");
+            assertThat(result.getCustom()).isEmpty();
+            assertThat(result.isCustomPaged()).isTrue();
+            assertThat(result.getCount()).isEqualTo(2);
+        }
+    }
+
+    @Nested
+    @DisplayName("getCustomPage 메서드")
+    class GetCustomPage {
+
+        @BeforeEach
+        void setUp() {
+            when(extRepository.findAllActiveNames(TENANT)).thenReturn(List.of(
+                    new ActiveExtensionName(ExtensionType.CUSTOM, "pdf"),
+                    new ActiveExtensionName(ExtensionType.CUSTOM, "hwp"),
+                    new ActiveExtensionName(ExtensionType.CUSTOM, "png"),
+                    new ActiveExtensionName(ExtensionType.CUSTOM, "ppt")));
+        }
+
+        @Test
+        @DisplayName("다음 페이지가 있으면 마지막 이름을 next로 반환하고, next로 이어서 조회한다")
+        void getCustomPage_next() {
+            // when
+            CustomExtensionPageResponse first = extensionService.getCustomPage(TENANT, null, null, 2);
+            CustomExtensionPageResponse second = extensionService.getCustomPage(TENANT, null, first.getNext(), 2);
+
+            // then
+            assertThat(first.getItems()).containsExactly("hwp", "pdf");
+            assertThat(first.getNext()).isEqualTo("pdf");
+            assertThat(first.getCount()).isEqualTo(4);
+            assertThat(second.getItems()).containsExactly("png", "ppt");
+            assertThat(second.getNext()).isNull();
+        }
+
+        @Test
+        @DisplayName("prefix는 소문자로 비교하고 size는 설정 범위로 맞춘다")
+        void getCustomPage_prefixAndSize() {
+            // given
+            properties.getListing().setMaxPageSize(1);
+
+            // when
+            CustomExtensionPageResponse page = extensionService.getCustomPage(TENANT, " P ", null, 100);
+
+            // then
+            assertThat(page.getItems()).containsExactly("pdf");
+            assertThat(page.getNext()).isEqualTo("pdf");
+            assertThat(extensionService.getCustomPage(TENANT, "p", null, 0).getItems()).containsExactly("pdf");
+        }
     }
 
     @Nested
@@ -228,12 +446,12 @@ class ExtensionServiceTest {
             Extensions newExt = Extensions.builder()
                     .name(extName).isActive(true).type(ExtensionType.FIXED).build();
 
-            when(extRepository.findByNameAndType(extName, ExtensionType.FIXED))
+            when(extRepository.findByTenantIdAndNameAndType(TENANT, extName, ExtensionType.FIXED))
                     .thenReturn(Optional.empty());
             when(extRepository.save(any(Extensions.class))).thenReturn(newExt);
 
             // when
-            Extensions result = extensionService.saveFixedExtension(extName);
+            Extensions result = extensionService.saveFixedExtension(TENANT, ACTOR, extName);
 
             // then
             assertThat(result.isActive()).isTrue();
@@ -248,16 +466,34 @@ class ExtensionServiceTest {
             Extensions deactivated = Extensions.builder()
                     .name(extName).isActive(false).type(ExtensionType.FIXED).build();
 
-            when(extRepository.findByNameAndType(extName, ExtensionType.FIXED))
+            when(extRepository.findByTenantIdAndNameAndType(TENANT, extName, ExtensionType.FIXED))
                     .thenReturn(Optional.of(deactivated));
 
             // when
-            Extensions result = extensionService.saveFixedExtension(extName);
+            Extensions result = extensionService.saveFixedExtension(TENANT, ACTOR, extName);
 
             // then
             assertThat(result.isActive()).isTrue();
             verify(extRepository, never()).save(any(Extensions.class));
         }
+
+        @Test
+        @DisplayName("이미 활성화된 고정 확장자는 변경 이벤트와 이력을 남기지 않는다")
+        void saveFixedExtension_alreadyActive_recordsNothing() {
+            // given
+            Extensions active = Extensions.builder()
+                    .name("exe").isActive(true).type(ExtensionType.FIXED).build();
+            when(extRepository.findByTenantIdAndNameAndType(TENANT, "exe", ExtensionType.FIXED))
+                    .thenReturn(Optional.of(active));
+
+            // when
+            Extensions result = extensionService.saveFixedExtension(TENANT, ACTOR, "exe");
+
+            // then
+            assertThat(result).isSameAs(active);
+            verify(extRepository, never()).save(any(Extensions.class));
+            verifyNoInteractions(outbox, historyService, broadcaster, outboxDispatcher);
+        }
     }
 
     @Nested
@@ -272,26 +508,42 @@ class ExtensionServiceTest {
             Extensions extension = Extensions.builder()
                     .name(extName).isActive(true).type(ExtensionType.FIXED).build();
 
-            when(extRepository.findByNameAndType(extName, ExtensionType.FIXED))
+            when(extRepository.findByTenantIdAndNameAndType(TENANT, extName, ExtensionType.FIXED))
                     .thenReturn(Optional.of(extension));
 
             // when
-            extensionService.deleteFixedExtension(extName);
+            extensionService.deleteFixedExtension(TENANT, ACTOR, extName);
 
             // then
             assertThat(extension.isActive()).isFalse();
         }
 
         @Test
-        @DisplayName("존재하지 않는 고정 확장자는 무시한다")
+        @DisplayName("존재하지 않는 고정 확장자는 무시하고 변경 이벤트와 이력을 남기지 않는다")
         void deleteFixedExtension_notFound_ignored() {
             // given
-            when(extRepository.findByNameAndType(anyString(), eq(ExtensionType.FIXED)))
+            when(extRepository.findByTenantIdAndNameAndType(eq(TENANT), anyString(), eq(ExtensionType.FIXED)))
                     .thenReturn(Optional.empty());
 
             // when & then (no exception)
-            extensionService.deleteFixedExtension("notexist");
-            verify(messagingTemplate).convertAndSend(eq("/topic/extensions"), any(Object.class));
+            extensionService.deleteFixedExtension(TENANT, ACTOR, "notexist");
+            verifyNoInteractions(outbox, historyService, broadcaster);
+        }
+
+        @Test
+        @DisplayName("이미 비활성화된 고정 확장자는 변경 이벤트와 이력을 남기지 않는다")
+        void deleteFixedExtension_alreadyInactive_recordsNothing() {
+            // given
+            Extensions inactive = Extensions.builder()
+                    .name("exe").isActive(false).type(ExtensionType.FIXED).build();
+            when(extRepository.findByTenantIdAndNameAndType(TENANT, "exe", ExtensionType.FIXED))
+                    .thenReturn(Optional.of(inactive));
+
+            // when
+            extensionService.deleteFixedExtension(TENANT, ACTOR, "exe");
+
+            // then
+            verifyNoInteractions(outbox, historyService, broadcaster);
         }
     }
 
@@ -303,31 +555,191 @@ class ExtensionServiceTest {
         @DisplayName("여러 고정 확장자를 한 번에 업데이트한다")
         void batchUpdateFixed_success() {
             // given
+            runTransactionsInline();
             List<String> checked = List.of("exe", "bat");
             List<String> unchecked = List.of("cmd");
+            when(extRepository.findStatesByNameIn(eq(TENANT), any())).thenReturn(List.of(
+                    new ExtensionStateChange(ExtensionType.FIXED, "exe", false),
+                    new ExtensionStateChange(ExtensionType.FIXED, "cmd", true)));
+
+            // when
+            extensionService.batchUpdateFixed(TENANT, ACTOR, checked, unchecked);
+
+            // then
+            verify(extRepository).updateActiveByTypeAndNameIn(TENANT, ExtensionType.FIXED, List.of("exe"), true);
+            verify(extRepository).batchInsertActive(TENANT, ExtensionType.FIXED, Set.of("bat"));
+            verify(extRepository).updateActiveByTypeAndNameIn(TENANT, ExtensionType.FIXED, List.of("cmd"), false);
+            verify(extRepository, never()).findByTenantIdAndNameAndType(eq(TENANT), anyString(), any());
+            verify(broadcaster).track(eq(TENANT), any(ExtensionChange.class));
+        }
+
+        @Test
+        @DisplayName("항목 수와 관계없이 조회는 한 번만 수행한다")
+        void batchUpdateFixed_largeBatch_singleSelect() {
+            // given
+            runTransactionsInline();
+            List<String> checked = IntStream.range(0, 100).mapToObj(i -> "ext" + i).toList();
+            when(extRepository.findStatesByNameIn(eq(TENANT), any())).thenReturn(checked.subList(0, 50).stream()
+                    .map(name -> new ExtensionStateChange(ExtensionType.FIXED, name, false))
+                    .toList());
+
+            // when
+            extensionService.batchUpdateFixed(TENANT, ACTOR, checked, List.of());
+
+            // then
+            verify(extRepository, times(1)).findStatesByNameIn(eq(TENANT), any());
+            verify(extRepository, times(1)).updateActiveByTypeAndNameIn(eq(TENANT), eq(ExtensionType.FIXED), any(), eq(true));
+            verify(extRepository, times(1)).batchInsertActive(eq(TENANT), eq(ExtensionType.FIXED), argThat(names -> names.size() == 50));
+            verify(extRepository, never()).save(any());
+        }
+
+        @Test
+        @DisplayName("대소문자가 다른 중복 이름은 하나로 처리하고, 체크와 해제에 모두 있으면 해제한다")
+        void batchUpdateFixed_duplicates_normalized() {
+            // given
+            runTransactionsInline();
+            when(extRepository.findStatesByNameIn(eq(TENANT), any()))
+                    .thenReturn(List.of(new ExtensionStateChange(ExtensionType.FIXED, "bat", true)));
+
+            // when
+            extensionService.batchUpdateFixed(TENANT, ACTOR, List.of("EXE", "exe", "bat"), List.of("BAT"));
+
+            // then
+            verify(extRepository).findStatesByNameIn(TENANT, Set.of("exe", "bat"));
+            verify(extRepository).batchInsertActive(TENANT, ExtensionType.FIXED, Set.of("exe"));
+            verify(extRepository).updateActiveByTypeAndNameIn(TENANT, ExtensionType.FIXED, List.of("bat"), false);
+        }
+
+        @Test
+        @DisplayName("이미 그 상태인 이름은 변경하지 않고, 전부 그렇다면 변경 이벤트와 이력을 남기지 않는다")
+        void batchUpdateFixed_noTransitions_recordsNothing() {
+            // given
+            runTransactionsInline();
+            when(extRepository.findStatesByNameIn(eq(TENANT), any())).thenReturn(List.of(
+                    new ExtensionStateChange(ExtensionType.FIXED, "exe", true),
+                    new ExtensionStateChange(ExtensionType.FIXED, "bat", false)));
 
             // when
-            extensionService.batchUpdateFixed(checked, unchecked);
+            extensionService.batchUpdateFixed(TENANT, ACTOR, List.of("exe"), List.of("bat", "cmd"));
 
             // then
-            verify(extRepository, times(3)).findByNameAndType(anyString(), eq(ExtensionType.FIXED));
-            verify(messagingTemplate).convertAndSend(eq("/topic/extensions"), any(Object.class));
+            verify(extRepository, never()).updateActiveByTypeAndNameIn(any(), any(), any(), anyBoolean());
+            verify(extRepository, never()).batchInsertActive(any(), any(), any());
+            verifyNoInteractions(outbox, historyService, broadcaster);
         }
 
         @Test
-        @DisplayName("빈 리스트로 호출해도 예외가 발생하지 않는다")
+        @DisplayName("변경 이벤트에는 실제로 상태가 바뀐 이름만 담긴다")
+        void batchUpdateFixed_recordsOnlyTransitions() {
+            // given
+            runTransactionsInline();
+            when(extRepository.findStatesByNameIn(eq(TENANT), any())).thenReturn(List.of(
+                    new ExtensionStateChange(ExtensionType.FIXED, "exe", true),
+                    new ExtensionStateChange(ExtensionType.FIXED, "bat", false),
+                    new ExtensionStateChange(ExtensionType.FIXED, "cmd", true)));
+
+            // when
+            extensionService.batchUpdateFixed(TENANT, ACTOR, List.of("exe", "bat", "com"), List.of("cmd", "scr"));
+
+            // then
+            verify(outbox).record(eq(TENANT), argThat(delta -> delta.getFixedAdded().equals(List.of("bat", "com"))
+                    && delta.getFixedRemoved().equals(List.of("cmd"))));
+            verify(historyService).record(eq(TENANT), eq(ACTOR), argThat(delta ->
+                    delta.getFixedAdded().size() == 2 && delta.getFixedRemoved().size() == 1));
+        }
+
+        @Test
+        @DisplayName("동시에 추가된 이름으로 unique 제약에 걸리면 새 트랜잭션에서 다시 조회해 한 번 재시도한다")
+        void batchUpdateFixed_concurrentInsert_retriesOnce() {
+            // given
+            runTransactionsInline();
+            when(extRepository.findStatesByNameIn(eq(TENANT), any()))
+                    .thenReturn(List.of())
+                    .thenReturn(List.of(new ExtensionStateChange(ExtensionType.FIXED, "exe", true)));
+            doThrow(new DataIntegrityViolationException("duplicate"))
+                    .doNothing()
+                    .when(extRepository).batchInsertActive(eq(TENANT), eq(ExtensionType.FIXED), any());
+
+            // when
+            extensionService.batchUpdateFixed(TENANT, ACTOR, List.of("exe", "bat"), List.of());
+
+            // then
+            verify(transactionTemplate, times(2)).executeWithoutResult(any());
+            verify(extRepository).batchInsertActive(TENANT, ExtensionType.FIXED, Set.of("exe", "bat"));
+            verify(extRepository).batchInsertActive(TENANT, ExtensionType.FIXED, Set.of("bat"));
+            verify(outbox, times(1)).record(eq(TENANT), argThat(delta -> delta.getFixedAdded().equals(List.of("bat"))));
+        }
+
+        @Test
+        @DisplayName("교착 상태로 롤백되면 새 트랜잭션에서 한 번 재시도한다")
+        void batchUpdateFixed_deadlock_retriesOnce() {
+            // given
+            runTransactionsInline();
+            when(extRepository.findStatesByNameIn(eq(TENANT), any()))
+                    .thenReturn(List.of(new ExtensionStateChange(ExtensionType.FIXED, "exe", false)));
+            when(extRepository.updateActiveByTypeAndNameIn(TENANT, ExtensionType.FIXED, List.of("exe"), true))
+                    .thenThrow(new CannotAcquireLockException("deadlock"))
+                    .thenReturn(1);
+
+            // when
+            extensionService.batchUpdateFixed(TENANT, ACTOR, List.of("exe"), List.of());
+
+            // then
+            verify(transactionTemplate, times(2)).executeWithoutResult(any());
+            verify(outbox, times(1)).record(eq(TENANT), argThat(delta -> delta.getFixedAdded().equals(List.of("exe"))));
+        }
+
+        @Test
+        @DisplayName("재시도에서도 unique 제약에 걸리면 예외를 그대로 던진다")
+        void batchUpdateFixed_conflictTwice_throws() {
+            // given
+            runTransactionsInline();
+            when(extRepository.findStatesByNameIn(eq(TENANT), any())).thenReturn(List.of());
+            doThrow(new DataIntegrityViolationException("duplicate"))
+                    .when(extRepository).batchInsertActive(eq(TENANT), eq(ExtensionType.FIXED), any());
+
+            // when & then
+            assertThatThrownBy(() -> extensionService.batchUpdateFixed(TENANT, ACTOR, List.of("exe"), List.of()))
+                    .isInstanceOf(DataIntegrityViolationException.class);
+            verify(transactionTemplate, times(2)).executeWithoutResult(any());
+            verifyNoInteractions(outbox, historyService);
+        }
+
+        @Test
+        @DisplayName("빈 리스트로 호출해도 예외가 발생하지 않고 변경 이벤트도 기록하지 않는다")
         void batchUpdateFixed_emptyLists_noException() {
             // when & then (no exception)
-            extensionService.batchUpdateFixed(List.of(), List.of());
-            verify(messagingTemplate).convertAndSend(eq("/topic/extensions"), any(Object.class));
+            extensionService.batchUpdateFixed(TENANT, ACTOR, List.of(), List.of());
+            verify(outbox, never()).record(any(), any());
+            verify(historyService, never()).record(any(), any(), any());
         }
 
         @Test
-        @DisplayName("null 리스트로 호출해도 예외가 발생하지 않는다")
+        @DisplayName("null 리스트로 호출해도 예외가 발생하지 않고 변경 이벤트도 기록하지 않는다")
         void batchUpdateFixed_nullLists_noException() {
             // when & then (no exception)
-            extensionService.batchUpdateFixed(null, null);
-            verify(messagingTemplate).convertAndSend(eq("/topic/extensions"), any(Object.class));
+            extensionService.batchUpdateFixed(TENANT, ACTOR, null, null);
+            verify(outbox, never()).record(any(), any());
+            verify(historyService, never()).record(any(), any(), any());
+        }
+    }
+
+    @Nested
+    @DisplayName("getListETag 메서드")
+    class GetListETag {
+
+        @Test
+        @DisplayName("버전이 같으면 같은 강한 ETag를, 다르면 다른 ETag를 반환한다")
+        void getListETag_byVersion() {
+            // when
+            String first = extensionService.getListETag(1);
+            String same = extensionService.getListETag(1);
+            String next = extensionService.getListETag(2);
+
+            // then
+            assertThat(first).isEqualTo(same).startsWith("\"").endsWith("\"").doesNotStartWith("W/");
+            assertThat(next).isNotEqualTo(first);
+            verifyNoInteractions(extRepository);
         }
     }
 
@@ -339,14 +751,12 @@ class ExtensionServiceTest {
         @DisplayName("WebSocket용 Map을 반환한다")
         void getActiveExtensionsMap_success() {
             // given
-            Extensions fixedExt = Extensions.builder().name("exe").type(ExtensionType.FIXED).isActive(true).build();
-            Extensions customExt = Extensions.builder().name("pdf").type(ExtensionType.CUSTOM).isActive(true).build();
-
-            when(extRepository.findAllByTypeAndIsActiveTrue(ExtensionType.FIXED)).thenReturn(List.of(fixedExt));
-            when(extRepository.findAllByTypeAndIsActiveTrue(ExtensionType.CUSTOM)).thenReturn(List.of(customExt));
+            when(extRepository.findAllActiveNames(TENANT)).thenReturn(List.of(
+                    new ActiveExtensionName(ExtensionType.FIXED, "exe"),
+                    new ActiveExtensionName(ExtensionType.CUSTOM, "pdf")));
 
             // when
-            var result = extensionService.getActiveExtensionsMap();
+            var result = extensionService.getActiveExtensionsMap(TENANT);
 
             // then
             assertThat(result).containsKey("fixed");
@@ -357,4 +767,92 @@ class ExtensionServiceTest {
             assertThat(result.get("count")).isEqualTo(1);
         }
     }
+
+    @Nested
+    @DisplayName("스냅샷 기반 조회")
+    class SnapshotRead {
+
+        @Test
+        @DisplayName("반복 조회 시 DB는 최초 1회만 조회한다")
+        void getActiveExtensions_repeated_queriesOnce() {
+            // given
+            when(extRepository.findAllActiveNames(TENANT)).thenReturn(List.of(
+                    new ActiveExtensionName(ExtensionType.FIXED, "exe")));
+
+            // when
+            extensionService.getActiveExtensions(TENANT);
+            extensionService.getActiveExtensions(TENANT);
+            extensionService.getActiveExtensionsMap(TENANT);
+
+            // then
+            verify(extRepository, times(1)).findAllActiveNames(TENANT);
+        }
+
+        @Test
+        @DisplayName("변경 후 스냅샷이 교체되어 재조회 없이 반영된다")
+        void deleteFixedExtension_updatesSnapshot() {
+            // given
+            Extensions fixedExt = Extensions.builder().name("exe").type(ExtensionType.FIXED).isActive(true).build();
+            when(extRepository.findAllActiveNames(TENANT)).thenReturn(List.of(
+                    new ActiveExtensionName(ExtensionType.FIXED, "exe")));
+            when(extRepository.findByTenantIdAndNameAndType(TENANT, "exe", ExtensionType.FIXED)).thenReturn(Optional.of(fixedExt));
+            long before = snapshotHolder.current(TENANT).getVersion();
+
+            // when
+            extensionService.deleteFixedExtension(TENANT, ACTOR, "exe");
+
+            // then
+            assertThat(extensionService.getActiveExtensions(TENANT).getFixed()).isEmpty();
+            assertThat(snapshotHolder.current(TENANT).getVersion()).isGreaterThan(before);
+            verify(extRepository, times(1)).findAllActiveNames(TENANT);
+        }
+    
+        @Test
+        @DisplayName("이전 버전 이후의 변경을 delta로 반환한다")
+        void getChangesSince_returnsDelta() {
+            // given
+            when(extRepository.findByTenantIdAndNameAndType(TENANT, "exe", ExtensionType.FIXED)).thenReturn(Optional.of(
+                    Extensions.builder().name("exe").type(ExtensionType.FIXED).isActive(true).build()));
+            long before = snapshotHolder.current(TENANT).getVersion();
+
+            // when
+            extensionService.deleteFixedExtension(TENANT, ACTOR, "exe");
+            ExtensionSyncMessage result = extensionService.getChangesSince(TENANT, before, snapshotHolder.getEpoch());
+
+            // then
+            assertThat(result).isInstanceOf(ExtensionDeltaResponse.class);
+            assertThat(result.getEpoch()).isEqualTo(snapshotHolder.getEpoch());
+            ExtensionDeltaResponse delta = (ExtensionDeltaResponse) result;
+            assertThat(delta.getFromVersion()).isEqualTo(before);
+            assertThat(delta.getVersion()).isEqualTo(snapshotHolder.current(TENANT).getVersion());
+            assertThat(delta.getFixedRemoved()).containsExactly("exe");
+        }
+
+        @Test
+        @DisplayName("알 수 없는 버전이면 전체 목록을 반환한다")
+        void getChangesSince_unknownVersion_returnsFull() {
+            ExtensionSyncMessage result = extensionService.getChangesSince(TENANT, -1, null);
+
+            assertThat(result.getType()).isEqualTo("full");
+            assertThat(result.getVersion()).isEqualTo(snapshotHolder.current(TENANT).getVersion());
+        }
+
+        @Test
+        @DisplayName("다른 epoch(다른 노드/재시작 전)의 버전이면 이력 안의 번호여도 전체 목록을 반환한다")
+        void getChangesSince_otherEpoch_returnsFull() {
+            // given
+            when(extRepository.findByTenantIdAndNameAndType(TENANT, "exe", ExtensionType.FIXED)).thenReturn(Optional.of(
+                    Extensions.builder().name("exe").type(ExtensionType.FIXED).isActive(true).build()));
+            long before = snapshotHolder.current(TENANT).getVersion();
+            extensionService.deleteFixedExtension(TENANT, ACTOR, "exe");
+
+            // when
+            ExtensionSyncMessage result = extensionService.getChangesSince(TENANT, before, snapshotHolder.getEpoch() + 1);
+
+            // then
+            assertThat(result.getType()).isEqualTo("full");
+            assertThat(result.getEpoch()).isEqualTo(snapshotHolder.getEpoch());
+        }
+    }
+
 }
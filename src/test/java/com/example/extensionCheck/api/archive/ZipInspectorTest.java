@@ -0,0 +1,240 @@
+package com.example.extensionCheck.api.archive;
+
+import com.example.extensionCheck.api.matcher.ExtensionMatcher;
+import com.example.extensionCheck.entity.ExtensionType;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.zip.CRC32;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipOutputStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("ZipInspector 테스트")
+class ZipInspectorTest {
+
+    private static final ExtensionMatcher MATCHER = ExtensionMatcher.compile(List.of("exe", "js"), List.of("tar.gz"));
+    private static final ZipInspector.Limits LIMITS = new ZipInspector.Limits(1000, 3, 100, 64L * 1024 * 1024);
+
+    private static ZipInspection inspect(byte[] zip, ZipInspector.Limits limits) throws IOException {
+        return new ZipInspector(MATCHER, limits).inspect(new ByteArrayInputStream(zip));
+    }
+
+    private static ZipInspection inspect(byte[] zip) throws IOException {
+        return inspect(zip, LIMITS);
+    }
+
+    // 이름 -> 내용, 내용이 byte[]면 그대로, 아니면 문자열로 저장 (deflate)
+    private static byte[] zip(Map<String, byte[]> entries) throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        try (ZipOutputStream zip = new ZipOutputStream(out)) {
+            for (Map.Entry<String, byte[]> entry : entries.entrySet()) {
+                zip.putNextEntry(new ZipEntry(entry.getKey()));
+                zip.write(entry.getValue());
+                zip.closeEntry();
+            }
+        }
+        return out.toByteArray();
+    }
+
+    private static byte[] zip(String name, byte[] content) throws IOException {
+        return zip(Map.of(name, content));
+    }
+
+    private static byte[] text(String s) {
+        return s.getBytes(StandardCharsets.UTF_8);
+    }
+
+    // 무압축(STORED) 항목으로 구성
+    private static byte[] storedZip(String name, byte[] content) throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        try (ZipOutputStream zip = new ZipOutputStream(out)) {
+            ZipEntry entry = new ZipEntry(name);
+            CRC32 crc = new CRC32();
+            crc.update(content);
+            entry.setMethod(ZipEntry.STORED);
+            entry.setSize(content.length);
+            entry.setCompressedSize(content.length);
+            entry.setCrc(crc.getValue());
+            zip.putNextEntry(entry);
+            zip.write(content);
+            zip.closeEntry();
+        }
+        return out.toByteArray();
+    }
+
+    @Nested
+    @DisplayName("항목 이름 검사")
+    class EntryNames {
+
+        @Test
+        @DisplayName("차단 항목이 없으면 통과하고 항목 수를 반환한다")
+        void inspect_clean() throws IOException {
+            // given
+            Map<String, byte[]> entries = new LinkedHashMap<>();
+            entries.put("docs/readme.txt", text("hello"));
+            entries.put("docs/report.pdf", new byte[2048]);
+            entries.put("src/", new byte[0]);
+
+            // when
+            ZipInspection result = inspect(zip(entries));
+
+            // then
+            assertThat(result.isBlocked()).isFalse();
+            assertThat(result.entries()).isEqualTo(3);
+        }
+
+        @Test
+        @DisplayName("차단 확장자 항목을 찾으면 경로와 일치 확장자를 반환한다")
+        void inspect_blockedEntry() throws IOException {
+            // given
+            Map<String, byte[]> entries = new LinkedHashMap<>();
+            entries.put("readme.txt", text("hello"));
+            entries.put("bin/Setup.EXE", text("MZ"));
+
+            // when
+            ZipInspection result = inspect(zip(entries));
+
+            // then
+            assertThat(result.isBlocked()).isTrue();
+            assertThat(result.entry()).isEqualTo("bin/Setup.EXE");
+            assertThat(result.match()).isEqualTo(new ExtensionMatcher.Match("exe", ExtensionType.FIXED));
+        }
+
+        @Test
+        @DisplayName("무압축 항목도 건너뛰며 검사한다")
+        void inspect_stored() throws IOException {
+            assertThat(inspect(storedZip("a.txt", new byte[5000])).isBlocked()).isFalse();
+            assertThat(inspect(storedZip("a.tar.gz", new byte[5000])).match().extension()).isEqualTo("tar.gz");
+        }
+
+        @Test
+        @DisplayName("중앙 디렉터리의 이름만 다르게 적어도 차단한다")
+        void inspect_centralDirectoryName() throws IOException {
+            // given: 로컬 헤더는 a.txt, 중앙 디렉터리는 a.exe
+            byte[] zip = zip("a.txt", text("MZ"));
+            byte[] name = text("a.txt");
+            int last = lastIndexOf(zip, name);
+            System.arraycopy(text("a.exe"), 0, zip, last, name.length);
+
+            // when
+            ZipInspection result = inspect(zip);
+
+            // then
+            assertThat(result.entry()).isEqualTo("a.exe");
+        }
+    }
+
+    @Nested
+    @DisplayName("중첩 압축 파일")
+    class NestedArchive {
+
+        @Test
+        @DisplayName("안쪽 압축 파일의 항목도 검사한다 (이름이 zip이 아니어도)")
+        void inspect_nested() throws IOException {
+            // given
+            byte[] inner = zip("payload.js", text("alert(1)"));
+            byte[] outer = zip(Map.of("images/photo.bin", inner));
+
+            // when
+            ZipInspection result = inspect(outer);
+
+            // then
+            assertThat(result.entry()).isEqualTo("images/photo.bin!/payload.js");
+            assertThat(result.entries()).isEqualTo(2);
+        }
+
+        @Test
+        @DisplayName("최대 깊이를 넘으면 TOO_DEEP")
+        void inspect_tooDeep() throws IOException {
+            // given: 깊이 2 (outer -> middle -> inner)
+            byte[] inner = zip("a.txt", text("a"));
+            byte[] middle = zip("inner.zip", inner);
+            byte[] outer = storedZip("middle.zip", middle);
+
+            // when
+            ZipInspection result = inspect(outer, new ZipInspector.Limits(1000, 1, 100, 1024 * 1024));
+
+            // then
+            assertThat(result.violation()).isEqualTo(ZipInspection.Violation.TOO_DEEP);
+            assertThat(result.entry()).isEqualTo("middle.zip!/inner.zip");
+        }
+    }
+
+    @Nested
+    @DisplayName("압축 폭탄 방어")
+    class Limits {
+
+        @Test
+        @DisplayName("항목 수 제한을 넘으면 TOO_MANY_ENTRIES")
+        void inspect_tooManyEntries() throws IOException {
+            // given
+            Map<String, byte[]> entries = new LinkedHashMap<>();
+            for (int i = 0; i < 20; i++) {
+                entries.put("f" + i + ".txt", new byte[0]);
+            }
+
+            // when
+            ZipInspection result = inspect(zip(entries), new ZipInspector.Limits(10, 3, 100, 1024));
+
+            // then
+            assertThat(result.violation()).isEqualTo(ZipInspection.Violation.TOO_MANY_ENTRIES);
+        }
+
+        @Test
+        @DisplayName("압축률이 제한을 넘으면 COMPRESSION_RATIO")
+        void inspect_compressionRatio() throws IOException {
+            // given: 8MB 0 바이트 -> 수 KB
+            byte[] zip = zip("zeros.bin", new byte[8 * 1024 * 1024]);
+
+            // when
+            ZipInspection result = inspect(zip);
+
+            // then
+            assertThat(result.violation()).isEqualTo(ZipInspection.Violation.COMPRESSION_RATIO);
+        }
+
+        @Test
+        @DisplayName("풀어낸 총 크기가 제한을 넘으면 TOO_LARGE")
+        void inspect_tooLarge() throws IOException {
+            // given
+            byte[] content = new byte[512 * 1024];
+            new java.util.Random(1).nextBytes(content);
+            byte[] zip = zip("random.bin", content);
+
+            // when
+            ZipInspection result = inspect(zip, new ZipInspector.Limits(1000, 3, 100, 100 * 1024));
+
+            // then
+            assertThat(result.violation()).isEqualTo(ZipInspection.Violation.TOO_LARGE);
+        }
+
+        @Test
+        @DisplayName("ZIP이 아니거나 중간에 끊긴 스트림은 MALFORMED")
+        void inspect_malformed() throws IOException {
+            byte[] zip = zip("a.txt", new byte[1000]);
+
+            assertThat(inspect(text("not a zip")).violation()).isEqualTo(ZipInspection.Violation.MALFORMED);
+            assertThat(inspect(Arrays.copyOf(zip, 40)).violation()).isEqualTo(ZipInspection.Violation.MALFORMED);
+        }
+    }
+
+    private static int lastIndexOf(byte[] haystack, byte[] needle) {
+        for (int i = haystack.length - needle.length; i >= 0; i--) {
+            if (Arrays.equals(haystack, i, i + needle.length, needle, 0, needle.length)) {
+                return i;
+            }
+        }
+        return -1;
+    }
+}
@@ -0,0 +1,104 @@
+package com.example.extensionCheck.api.cluster;
+
+import com.example.extensionCheck.ExtensionCheckApplication;
+import com.example.extensionCheck.api.Service.ExtensionService;
+import com.example.extensionCheck.api.response.ExtensionSyncMessage;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.util.UUID;
+import java.util.function.BooleanSupplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 같은 DB(H2 인메모리)를 쓰는 애플리케이션 두 개를 띄워 노드 간 변경 전파 확인
+ */
+@DisplayName("클러스터 변경 전파 통합 테스트")
+class ClusterChangeSyncIntegrationTest {
+
+    private static final String TENANT = "cluster";
+
+    private static ConfigurableApplicationContext nodeA;
+    private static ConfigurableApplicationContext nodeB;
+
+    @BeforeAll
+    static void startNodes() {
+        String url = "jdbc:h2:mem:cluster-" + UUID.randomUUID() + ";MODE=MySQL;DB_CLOSE_DELAY=-1";
+        nodeA = start("node-a", url);
+        nodeB = start("node-b", url);
+    }
+
+    @AfterAll
+    static void stopNodes() {
+        nodeB.close();
+        nodeA.close();
+    }
+
+    @Test
+    @DisplayName("한 노드의 변경이 다른 노드의 스냅샷에 delta로 반영되고 그 노드 구독자에게 전송된다")
+    void change_propagatesToOtherNode() throws InterruptedException {
+        // given
+        ExtensionService serviceA = nodeA.getBean(ExtensionService.class);
+        ExtensionService serviceB = nodeB.getBean(ExtensionService.class);
+        long versionB = serviceB.getActiveExtensions(TENANT).getVersion();
+
+        // when
+        serviceA.addExtension(TENANT, "tester", "pdf");
+        serviceA.saveFixedExtension(TENANT, "tester", "exe");
+
+        // then
+        assertThat(await(() -> serviceB.getActiveExtensions(TENANT).getCustom().contains("pdf")
+                && serviceB.getActiveExtensions(TENANT).getFixed().contains("exe"))).isTrue();
+        long epochB = serviceB.getActiveExtensions(TENANT).getEpoch();
+        ExtensionSyncMessage changes = serviceB.getChangesSince(TENANT, versionB, epochB);
+        assertThat(changes.getType()).isEqualTo("delta");
+        // A에서 받은 버전으로 B에 물으면 비교할 수 없으므로 전체 목록
+        long epochA = serviceA.getActiveExtensions(TENANT).getEpoch();
+        assertThat(epochA).isNotEqualTo(epochB);
+        assertThat(serviceB.getChangesSince(TENANT, versionB, epochA).getType()).isEqualTo("full");
+        assertThat(await(() -> fanouts(nodeB) > 0)).isTrue();
+
+        // when: 반대 방향
+        serviceB.deactivateExtension(TENANT, "tester", "pdf");
+
+        // then
+        assertThat(await(() -> !serviceA.getActiveExtensions(TENANT).getCustom().contains("pdf"))).isTrue();
+    }
+
+    private static ConfigurableApplicationContext start(String nodeId, String url) {
+        return new SpringApplicationBuilder(ExtensionCheckApplication.class).run(
+                "--spring.profiles.active=test",
+                "--spring.datasource.url=" + url,
+                "--spring.jpa.hibernate.ddl-auto=update",
+                "--server.port=0",
+                "--spring.main.banner-mode=off",
+                "--extension.cluster.enabled=true",
+                "--extension.outbox.node-id=" + nodeId,
+                "--extension.outbox.poll-interval=100ms",
+                "--extension.broadcast.coalesce-window=10ms");
+    }
+
+    private static double fanouts(ConfigurableApplicationContext node) {
+        return node.getBean(MeterRegistry.class).find("extension.broadcast.fanout").timers().stream()
+                .mapToDouble(Timer::count)
+                .sum();
+    }
+
+    private static boolean await(BooleanSupplier condition) throws InterruptedException {
+        long deadline = System.currentTimeMillis() + 5_000;
+        while (System.currentTimeMillis() < deadline) {
+            if (condition.getAsBoolean()) {
+                return true;
+            }
+            Thread.sleep(50);
+        }
+        return false;
+    }
+}
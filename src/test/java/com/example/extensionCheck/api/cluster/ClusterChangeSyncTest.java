@@ -0,0 +1,79 @@
+package com.example.extensionCheck.api.cluster;
+
+import com.example.extensionCheck.api.Service.ExtensionBroadcaster;
+import com.example.extensionCheck.api.outbox.ExtensionChangeEvent;
+import com.example.extensionCheck.api.snapshot.ExtensionChange;
+import com.example.extensionCheck.api.snapshot.ExtensionDelta;
+import com.example.extensionCheck.api.snapshot.ExtensionSnapshotHolder;
+import com.example.extensionCheck.config.ExtensionProperties;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.List;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("ClusterChangeSync 테스트")
+class ClusterChangeSyncTest {
+
+    @Mock
+    private ExtensionSnapshotHolder snapshotHolder;
+
+    @Mock
+    private ExtensionBroadcaster broadcaster;
+
+    private ExtensionProperties properties;
+
+    @BeforeEach
+    void setUp() {
+        properties = new ExtensionProperties();
+    }
+
+    @Test
+    @DisplayName("클러스터 모드가 아니면 다른 노드의 이벤트도 무시한다")
+    void disabled_noop() {
+        // given
+        ClusterChangeSync clusterSync = new ClusterChangeSync(snapshotHolder, broadcaster, properties);
+
+        // when
+        clusterSync.onChanges(List.of(event(11, "tenant-a", false)));
+
+        // then
+        verifyNoInteractions(snapshotHolder, broadcaster);
+    }
+
+    @Test
+    @DisplayName("다른 노드가 바꾼 테넌트만 테넌트당 한 번 갱신하고 변경이 있으면 전송한다")
+    void onChanges_refreshesTenantsChangedByOtherNodes() {
+        // given
+        properties.getCluster().setEnabled(true);
+        ClusterChangeSync clusterSync = new ClusterChangeSync(snapshotHolder, broadcaster, properties);
+        ExtensionChange change = new ExtensionChange(1, 2, ExtensionDelta.ofCustom(List.of("pdf"), List.of()));
+        when(snapshotHolder.refresh("tenant-a")).thenReturn(change);
+        when(snapshotHolder.refresh("tenant-c")).thenReturn(null);
+
+        // when
+        clusterSync.onChanges(List.of(
+                event(11, "tenant-a", false),
+                event(12, "tenant-a", false),
+                event(13, "tenant-b", true),
+                event(14, "tenant-c", false)));
+
+        // then
+        verify(snapshotHolder, times(1)).refresh("tenant-a");
+        verify(snapshotHolder, never()).refresh("tenant-b");
+        verify(broadcaster).publish("tenant-a", change);
+        verify(broadcaster, never()).publish(eq("tenant-c"), any());
+    }
+
+    private static ExtensionChangeEvent event(long id, String tenantId, boolean local) {
+        return new ExtensionChangeEvent(id, tenantId, local, ExtensionDelta.ofCustom(List.of("pdf"), List.of()));
+    }
+}
@@ -1,7 +1,13 @@
 package com.example.extensionCheck.api.exception;
 
 import com.example.extensionCheck.api.Controller.ExtensionController;
+import com.example.extensionCheck.api.Service.ExtensionCheckService;
 import com.example.extensionCheck.api.Service.ExtensionService;
+import com.example.extensionCheck.api.matcher.ExtensionMatcher;
+import com.example.extensionCheck.api.tenant.ActorArgumentResolver;
+import com.example.extensionCheck.api.tenant.TenantArgumentResolver;
+import com.example.extensionCheck.api.upload.BlockedUploadException;
+import com.example.extensionCheck.entity.ExtensionType;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
@@ -10,6 +16,7 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.http.MediaType;
 import org.springframework.test.web.servlet.MockMvc;
 import org.springframework.test.web.servlet.setup.MockMvcBuilders;
 
@@ -18,6 +25,7 @@ import static org.mockito.Mockito.doThrow;
 import static org.mockito.Mockito.when;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.delete;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 
@@ -30,6 +38,9 @@ class GlobalExceptionHandlerTest {
     @Mock
     private ExtensionService extensionService;
 
+    @Mock
+    private ExtensionCheckService extensionCheckService;
+
     @InjectMocks
     private ExtensionController extensionController;
 
@@ -37,6 +48,7 @@ class GlobalExceptionHandlerTest {
     void setUp() {
         mockMvc = MockMvcBuilders.standaloneSetup(extensionController)
                 .setControllerAdvice(new GlobalExceptionHandler())
+                .setCustomArgumentResolvers(new TenantArgumentResolver(), new ActorArgumentResolver())
                 .build();
     }
 
@@ -47,7 +59,7 @@ class GlobalExceptionHandlerTest {
         @Test
         @DisplayName("EMPTY_INPUT - BAD_REQUEST 반환")
         void handleEmptyInput_badRequest() throws Exception {
-            when(extensionService.addExtension(any()))
+            when(extensionService.addExtension(any(), any(), any()))
                     .thenThrow(new ExtensionException(ExtensionErrorCode.EMPTY_INPUT));
 
             mockMvc.perform(post("/api/extensions/add")
@@ -60,7 +72,7 @@ class GlobalExceptionHandlerTest {
         @Test
         @DisplayName("TOO_LONG - BAD_REQUEST 반환")
         void handleTooLong_badRequest() throws Exception {
-            when(extensionService.addExtension(any()))
+            when(extensionService.addExtension(any(), any(), any()))
                     .thenThrow(new ExtensionException(ExtensionErrorCode.TOO_LONG));
 
             mockMvc.perform(post("/api/extensions/add")
@@ -72,7 +84,7 @@ class GlobalExceptionHandlerTest {
         @Test
         @DisplayName("CONTAINS_DIGIT - BAD_REQUEST 반환")
         void handleContainsDigit_badRequest() throws Exception {
-            when(extensionService.addExtension(any()))
+            when(extensionService.addExtension(any(), any(), any()))
                     .thenThrow(new ExtensionException(ExtensionErrorCode.CONTAINS_DIGIT));
 
             mockMvc.perform(post("/api/extensions/add")
@@ -84,7 +96,7 @@ class GlobalExceptionHandlerTest {
         @Test
         @DisplayName("CONTAINS_KOREAN - BAD_REQUEST 반환")
         void handleContainsKorean_badRequest() throws Exception {
-            when(extensionService.addExtension(any()))
+            when(extensionService.addExtension(any(), any(), any()))
                     .thenThrow(new ExtensionException(ExtensionErrorCode.CONTAINS_KOREAN));
 
             mockMvc.perform(post("/api/extensions/add")
@@ -96,7 +108,7 @@ class GlobalExceptionHandlerTest {
         @Test
         @DisplayName("ALREADY_EXISTS - CONFLICT 반환")
         void handleAlreadyExists_conflict() throws Exception {
-            when(extensionService.addExtension(any()))
+            when(extensionService.addExtension(any(), any(), any()))
                     .thenThrow(new ExtensionException(ExtensionErrorCode.ALREADY_EXISTS));
 
             mockMvc.perform(post("/api/extensions/add")
@@ -109,7 +121,7 @@ class GlobalExceptionHandlerTest {
         @DisplayName("NOT_FOUND - NOT_FOUND 반환")
         void handleNotFound_notFound() throws Exception {
             doThrow(new ExtensionException(ExtensionErrorCode.NOT_FOUND))
-                    .when(extensionService).deactivateExtension(any());
+                    .when(extensionService).deactivateExtension(any(), any(), any());
 
             mockMvc.perform(delete("/api/extensions/custom/notexist"))
                     .andExpect(status().isNotFound())
@@ -119,7 +131,7 @@ class GlobalExceptionHandlerTest {
         @Test
         @DisplayName("MAX_LIMIT_EXCEEDED - UNPROCESSABLE_ENTITY 반환")
         void handleMaxLimitExceeded_unprocessableEntity() throws Exception {
-            when(extensionService.addExtension(any()))
+            when(extensionService.addExtension(any(), any(), any()))
                     .thenThrow(new ExtensionException(ExtensionErrorCode.MAX_LIMIT_EXCEEDED));
 
             mockMvc.perform(post("/api/extensions/add")
@@ -131,7 +143,7 @@ class GlobalExceptionHandlerTest {
         @Test
         @DisplayName("FIXED_EXTENSION_CONFLICT - CONFLICT 반환")
         void handleFixedConflict_conflict() throws Exception {
-            when(extensionService.addExtension(any()))
+            when(extensionService.addExtension(any(), any(), any()))
                     .thenThrow(new ExtensionException(ExtensionErrorCode.FIXED_EXTENSION_CONFLICT));
 
             mockMvc.perform(post("/api/extensions/add")
@@ -148,7 +160,7 @@ class GlobalExceptionHandlerTest {
         @Test
         @DisplayName("IllegalArgumentException - BAD_REQUEST 반환")
         void handleIllegalArgument_badRequest() throws Exception {
-            when(extensionService.addExtension(any()))
+            when(extensionService.addExtension(any(), any(), any()))
                     .thenThrow(new IllegalArgumentException("잘못된 입력입니다."));
 
             mockMvc.perform(post("/api/extensions/add")
@@ -161,7 +173,7 @@ class GlobalExceptionHandlerTest {
         @Test
         @DisplayName("RuntimeException - INTERNAL_SERVER_ERROR 반환")
         void handleRuntimeException_internalError() throws Exception {
-            when(extensionService.addExtension(any()))
+            when(extensionService.addExtension(any(), any(), any()))
                     .thenThrow(new RuntimeException("예상치 못한 오류"));
 
             mockMvc.perform(post("/api/extensions/add")
@@ -169,5 +181,19 @@ class GlobalExceptionHandlerTest {
                     .andExpect(status().isInternalServerError())
                     .andExpect(jsonPath("$.code").value("INTERNAL_ERROR"));
         }
+
+        @Test
+        @DisplayName("BlockedUploadException - FORBIDDEN 반환, 연결 종료")
+        void handleBlockedUpload_forbidden() throws Exception {
+            when(extensionCheckService.checkBulk(any(), any(), any()))
+                    .thenThrow(new BlockedUploadException("a.exe", new ExtensionMatcher.Match("exe", ExtensionType.FIXED)));
+
+            mockMvc.perform(post("/api/extensions/check/bulk")
+                            .contentType(MediaType.TEXT_PLAIN)
+                            .content("a.exe"))
+                    .andExpect(status().isForbidden())
+                    .andExpect(header().string("Connection", "close"))
+                    .andExpect(jsonPath("$.code").value("EXT_011"));
+        }
     }
 }
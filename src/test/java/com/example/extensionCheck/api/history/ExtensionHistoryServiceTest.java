@@ -0,0 +1,222 @@
+package com.example.extensionCheck.api.history;
+
+import com.example.extensionCheck.api.exception.ExtensionErrorCode;
+import com.example.extensionCheck.api.exception.ExtensionException;
+import com.example.extensionCheck.api.response.ExtensionHistoryResponse;
+import com.example.extensionCheck.api.snapshot.ExtensionDelta;
+import com.example.extensionCheck.entity.ExtensionCheckpoint;
+import com.example.extensionCheck.entity.ExtensionType;
+import com.example.extensionCheck.repository.ActiveExtensionName;
+import com.example.extensionCheck.repository.ExtensionCheckpointRepository;
+import com.example.extensionCheck.repository.ExtensionHistoryRepository;
+import com.example.extensionCheck.repository.ExtensionStateChange;
+import com.example.extensionCheck.repository.ExtensionsRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import tools.jackson.databind.ObjectMapper;
+import tools.jackson.databind.json.JsonMapper;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("ExtensionHistoryService 테스트")
+class ExtensionHistoryServiceTest {
+
+    private static final String TENANT = "tenant-a";
+    private static final Instant CHECKPOINT_AT = Instant.parse("2026-01-01T00:00:00Z");
+    private static final Instant AT = Instant.parse("2026-01-01T00:30:00Z");
+
+    @Mock
+    private ExtensionHistoryRepository historyRepository;
+
+    @Mock
+    private ExtensionCheckpointRepository checkpointRepository;
+
+    @Mock
+    private ExtensionsRepository extRepository;
+
+    private final ObjectMapper objectMapper = JsonMapper.builder().build();
+
+    private ExtensionHistoryService historyService;
+
+    @BeforeEach
+    void setUp() {
+        historyService = new ExtensionHistoryService(historyRepository, checkpointRepository, extRepository, objectMapper);
+    }
+
+    @Test
+    @DisplayName("변경 내용을 이름별 활성화/비활성화 이력으로 한 번에 기록한다")
+    @SuppressWarnings("unchecked")
+    void record_batchInsertsEachName() {
+        // given
+        ExtensionDelta delta = ExtensionDelta.ofFixed(List.of("exe"), List.of("bat"))
+                .merge(ExtensionDelta.ofCustom(List.of("pdf"), List.of()));
+
+        // when
+        historyService.record(TENANT, "alice", delta);
+
+        // then
+        ArgumentCaptor<List<ExtensionStateChange>> captor = ArgumentCaptor.forClass(List.class);
+        verify(historyRepository).batchInsert(eq(TENANT), eq("alice"), any(Instant.class), captor.capture());
+        assertThat(captor.getValue()).containsExactly(
+                new ExtensionStateChange(ExtensionType.FIXED, "exe", true),
+                new ExtensionStateChange(ExtensionType.FIXED, "bat", false),
+                new ExtensionStateChange(ExtensionType.CUSTOM, "pdf", true));
+    }
+
+    @Nested
+    @DisplayName("getBlocklistAt 메서드")
+    class GetBlocklistAt {
+
+        @Test
+        @DisplayName("가장 가까운 이전 체크포인트에서 그 이후 이력만 재생한다")
+        void getBlocklistAt_replaysFromCheckpoint() {
+            // given
+            when(checkpointRepository.findFirstByTenantIdAndAsOfLessThanEqualOrderByAsOfDesc(TENANT, AT))
+                    .thenReturn(Optional.of(checkpoint(List.of("exe", "bat"), List.of("pdf"))));
+            when(historyRepository.findChanges(TENANT, CHECKPOINT_AT, AT)).thenReturn(List.of(
+                    new ExtensionStateChange(ExtensionType.FIXED, "bat", false),
+                    new ExtensionStateChange(ExtensionType.CUSTOM, "hwp", true),
+                    new ExtensionStateChange(ExtensionType.CUSTOM, "pdf", false)));
+
+            // when
+            ExtensionHistoryResponse response = historyService.getBlocklistAt(TENANT, AT);
+
+            // then
+            assertThat(response.getFixed()).containsExactly("exe");
+            assertThat(response.getCustom()).containsExactly("hwp");
+            assertThat(response.getCount()).isEqualTo(1);
+            assertThat(response.getCheckpointAt()).isEqualTo(CHECKPOINT_AT);
+            assertThat(response.getReplayed()).isEqualTo(3);
+        }
+
+        @Test
+        @DisplayName("체크포인트가 없으면 처음부터 재생한다")
+        void getBlocklistAt_withoutCheckpoint_replaysFromStart() {
+            // given
+            when(checkpointRepository.findFirstByTenantIdAndAsOfLessThanEqualOrderByAsOfDesc(TENANT, AT))
+                    .thenReturn(Optional.empty());
+            when(historyRepository.findChanges(TENANT, Instant.EPOCH, AT)).thenReturn(List.of(
+                    new ExtensionStateChange(ExtensionType.CUSTOM, "pdf", true)));
+
+            // when
+            ExtensionHistoryResponse response = historyService.getBlocklistAt(TENANT, AT);
+
+            // then
+            assertThat(response.getFixed()).isEmpty();
+            assertThat(response.getCustom()).containsExactly("pdf");
+            assertThat(response.getCheckpointAt()).isNull();
+        }
+
+        @Test
+        @DisplayName("가장 오래된 체크포인트와 이력보다 이른 시각은 빈 목록 대신 보관 범위 밖 예외")
+        void getBlocklistAt_beforeRetention_throws() {
+            // given
+            when(checkpointRepository.findFirstByTenantIdAndAsOfLessThanEqualOrderByAsOfDesc(TENANT, AT))
+                    .thenReturn(Optional.empty());
+            when(historyRepository.findChanges(TENANT, Instant.EPOCH, AT)).thenReturn(List.of());
+
+            // when & then
+            assertThatThrownBy(() -> historyService.getBlocklistAt(TENANT, AT))
+                    .isInstanceOf(ExtensionException.class)
+                    .extracting("errorCode")
+                    .isEqualTo(ExtensionErrorCode.HISTORY_OUT_OF_RETENTION);
+        }
+
+        @Test
+        @DisplayName("체크포인트가 있으면 그 이후 이력이 없어도 체크포인트 내용을 반환한다")
+        void getBlocklistAt_checkpointOnly() {
+            // given
+            when(checkpointRepository.findFirstByTenantIdAndAsOfLessThanEqualOrderByAsOfDesc(TENANT, AT))
+                    .thenReturn(Optional.of(checkpoint(List.of(), List.of())));
+            when(historyRepository.findChanges(TENANT, CHECKPOINT_AT, AT)).thenReturn(List.of());
+
+            // when
+            ExtensionHistoryResponse response = historyService.getBlocklistAt(TENANT, AT);
+
+            // then
+            assertThat(response.getFixed()).isEmpty();
+            assertThat(response.getCheckpointAt()).isEqualTo(CHECKPOINT_AT);
+        }
+    }
+
+    @Nested
+    @DisplayName("체크포인트 생성")
+    class Checkpoint {
+
+        @Test
+        @DisplayName("마지막 체크포인트 이후 변경된 테넌트만 새 체크포인트를 만든다")
+        void checkpoint_changedTenantsOnly() {
+            // given
+            when(checkpointRepository.findMaxAsOf()).thenReturn(CHECKPOINT_AT);
+            when(historyRepository.findTenantIdsChangedBetween(CHECKPOINT_AT, AT)).thenReturn(List.of(TENANT));
+            when(checkpointRepository.findFirstByTenantIdAndAsOfLessThanEqualOrderByAsOfDesc(TENANT, AT))
+                    .thenReturn(Optional.of(checkpoint(List.of("exe"), List.of())));
+            when(historyRepository.findChanges(TENANT, CHECKPOINT_AT, AT)).thenReturn(List.of(
+                    new ExtensionStateChange(ExtensionType.CUSTOM, "pdf", true)));
+
+            // when
+            int tenants = historyService.checkpoint(AT);
+
+            // then
+            assertThat(tenants).isEqualTo(1);
+            ArgumentCaptor<ExtensionCheckpoint> captor = ArgumentCaptor.forClass(ExtensionCheckpoint.class);
+            verify(checkpointRepository).save(captor.capture());
+            assertThat(captor.getValue().getAsOf()).isEqualTo(AT);
+            assertThat(captor.getValue().getContent()).isEqualTo("{\"fixed\":[\"exe\"],\"custom\":[\"pdf\"]}");
+        }
+
+        @Test
+        @DisplayName("체크포인트가 없으면 현재 확장자 테이블로 기준 체크포인트를 만든다")
+        void seedBaseline_fromCurrentTable() {
+            // given
+            when(checkpointRepository.count()).thenReturn(0L);
+            when(extRepository.findTenantIds()).thenReturn(List.of(TENANT));
+            when(extRepository.findAllActiveNames(TENANT)).thenReturn(List.of(
+                    new ActiveExtensionName(ExtensionType.FIXED, "exe"),
+                    new ActiveExtensionName(ExtensionType.CUSTOM, "pdf")));
+
+            // when
+            historyService.seedBaseline(CHECKPOINT_AT);
+
+            // then
+            ArgumentCaptor<ExtensionCheckpoint> captor = ArgumentCaptor.forClass(ExtensionCheckpoint.class);
+            verify(checkpointRepository).save(captor.capture());
+            assertThat(captor.getValue().getTenantId()).isEqualTo(TENANT);
+            assertThat(captor.getValue().getContent()).isEqualTo("{\"fixed\":[\"exe\"],\"custom\":[\"pdf\"]}");
+        }
+
+        @Test
+        @DisplayName("체크포인트가 이미 있으면 기준 체크포인트를 만들지 않는다")
+        void seedBaseline_existing_noop() {
+            // given
+            when(checkpointRepository.count()).thenReturn(3L);
+
+            // when
+            historyService.seedBaseline(CHECKPOINT_AT);
+
+            // then
+            verify(checkpointRepository, never()).save(any());
+            verifyNoInteractions(extRepository);
+        }
+    }
+
+    private ExtensionCheckpoint checkpoint(List<String> fixed, List<String> custom) {
+        String content = objectMapper.writeValueAsString(new ExtensionHistoryService.Content(fixed, custom));
+        return new ExtensionCheckpoint(TENANT, CHECKPOINT_AT, content);
+    }
+}
@@ -0,0 +1,85 @@
+package com.example.extensionCheck.api.matcher;
+
+import com.example.extensionCheck.entity.ExtensionType;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("ExtensionMatcher 테스트")
+class ExtensionMatcherTest {
+
+    private ExtensionMatcher matcher;
+
+    @BeforeEach
+    void setUp() {
+        matcher = ExtensionMatcher.compile(List.of("exe", "bat", "js"), List.of("pdf", "tar.gz"));
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = {"virus.exe", "VIRUS.EXE", "a.b.c.bat", "dir/app.js", ".exe", "run.exe.", "run.exe  "})
+    @DisplayName("차단 확장자로 끝나는 파일명은 차단한다")
+    void match_blocked(String filename) {
+        assertThat(matcher.isBlocked(filename)).isTrue();
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = {"photo.jpg", "exe", "notexe", "file.json", "file.exe.txt", "archive.gz", ""})
+    @DisplayName("차단 확장자가 아니면 허용한다")
+    void match_allowed(String filename) {
+        assertThat(matcher.isBlocked(filename)).isFalse();
+    }
+
+    @Test
+    @DisplayName("일치한 확장자와 타입을 반환한다")
+    void match_returnsExtensionAndType() {
+        assertThat(matcher.match("report.PDF"))
+                .isEqualTo(new ExtensionMatcher.Match("pdf", ExtensionType.CUSTOM));
+        assertThat(matcher.match("backup.tar.gz"))
+                .isEqualTo(new ExtensionMatcher.Match("tar.gz", ExtensionType.CUSTOM));
+        assertThat(matcher.match("setup.exe"))
+                .isEqualTo(new ExtensionMatcher.Match("exe", ExtensionType.FIXED));
+    }
+
+    @Test
+    @DisplayName("빈 목록이면 모든 파일을 허용한다")
+    void empty_allowsAll() {
+        assertThat(ExtensionMatcher.compile(List.of(), List.of()).isBlocked("virus.exe")).isFalse();
+        assertThat(ExtensionMatcher.empty().match(null)).isNull();
+    }
+
+    @Test
+    @DisplayName("with/without은 바뀐 이름만 반영한 새 판별기를 만들고 기존 판별기는 변하지 않는다")
+    void withWithout_incremental() {
+        // when
+        ExtensionMatcher added = matcher.with("hwp", ExtensionType.CUSTOM).with("js", ExtensionType.CUSTOM);
+        ExtensionMatcher removed = added.without("tar.gz").without("exe").without("none");
+
+        // then
+        assertThat(added.match("a.hwp")).isEqualTo(new ExtensionMatcher.Match("hwp", ExtensionType.CUSTOM));
+        assertThat(added.match("a.js")).isEqualTo(new ExtensionMatcher.Match("js", ExtensionType.CUSTOM));
+        assertThat(removed.isBlocked("backup.tar.gz")).isFalse();
+        assertThat(removed.isBlocked("setup.exe")).isFalse();
+        assertThat(removed.isBlocked("report.pdf")).isTrue();
+        assertThat(removed.isBlocked("a.hwp")).isTrue();
+        assertThat(matcher.isBlocked("a.hwp")).isFalse();
+        assertThat(matcher.isBlocked("backup.tar.gz")).isTrue();
+    }
+
+    @Test
+    @DisplayName("모두 빼면 빈 판별기가 된다")
+    void without_all_empty() {
+        ExtensionMatcher single = ExtensionMatcher.empty().with("gz", ExtensionType.CUSTOM).with("tar.gz", ExtensionType.CUSTOM);
+
+        ExtensionMatcher result = single.without("gz").without("tar.gz");
+
+        assertThat(result).isSameAs(ExtensionMatcher.empty());
+        assertThat(single.without("gz").isBlocked("a.tar.gz")).isTrue();
+        assertThat(single.without("gz").isBlocked("a.gz")).isFalse();
+    }
+}
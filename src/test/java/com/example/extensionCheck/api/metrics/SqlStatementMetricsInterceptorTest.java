@@ -0,0 +1,89 @@
+package com.example.extensionCheck.api.metrics;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.web.servlet.HandlerMapping;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("SqlStatementMetricsInterceptor 테스트")
+class SqlStatementMetricsInterceptorTest {
+
+    private SqlStatementCounter counter;
+    private SimpleMeterRegistry registry;
+    private SqlStatementMetricsInterceptor interceptor;
+
+    @BeforeEach
+    void setUp() {
+        counter = new SqlStatementCounter();
+        registry = new SimpleMeterRegistry();
+        interceptor = new SqlStatementMetricsInterceptor(counter, registry);
+    }
+
+    @Test
+    @DisplayName("요청 중 실행된 SQL 문 개수를 URI 패턴별로 기록한다")
+    void afterCompletion_recordsStatementsPerPattern() {
+        // given
+        MockHttpServletRequest request = new MockHttpServletRequest("DELETE", "/api/extensions/custom/pdf");
+        request.setAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE, "/api/extensions/custom/{extName}");
+        MockHttpServletResponse response = new MockHttpServletResponse();
+
+        // when
+        interceptor.preHandle(request, response, new Object());
+        counter.increment();
+        counter.increment();
+        interceptor.afterCompletion(request, response, new Object(), null);
+
+        // then
+        DistributionSummary summary = registry.get(SqlStatementMetricsInterceptor.METRIC)
+                .tag("method", "DELETE")
+                .tag("uri", "/api/extensions/custom/{extName}")
+                .summary();
+        assertThat(summary.count()).isEqualTo(1);
+        assertThat(summary.totalAmount()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("같은 URI 패턴의 요청은 한 번 등록한 분포에 이어서 기록한다")
+    void afterCompletion_reusesSummary() {
+        // given
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/extensions");
+        request.setAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE, "/api/extensions");
+        MockHttpServletResponse response = new MockHttpServletResponse();
+
+        // when
+        for (int i = 0; i < 3; i++) {
+            interceptor.preHandle(request, response, new Object());
+            counter.increment();
+            interceptor.afterCompletion(request, response, new Object(), null);
+        }
+
+        // then
+        assertThat(registry.find(SqlStatementMetricsInterceptor.METRIC).summaries()).hasSize(1);
+        assertThat(registry.get(SqlStatementMetricsInterceptor.METRIC).summary().count()).isEqualTo(3);
+    }
+
+    @Test
+    @DisplayName("집계 구간 밖에서 실행된 SQL은 요청 집계 대신 백그라운드 카운터로 센다")
+    void increment_outsideRequest_background() {
+        // given
+        counter.bindTo(registry);
+        counter.increment();
+
+        // when
+        counter.start();
+        counter.increment();
+        int statements = counter.stop();
+        counter.increment();
+
+        // then
+        assertThat(statements).isEqualTo(1);
+        assertThat(counter.stop()).isZero();
+        assertThat(registry.get(SqlStatementCounter.BACKGROUND_METRIC).functionCounter().count()).isEqualTo(2);
+    }
+}
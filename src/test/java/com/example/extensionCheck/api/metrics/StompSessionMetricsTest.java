@@ -0,0 +1,89 @@
+package com.example.extensionCheck.api.metrics;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.messaging.Message;
+import org.springframework.messaging.simp.stomp.StompCommand;
+import org.springframework.messaging.simp.stomp.StompHeaderAccessor;
+import org.springframework.messaging.support.MessageBuilder;
+import org.springframework.web.socket.CloseStatus;
+import org.springframework.web.socket.messaging.SessionConnectEvent;
+import org.springframework.web.socket.messaging.SessionDisconnectEvent;
+import org.springframework.web.socket.messaging.SessionSubscribeEvent;
+import org.springframework.web.socket.messaging.SessionUnsubscribeEvent;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("StompSessionMetrics 테스트")
+class StompSessionMetricsTest {
+
+    private StompSessionMetrics metrics;
+    private SimpleMeterRegistry registry;
+
+    @BeforeEach
+    void setUp() {
+        metrics = new StompSessionMetrics();
+        registry = new SimpleMeterRegistry();
+        metrics.bindTo(registry);
+    }
+
+    @Test
+    @DisplayName("확장자 토픽 구독만 세고 연결이 끊기면 세션의 구독도 제거한다")
+    void events_trackSessionsAndSubscriptions() {
+        // given
+        metrics.onConnect(new SessionConnectEvent(this, frame(StompCommand.CONNECT, "s1", null, null)));
+        metrics.onConnect(new SessionConnectEvent(this, frame(StompCommand.CONNECT, "s2", null, null)));
+
+        // when
+        metrics.onSubscribe(new SessionSubscribeEvent(this,
+                frame(StompCommand.SUBSCRIBE, "s1", "sub-0", "/topic/extensions/default")));
+        metrics.onSubscribe(new SessionSubscribeEvent(this,
+                frame(StompCommand.SUBSCRIBE, "s1", "sub-1", "/topic/other")));
+        metrics.onSubscribe(new SessionSubscribeEvent(this,
+                frame(StompCommand.SUBSCRIBE, "s2", "sub-0", "/topic/extensions/team-a")));
+
+        // then
+        assertThat(gauge("extension.stomp.sessions")).isEqualTo(2);
+        assertThat(gauge("extension.stomp.subscriptions")).isEqualTo(2);
+
+        // when
+        metrics.onUnsubscribe(new SessionUnsubscribeEvent(this, frame(StompCommand.UNSUBSCRIBE, "s1", "sub-0", null)));
+        metrics.onDisconnect(new SessionDisconnectEvent(this,
+                frame(StompCommand.DISCONNECT, "s2", null, null), "s2", CloseStatus.NORMAL));
+
+        // then
+        assertThat(gauge("extension.stomp.sessions")).isEqualTo(1);
+        assertThat(gauge("extension.stomp.subscriptions")).isZero();
+    }
+
+    @Test
+    @DisplayName("연결 이벤트 없이 들어온 구독은 세지 않는다")
+    void subscribe_unknownSession_ignored() {
+        // when
+        metrics.onSubscribe(new SessionSubscribeEvent(this,
+                frame(StompCommand.SUBSCRIBE, "s1", "sub-0", "/topic/extensions/default")));
+
+        // then
+        assertThat(gauge("extension.stomp.sessions")).isZero();
+        assertThat(gauge("extension.stomp.subscriptions")).isZero();
+    }
+
+    private double gauge(String name) {
+        return registry.get(name).gauge().value();
+    }
+
+    private static Message<byte[]> frame(StompCommand command, String sessionId, String subscriptionId,
+                                         String destination) {
+        StompHeaderAccessor accessor = StompHeaderAccessor.create(command);
+        accessor.setSessionId(sessionId);
+        if (subscriptionId != null) {
+            accessor.setSubscriptionId(subscriptionId);
+        }
+        if (destination != null) {
+            accessor.setDestination(destination);
+        }
+        return MessageBuilder.createMessage(new byte[0], accessor.getMessageHeaders());
+    }
+}
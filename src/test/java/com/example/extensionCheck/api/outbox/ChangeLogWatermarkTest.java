@@ -0,0 +1,60 @@
+package com.example.extensionCheck.api.outbox;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("ChangeLogWatermark 테스트")
+class ChangeLogWatermarkTest {
+
+    @Test
+    @DisplayName("연속된 id까지만 기준을 옮기고 이미 처리한 id는 다시 받지 않는다")
+    void advance_stopsAtGap() {
+        // given
+        ChangeLogWatermark watermark = new ChangeLogWatermark(10, Duration.ofSeconds(10));
+
+        // when
+        assertThat(watermark.accept(11)).isTrue();
+        assertThat(watermark.accept(13)).isTrue();
+        watermark.advance(1_000);
+
+        // then
+        assertThat(watermark.position()).isEqualTo(11);
+        assertThat(watermark.accept(13)).isFalse();
+        assertThat(watermark.accept(11)).isFalse();
+
+        // when: 늦게 커밋된 12가 보이면 13까지 이동
+        assertThat(watermark.accept(12)).isTrue();
+        watermark.advance(2_000);
+
+        // then
+        assertThat(watermark.position()).isEqualTo(13);
+        assertThat(watermark.pending()).isZero();
+    }
+
+    @Test
+    @DisplayName("gapTimeout 동안 채워지지 않은 빈 번호는 건너뛴다")
+    void advance_skipsExpiredGap() {
+        // given
+        ChangeLogWatermark watermark = new ChangeLogWatermark(0, Duration.ofSeconds(10));
+        watermark.accept(2);
+        watermark.accept(3);
+
+        // when
+        watermark.advance(1_000);
+        watermark.advance(5_000);
+
+        // then
+        assertThat(watermark.position()).isZero();
+
+        // when
+        watermark.advance(11_000);
+
+        // then
+        assertThat(watermark.position()).isEqualTo(3);
+        assertThat(watermark.pending()).isZero();
+    }
+}
@@ -0,0 +1,212 @@
+package com.example.extensionCheck.api.outbox;
+
+import com.example.extensionCheck.api.snapshot.ExtensionDelta;
+import com.example.extensionCheck.config.ExtensionProperties;
+import com.example.extensionCheck.entity.ExtensionChangeLog;
+import com.example.extensionCheck.entity.ExtensionOutboxCursor;
+import com.example.extensionCheck.entity.ExtensionType;
+import com.example.extensionCheck.repository.ExtensionChangeLogRepository;
+import com.example.extensionCheck.repository.ExtensionOutboxCursorRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.Limit;
+import org.springframework.test.util.ReflectionTestUtils;
+import tools.jackson.databind.ObjectMapper;
+import tools.jackson.databind.json.JsonMapper;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("ExtensionOutboxDispatcher 테스트")
+class ExtensionOutboxDispatcherTest {
+
+    private static final String NODE = "node-a";
+
+    @Mock
+    private ExtensionChangeLogRepository changeLogRepository;
+
+    @Mock
+    private ExtensionOutboxCursorRepository cursorRepository;
+
+    @Mock
+    private ExtensionChangeListener listener;
+
+    private final ObjectMapper objectMapper = JsonMapper.builder().build();
+
+    private ExtensionOutbox outbox;
+
+    private ExtensionOutboxDispatcher dispatcher;
+
+    @BeforeEach
+    void setUp() {
+        ExtensionProperties properties = new ExtensionProperties();
+        properties.getOutbox().setNodeId(NODE);
+        // 스케줄러가 돌지 않도록 주기를 길게 두고 dispatch()를 직접 호출
+        properties.getOutbox().setPollInterval(Duration.ofHours(1));
+        outbox = new ExtensionOutbox(changeLogRepository, objectMapper, properties);
+        dispatcher = new ExtensionOutboxDispatcher(
+                changeLogRepository, cursorRepository, outbox, List.of(listener), properties);
+    }
+
+    @AfterEach
+    void tearDown() {
+        dispatcher.shutdown();
+    }
+
+    @Test
+    @DisplayName("처리 위치가 없는 노드는 현재 마지막 이벤트 이후부터 시작하고 위치를 저장한다")
+    void start_withoutCursor_startsAfterLatest() {
+        // given
+        when(cursorRepository.findById(NODE)).thenReturn(Optional.empty());
+        when(changeLogRepository.findMaxId()).thenReturn(10L);
+
+        // when
+        dispatcher.start();
+
+        // then
+        ArgumentCaptor<ExtensionOutboxCursor> captor = ArgumentCaptor.forClass(ExtensionOutboxCursor.class);
+        verify(cursorRepository).save(captor.capture());
+        assertThat(captor.getValue().getNodeId()).isEqualTo(NODE);
+        assertThat(captor.getValue().getPosition()).isEqualTo(10);
+    }
+
+    @Test
+    @DisplayName("이벤트를 id 순으로 전달하고, 커밋 후 처리가 끝나지 않은 이 노드의 이벤트는 풀릴 때까지 미룬다")
+    void dispatch_deliversInOrderAndDefersHeldEvents() {
+        // given
+        when(cursorRepository.findById(NODE)).thenReturn(Optional.of(new ExtensionOutboxCursor(NODE, 10, Instant.now())));
+        when(cursorRepository.updatePosition(eq(NODE), anyLong(), any(Instant.class))).thenReturn(1);
+        when(changeLogRepository.save(any(ExtensionChangeLog.class))).thenAnswer(invocation -> {
+            ExtensionChangeLog changeLog = invocation.getArgument(0);
+            ReflectionTestUtils.setField(changeLog, "id", 12L);
+            return changeLog;
+        });
+        dispatcher.start();
+        ExtensionDelta held = ExtensionDelta.activated(ExtensionType.CUSTOM, "pdf");
+        outbox.record("tenant-a", held);
+
+        ExtensionChangeLog remote = changeLog(11, "tenant-a", "node-b", ExtensionDelta.activated(ExtensionType.FIXED, "exe"));
+        ExtensionChangeLog pending = changeLog(12, "tenant-a", NODE, held);
+        ExtensionChangeLog local = changeLog(13, "tenant-b", NODE, ExtensionDelta.deactivated(ExtensionType.CUSTOM, "hwp"));
+        when(changeLogRepository.findByIdGreaterThanOrderByIdAsc(eq(10L), any(Limit.class)))
+                .thenReturn(List.of(remote, pending, local));
+        when(changeLogRepository.findByIdGreaterThanOrderByIdAsc(eq(11L), any(Limit.class)))
+                .thenReturn(List.of(pending, local));
+
+        // when
+        dispatcher.dispatch();
+
+        // then: 12는 보류, 처리 위치는 빈 번호 앞(11)까지
+        List<ExtensionChangeEvent> first = captureEvents(1);
+        assertThat(first).extracting(ExtensionChangeEvent::id).containsExactly(11L, 13L);
+        assertThat(first).extracting(ExtensionChangeEvent::local).containsExactly(false, true);
+        assertThat(first.get(0).delta().getFixedAdded()).containsExactly("exe");
+        assertThat(first.get(1).delta().getCustomRemoved()).containsExactly("hwp");
+        verify(cursorRepository).updatePosition(eq(NODE), eq(11L), any(Instant.class));
+
+        // when: 커밋 후 처리가 끝나면 다음 조회에서 12만 전달
+        outbox.release(12);
+        dispatcher.dispatch();
+
+        // then
+        List<ExtensionChangeEvent> second = captureEvents(2);
+        assertThat(second).extracting(ExtensionChangeEvent::id).containsExactly(12L);
+        assertThat(second.get(0).delta().getCustomAdded()).containsExactly("pdf");
+        verify(cursorRepository).updatePosition(eq(NODE), eq(13L), any(Instant.class));
+    }
+
+    @Test
+    @DisplayName("node-id를 비워도 재시작 후 같은 노드 ID로 저장된 위치부터 이어받아 미전달 이벤트를 전달한다")
+    void restart_withSameNodeId_redeliversGap() {
+        // given: 처리 위치를 메모리에 저장하는 커서 저장소
+        Map<String, Long> cursors = new HashMap<>();
+        when(cursorRepository.findById(anyString())).thenAnswer(invocation -> Optional
+                .ofNullable(cursors.get(invocation.<String>getArgument(0)))
+                .map(position -> new ExtensionOutboxCursor(invocation.getArgument(0), position, Instant.now())));
+        when(cursorRepository.save(any(ExtensionOutboxCursor.class))).thenAnswer(invocation -> {
+            ExtensionOutboxCursor cursor = invocation.getArgument(0);
+            cursors.put(cursor.getNodeId(), cursor.getPosition());
+            return cursor;
+        });
+        when(cursorRepository.updatePosition(anyString(), anyLong(), any(Instant.class))).thenAnswer(invocation -> {
+            cursors.put(invocation.getArgument(0), invocation.<Long>getArgument(1));
+            return 1;
+        });
+        when(changeLogRepository.findMaxId()).thenReturn(10L);
+        when(changeLogRepository.save(any(ExtensionChangeLog.class))).thenAnswer(invocation -> {
+            ExtensionChangeLog changeLog = invocation.getArgument(0);
+            ReflectionTestUtils.setField(changeLog, "id", 12L);
+            return changeLog;
+        });
+
+        ExtensionProperties properties = new ExtensionProperties();
+        properties.getOutbox().setPollInterval(Duration.ofHours(1));
+        ExtensionOutbox before = new ExtensionOutbox(changeLogRepository, objectMapper, properties);
+        ExtensionOutboxDispatcher crashed = new ExtensionOutboxDispatcher(
+                changeLogRepository, cursorRepository, before, List.of(listener), properties);
+        crashed.start();
+
+        // 12는 커밋됐지만 전달 전에 프로세스가 죽음 (보류가 풀리지 않음)
+        ExtensionDelta undelivered = ExtensionDelta.activated(ExtensionType.CUSTOM, "pdf");
+        before.record("tenant-a", undelivered);
+        ExtensionChangeLog remote = changeLog(11, "tenant-a", "node-b", ExtensionDelta.activated(ExtensionType.FIXED, "exe"));
+        ExtensionChangeLog pending = changeLog(12, "tenant-a", before.getNodeId(), undelivered);
+        when(changeLogRepository.findByIdGreaterThanOrderByIdAsc(eq(10L), any(Limit.class)))
+                .thenReturn(List.of(remote, pending));
+        when(changeLogRepository.findByIdGreaterThanOrderByIdAsc(eq(11L), any(Limit.class)))
+                .thenReturn(List.of(pending));
+        crashed.dispatch();
+        crashed.shutdown();
+
+        // when: 같은 설정으로 다시 시작
+        ExtensionOutbox after = new ExtensionOutbox(changeLogRepository, objectMapper, properties);
+        ExtensionOutboxDispatcher restarted = new ExtensionOutboxDispatcher(
+                changeLogRepository, cursorRepository, after, List.of(listener), properties);
+        restarted.start();
+        restarted.dispatch();
+        restarted.shutdown();
+
+        // then
+        assertThat(after.getNodeId()).isNotBlank().isEqualTo(before.getNodeId());
+        List<ExtensionChangeEvent> redelivered = captureEvents(2);
+        assertThat(redelivered).extracting(ExtensionChangeEvent::id).containsExactly(12L);
+        assertThat(redelivered.get(0).delta().getCustomAdded()).containsExactly("pdf");
+        assertThat(cursors).containsEntry(after.getNodeId(), 12L).hasSize(1);
+    }
+
+    @SuppressWarnings("unchecked")
+    private List<ExtensionChangeEvent> captureEvents(int calls) {
+        ArgumentCaptor<List<ExtensionChangeEvent>> captor = ArgumentCaptor.forClass(List.class);
+        verify(listener, times(calls)).onChanges(captor.capture());
+        return captor.getValue();
+    }
+
+    private ExtensionChangeLog changeLog(long id, String tenantId, String nodeId, ExtensionDelta delta) {
+        ExtensionChangeLog changeLog = ExtensionChangeLog.builder()
+                .tenantId(tenantId)
+                .nodeId(nodeId)
+                .delta(objectMapper.writeValueAsString(ExtensionOutbox.Payload.of(delta)))
+                .createdAt(Instant.now())
+                .build();
+        ReflectionTestUtils.setField(changeLog, "id", id);
+        return changeLog;
+    }
+}
@@ -0,0 +1,106 @@
+package com.example.extensionCheck.api.snapshot;
+
+import com.example.extensionCheck.config.ExtensionProperties;
+import com.example.extensionCheck.entity.ExtensionType;
+import com.example.extensionCheck.repository.ActiveExtensionName;
+import com.example.extensionCheck.repository.ExtensionsRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.Arrays;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("ExtensionSnapshotHolder 테스트")
+class ExtensionSnapshotHolderTest {
+
+    private static final String TENANT = "tenant-a";
+
+    @Mock
+    private ExtensionsRepository extRepository;
+
+    private ExtensionSnapshotHolder holder;
+
+    @BeforeEach
+    void setUp() {
+        holder = new ExtensionSnapshotHolder(extRepository, new ExtensionProperties());
+    }
+
+    private static List<ActiveExtensionName> fixed(String... names) {
+        return Arrays.stream(names).map(name -> new ActiveExtensionName(ExtensionType.FIXED, name)).toList();
+    }
+
+    @Nested
+    @DisplayName("커밋된 로컬 변경 반영")
+    class ApplyCommitted {
+
+        @Test
+        @DisplayName("겹치는 변경이 없으면 delta를 그대로 반영하고 DB를 다시 읽지 않는다")
+        void applyCommitted_noOverlap_appliesDelta() {
+            // given
+            when(extRepository.findAllActiveNames(TENANT)).thenReturn(fixed("exe"));
+            holder.current(TENANT);
+            PendingChange first = holder.begin(TENANT, ExtensionDelta.deactivated(ExtensionType.FIXED, "exe"));
+            PendingChange second = holder.begin(TENANT, ExtensionDelta.activated(ExtensionType.FIXED, "bat"));
+
+            // when
+            ExtensionChange change = holder.applyCommitted(second);
+            holder.applyCommitted(first);
+
+            // then
+            assertThat(first.isConflicted()).isFalse();
+            assertThat(change.delta().getFixedAdded()).containsExactly("bat");
+            assertThat(holder.current(TENANT).getFixed()).containsExactly("bat");
+            verify(extRepository, times(1)).findAllActiveNames(TENANT);
+        }
+
+        @Test
+        @DisplayName("같은 이름을 바꾼 변경의 afterCommit 순서가 커밋 순서와 달라도 DB 상태로 수렴한다")
+        void applyCommitted_overlapOutOfOrder_convergesToDb() {
+            // given: 해제(T1) 커밋 -> 체크(T2) 커밋, afterCommit은 T2 -> T1 순서
+            when(extRepository.findAllActiveNames(TENANT)).thenReturn(fixed("exe"));
+            holder.current(TENANT);
+            PendingChange deactivate = holder.begin(TENANT, ExtensionDelta.deactivated(ExtensionType.FIXED, "exe"));
+            PendingChange activate = holder.begin(TENANT, ExtensionDelta.activated(ExtensionType.FIXED, "exe"));
+
+            // when
+            holder.applyCommitted(activate);
+            holder.finish(activate);
+            ExtensionChange stale = holder.applyCommitted(deactivate);
+            holder.finish(deactivate);
+
+            // then
+            assertThat(deactivate.isConflicted()).isTrue();
+            assertThat(activate.isConflicted()).isTrue();
+            assertThat(stale).isNull();
+            assertThat(holder.current(TENANT).getFixed()).containsExactly("exe");
+        }
+
+        @Test
+        @DisplayName("끝난 변경은 이후 변경과 충돌로 보지 않는다")
+        void finish_releasesPending() {
+            // given
+            when(extRepository.findAllActiveNames(TENANT)).thenReturn(fixed());
+            PendingChange first = holder.begin(TENANT, ExtensionDelta.activated(ExtensionType.FIXED, "exe"));
+            holder.applyCommitted(first);
+            holder.finish(first);
+
+            // when
+            PendingChange second = holder.begin(TENANT, ExtensionDelta.deactivated(ExtensionType.FIXED, "exe"));
+            holder.applyCommitted(second);
+
+            // then
+            assertThat(second.isConflicted()).isFalse();
+            assertThat(holder.current(TENANT).getFixed()).isEmpty();
+            verify(extRepository, times(1)).findAllActiveNames(TENANT);
+        }
+    }
+}
@@ -0,0 +1,230 @@
+package com.example.extensionCheck.api.snapshot;
+
+import com.example.extensionCheck.api.matcher.ExtensionMatcher;
+import com.example.extensionCheck.entity.ExtensionType;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Random;
+import java.util.TreeSet;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@DisplayName("ExtensionSnapshot 테스트")
+class ExtensionSnapshotTest {
+
+    @Nested
+    @DisplayName("apply 메서드")
+    class Apply {
+
+        @Test
+        @DisplayName("delta를 반영한 새 버전을 만들고 기존 스냅샷은 변하지 않는다")
+        void apply_createsNewVersion() {
+            // given
+            ExtensionSnapshot snapshot = ExtensionSnapshot.of(1, List.of("exe", "bat"), List.of("pdf"));
+            ExtensionDelta delta = ExtensionDelta.ofFixed(List.of("cmd"), List.of("bat"))
+                    .merge(ExtensionDelta.activated(ExtensionType.CUSTOM, "hwp"));
+
+            // when
+            ExtensionSnapshot next = snapshot.apply(delta, 2);
+
+            // then
+            assertThat(next.getVersion()).isEqualTo(2);
+            assertThat(next.getFixed()).containsExactly("exe", "cmd");
+            assertThat(next.getCustom()).containsExactly("hwp", "pdf");
+            assertThat(next.getCount()).isEqualTo(2);
+            assertThat(snapshot.getFixed()).containsExactly("exe", "bat");
+            assertThat(snapshot.getCustom()).containsExactly("pdf");
+        }
+
+        @Test
+        @DisplayName("목록은 외부에서 수정할 수 없다")
+        void lists_areImmutable() {
+            ExtensionSnapshot snapshot = ExtensionSnapshot.of(1, List.of("exe"), List.of());
+
+            assertThatThrownBy(() -> snapshot.getFixed().add("bat"))
+                    .isInstanceOf(UnsupportedOperationException.class);
+        }
+
+        @Test
+        @DisplayName("matcher는 바뀐 이름만 반영하고, 고정/커스텀 둘 다면 커스텀으로 판별한다")
+        void apply_updatesMatcher() {
+            // given
+            ExtensionSnapshot snapshot = ExtensionSnapshot.of(1, List.of("exe", "bat"), List.of("pdf"));
+
+            // when
+            ExtensionSnapshot next = snapshot
+                    .apply(ExtensionDelta.ofFixed(List.of("cmd"), List.of("bat")), 2)
+                    .apply(ExtensionDelta.ofCustom(List.of("exe", "hwp"), List.of("pdf")), 3)
+                    .apply(ExtensionDelta.deactivated(ExtensionType.CUSTOM, "exe"), 4);
+
+            // then
+            assertThat(next.getMatcher().match("a.exe")).isEqualTo(new ExtensionMatcher.Match("exe", ExtensionType.FIXED));
+            assertThat(next.getMatcher().match("a.hwp")).isEqualTo(new ExtensionMatcher.Match("hwp", ExtensionType.CUSTOM));
+            assertThat(next.getMatcher().isBlocked("a.cmd")).isTrue();
+            assertThat(next.getMatcher().isBlocked("a.bat")).isFalse();
+            assertThat(next.getMatcher().isBlocked("a.pdf")).isFalse();
+            assertThat(snapshot.getMatcher().isBlocked("a.pdf")).isTrue();
+        }
+
+        @Test
+        @DisplayName("여러 번 반영해도 같은 목록으로 새로 만든 스냅샷과 결과가 같다")
+        void apply_many_matchesRebuilt() {
+            // given
+            Random random = new Random(42);
+            TreeSet<String> expected = new TreeSet<>();
+            ExtensionSnapshot snapshot = ExtensionSnapshot.of(1, List.of(), List.of());
+
+            // when
+            for (int v = 2; v < 2000; v++) {
+                String name = "e" + random.nextInt(300);
+                boolean add = random.nextBoolean();
+                if (add) {
+                    expected.add(name);
+                } else {
+                    expected.remove(name);
+                }
+                snapshot = snapshot.apply(add
+                        ? ExtensionDelta.activated(ExtensionType.CUSTOM, name)
+                        : ExtensionDelta.deactivated(ExtensionType.CUSTOM, name), v);
+            }
+
+            // then
+            ExtensionSnapshot rebuilt = ExtensionSnapshot.of(1, List.of(), expected);
+            assertThat(snapshot.getCustom()).containsExactlyElementsOf(expected);
+            assertThat(snapshot.getCount()).isEqualTo(expected.size());
+            assertThat(snapshot.customPage("e1", "e15", 5)).isEqualTo(rebuilt.customPage("e1", "e15", 5));
+            for (int i = 0; i < 300; i++) {
+                String filename = "file.e" + i;
+                assertThat(snapshot.getMatcher().isBlocked(filename))
+                        .as(filename)
+                        .isEqualTo(expected.contains("e" + i));
+            }
+        }
+    }
+
+    @Nested
+    @DisplayName("deltaSince 메서드")
+    class DeltaSince {
+
+        @Test
+        @DisplayName("이력 안의 버전이면 이후 변경을 병합해 반환한다")
+        void deltaSince_withinRing_mergesChanges() {
+            // given
+            ExtensionSnapshot v1 = ExtensionSnapshot.of(1, List.of("exe"), List.of());
+            ExtensionSnapshot v3 = v1
+                    .apply(ExtensionDelta.activated(ExtensionType.CUSTOM, "pdf"), 2)
+                    .apply(ExtensionDelta.deactivated(ExtensionType.FIXED, "exe"), 3);
+
+            // when & then
+            assertThat(v3.deltaSince(1)).hasValueSatisfying(delta -> {
+                assertThat(delta.getCustomAdded()).containsExactly("pdf");
+                assertThat(delta.getFixedRemoved()).containsExactly("exe");
+            });
+            assertThat(v3.deltaSince(2)).hasValueSatisfying(delta ->
+                    assertThat(delta.getCustomAdded()).isEmpty());
+            assertThat(v3.deltaSince(3)).hasValueSatisfying(delta ->
+                    assertThat(delta.isEmpty()).isTrue());
+            assertThat(v3.getLatestChange().fromVersion()).isEqualTo(2);
+        }
+
+        @Test
+        @DisplayName("이력 밖의 버전이면 empty를 반환한다")
+        void deltaSince_outsideRing_empty() {
+            // given
+            ExtensionSnapshot snapshot = ExtensionSnapshot.of(1, List.of(), List.of());
+            for (int v = 2; v <= ExtensionSnapshot.MAX_CHANGES + 10; v++) {
+                snapshot = snapshot.apply(ExtensionDelta.activated(ExtensionType.CUSTOM, "ext" + v), v);
+            }
+
+            // when & then
+            assertThat(snapshot.deltaSince(1)).isEmpty();
+            assertThat(snapshot.deltaSince(0)).isEmpty();
+            assertThat(snapshot.deltaSince(snapshot.getVersion() - ExtensionSnapshot.MAX_CHANGES)).isPresent();
+        }
+    }
+
+    @Nested
+    @DisplayName("diff 메서드")
+    class Diff {
+
+        @Test
+        @DisplayName("다시 읽은 목록과의 차이를 추가/제거 delta로 반환한다")
+        void diff_returnsAddedAndRemoved() {
+            // given
+            ExtensionSnapshot current = ExtensionSnapshot.of(1, List.of("exe", "bat"), List.of("pdf"));
+            ExtensionSnapshot reloaded = ExtensionSnapshot.of(2, List.of("exe", "js"), List.of("pdf", "zip"));
+
+            // when
+            ExtensionDelta delta = current.diff(reloaded);
+
+            // then
+            assertThat(delta.getFixedAdded()).containsExactly("js");
+            assertThat(delta.getFixedRemoved()).containsExactly("bat");
+            assertThat(delta.getCustomAdded()).containsExactly("zip");
+            assertThat(delta.getCustomRemoved()).isEmpty();
+            assertThat(current.diff(ExtensionSnapshot.of(3, List.of("bat", "exe"), List.of("pdf"))).isEmpty()).isTrue();
+        }
+    }
+
+    @Nested
+    @DisplayName("customPage 메서드")
+    class CustomPage {
+
+        private final ExtensionSnapshot snapshot = ExtensionSnapshot.of(1, List.of("exe"),
+                List.of("pdf", "hwp", "png", "doc", "ppt", "pptx", "zip"));
+
+        @Test
+        @DisplayName("이름순으로 after 다음부터 limit개를 반환한다")
+        void customPage_keyset() {
+            assertThat(snapshot.customPage("", null, 3)).containsExactly("doc", "hwp", "pdf");
+            assertThat(snapshot.customPage("", "pdf", 3)).containsExactly("png", "ppt", "pptx");
+            assertThat(snapshot.customPage("", "pptx", 3)).containsExactly("zip");
+            assertThat(snapshot.customPage("", "zip", 3)).isEmpty();
+        }
+
+        @Test
+        @DisplayName("prefix로 시작하는 이름만 반환하고, 목록에 없는 after도 위치로 사용한다")
+        void customPage_prefix() {
+            assertThat(snapshot.customPage("p", null, 10)).containsExactly("pdf", "png", "ppt", "pptx");
+            assertThat(snapshot.customPage("p", "pe", 10)).containsExactly("png", "ppt", "pptx");
+            assertThat(snapshot.customPage("pp", "a", 10)).containsExactly("ppt", "pptx");
+            assertThat(snapshot.customPage("x", null, 10)).isEmpty();
+        }
+
+        @Test
+        @DisplayName("다음 버전의 페이지에는 delta가 반영된다")
+        void customPage_afterApply() {
+            // given
+            ExtensionSnapshot next = snapshot.apply(ExtensionDelta.ofCustom(List.of("pages"), List.of("pdf")), 2);
+
+            // when & then
+            assertThat(snapshot.customPage("p", null, 2)).containsExactly("pdf", "png");
+            assertThat(next.customPage("p", null, 2)).containsExactly("pages", "png");
+        }
+    }
+
+    @Nested
+    @DisplayName("ExtensionDelta.merge 메서드")
+    class Merge {
+
+        @Test
+        @DisplayName("나중 변경이 앞선 변경을 덮어쓴다")
+        void merge_laterChangeWins() {
+            // given
+            ExtensionDelta first = ExtensionDelta.ofFixed(List.of("exe"), List.of("bat"));
+            ExtensionDelta second = ExtensionDelta.ofFixed(List.of("bat"), List.of("exe"));
+
+            // when
+            ExtensionDelta merged = first.merge(second);
+
+            // then
+            assertThat(merged.getFixedAdded()).containsExactly("bat");
+            assertThat(merged.getFixedRemoved()).containsExactly("exe");
+            assertThat(merged.hasCustomChanges()).isFalse();
+        }
+    }
+}
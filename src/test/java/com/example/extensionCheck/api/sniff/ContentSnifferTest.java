@@ -0,0 +1,147 @@
+package com.example.extensionCheck.api.sniff;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.CsvSource;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("ContentSniffer 테스트")
+class ContentSnifferTest {
+
+    private static final int PE_OFFSET = 0x80;
+
+    private static ContentSniffer.Detection sniff(byte[] content) {
+        return ContentSniffer.sniff(content, 0, content.length);
+    }
+
+    private static ContentSniffer.Detection sniff(String content) {
+        return sniff(content.getBytes(StandardCharsets.UTF_8));
+    }
+
+    // MZ 헤더 + PE 헤더 (characteristics만 지정)
+    private static byte[] portableExecutable(int characteristics) {
+        byte[] image = new byte[1024];
+        image[0] = 'M';
+        image[1] = 'Z';
+        image[0x3C] = (byte) PE_OFFSET;
+        image[PE_OFFSET] = 'P';
+        image[PE_OFFSET + 1] = 'E';
+        image[PE_OFFSET + 22] = (byte) characteristics;
+        image[PE_OFFSET + 23] = (byte) (characteristics >> 8);
+        return image;
+    }
+
+    // PE 헤더 없는 DOS 실행 파일 (e_cblp=0x90, e_cp=3)
+    private static byte[] dosExecutable() {
+        byte[] image = new byte[1024];
+        image[0] = 'M';
+        image[1] = 'Z';
+        image[2] = (byte) 0x90;
+        image[4] = 3;
+        return image;
+    }
+
+    @Nested
+    @DisplayName("실행 파일")
+    class Executable {
+
+        @Test
+        @DisplayName("PE 실행 파일은 exe")
+        void sniff_pe_exe() {
+            assertThat(sniff(portableExecutable(0x0102)))
+                    .isEqualTo(new ContentSniffer.Detection("exe", "PE"));
+        }
+
+        @Test
+        @DisplayName("PE DLL은 cpl")
+        void sniff_peDll_cpl() {
+            assertThat(sniff(portableExecutable(0x2102)))
+                    .isEqualTo(new ContentSniffer.Detection("cpl", "PE DLL"));
+        }
+
+        @Test
+        @DisplayName("PE 헤더를 확인할 수 없는 MZ 파일도 DOS 헤더가 온전하면 exe")
+        void sniff_dosMz_exe() {
+            assertThat(sniff(dosExecutable())).isEqualTo(new ContentSniffer.Detection("exe", "DOS MZ"));
+        }
+
+        @Test
+        @DisplayName("MZ로 시작할 뿐 DOS 헤더가 아닌 내용은 판별하지 않음")
+        void sniff_mzText_null() {
+            assertThat(sniff("MZ")).isNull();
+            assertThat(sniff("MZ this program cannot be run in DOS mode, but it is only a text file")).isNull();
+            assertThat(sniff("MZ" + "\0".repeat(100))).isNull();
+        }
+
+        @Test
+        @DisplayName("ZIP 로컬 헤더와 빈 ZIP")
+        void sniff_zip() {
+            assertThat(sniff(new byte[]{'P', 'K', 3, 4, 20, 0})).isSameAs(ContentSniffer.ZIP);
+            assertThat(sniff(new byte[]{'P', 'K', 5, 6, 0, 0})).isSameAs(ContentSniffer.ZIP);
+        }
+
+        @Test
+        @DisplayName("ELF, Mach-O, OLE 시그니처")
+        void sniff_otherBinaries() {
+            assertThat(sniff(new byte[]{0x7F, 'E', 'L', 'F', 2, 1}).extension()).isEqualTo("exe");
+            assertThat(sniff(new byte[]{(byte) 0xCF, (byte) 0xFA, (byte) 0xED, (byte) 0xFE, 7, 0}).format()).isEqualTo("Mach-O");
+            assertThat(sniff(new byte[]{(byte) 0xD0, (byte) 0xCF, 0x11, (byte) 0xE0, (byte) 0xA1, (byte) 0xB1, 0x1A, (byte) 0xE1}).extension())
+                    .isEqualTo("msi");
+        }
+    }
+
+    @Nested
+    @DisplayName("스크립트")
+    class Script {
+
+        @ParameterizedTest
+        @CsvSource({
+                "'#!/bin/sh', sh",
+                "'#!/usr/bin/env node', js",
+                "'#!/usr/bin/env -S deno run', js",
+                "'#!/usr/bin/python3', py",
+                "'#! /usr/bin/perl -w', pl"
+        })
+        @DisplayName("shebang 인터프리터로 스크립트 종류를 판별한다")
+        void sniff_shebang(String firstLine, String extension) {
+            assertThat(sniff(firstLine + "\nbody").extension()).isEqualTo(extension);
+        }
+
+        @ParameterizedTest
+        @ValueSource(strings = {"@echo off\r\ndel *.*", "@ECHO OFF", "\uFEFF@Echo Off"})
+        @DisplayName("@echo off로 시작하면 bat (UTF-8 BOM 무시)")
+        void sniff_batch(String content) {
+            assertThat(sniff(content).extension()).isEqualTo("bat");
+        }
+    }
+
+    @Test
+    @DisplayName("알려진 시그니처가 아니면 null")
+    void sniff_unknown_null() {
+        assertThat(sniff("%PDF-1.7")).isNull();
+        assertThat(sniff("@import url(a.css);")).isNull();
+        assertThat(sniff(new byte[0])).isNull();
+    }
+
+    @Test
+    @DisplayName("스트림은 PEEK_SIZE 바이트까지만 읽는다")
+    void sniff_stream_readsOnlyHead() throws IOException {
+        // given
+        ByteArrayInputStream in = new ByteArrayInputStream(portableExecutable(0x0102));
+
+        // when
+        ContentSniffer.Detection detection = ContentSniffer.sniff(in);
+
+        // then
+        assertThat(detection.extension()).isEqualTo("exe");
+        assertThat(in.available()).isEqualTo(1024 - ContentSniffer.PEEK_SIZE);
+    }
+}
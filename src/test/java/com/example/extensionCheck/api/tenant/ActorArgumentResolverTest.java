@@ -0,0 +1,43 @@
+package com.example.extensionCheck.api.tenant;
+
+import com.example.extensionCheck.api.exception.ExtensionErrorCode;
+import com.example.extensionCheck.api.exception.ExtensionException;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.NullAndEmptySource;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@DisplayName("ActorArgumentResolver 테스트")
+class ActorArgumentResolverTest {
+
+    @ParameterizedTest
+    @NullAndEmptySource
+    @ValueSource(strings = {"  "})
+    @DisplayName("사용자가 없으면 anonymous를 사용한다")
+    void normalize_missing_anonymous(String input) {
+        assertThat(ActorArgumentResolver.normalize(input)).isEqualTo(ActorArgumentResolver.ANONYMOUS);
+    }
+
+    @Test
+    @DisplayName("앞뒤 공백만 제거하고 대소문자는 유지한다")
+    void normalize_strip() {
+        assertThat(ActorArgumentResolver.normalize(" Alice@Example.com ")).isEqualTo("Alice@Example.com");
+    }
+
+    @Test
+    @DisplayName("100자를 넘거나 제어 문자가 있으면 INVALID_ACTOR 예외를 던진다")
+    void normalize_invalid_throwsException() {
+        assertThatThrownBy(() -> ActorArgumentResolver.normalize("a".repeat(101)))
+                .isInstanceOf(ExtensionException.class)
+                .extracting(e -> ((ExtensionException) e).getErrorCode())
+                .isEqualTo(ExtensionErrorCode.INVALID_ACTOR);
+        assertThatThrownBy(() -> ActorArgumentResolver.normalize("a\nb"))
+                .isInstanceOf(ExtensionException.class)
+                .extracting(e -> ((ExtensionException) e).getErrorCode())
+                .isEqualTo(ExtensionErrorCode.INVALID_ACTOR);
+    }
+}
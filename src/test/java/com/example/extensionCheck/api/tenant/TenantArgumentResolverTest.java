@@ -0,0 +1,49 @@
+package com.example.extensionCheck.api.tenant;
+
+import com.example.extensionCheck.api.exception.ExtensionErrorCode;
+import com.example.extensionCheck.api.exception.ExtensionException;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.NullAndEmptySource;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@DisplayName("TenantArgumentResolver 테스트")
+class TenantArgumentResolverTest {
+
+    @ParameterizedTest
+    @NullAndEmptySource
+    @ValueSource(strings = {"  "})
+    @DisplayName("테넌트가 없으면 default를 사용한다")
+    void normalize_missing_default(String input) {
+        assertThat(TenantArgumentResolver.normalize(input)).isEqualTo(TenantArgumentResolver.DEFAULT_TENANT);
+    }
+
+    @Test
+    @DisplayName("앞뒤 공백을 제거하고 소문자로 변환한다")
+    void normalize_lowerCase() {
+        assertThat(TenantArgumentResolver.normalize(" Team_A-1 ")).isEqualTo("team_a-1");
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = {"a/b", "팀", "a b", "tenant.x"})
+    @DisplayName("허용되지 않는 문자가 있으면 INVALID_TENANT 예외를 던진다")
+    void normalize_invalidChars_throwsException(String input) {
+        assertThatThrownBy(() -> TenantArgumentResolver.normalize(input))
+                .isInstanceOf(ExtensionException.class)
+                .extracting(e -> ((ExtensionException) e).getErrorCode())
+                .isEqualTo(ExtensionErrorCode.INVALID_TENANT);
+    }
+
+    @Test
+    @DisplayName("50자를 넘으면 INVALID_TENANT 예외를 던진다")
+    void normalize_tooLong_throwsException() {
+        assertThatThrownBy(() -> TenantArgumentResolver.normalize("a".repeat(51)))
+                .isInstanceOf(ExtensionException.class)
+                .extracting(e -> ((ExtensionException) e).getErrorCode())
+                .isEqualTo(ExtensionErrorCode.INVALID_TENANT);
+    }
+}
@@ -0,0 +1,267 @@
+package com.example.extensionCheck.api.upload;
+
+import com.example.extensionCheck.api.snapshot.ExtensionSnapshot;
+import com.example.extensionCheck.entity.ExtensionType;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@DisplayName("MultipartFilenameScanner 테스트")
+class MultipartFilenameScannerTest {
+
+    private static final String BOUNDARY = "----WebKitFormBoundary7MA4YWxkTrZu0gW";
+    // PE 헤더 없는 DOS 실행 파일 (e_cblp=0x50, e_cp=3)
+    private static final String DOS_EXECUTABLE = "MZP\0\3\0" + "\0".repeat(1000);
+    private static final ExtensionSnapshot SNAPSHOT = ExtensionSnapshot.of(1, List.of("exe", "sh"), List.of("tar.gz"));
+
+    private MultipartFilenameScanner newScanner() {
+        return new MultipartFilenameScanner(BOUNDARY, SNAPSHOT, 8 * 1024, true);
+    }
+
+    private static String part(String disposition, String body) {
+        return "--" + BOUNDARY + "\r\n"
+                + "Content-Disposition: " + disposition + "\r\n"
+                + "Content-Type: application/octet-stream\r\n"
+                + "\r\n"
+                + body + "\r\n";
+    }
+
+    private static byte[] multipart(String... parts) {
+        return (String.join("", parts) + "--" + BOUNDARY + "--\r\n").getBytes(StandardCharsets.UTF_8);
+    }
+
+    @Nested
+    @DisplayName("boundaryOf")
+    class BoundaryOf {
+
+        @Test
+        @DisplayName("multipart/form-data의 boundary를 추출한다 (따옴표 포함)")
+        void boundaryOf_success() {
+            assertThat(MultipartFilenameScanner.boundaryOf("multipart/form-data; boundary=abc")).isEqualTo("abc");
+            assertThat(MultipartFilenameScanner.boundaryOf("Multipart/Form-Data; charset=UTF-8; boundary=\"a b\""))
+                    .isEqualTo("a b");
+        }
+
+        @ParameterizedTest
+        @ValueSource(strings = {"application/json", "multipart/mixed; boundary=abc", "multipart/form-data"})
+        @DisplayName("multipart/form-data가 아니거나 boundary가 없으면 null")
+        void boundaryOf_notMultipart(String contentType) {
+            assertThat(MultipartFilenameScanner.boundaryOf(contentType)).isNull();
+        }
+    }
+
+    @Nested
+    @DisplayName("update")
+    class Update {
+
+        @Test
+        @DisplayName("허용된 파일만 있으면 끝까지 통과한다")
+        void update_allowed() throws IOException {
+            // given
+            byte[] body = multipart(
+                    part("form-data; name=\"memo\"", "hello"),
+                    part("form-data; name=\"file\"; filename=\"report.pdf\"", "%PDF-1.7 ..."));
+            MultipartFilenameScanner scanner = newScanner();
+
+            // when
+            scanner.update(body, 0, body.length);
+
+            // then
+            assertThat(scanner.getBlocked()).isNull();
+            assertThat(scanner.isFinished()).isTrue();
+        }
+
+        @Test
+        @DisplayName("차단 파일명이면 BlockedUploadException을 던진다")
+        void update_blocked() {
+            // given
+            byte[] body = multipart(part("form-data; name=\"file\"; filename=\"setup.EXE\"", "MZ..."));
+            MultipartFilenameScanner scanner = newScanner();
+
+            // when & then
+            assertThatThrownBy(() -> scanner.update(body, 0, body.length))
+                    .isInstanceOf(BlockedUploadException.class)
+                    .satisfies(e -> {
+                        BlockedUploadException blocked = (BlockedUploadException) e;
+                        assertThat(blocked.getFilename()).isEqualTo("setup.EXE");
+                        assertThat(blocked.getMatch().type()).isEqualTo(ExtensionType.FIXED);
+                    });
+        }
+
+        @Test
+        @DisplayName("한 바이트씩 나눠 넣어도 같은 위치에서 차단한다")
+        void update_byteByByte() throws IOException {
+            // given
+            String prefix = part("form-data; name=\"a\"; filename=\"ok.txt\"", "--" + BOUNDARY.substring(0, 10));
+            byte[] body = multipart(prefix, part("form-data; name=\"b\"; filename=\"x.tar.gz\"", "BODY"));
+            int headerEnd = new String(body, StandardCharsets.UTF_8).indexOf("BODY");
+            MultipartFilenameScanner scanner = newScanner();
+
+            // when
+            int consumed = 0;
+            try {
+                while (consumed < body.length) {
+                    scanner.update(body, consumed, 1);
+                    consumed++;
+                }
+            } catch (BlockedUploadException e) {
+                consumed++;
+            }
+
+            // then: 본문 첫 바이트 직전에서 차단
+            assertThat(scanner.getBlocked()).isNotNull();
+            assertThat(scanner.getBlocked().getMatch().extension()).isEqualTo("tar.gz");
+            assertThat(consumed).isEqualTo(headerEnd);
+        }
+
+        @Test
+        @DisplayName("filename*(RFC 5987)의 인코딩된 파일명도 검사한다")
+        void update_extendedFilename() {
+            // given
+            byte[] body = multipart(part("form-data; name=\"file\"; filename=\"safe.txt\"; filename*=UTF-8''%ED%8C%8C%EC%9D%BC.sh",
+                    "#!/bin/sh"));
+            MultipartFilenameScanner scanner = newScanner();
+
+            // when & then
+            assertThatThrownBy(() -> scanner.update(body, 0, body.length))
+                    .isInstanceOf(BlockedUploadException.class)
+                    .extracting(e -> ((BlockedUploadException) e).getFilename())
+                    .isEqualTo("파일.sh");
+        }
+
+        @Test
+        @DisplayName("한 번 차단되면 이후 입력도 계속 차단한다")
+        void update_afterBlocked_throws() {
+            // given
+            byte[] body = multipart(part("form-data; name=\"file\"; filename=\"a.exe\"", "MZ"));
+            MultipartFilenameScanner scanner = newScanner();
+            assertThatThrownBy(() -> scanner.update(body, 0, body.length)).isInstanceOf(BlockedUploadException.class);
+
+            // when & then
+            assertThatThrownBy(() -> scanner.update('x')).isInstanceOf(BlockedUploadException.class);
+        }
+
+        @Test
+        @DisplayName("종료 boundary 이후(epilogue)는 검사하지 않는다")
+        void update_epilogue_ignored() throws IOException {
+            // given
+            String epilogue = "\r\n" + part("form-data; name=\"file\"; filename=\"a.exe\"", "MZ");
+            byte[] body = (new String(multipart(part("form-data; name=\"a\"", "1")), StandardCharsets.UTF_8) + epilogue)
+                    .getBytes(StandardCharsets.UTF_8);
+            MultipartFilenameScanner scanner = newScanner();
+
+            // when
+            scanner.update(body, 0, body.length);
+
+            // then
+            assertThat(scanner.getBlocked()).isNull();
+        }
+
+        @Test
+        @DisplayName("파트 헤더가 최대 크기를 넘으면 읽기를 중단한다")
+        void update_headerTooLarge() {
+            // given
+            byte[] body = ("--" + BOUNDARY + "\r\nX-Padding: " + "a".repeat(100) + "\r\n\r\n").getBytes(StandardCharsets.UTF_8);
+            MultipartFilenameScanner scanner = new MultipartFilenameScanner(BOUNDARY, SNAPSHOT, 64, true);
+
+            // when & then
+            assertThatThrownBy(() -> scanner.update(body, 0, body.length))
+                    .isInstanceOf(IOException.class)
+                    .isNotInstanceOf(BlockedUploadException.class);
+        }
+    }
+
+    @Nested
+    @DisplayName("내용 검사")
+    class SniffContent {
+
+        @Test
+        @DisplayName("이름을 바꾼 실행 파일은 본문 시그니처로 차단한다")
+        void sniff_renamedExecutable_blocked() {
+            // given
+            byte[] body = multipart(part("form-data; name=\"file\"; filename=\"photo.jpg\"", DOS_EXECUTABLE));
+            MultipartFilenameScanner scanner = newScanner();
+
+            // when & then
+            assertThatThrownBy(() -> scanner.update(body, 0, body.length))
+                    .isInstanceOf(BlockedUploadException.class)
+                    .satisfies(e -> {
+                        BlockedUploadException blocked = (BlockedUploadException) e;
+                        assertThat(blocked.getFilename()).isEqualTo("photo.jpg");
+                        assertThat(blocked.getMatch().extension()).isEqualTo("exe");
+                        assertThat(blocked.getDetectedFormat()).isEqualTo("DOS MZ");
+                    });
+        }
+
+        @Test
+        @DisplayName("본문이 PEEK_SIZE보다 짧아도 파트가 끝나면 검사한다")
+        void sniff_shortBody_blocked() {
+            // given
+            byte[] body = multipart(part("form-data; name=\"file\"; filename=\"notes.txt\"", "#!/bin/sh\nrm -rf /"));
+            MultipartFilenameScanner scanner = newScanner();
+
+            // when & then
+            assertThatThrownBy(() -> scanner.update(body, 0, body.length))
+                    .isInstanceOf(BlockedUploadException.class)
+                    .extracting(e -> ((BlockedUploadException) e).getMatch().extension())
+                    .isEqualTo("sh");
+        }
+
+        @Test
+        @DisplayName("비활성 형식이거나 일반 필드면 통과한다")
+        void sniff_inactiveOrField_passes() throws IOException {
+            // given: js는 활성 목록에 없음, 일반 필드는 내용 검사 대상 아님
+            byte[] body = multipart(
+                    part("form-data; name=\"memo\"", DOS_EXECUTABLE),
+                    part("form-data; name=\"file\"; filename=\"app.txt\"", "#!/usr/bin/env node\nconsole.log(1)"));
+            MultipartFilenameScanner scanner = newScanner();
+
+            // when
+            scanner.update(body, 0, body.length);
+
+            // then
+            assertThat(scanner.getBlocked()).isNull();
+        }
+
+        @Test
+        @DisplayName("sniffContent가 false면 내용은 검사하지 않는다")
+        void sniff_disabled_passes() throws IOException {
+            // given
+            byte[] body = multipart(part("form-data; name=\"file\"; filename=\"photo.jpg\"", DOS_EXECUTABLE));
+            MultipartFilenameScanner scanner = new MultipartFilenameScanner(BOUNDARY, SNAPSHOT, 8 * 1024, false);
+
+            // when
+            scanner.update(body, 0, body.length);
+
+            // then
+            assertThat(scanner.getBlocked()).isNull();
+        }
+    }
+
+    @Nested
+    @DisplayName("filenames")
+    class Filenames {
+
+        @Test
+        @DisplayName("따옴표 안의 ';'와 이스케이프된 따옴표를 처리한다")
+        void filenames_quoted() {
+            assertThat(MultipartFilenameScanner.filenames(" form-data; name=\"f\"; filename=\"a;b \\\"c\\\".exe\""))
+                    .containsExactly("a;b \"c\".exe");
+        }
+
+        @Test
+        @DisplayName("파일명이 없으면 빈 목록")
+        void filenames_none() {
+            assertThat(MultipartFilenameScanner.filenames(" form-data; name=\"memo\"")).isEmpty();
+        }
+    }
+}
@@ -0,0 +1,110 @@
+package com.example.extensionCheck.api.upload;
+
+import jakarta.servlet.MultipartConfigElement;
+import jakarta.servlet.http.Part;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@DisplayName("MultipartStreamParser 테스트")
+class MultipartStreamParserTest {
+
+    private static final String BOUNDARY = "X-BOUNDARY";
+
+    @TempDir
+    Path spoolDir;
+
+    private MultipartStreamParser newParser(long maxFileSize, int threshold) {
+        return new MultipartStreamParser(BOUNDARY,
+                new MultipartConfigElement(spoolDir.toString(), maxFileSize, -1, threshold), 8 * 1024);
+    }
+
+    private static String part(String disposition, String body) {
+        return "--" + BOUNDARY + "\r\nContent-Disposition: " + disposition + "\r\n\r\n" + body + "\r\n";
+    }
+
+    private static InputStream body(String... parts) {
+        return new ByteArrayInputStream((String.join("", parts) + "--" + BOUNDARY + "--\r\n")
+                .getBytes(StandardCharsets.ISO_8859_1));
+    }
+
+    private static String content(Part part) throws IOException {
+        try (InputStream in = part.getInputStream()) {
+            return new String(in.readAllBytes(), StandardCharsets.ISO_8859_1);
+        }
+    }
+
+    private long spooledFiles() throws IOException {
+        try (Stream<Path> files = Files.list(spoolDir)) {
+            return files.count();
+        }
+    }
+
+    @Test
+    @DisplayName("boundary 일부와 같은 내용이 있어도 파트 본문을 그대로 나눈다")
+    void parse_boundaryLikeContent() throws IOException {
+        // given
+        String tricky = "a\r\n--X-BOUNDAR\r\n-\r\n\r\n--X-BOUNDAR-Z\r";
+
+        // when
+        List<Part> parts = newParser(-1, 0).parse(body(
+                part("form-data; name=\"memo\"", "hello"),
+                part("form-data; name=\"file\"; filename=\"a.txt\"", tricky)));
+
+        // then
+        assertThat(parts).extracting(Part::getName).containsExactly("memo", "file");
+        assertThat(parts.get(1).getSubmittedFileName()).isEqualTo("a.txt");
+        assertThat(content(parts.get(0))).isEqualTo("hello");
+        assertThat(content(parts.get(1))).isEqualTo(tricky);
+        assertThat(parts.get(1).getSize()).isEqualTo(tricky.length());
+    }
+
+    @Test
+    @DisplayName("임계값을 넘는 본문은 임시 파일에 쓰고 delete로 지운다")
+    void parse_largePart_spooled() throws IOException {
+        // given
+        String large = "x".repeat(100_000);
+
+        // when
+        List<Part> parts = newParser(-1, 1024).parse(body(part("form-data; name=\"file\"; filename=\"a.bin\"", large)));
+
+        // then
+        assertThat(spooledFiles()).isOne();
+        assertThat(content(parts.get(0))).isEqualTo(large);
+        parts.get(0).delete();
+        assertThat(spooledFiles()).isZero();
+    }
+
+    @Test
+    @DisplayName("종료 boundary 없이 끝나면 IOException, 만든 임시 파일은 지운다")
+    void parse_truncated_cleansUp() throws IOException {
+        // given
+        InputStream truncated = new ByteArrayInputStream((part("form-data; name=\"file\"; filename=\"a.bin\"",
+                "x".repeat(10_000))).getBytes(StandardCharsets.ISO_8859_1));
+
+        // when & then
+        assertThatThrownBy(() -> newParser(-1, 0).parse(truncated)).isInstanceOf(IOException.class);
+        assertThat(spooledFiles()).isZero();
+    }
+
+    @Test
+    @DisplayName("파트 크기 제한을 넘으면 size exceeds 예외")
+    void parse_tooLarge() {
+        assertThatThrownBy(() -> newParser(100, 0).parse(body(part("form-data; name=\"file\"; filename=\"a.bin\"",
+                "x".repeat(101)))))
+                .isInstanceOf(IllegalStateException.class)
+                .hasMessageContaining("size exceeds");
+    }
+}
@@ -0,0 +1,343 @@
+package com.example.extensionCheck.api.upload;
+
+import com.example.extensionCheck.api.exception.GlobalExceptionHandler;
+import com.example.extensionCheck.api.snapshot.ExtensionSnapshot;
+import com.example.extensionCheck.api.snapshot.ExtensionSnapshotHolder;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.MultipartConfigElement;
+import jakarta.servlet.ServletInputStream;
+import jakarta.servlet.http.HttpServletRequest;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.api.io.TempDir;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.mock.web.DelegatingServletInputStream;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.request.MockHttpServletRequestBuilder;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.multipart.MultipartFile;
+import org.springframework.web.multipart.support.StandardServletMultipartResolver;
+import tools.jackson.databind.json.JsonMapper;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("UploadGuardFilter 테스트")
+class UploadGuardFilterTest {
+
+    private static final String BOUNDARY = "X-BOUNDARY";
+    private static final String TENANT = "tenant-a";
+
+    @Mock
+    private ExtensionSnapshotHolder snapshotHolder;
+
+    private UploadGuardFilter filter;
+    private final AtomicInteger bytesRead = new AtomicInteger();
+
+    // 스트리밍 업로드 핸들러처럼 본문을 조금씩 읽는 체인
+    private final FilterChain streamingChain = (request, response) -> {
+        InputStream in = request.getInputStream();
+        byte[] buf = new byte[16];
+        int n;
+        while ((n = in.read(buf)) > 0) {
+            bytesRead.addAndGet(n);
+        }
+        response.getWriter().write("stored");
+    };
+
+    @TempDir
+    Path spoolDir;
+
+    @BeforeEach
+    void setUp() {
+        filter = new UploadGuardFilter(snapshotHolder, JsonMapper.builder().build(), 8 * 1024, true,
+                new MultipartConfigElement(spoolDir.toString(), 10L * 1024 * 1024, 20L * 1024 * 1024, 0));
+    }
+
+    private MockHttpServletRequest upload(String filename, String content) {
+        String body = "--" + BOUNDARY + "\r\n"
+                + "Content-Disposition: form-data; name=\"file\"; filename=\"" + filename + "\"\r\n\r\n"
+                + content + "\r\n--" + BOUNDARY + "--\r\n";
+        MockHttpServletRequest request = new MockHttpServletRequest("POST", "/upload");
+        request.setContentType("multipart/form-data; boundary=" + BOUNDARY);
+        request.addHeader("X-Tenant-Id", TENANT);
+        request.setContent(body.getBytes(StandardCharsets.UTF_8));
+        return request;
+    }
+
+    @Test
+    @DisplayName("허용된 파일은 그대로 통과한다")
+    void filter_allowed_passes() throws Exception {
+        // given
+        given(snapshotHolder.current(TENANT)).willReturn(ExtensionSnapshot.of(1, List.of("exe"), List.of()));
+        MockHttpServletRequest request = upload("report.pdf", "x".repeat(1000));
+        MockHttpServletResponse response = new MockHttpServletResponse();
+
+        // when
+        filter.doFilter(request, response, streamingChain);
+
+        // then
+        assertThat(response.getStatus()).isEqualTo(200);
+        assertThat(response.getContentAsString()).isEqualTo("stored");
+        assertThat(bytesRead.get()).isEqualTo(request.getContentLength());
+    }
+
+    @Test
+    @DisplayName("차단 파일은 본문을 읽기 전에 403으로 거부하고 연결을 닫는다")
+    void filter_blocked_rejectedBeforeBody() throws Exception {
+        // given
+        given(snapshotHolder.current(TENANT)).willReturn(ExtensionSnapshot.of(1, List.of("exe"), List.of()));
+        MockHttpServletRequest request = upload("setup.exe", "M".repeat(10_000));
+        MockHttpServletResponse response = new MockHttpServletResponse();
+
+        // when
+        filter.doFilter(request, response, streamingChain);
+
+        // then
+        assertThat(response.getStatus()).isEqualTo(403);
+        assertThat(response.getHeader("Connection")).isEqualTo("close");
+        assertThat(response.getContentAsString()).contains("EXT_011");
+        assertThat(bytesRead.get()).isLessThan(100);
+    }
+
+    @Test
+    @DisplayName("잘못된 테넌트면 체인을 실행하지 않고 400")
+    void filter_invalidTenant_badRequest() throws Exception {
+        // given
+        MockHttpServletRequest request = upload("a.txt", "x");
+        request.removeHeader("X-Tenant-Id");
+        request.addHeader("X-Tenant-Id", "a/b");
+        MockHttpServletResponse response = new MockHttpServletResponse();
+
+        // when
+        filter.doFilter(request, response, streamingChain);
+
+        // then
+        assertThat(response.getStatus()).isEqualTo(400);
+        assertThat(response.getContentAsString()).contains("EXT_010");
+        assertThat(bytesRead.get()).isZero();
+        verify(snapshotHolder, never()).current(anyString());
+    }
+
+    @Nested
+    @DisplayName("MultipartFile(getParts) 경로")
+    class MultipartFileUpload {
+
+        private MockMvc mockMvc;
+
+        @BeforeEach
+        void setUp() {
+            mockMvc = MockMvcBuilders.standaloneSetup(new UploadController())
+                    .setControllerAdvice(new GlobalExceptionHandler())
+                    .addFilters(filter)
+                    .build();
+        }
+
+        private static String filePart(String filename, String content) {
+            return "--" + BOUNDARY + "\r\n"
+                    + "Content-Disposition: form-data; name=\"file\"; filename=\"" + filename + "\"\r\n"
+                    + "Content-Type: application/octet-stream\r\n\r\n"
+                    + content + "\r\n";
+        }
+
+        private static byte[] multipart(String... parts) {
+            return (String.join("", parts) + "--" + BOUNDARY + "--\r\n").getBytes(StandardCharsets.ISO_8859_1);
+        }
+
+        // 컨테이너 해석 없이 원본 본문만 가진 요청 (MultipartFile은 getParts로 해석)
+        private MockHttpServletRequestBuilder upload(byte[] body) {
+            return post("/upload")
+                    .contentType("multipart/form-data; boundary=" + BOUNDARY)
+                    .header("X-Tenant-Id", TENANT)
+                    .content(body);
+        }
+
+        private MockHttpServletRequestBuilder upload(String filename, String content) {
+            return upload(multipart(filePart(filename, content)));
+        }
+
+        private long spooledFiles() throws IOException {
+            try (Stream<Path> files = Files.list(spoolDir)) {
+                return files.count();
+            }
+        }
+
+        @Test
+        @DisplayName("허용된 파일은 핸들러까지 전달된다")
+        void multipartFile_allowed_passes() throws Exception {
+            // given
+            given(snapshotHolder.current(TENANT)).willReturn(ExtensionSnapshot.of(1, List.of("exe"), List.of()));
+
+            // when & then
+            mockMvc.perform(upload("report.pdf", "%PDF-1.7" + "x".repeat(2000)))
+                    .andExpect(status().isOk())
+                    .andExpect(content().string("stored report.pdf 2008"));
+        }
+
+        @Test
+        @DisplayName("일반 필드는 쿼리 파라미터와 함께 파라미터로 전달된다")
+        void multipartFile_formField_passes() throws Exception {
+            // given
+            given(snapshotHolder.current(TENANT)).willReturn(ExtensionSnapshot.of(1, List.of("exe"), List.of()));
+            String memo = "--" + BOUNDARY + "\r\nContent-Disposition: form-data; name=\"memo\"\r\n\r\n분기 보고서\r\n";
+            byte[] body = (memo + filePart("report.pdf", "%PDF") + "--" + BOUNDARY + "--\r\n")
+                    .getBytes(StandardCharsets.UTF_8);
+
+            // when & then
+            mockMvc.perform(upload(body).queryParam("tag", "q3"))
+                    .andExpect(status().isOk())
+                    .andExpect(content().string("stored report.pdf 4 분기 보고서 q3"));
+        }
+
+        @Test
+        @DisplayName("허용 크기를 넘는 파트는 413으로 거부한다")
+        void multipartFile_tooLarge_rejected() throws Exception {
+            // given
+            given(snapshotHolder.current(TENANT)).willReturn(ExtensionSnapshot.of(1, List.of("exe"), List.of()));
+            filter = new UploadGuardFilter(snapshotHolder, JsonMapper.builder().build(), 8 * 1024, true,
+                    new MultipartConfigElement(spoolDir.toString(), 1024, -1, 0));
+            setUp();
+
+            // when & then
+            mockMvc.perform(upload("report.pdf", "x".repeat(2000)))
+                    .andExpect(status().isPayloadTooLarge());
+            assertThat(spooledFiles()).isZero();
+        }
+
+        @Test
+        @DisplayName("차단 파일명은 핸들러에 전달하지 않고 403으로 거부한다")
+        void multipartFile_blockedName_rejected() throws Exception {
+            // given
+            given(snapshotHolder.current(TENANT)).willReturn(ExtensionSnapshot.of(1, List.of("exe"), List.of()));
+
+            // when & then
+            mockMvc.perform(upload("setup.exe", "x"))
+                    .andExpect(status().isForbidden())
+                    .andExpect(header().string("Connection", "close"))
+                    .andExpect(jsonPath("$.code").value("EXT_011"));
+            assertThat(bytesRead.get()).isZero();
+        }
+
+        @Test
+        @DisplayName("이름을 바꾼 차단 형식은 본문 앞부분의 시그니처로 거부한다")
+        void multipartFile_renamedContent_rejected() throws Exception {
+            // given
+            given(snapshotHolder.current(TENANT)).willReturn(ExtensionSnapshot.of(1, List.of(), List.of("zip")));
+            String zip = "PK\3\4" + "\0".repeat(100_000);
+
+            // when & then
+            mockMvc.perform(upload("photo.jpg", zip))
+                    .andExpect(status().isForbidden())
+                    .andExpect(jsonPath("$.code").value("EXT_011"));
+            assertThat(bytesRead.get()).isZero();
+            assertThat(spooledFiles()).isZero();
+        }
+
+        @Test
+        @DisplayName("차단 파트는 헤더 뒤 본문을 파서에 넘기기 전에 거부하고 남은 본문은 읽지 않는다")
+        void multipartFile_blocked_stopsAtHeader() throws Exception {
+            // given: 일반 필드 뒤에 1MB짜리 차단 파일
+            given(snapshotHolder.current(TENANT)).willReturn(ExtensionSnapshot.of(1, List.of("exe"), List.of()));
+            String head = "--" + BOUNDARY + "\r\nContent-Disposition: form-data; name=\"memo\"\r\n\r\nhello\r\n";
+            String blocked = filePart("setup.exe", "M".repeat(1024 * 1024));
+            byte[] body = multipart(head, blocked);
+            int headerEnd = head.length() + blocked.indexOf("\r\n\r\n") + 4;
+            CountingRequest request = new CountingRequest(body);
+            MockHttpServletResponse response = new MockHttpServletResponse();
+            FilterChain resolvingChain = (req, res) ->
+                    new StandardServletMultipartResolver().resolveMultipart((HttpServletRequest) req).getFile("file");
+
+            // when
+            filter.doFilter(request, response, resolvingChain);
+
+            // then: 헤더가 든 읽기 한 번(파서 버퍼 8KB) 이상은 읽지 않고, 임시 파일도 만들지 않음
+            assertThat(response.getStatus()).isEqualTo(403);
+            assertThat(request.consumed).isLessThanOrEqualTo(headerEnd + 8 * 1024);
+            assertThat(spooledFiles()).isZero();
+        }
+    }
+
+    @RestController
+    class UploadController {
+
+        @PostMapping(value = "/upload", produces = "text/plain;charset=UTF-8")
+        String upload(@RequestParam("file") MultipartFile file,
+                      @RequestParam(value = "memo", required = false) String memo,
+                      @RequestParam(value = "tag", required = false) String tag) {
+            bytesRead.addAndGet((int) file.getSize());
+            String result = "stored " + file.getOriginalFilename() + " " + file.getSize();
+            return memo == null ? result : result + " " + memo + " " + tag;
+        }
+    }
+
+    // 원본 스트림에서 실제로 읽힌 바이트 수를 세는 요청
+    private static final class CountingRequest extends MockHttpServletRequest {
+
+        private final ByteArrayInputStream body;
+        private int consumed;
+
+        private CountingRequest(byte[] content) {
+            super("POST", "/upload");
+            setContentType("multipart/form-data; boundary=" + BOUNDARY);
+            addHeader("X-Tenant-Id", TENANT);
+            this.body = new ByteArrayInputStream(content);
+        }
+
+        @Override
+        public ServletInputStream getInputStream() {
+            return new DelegatingServletInputStream(body) {
+                @Override
+                public int read(byte[] b, int off, int len) throws IOException {
+                    int n = super.read(b, off, len);
+                    consumed += Math.max(n, 0);
+                    return n;
+                }
+            };
+        }
+    }
+
+    @Test
+    @DisplayName("multipart가 아닌 요청은 검사하지 않는다")
+    void filter_notMultipart_skipped() throws Exception {
+        // given
+        MockHttpServletRequest request = new MockHttpServletRequest("POST", "/api/extensions/check/bulk");
+        request.setContentType("text/plain");
+        request.setContent("a.exe\n".getBytes(StandardCharsets.UTF_8));
+        MockHttpServletResponse response = new MockHttpServletResponse();
+
+        // when
+        filter.doFilter(request, response, streamingChain);
+
+        // then
+        assertThat(response.getContentAsString()).isEqualTo("stored");
+        verify(snapshotHolder, never()).current(anyString());
+    }
+}
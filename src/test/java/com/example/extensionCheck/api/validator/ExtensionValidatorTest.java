@@ -4,11 +4,14 @@ import com.example.extensionCheck.api.exception.ExtensionErrorCode;
 import com.example.extensionCheck.api.exception.ExtensionException;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.NullAndEmptySource;
 import org.junit.jupiter.params.provider.ValueSource;
 
+import java.util.Locale;
+
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.junit.jupiter.api.Assertions.assertDoesNotThrow;
@@ -79,4 +82,64 @@ class ExtensionValidatorTest {
         String exactlyTwentyChars = "a".repeat(20);
         assertDoesNotThrow(() -> validator.validate(exactlyTwentyChars));
     }
+
+    @Test
+    @DisplayName("숫자와 한글이 함께 있으면 CONTAINS_DIGIT 예외를 먼저 던진다")
+    void validate_digitAndKorean_digitFirst() {
+        assertThatThrownBy(() -> validator.validate("한글1"))
+                .isInstanceOf(ExtensionException.class)
+                .extracting(e -> ((ExtensionException) e).getErrorCode())
+                .isEqualTo(ExtensionErrorCode.CONTAINS_DIGIT);
+    }
+
+    @Test
+    @DisplayName("공백만으로 된 20자 초과 입력은 EMPTY_INPUT 예외를 던진다")
+    void validate_longBlank_throwsEmptyInput() {
+        assertThatThrownBy(() -> validator.validate(" ".repeat(30)))
+                .isInstanceOf(ExtensionException.class)
+                .extracting(e -> ((ExtensionException) e).getErrorCode())
+                .isEqualTo(ExtensionErrorCode.EMPTY_INPUT);
+    }
+
+    @Nested
+    @DisplayName("normalize 메서드")
+    class Normalize {
+
+        @Test
+        @DisplayName("이미 소문자면 입력 문자열을 그대로 반환한다")
+        void normalize_lowerCase_returnsSameInstance() {
+            String input = "pdf";
+
+            assertThat(validator.normalize(input)).isSameAs(input);
+        }
+
+        @Test
+        @DisplayName("대문자는 소문자로 변환한다")
+        void normalize_upperCase_lowerCased() {
+            assertThat(validator.normalize("PDF")).isEqualTo("pdf");
+            assertThat(validator.normalize("Tar.Gz")).isEqualTo("tar.gz");
+        }
+
+        @Test
+        @DisplayName("기본 로케일이 터키어여도 I를 i로 변환한다")
+        void normalize_turkishDefaultLocale_usesRootLocale() {
+            Locale original = Locale.getDefault();
+            try {
+                Locale.setDefault(Locale.forLanguageTag("tr-TR"));
+
+                assertThat(validator.normalize("INI")).isEqualTo("ini");
+            } finally {
+                Locale.setDefault(original);
+            }
+        }
+
+        @Test
+        @DisplayName("검증 실패 시 validate와 같은 에러 코드를 던진다")
+        void normalize_invalid_sameErrorCode() {
+            assertThatThrownBy(() -> validator.normalize("PDF1"))
+                    .isInstanceOf(ExtensionException.class)
+                    .extracting(e -> ((ExtensionException) e).getErrorCode())
+                    .isEqualTo(ExtensionErrorCode.CONTAINS_DIGIT);
+        }
+    }
 }
@@ -0,0 +1,128 @@
+package com.example.extensionCheck.config;
+
+import jakarta.websocket.Session;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.messaging.support.ExecutorSubscribableChannel;
+import org.springframework.web.socket.TextMessage;
+import org.springframework.web.socket.WebSocketSession;
+import org.springframework.web.socket.adapter.NativeWebSocketSession;
+import org.springframework.web.socket.handler.ConcurrentWebSocketSessionDecorator;
+import org.springframework.web.socket.handler.ConcurrentWebSocketSessionDecorator.OverflowStrategy;
+import org.springframework.web.socket.handler.SessionLimitExceededException;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+@DisplayName("SlowConsumerWebSocketHandler 테스트")
+class SlowConsumerWebSocketHandlerTest {
+
+    private static final int BUFFER_LIMIT = 250;
+
+    @Test
+    @DisplayName("DROP이면 쓰기가 밀린 세션의 버퍼가 넘쳐도 연결을 유지하고 오래된 메시지를 버린다")
+    void drop_keepsSessionAndBoundsBuffer() throws Exception {
+        // given
+        CountDownLatch release = new CountDownLatch(1);
+        ConcurrentWebSocketSessionDecorator session = decorate(OverflowStrategy.DROP, blockingSession(release));
+        CompletableFuture<Void> stuck = startStuckSend(session);
+
+        // when
+        for (int i = 0; i < 10; i++) {
+            session.sendMessage(message());
+        }
+
+        // then
+        assertThat(session.getOverflowStrategy()).isEqualTo(OverflowStrategy.DROP);
+        assertThat(session.getBufferSize()).isLessThanOrEqualTo(BUFFER_LIMIT);
+        release.countDown();
+        stuck.get(5, TimeUnit.SECONDS);
+    }
+
+    @Test
+    @DisplayName("TERMINATE면 버퍼가 넘치는 세션을 끊는다")
+    void terminate_closesSession() throws Exception {
+        // given
+        CountDownLatch release = new CountDownLatch(1);
+        ConcurrentWebSocketSessionDecorator session = decorate(OverflowStrategy.TERMINATE, blockingSession(release));
+        CompletableFuture<Void> stuck = startStuckSend(session);
+
+        // when & then
+        assertThatThrownBy(() -> {
+            for (int i = 0; i < 10; i++) {
+                session.sendMessage(message());
+            }
+        }).isInstanceOf(SessionLimitExceededException.class);
+        release.countDown();
+        stuck.get(5, TimeUnit.SECONDS);
+    }
+
+    @Test
+    @DisplayName("Tomcat 세션의 블로킹 쓰기 대기 시간을 전송 시간 제한에 맞춘다")
+    void decorate_setsBlockingSendTimeout() {
+        // given
+        Map<String, Object> userProperties = new HashMap<>();
+        Session nativeSession = mock(Session.class);
+        when(nativeSession.getUserProperties()).thenReturn(userProperties);
+        WebSocketSession session = mock(WebSocketSession.class, withSettings().extraInterfaces(NativeWebSocketSession.class));
+        when(((NativeWebSocketSession) session).getNativeSession(Session.class)).thenReturn(nativeSession);
+
+        // when
+        decorate(OverflowStrategy.DROP, session);
+
+        // then
+        assertThat(userProperties).containsEntry(SlowConsumerWebSocketHandler.BLOCKING_SEND_TIMEOUT, 3000L);
+    }
+
+    private static ConcurrentWebSocketSessionDecorator decorate(OverflowStrategy strategy, WebSocketSession session) {
+        SlowConsumerWebSocketHandler handler = new SlowConsumerWebSocketHandler(
+                new ExecutorSubscribableChannel(), new ExecutorSubscribableChannel(), strategy);
+        handler.setSendTimeLimit(3000);
+        handler.setSendBufferSizeLimit(BUFFER_LIMIT);
+        return (ConcurrentWebSocketSessionDecorator) handler.decorateSession(session);
+    }
+
+    // 첫 쓰기가 release 전까지 멈춰 있는 세션 (느린 구독자)
+    private static WebSocketSession blockingSession(CountDownLatch release) throws Exception {
+        CountDownLatch first = new CountDownLatch(1);
+        WebSocketSession session = mock(WebSocketSession.class);
+        when(session.getId()).thenReturn("slow");
+        when(session.isOpen()).thenReturn(true);
+        doAnswer(invocation -> {
+            if (first.getCount() > 0) {
+                first.countDown();
+                release.await(5, TimeUnit.SECONDS);
+            }
+            return null;
+        }).when(session).sendMessage(any());
+        return session;
+    }
+
+    private static CompletableFuture<Void> startStuckSend(ConcurrentWebSocketSessionDecorator session)
+            throws Exception {
+        CompletableFuture<Void> stuck = CompletableFuture.runAsync(() -> {
+            try {
+                session.sendMessage(message());
+            } catch (Exception ignored) {
+                // 테스트 종료 시 세션이 이미 끊겼을 수 있음
+            }
+        });
+        // 첫 메시지가 쓰기 중(flush lock 보유) 상태가 될 때까지 대기
+        while (session.getTimeSinceSendStarted() == 0) {
+            Thread.sleep(5);
+        }
+        return stuck;
+    }
+
+    private static TextMessage message() {
+        return new TextMessage("x".repeat(100));
+    }
+}